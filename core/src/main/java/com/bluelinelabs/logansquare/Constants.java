@@ -5,4 +5,7 @@ public class Constants {
     /** The suffix that will be added to all generated classes */
     public static final String MAPPER_CLASS_SUFFIX = "$$JsonObjectMapper";
 
+    /** The suffix that will be added to all generated @JsonEnum type converters */
+    public static final String TYPE_CONVERTER_CLASS_SUFFIX = "$$JsonTypeConverter";
+
 }
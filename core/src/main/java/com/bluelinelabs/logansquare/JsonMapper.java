@@ -1,9 +1,15 @@
 package com.bluelinelabs.logansquare;
 
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.bluelinelabs.logansquare.util.CopyUtils;
+import com.bluelinelabs.logansquare.util.DiffUtils;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -60,7 +66,17 @@ public abstract class JsonMapper<T> {
      * @param is The InputStream, most likely from your networking library.
      */
     public T parse(InputStream is) throws IOException {
-        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(is);
+        return parse(is, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Parse an object from an InputStream using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be read.
+     *
+     * @param is          The InputStream, most likely from your networking library.
+     * @param jsonFactory The JsonFactory used to create the JsonParser.
+     */
+    public T parse(InputStream is, JsonFactory jsonFactory) throws IOException {
+        JsonParser jsonParser = jsonFactory.createParser(is);
         jsonParser.nextToken();
         return parse(jsonParser);
     }
@@ -71,7 +87,17 @@ public abstract class JsonMapper<T> {
      * @param byteArray The byte array being parsed.
      */
     public T parse(byte[] byteArray) throws IOException {
-        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(byteArray);
+        return parse(byteArray, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Parse an object from a byte array using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be read.
+     *
+     * @param byteArray   The byte array being parsed.
+     * @param jsonFactory The JsonFactory used to create the JsonParser.
+     */
+    public T parse(byte[] byteArray, JsonFactory jsonFactory) throws IOException {
+        JsonParser jsonParser = jsonFactory.createParser(byteArray);
         jsonParser.nextToken();
         return parse(jsonParser);
     }
@@ -104,7 +130,17 @@ public abstract class JsonMapper<T> {
      * @param is The inputStream, most likely from your networking library.
      */
     public List<T> parseList(InputStream is) throws IOException {
-        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(is);
+        return parseList(is, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Parse a list of objects from an InputStream using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be read.
+     *
+     * @param is          The InputStream, most likely from your networking library.
+     * @param jsonFactory The JsonFactory used to create the JsonParser.
+     */
+    public List<T> parseList(InputStream is, JsonFactory jsonFactory) throws IOException {
+        JsonParser jsonParser = jsonFactory.createParser(is);
         jsonParser.nextToken();
         return parseList(jsonParser);
     }
@@ -115,7 +151,17 @@ public abstract class JsonMapper<T> {
      * @param byteArray The inputStream, most likely from your networking library.
      */
     public List<T> parseList(byte[] byteArray) throws IOException {
-        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(byteArray);
+        return parseList(byteArray, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Parse a list of objects from a byte array using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be read.
+     *
+     * @param byteArray   The byte array being parsed.
+     * @param jsonFactory The JsonFactory used to create the JsonParser.
+     */
+    public List<T> parseList(byte[] byteArray, JsonFactory jsonFactory) throws IOException {
+        JsonParser jsonParser = jsonFactory.createParser(byteArray);
         jsonParser.nextToken();
         return parseList(jsonParser);
     }
@@ -163,7 +209,17 @@ public abstract class JsonMapper<T> {
      * @param is The inputStream, most likely from your networking library.
      */
     public Map<String, T> parseMap(InputStream is) throws IOException {
-        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(is);
+        return parseMap(is, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Parse a map of objects from an InputStream using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be read.
+     *
+     * @param is          The InputStream, most likely from your networking library.
+     * @param jsonFactory The JsonFactory used to create the JsonParser.
+     */
+    public Map<String, T> parseMap(InputStream is, JsonFactory jsonFactory) throws IOException {
+        JsonParser jsonParser = jsonFactory.createParser(is);
         jsonParser.nextToken();
         return parseMap(jsonParser);
     }
@@ -174,7 +230,17 @@ public abstract class JsonMapper<T> {
      * @param byteArray The byte array string being parsed.
      */
     public Map<String, T> parseMap(byte[] byteArray) throws IOException {
-        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(byteArray);
+        return parseMap(byteArray, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Parse a map of objects from a byte array using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be read.
+     *
+     * @param byteArray   The byte array being parsed.
+     * @param jsonFactory The JsonFactory used to create the JsonParser.
+     */
+    public Map<String, T> parseMap(byte[] byteArray, JsonFactory jsonFactory) throws IOException {
+        JsonParser jsonParser = jsonFactory.createParser(byteArray);
         jsonParser.nextToken();
         return parseMap(jsonParser);
     }
@@ -209,7 +275,7 @@ public abstract class JsonMapper<T> {
     public Map<String, T> parseMap(JsonParser jsonParser) throws IOException {
         HashMap<String, T> map = new HashMap<String, T>();
         while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-            String key = jsonParser.getText();
+            String key = jsonParser.getCurrentName();
             jsonParser.nextToken();
             if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                 map.put(key, null);
@@ -233,6 +299,210 @@ public abstract class JsonMapper<T> {
         return sw.toString();
     }
 
+    /**
+     * Serialize only the fields of an object that changed since {@link #markClean(Object)} was last called with it, along
+     * with its {@literal @}JsonField(isKey = true) field. Objects that were never marked clean, or that aren't declared
+     * with {@literal @}JsonObject(trackChanges = true), are serialized in full.
+     *
+     * @param object    The object to serialize.
+     * @param generator The JsonGenerator being written to.
+     */
+    public void serializeChanges(T object, JsonGenerator generator) throws IOException {
+        serialize(object, generator, true);
+    }
+
+    /**
+     * Serialize only the changed fields of an object to a JSON String. See {@link #serializeChanges(Object, JsonGenerator)}.
+     *
+     * @param object The object to serialize.
+     */
+    public String serializeChanges(T object) throws IOException {
+        StringWriter sw = new StringWriter();
+        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(sw);
+        serializeChanges(object, jsonGenerator);
+        jsonGenerator.close();
+        return sw.toString();
+    }
+
+    /**
+     * Record the current field values of an object, so that later calls to {@link #serializeChanges(Object, JsonGenerator)}
+     * only write fields that differ from them. Does nothing for mappers that don't track changes.
+     *
+     * @param object The object to mark as clean, usually after it was parsed or successfully sent.
+     */
+    public void markClean(T object) { }
+
+    /**
+     * Write an RFC 7386 JSON merge patch that turns one version of an object into another. Objects declared with
+     * {@literal @}JsonObject(generateDiff = true) are compared field by field, recursing into nested objects; all others
+     * are compared by their serialized JSON.
+     *
+     * @param before    The original version of the object.
+     * @param after     The modified version of the object.
+     * @param generator The JsonGenerator being written to.
+     */
+    public void diff(T before, T after, JsonGenerator generator) throws IOException {
+        if (after == null) {
+            generator.writeNull();
+        } else if (before == null) {
+            serialize(after, generator, true);
+        } else {
+            generator.writeStartObject();
+            diffFields(before, after, generator);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Write an RFC 7386 JSON merge patch to a JSON String. See {@link #diff(Object, Object, JsonGenerator)}.
+     *
+     * @param before The original version of the object.
+     * @param after  The modified version of the object.
+     */
+    public String diff(T before, T after) throws IOException {
+        StringWriter sw = new StringWriter();
+        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(sw);
+        diff(before, after, jsonGenerator);
+        jsonGenerator.close();
+        return sw.toString();
+    }
+
+    /**
+     * Write the merge patch entries for the fields of two non-null objects, without the enclosing start and end. Unless
+     * overridden, both objects are serialized and their JSON is compared, so fields that the newer version no longer
+     * writes are set to null.
+     */
+    public void diffFields(T before, T after, JsonGenerator generator) throws IOException {
+        DiffUtils.writeMergePatchFields(LoganSquare.parseMap(serialize(before), Object.class), LoganSquare.parseMap(serialize(after), Object.class), generator);
+    }
+
+    /**
+     * Returns true if two objects would be serialized the same way. Used to skip unchanged nested objects while diffing.
+     */
+    public boolean contentEquals(T a, T b) throws IOException {
+        if (a == b) {
+            return true;
+        } else if (a == null || b == null) {
+            return false;
+        }
+        return serialize(a).equals(serialize(b));
+    }
+
+    /**
+     * Apply an RFC 7386 JSON merge patch to an existing object, such as one written by
+     * {@link #diff(Object, Object, JsonGenerator)}. Fields missing from the patch are left alone, nested objects that
+     * already exist are patched in place, and everything else is replaced.
+     *
+     * @param target     The object being patched.
+     * @param jsonParser The pre-configured JsonParser
+     */
+    public void applyPatch(T target, JsonParser jsonParser) throws IOException {
+        if (jsonParser.getCurrentToken() == null) {
+            jsonParser.nextToken();
+        }
+        if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+            jsonParser.skipChildren();
+            return;
+        }
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            applyPatchField(target, fieldName, jsonParser);
+            jsonParser.skipChildren();
+        }
+    }
+
+    /**
+     * Apply an RFC 7386 JSON merge patch from a String to an existing object. See {@link #applyPatch(Object, JsonParser)}.
+     *
+     * @param target     The object being patched.
+     * @param jsonString The merge patch.
+     */
+    public void applyPatch(T target, String jsonString) throws IOException {
+        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(jsonString);
+        jsonParser.nextToken();
+        applyPatch(target, jsonParser);
+        jsonParser.close();
+    }
+
+    /**
+     * Apply a single field of a merge patch. Unless overridden, an object in the patch is merged into the JSON the field
+     * currently serializes to before the result is parsed, and any other value replaces the field as if it was being parsed.
+     */
+    public void applyPatchField(T target, String fieldName, JsonParser jsonParser) throws IOException {
+        if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parseField(target, fieldName, jsonParser);
+            return;
+        }
+
+        JsonMapper<Object> objectMapper = LoganSquare.mapperFor(Object.class);
+        Object current = LoganSquare.parseMap(serialize(target), Object.class).get(fieldName);
+        Object merged = DiffUtils.mergePatch(current, objectMapper.parse(jsonParser));
+
+        JsonParser mergedParser = LoganSquare.JSON_FACTORY.createParser(objectMapper.serialize(merged));
+        mergedParser.nextToken();
+        parseField(target, fieldName, mergedParser);
+        mergedParser.close();
+    }
+
+    /**
+     * Returns true if parsing a JSON document would produce an object that differs from an existing one. Objects declared
+     * with {@literal @}JsonObject(generateDiff = true) compare each field while streaming the document, without creating
+     * the new object, and stop reading at the first difference. The parser is left in the middle of the document when this
+     * returns true, so it should not be used for anything else afterwards. For all other objects, the document is parsed
+     * and compared with {@link #contentEquals(Object, Object)}.
+     *
+     * @param existing   The object to compare with. May be null.
+     * @param jsonParser The pre-configured JsonParser
+     */
+    public boolean parseDiffers(T existing, JsonParser jsonParser) throws IOException {
+        return !contentEquals(existing, parse(jsonParser));
+    }
+
+    /**
+     * Returns true if parsing a JSON document from an InputStream would produce an object that differs from an existing
+     * one. See {@link #parseDiffers(Object, JsonParser)}.
+     *
+     * @param existing The object to compare with. May be null.
+     * @param is       The InputStream, most likely from your networking library.
+     */
+    public boolean parseDiffers(T existing, InputStream is) throws IOException {
+        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(is);
+        jsonParser.nextToken();
+        return parseDiffers(existing, jsonParser);
+    }
+
+    /**
+     * Returns true if parsing a JSON String would produce an object that differs from an existing one. See
+     * {@link #parseDiffers(Object, JsonParser)}.
+     *
+     * @param existing   The object to compare with. May be null.
+     * @param jsonString The JSON string being compared.
+     */
+    public boolean parseDiffers(T existing, String jsonString) throws IOException {
+        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(jsonString);
+        jsonParser.nextToken();
+        return parseDiffers(existing, jsonParser);
+    }
+
+    /**
+     * Create a deep copy of an object. Objects declared with {@literal @}JsonObject(generateCopy = true) are copied field by
+     * field, recursing into nested objects and collections; all others are serialized and parsed again.
+     *
+     * @param object The object to copy.
+     */
+    public T copy(T object) throws IOException {
+        if (object == null) {
+            return null;
+        }
+        return parse(serialize(object));
+    }
+
+    /** Copy the fields of one object into another. Used by subclass mappers to copy the fields they inherit. */
+    public void copyFields(T object, T instance) throws IOException {
+        CopyUtils.copyFieldsWithMapper(this, object, instance);
+    }
+
     /**
      * Serialize an object to an OutputStream.
      *
@@ -240,7 +510,18 @@ public abstract class JsonMapper<T> {
      * @param os     The OutputStream being written to.
      */
     public void serialize(T object, OutputStream os) throws IOException {
-        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(os);
+        serialize(object, os, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Serialize an object to an OutputStream using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be written.
+     *
+     * @param object      The object to serialize.
+     * @param os          The OutputStream being written to.
+     * @param jsonFactory The JsonFactory used to create the JsonGenerator.
+     */
+    public void serialize(T object, OutputStream os, JsonFactory jsonFactory) throws IOException {
+        JsonGenerator jsonGenerator = jsonFactory.createGenerator(os);
         serialize(object, jsonGenerator, true);
         jsonGenerator.close();
     }
@@ -265,7 +546,18 @@ public abstract class JsonMapper<T> {
      * @param os   The OutputStream to which the list should be serialized
      */
     public void serialize(List<T> list, OutputStream os) throws IOException {
-        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(os);
+        serialize(list, os, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Serialize a list of objects to an OutputStream using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be written.
+     *
+     * @param list        The list of objects to serialize.
+     * @param os          The OutputStream being written to.
+     * @param jsonFactory The JsonFactory used to create the JsonGenerator.
+     */
+    public void serialize(List<T> list, OutputStream os, JsonFactory jsonFactory) throws IOException {
+        JsonGenerator jsonGenerator = jsonFactory.createGenerator(os);
         serialize(list, jsonGenerator);
         jsonGenerator.close();
     }
@@ -308,7 +600,18 @@ public abstract class JsonMapper<T> {
      * @param os  The OutputStream to which the list should be serialized
      */
     public void serialize(Map<String, T> map, OutputStream os) throws IOException {
-        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(os);
+        serialize(map, os, LoganSquare.JSON_FACTORY);
+    }
+
+    /**
+     * Serialize a map of objects to an OutputStream using the passed JsonFactory, which allows other formats supported by Jackson (ie: Smile or CBOR) to be written.
+     *
+     * @param map         The map of objects to serialize.
+     * @param os          The OutputStream being written to.
+     * @param jsonFactory The JsonFactory used to create the JsonGenerator.
+     */
+    public void serialize(Map<String, T> map, OutputStream os, JsonFactory jsonFactory) throws IOException {
+        JsonGenerator jsonGenerator = jsonFactory.createGenerator(os);
         serialize(map, jsonGenerator);
         jsonGenerator.close();
     }
@@ -331,4 +634,76 @@ public abstract class JsonMapper<T> {
         }
         jsonGenerator.writeEndObject();
     }
-}
\ No newline at end of file
+
+    /**
+     * Write an object in a compact binary form, preceded by the schema fingerprint of this mapper. Objects declared with
+     * {@literal @}JsonObject(generateBinaryCodec = true) are written field by field without field names; all others are
+     * written as length-prefixed JSON.
+     *
+     * @param object The object to write.
+     * @param out    The DataOutput being written to.
+     */
+    public void writeBinary(T object, DataOutput out) throws IOException {
+        out.writeInt(getBinarySchemaFingerprint());
+        writeBinaryBody(object, out);
+    }
+
+    /**
+     * Read an object written by {@link #writeBinary(Object, DataOutput)}.
+     *
+     * @param in The DataInput being read from.
+     * @throws IOException if the data was written by a mapper with a different schema fingerprint.
+     */
+    public T readBinary(DataInput in) throws IOException {
+        int fingerprint = in.readInt();
+        if (fingerprint != getBinarySchemaFingerprint()) {
+            throw new IOException("Binary schema fingerprint " + fingerprint + " does not match expected fingerprint " + getBinarySchemaFingerprint());
+        }
+        return readBinaryBody(in);
+    }
+
+    /**
+     * A hash of the fields and field types written by this mapper's binary codec, computed at compile time. Returns 0
+     * for mappers without a generated binary codec.
+     */
+    public int getBinarySchemaFingerprint() {
+        return 0;
+    }
+
+    /** Write an object in binary form without the schema fingerprint. Used for nested objects. */
+    public void writeBinaryBody(T object, DataOutput out) throws IOException {
+        BinaryUtils.writeWithMapper(this, object, out);
+    }
+
+    /** Read an object written by {@link #writeBinaryBody(Object, DataOutput)}. */
+    public T readBinaryBody(DataInput in) throws IOException {
+        return BinaryUtils.readWithMapper(this, in);
+    }
+
+    /** Write the fields of an object in binary form. Used by subclass mappers to write the fields they inherit. */
+    public void writeBinaryFields(T object, DataOutput out) throws IOException {
+        BinaryUtils.writeWithMapper(this, object, out);
+    }
+
+    /** Read fields written by {@link #writeBinaryFields(Object, DataOutput)} into an existing instance. */
+    public void readBinaryFields(T instance, DataInput in) throws IOException {
+        BinaryUtils.readFieldsWithMapper(this, instance, in);
+    }
+
+    /**
+     * Remove the object with the passed key from the cache kept for {@literal @}JsonObject(keyCacheSize = n), so that the
+     * next object parsed with this key is merged with a freshly looked up instance. Does nothing for mappers without a cache.
+     *
+     * @param key The value of the object's {@literal @}JsonField(isKey = true) field.
+     */
+    public void invalidateSourceInstance(Object key) { }
+
+    /** Remove all objects from the cache kept for {@literal @}JsonObject(keyCacheSize = n). */
+    public void invalidateSourceInstances() { }
+
+    /**
+     * Forget all instances kept for {@literal @}JsonObject(canonicalizeByKey = true), so that objects parsed afterwards do
+     * not share instances with objects parsed before.
+     */
+    public void clearCanonicalInstances() { }
+}
@@ -0,0 +1,240 @@
+package com.bluelinelabs.logansquare;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * A lightweight view of a single value within a {@link JsonTree}. Creating a node doesn't copy any data, so
+ * navigating the tree only allocates the views themselves.
+ */
+public final class JsonNode {
+
+    /** The type of a node */
+    public enum Type {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL
+    }
+
+    private final JsonTree mTree;
+    private final int mIndex;
+
+    JsonNode(JsonTree tree, int index) {
+        mTree = tree;
+        mIndex = index;
+    }
+
+    /** Returns the type of this node. */
+    public Type getType() {
+        switch (mTree.typeOf(mIndex)) {
+            case JsonTree.TYPE_OBJECT:
+                return Type.OBJECT;
+            case JsonTree.TYPE_ARRAY:
+                return Type.ARRAY;
+            case JsonTree.TYPE_STRING:
+                return Type.STRING;
+            case JsonTree.TYPE_INT:
+            case JsonTree.TYPE_FLOAT:
+            case JsonTree.TYPE_BIG_NUMBER:
+                return Type.NUMBER;
+            case JsonTree.TYPE_TRUE:
+            case JsonTree.TYPE_FALSE:
+                return Type.BOOLEAN;
+            default:
+                return Type.NULL;
+        }
+    }
+
+    public boolean isObject() {
+        return mTree.typeOf(mIndex) == JsonTree.TYPE_OBJECT;
+    }
+
+    public boolean isArray() {
+        return mTree.typeOf(mIndex) == JsonTree.TYPE_ARRAY;
+    }
+
+    public boolean isNull() {
+        return mTree.typeOf(mIndex) == JsonTree.TYPE_NULL;
+    }
+
+    /** Returns the number of children of an object or array node, or 0 for any other node. */
+    public int size() {
+        return isContainer() ? mTree.childCountOf(mIndex) : 0;
+    }
+
+    /** Returns the name of this node if it's a member of an object, or null if it's not. */
+    public String getName() {
+        return mTree.nameOf(mIndex);
+    }
+
+    /**
+     * Returns the member of this object node with the passed name.
+     *
+     * @param name The name of the member
+     * @return The member, or null if this node isn't an object or has no member with the passed name
+     */
+    public JsonNode get(String name) {
+        if (mTree.typeOf(mIndex) != JsonTree.TYPE_OBJECT) {
+            return null;
+        }
+        int child = mTree.childNamed(mIndex, name);
+        return child >= 0 ? new JsonNode(mTree, child) : null;
+    }
+
+    /**
+     * Returns the child of this object or array node at the passed position. Children are linked rather than indexed,
+     * so this walks the preceding siblings each time it's called. Iterate with {@link #getFirstChild()} and
+     * {@link #getNextSibling()} to visit every child in linear time.
+     *
+     * @param position The position of the child
+     * @return The child, or null if this node isn't a container or the position is out of range
+     */
+    public JsonNode get(int position) {
+        if (!isContainer() || position < 0 || position >= mTree.childCountOf(mIndex)) {
+            return null;
+        }
+        int child = mTree.firstChildOf(mIndex);
+        for (int i = 0; i < position; i++) {
+            child = mTree.nextSiblingOf(child);
+        }
+        return new JsonNode(mTree, child);
+    }
+
+    /** Returns the first child of this node, or null if it has none. */
+    public JsonNode getFirstChild() {
+        int child = isContainer() ? mTree.firstChildOf(mIndex) : -1;
+        return child >= 0 ? new JsonNode(mTree, child) : null;
+    }
+
+    /** Returns the next sibling of this node, or null if it's the last child of its parent. */
+    public JsonNode getNextSibling() {
+        int sibling = mTree.nextSiblingOf(mIndex);
+        return sibling >= 0 ? new JsonNode(mTree, sibling) : null;
+    }
+
+    /** Returns the parent of this node, or null if it's the root. */
+    public JsonNode getParent() {
+        int parent = mTree.parentOf(mIndex);
+        return parent >= 0 ? new JsonNode(mTree, parent) : null;
+    }
+
+    /** Returns the value of this String or number node as a String, or null if this is a null node. */
+    public String asString() {
+        switch (mTree.typeOf(mIndex)) {
+            case JsonTree.TYPE_STRING:
+            case JsonTree.TYPE_BIG_NUMBER:
+                return mTree.textOf(mIndex);
+            case JsonTree.TYPE_INT:
+                return Long.toString(mTree.longValueOf(mIndex));
+            case JsonTree.TYPE_FLOAT:
+                return Double.toString(mTree.doubleValueOf(mIndex));
+            case JsonTree.TYPE_NULL:
+                return null;
+            default:
+                throw typeMismatch("a String");
+        }
+    }
+
+    /** Returns the value of this number node as an int, throwing if it doesn't fit in one. */
+    public int asInt() {
+        long value = asLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Node value " + value + " does not fit in an int");
+        }
+        return (int)value;
+    }
+
+    public long asLong() {
+        switch (mTree.typeOf(mIndex)) {
+            case JsonTree.TYPE_INT:
+                return mTree.longValueOf(mIndex);
+            case JsonTree.TYPE_FLOAT:
+                return (long)mTree.doubleValueOf(mIndex);
+            default:
+                throw typeMismatch("a number");
+        }
+    }
+
+    public double asDouble() {
+        switch (mTree.typeOf(mIndex)) {
+            case JsonTree.TYPE_INT:
+                return mTree.longValueOf(mIndex);
+            case JsonTree.TYPE_FLOAT:
+                return mTree.doubleValueOf(mIndex);
+            case JsonTree.TYPE_BIG_NUMBER:
+                return Double.parseDouble(mTree.textOf(mIndex));
+            default:
+                throw typeMismatch("a number");
+        }
+    }
+
+    public boolean asBoolean() {
+        switch (mTree.typeOf(mIndex)) {
+            case JsonTree.TYPE_TRUE:
+                return true;
+            case JsonTree.TYPE_FALSE:
+                return false;
+            default:
+                throw typeMismatch("a boolean");
+        }
+    }
+
+    /**
+     * Parse this node into an object of the passed class. This should be reserved for the parts of a document
+     * that are actually needed, as the subtree is re-parsed by the class's JsonMapper.
+     *
+     * @param jsonObjectClass The @JsonObject class to parse this node into
+     */
+    public <E> E bind(Class<E> jsonObjectClass) throws IOException {
+        return LoganSquare.mapperFor(jsonObjectClass).parse(createParser());
+    }
+
+    /**
+     * Parse this node into an object of the passed type. This should be reserved for the parts of a document
+     * that are actually needed, as the subtree is re-parsed by the type's JsonMapper.
+     *
+     * @param jsonObjectType The ParameterizedType describing the object to parse this node into
+     */
+    public <E> E bind(ParameterizedType<E> jsonObjectType) throws IOException {
+        return LoganSquare.mapperFor(jsonObjectType).parse(createParser());
+    }
+
+    /**
+     * Serialize this node to a pre-configured JsonGenerator object.
+     *
+     * @param generator The pre-configured JsonGenerator being written to.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        mTree.write(mIndex, generator);
+    }
+
+    /** Returns this node serialized as JSON. */
+    @Override
+    public String toString() {
+        try {
+            StringWriter sw = new StringWriter();
+            JsonGenerator generator = LoganSquare.JSON_FACTORY.createGenerator(sw);
+            writeTo(generator);
+            generator.close();
+            return sw.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonParser createParser() throws IOException {
+        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(toString());
+        jsonParser.nextToken();
+        return jsonParser;
+    }
+
+    private boolean isContainer() {
+        byte type = mTree.typeOf(mIndex);
+        return type == JsonTree.TYPE_OBJECT || type == JsonTree.TYPE_ARRAY;
+    }
+
+    private IllegalStateException typeMismatch(String expected) {
+        return new IllegalStateException("Node of type " + getType() + " is not " + expected);
+    }
+}
@@ -0,0 +1,325 @@
+package com.bluelinelabs.logansquare;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A read-only JSON document stored as a flat tape of nodes. Rather than allocating an object per value, each
+ * node is a set of entries in parallel arrays, and all names and Strings share a single char pool. Nodes are
+ * accessed through lightweight {@link JsonNode} views, starting at {@link #getRoot()}.
+ */
+public final class JsonTree {
+
+    static final byte TYPE_OBJECT = 0;
+    static final byte TYPE_ARRAY = 1;
+    static final byte TYPE_STRING = 2;
+    static final byte TYPE_INT = 3;
+    static final byte TYPE_FLOAT = 4;
+    static final byte TYPE_BIG_NUMBER = 5;
+    static final byte TYPE_TRUE = 6;
+    static final byte TYPE_FALSE = 7;
+    static final byte TYPE_NULL = 8;
+
+    private static final int INITIAL_NODE_CAPACITY = 16;
+    private static final int INITIAL_TEXT_CAPACITY = 64;
+
+    /** The type of each node */
+    private byte[] mTypes;
+
+    /** The index of each node's parent, or -1 for the root */
+    private int[] mParents;
+
+    /** The index of each node's next sibling, or -1 if it's the last child. A container's first child always directly follows it. */
+    private int[] mNextSiblings;
+
+    /** The offset into the text pool of each node's name, or -1 if it isn't a member of an object */
+    private int[] mNameOffsets;
+    private int[] mNameLengths;
+
+    /**
+     * The value of each node: the child count for containers, the value for ints, the raw bits for floats, or
+     * the text pool offset and length (packed into the upper and lower 32 bits) for Strings and big numbers.
+     */
+    private long[] mValues;
+
+    private char[] mText;
+
+    private int mNodeCount;
+    private int mTextLength;
+
+    private JsonTree() {
+        mTypes = new byte[INITIAL_NODE_CAPACITY];
+        mParents = new int[INITIAL_NODE_CAPACITY];
+        mNextSiblings = new int[INITIAL_NODE_CAPACITY];
+        mNameOffsets = new int[INITIAL_NODE_CAPACITY];
+        mNameLengths = new int[INITIAL_NODE_CAPACITY];
+        mValues = new long[INITIAL_NODE_CAPACITY];
+        mText = new char[INITIAL_TEXT_CAPACITY];
+    }
+
+    /**
+     * Parse a tree from a pre-configured JsonParser object.
+     *
+     * @param jsonParser The pre-configured JsonParser
+     */
+    public static JsonTree parse(JsonParser jsonParser) throws IOException {
+        if (jsonParser.getCurrentToken() == null) {
+            jsonParser.nextToken();
+        }
+        if (jsonParser.getCurrentToken() == null) {
+            throw new IOException("No content to parse");
+        }
+
+        JsonTree tree = new JsonTree();
+
+        // Each stack level holds a container's index and the index of its last child so far
+        int[] containerStack = new int[8];
+        int[] lastChildStack = new int[8];
+        int depth = -1;
+
+        int nameOffset = -1;
+        int nameLength = 0;
+
+        JsonToken token = jsonParser.getCurrentToken();
+        while (token != null) {
+            if (token == JsonToken.FIELD_NAME) {
+                nameOffset = tree.appendText(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+                nameLength = jsonParser.getTextLength();
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+                if (depth < 0) {
+                    break;
+                }
+            } else {
+                int parent = depth >= 0 ? containerStack[depth] : -1;
+                int node = tree.addNode(jsonParser, token, parent, nameOffset, nameLength);
+                nameOffset = -1;
+                nameLength = 0;
+
+                if (depth >= 0) {
+                    if (lastChildStack[depth] >= 0) {
+                        tree.mNextSiblings[lastChildStack[depth]] = node;
+                    }
+                    lastChildStack[depth] = node;
+                    tree.mValues[parent]++;
+                }
+
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    depth++;
+                    if (depth == containerStack.length) {
+                        containerStack = Arrays.copyOf(containerStack, depth << 1);
+                        lastChildStack = Arrays.copyOf(lastChildStack, depth << 1);
+                    }
+                    containerStack[depth] = node;
+                    lastChildStack[depth] = -1;
+                } else if (depth < 0) {
+                    break;
+                }
+            }
+
+            token = jsonParser.nextToken();
+        }
+
+        tree.trimToSize();
+        return tree;
+    }
+
+    /** Returns the root node of this tree. */
+    public JsonNode getRoot() {
+        return new JsonNode(this, 0);
+    }
+
+    /** Returns the number of nodes in this tree. */
+    public int getNodeCount() {
+        return mNodeCount;
+    }
+
+    @Override
+    public String toString() {
+        return getRoot().toString();
+    }
+
+    private int addNode(JsonParser jsonParser, JsonToken token, int parent, int nameOffset, int nameLength) throws IOException {
+        if (mNodeCount == mTypes.length) {
+            int newCapacity = mNodeCount << 1;
+            mTypes = Arrays.copyOf(mTypes, newCapacity);
+            mParents = Arrays.copyOf(mParents, newCapacity);
+            mNextSiblings = Arrays.copyOf(mNextSiblings, newCapacity);
+            mNameOffsets = Arrays.copyOf(mNameOffsets, newCapacity);
+            mNameLengths = Arrays.copyOf(mNameLengths, newCapacity);
+            mValues = Arrays.copyOf(mValues, newCapacity);
+        }
+
+        final int node = mNodeCount++;
+        mParents[node] = parent;
+        mNextSiblings[node] = -1;
+        mNameOffsets[node] = nameOffset;
+        mNameLengths[node] = nameLength;
+
+        switch (token) {
+            case START_OBJECT:
+                mTypes[node] = TYPE_OBJECT;
+                mValues[node] = 0;
+                break;
+            case START_ARRAY:
+                mTypes[node] = TYPE_ARRAY;
+                mValues[node] = 0;
+                break;
+            case VALUE_STRING:
+                mTypes[node] = TYPE_STRING;
+                mValues[node] = packText(appendText(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength()), jsonParser.getTextLength());
+                break;
+            case VALUE_NUMBER_INT:
+                if (jsonParser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    mTypes[node] = TYPE_BIG_NUMBER;
+                    mValues[node] = packText(appendText(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength()), jsonParser.getTextLength());
+                } else {
+                    mTypes[node] = TYPE_INT;
+                    mValues[node] = jsonParser.getLongValue();
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                mTypes[node] = TYPE_FLOAT;
+                mValues[node] = Double.doubleToRawLongBits(jsonParser.getDoubleValue());
+                break;
+            case VALUE_TRUE:
+                mTypes[node] = TYPE_TRUE;
+                break;
+            case VALUE_FALSE:
+                mTypes[node] = TYPE_FALSE;
+                break;
+            case VALUE_NULL:
+                mTypes[node] = TYPE_NULL;
+                break;
+            default:
+                throw new IOException("Invalid json token encountered: " + token);
+        }
+
+        return node;
+    }
+
+    private int appendText(char[] buffer, int offset, int length) {
+        if (mTextLength + length > mText.length) {
+            mText = Arrays.copyOf(mText, Math.max(mText.length << 1, mTextLength + length));
+        }
+        System.arraycopy(buffer, offset, mText, mTextLength, length);
+        int start = mTextLength;
+        mTextLength += length;
+        return start;
+    }
+
+    private void trimToSize() {
+        mTypes = Arrays.copyOf(mTypes, mNodeCount);
+        mParents = Arrays.copyOf(mParents, mNodeCount);
+        mNextSiblings = Arrays.copyOf(mNextSiblings, mNodeCount);
+        mNameOffsets = Arrays.copyOf(mNameOffsets, mNodeCount);
+        mNameLengths = Arrays.copyOf(mNameLengths, mNodeCount);
+        mValues = Arrays.copyOf(mValues, mNodeCount);
+        mText = Arrays.copyOf(mText, mTextLength);
+    }
+
+    private static long packText(int offset, int length) {
+        return ((long)offset << 32) | (length & 0xFFFFFFFFL);
+    }
+
+    byte typeOf(int node) {
+        return mTypes[node];
+    }
+
+    int parentOf(int node) {
+        return mParents[node];
+    }
+
+    int nextSiblingOf(int node) {
+        return mNextSiblings[node];
+    }
+
+    int childCountOf(int node) {
+        return (int)mValues[node];
+    }
+
+    int firstChildOf(int node) {
+        return childCountOf(node) > 0 ? node + 1 : -1;
+    }
+
+    long longValueOf(int node) {
+        return mValues[node];
+    }
+
+    double doubleValueOf(int node) {
+        return Double.longBitsToDouble(mValues[node]);
+    }
+
+    String textOf(int node) {
+        long value = mValues[node];
+        return new String(mText, (int)(value >>> 32), (int)value);
+    }
+
+    String nameOf(int node) {
+        return mNameOffsets[node] >= 0 ? new String(mText, mNameOffsets[node], mNameLengths[node]) : null;
+    }
+
+    /** Finds the child of an object with the passed name without creating any Strings. */
+    int childNamed(int node, String name) {
+        final int length = name.length();
+        for (int child = firstChildOf(node); child >= 0; child = mNextSiblings[child]) {
+            if (mNameLengths[child] == length) {
+                final int offset = mNameOffsets[child];
+                int i = 0;
+                while (i < length && mText[offset + i] == name.charAt(i)) {
+                    i++;
+                }
+                if (i == length) {
+                    return child;
+                }
+            }
+        }
+        return -1;
+    }
+
+    void write(int node, JsonGenerator generator) throws IOException {
+        switch (mTypes[node]) {
+            case TYPE_OBJECT:
+                generator.writeStartObject();
+                for (int child = firstChildOf(node); child >= 0; child = mNextSiblings[child]) {
+                    generator.writeFieldName(nameOf(child));
+                    write(child, generator);
+                }
+                generator.writeEndObject();
+                break;
+            case TYPE_ARRAY:
+                generator.writeStartArray();
+                for (int child = firstChildOf(node); child >= 0; child = mNextSiblings[child]) {
+                    write(child, generator);
+                }
+                generator.writeEndArray();
+                break;
+            case TYPE_STRING:
+                long value = mValues[node];
+                generator.writeString(mText, (int)(value >>> 32), (int)value);
+                break;
+            case TYPE_INT:
+                generator.writeNumber(mValues[node]);
+                break;
+            case TYPE_FLOAT:
+                generator.writeNumber(doubleValueOf(node));
+                break;
+            case TYPE_BIG_NUMBER:
+                generator.writeNumber(textOf(node));
+                break;
+            case TYPE_TRUE:
+                generator.writeBoolean(true);
+                break;
+            case TYPE_FALSE:
+                generator.writeBoolean(false);
+                break;
+            default:
+                generator.writeNull();
+                break;
+        }
+    }
+}
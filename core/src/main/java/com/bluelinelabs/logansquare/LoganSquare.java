@@ -11,14 +11,28 @@ import com.bluelinelabs.logansquare.internal.objectmappers.ObjectMapper;
 import com.bluelinelabs.logansquare.internal.objectmappers.StringMapper;
 import com.bluelinelabs.logansquare.typeconverters.DefaultCalendarConverter;
 import com.bluelinelabs.logansquare.typeconverters.DefaultDateConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultDurationConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultInstantConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultLocalDateConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultLocalDateTimeConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultOffsetDateTimeConverter;
 import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
 import com.bluelinelabs.logansquare.util.SimpleArrayMap;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -53,11 +67,16 @@ public class LoganSquare {
 
     private static final ConcurrentHashMap<ParameterizedType, JsonMapper> PARAMETERIZED_OBJECT_MAPPERS = new ConcurrentHashMap<>();
 
-    private static final SimpleArrayMap<Class, TypeConverter> TYPE_CONVERTERS = new SimpleArrayMap<>();
+    private static final ConcurrentHashMap<Class, TypeConverter> TYPE_CONVERTERS = new ConcurrentHashMap<>();
 
     static {
         registerTypeConverter(Date.class, new DefaultDateConverter());
         registerTypeConverter(Calendar.class, new DefaultCalendarConverter());
+
+        // java.time isn't available on older Android devices, so only touch it if it's there
+        if (isJavaTimeAvailable()) {
+            registerJavaTimeTypeConverters();
+        }
     }
 
     /**
@@ -75,6 +94,17 @@ public class LoganSquare {
         return mapperFor(jsonObjectClass).parse(is);
     }
 
+    /**
+     * Parse an object from an InputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param is              The InputStream, most likely from your networking library.
+     * @param jsonObjectClass The @JsonObject class to parse the InputStream into
+     * @param jsonFactory     The JsonFactory used to read the InputStream
+     */
+    public static <E> E parse(InputStream is, Class<E> jsonObjectClass, JsonFactory jsonFactory) throws IOException {
+        return mapperFor(jsonObjectClass).parse(is, jsonFactory);
+    }
+
     /**
      * Parse an object from a String. Note: parsing from an InputStream should be preferred over parsing from a String if possible.
      *
@@ -95,6 +125,17 @@ public class LoganSquare {
         return mapperFor(jsonObjectType).parse(is);
     }
 
+    /**
+     * Parse a parameterized object from an InputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param is             The InputStream, most likely from your networking library.
+     * @param jsonObjectType The ParameterizedType describing the object. Ex: LoganSquare.parse(is, new ParameterizedType&lt;MyModel&lt;OtherModel&gt;&gt;() { }, jsonFactory);
+     * @param jsonFactory    The JsonFactory used to read the InputStream
+     */
+    public static <E> E parse(InputStream is, ParameterizedType<E> jsonObjectType, JsonFactory jsonFactory) throws IOException {
+        return mapperFor(jsonObjectType).parse(is, jsonFactory);
+    }
+
     /**
      * Parse a parameterized object from a String. Note: parsing from an InputStream should be preferred over parsing from a String if possible.
      *
@@ -115,6 +156,17 @@ public class LoganSquare {
         return mapperFor(jsonObjectClass).parseList(is);
     }
 
+    /**
+     * Parse a list of objects from an InputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param is              The inputStream, most likely from your networking library.
+     * @param jsonObjectClass The @JsonObject class to parse the InputStream into
+     * @param jsonFactory     The JsonFactory used to read the InputStream
+     */
+    public static <E> List<E> parseList(InputStream is, Class<E> jsonObjectClass, JsonFactory jsonFactory) throws IOException {
+        return mapperFor(jsonObjectClass).parseList(is, jsonFactory);
+    }
+
     /**
      * Parse a list of objects from a String. Note: parsing from an InputStream should be preferred over parsing from a String if possible.
      *
@@ -135,6 +187,17 @@ public class LoganSquare {
         return mapperFor(jsonObjectClass).parseMap(is);
     }
 
+    /**
+     * Parse a map of objects from an InputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param is              The inputStream, most likely from your networking library.
+     * @param jsonObjectClass The @JsonObject class to parse the InputStream into
+     * @param jsonFactory     The JsonFactory used to read the InputStream
+     */
+    public static <E> Map<String, E> parseMap(InputStream is, Class<E> jsonObjectClass, JsonFactory jsonFactory) throws IOException {
+        return mapperFor(jsonObjectClass).parseMap(is, jsonFactory);
+    }
+
     /**
      * Parse a map of objects from a String. Note: parsing from an InputStream should be preferred over parsing from a String if possible.
      *
@@ -145,6 +208,34 @@ public class LoganSquare {
         return mapperFor(jsonObjectClass).parseMap(jsonString);
     }
 
+    /**
+     * Parse a JSON document into a read-only tree that can be navigated without binding it to model classes.
+     *
+     * @param is The inputStream, most likely from your networking library.
+     */
+    public static JsonTree parseTree(InputStream is) throws IOException {
+        JsonParser jsonParser = JSON_FACTORY.createParser(is);
+        try {
+            return JsonTree.parse(jsonParser);
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    /**
+     * Parse a JSON document into a read-only tree that can be navigated without binding it to model classes.
+     *
+     * @param byteArray The byte array being parsed.
+     */
+    public static JsonTree parseTree(byte[] byteArray) throws IOException {
+        JsonParser jsonParser = JSON_FACTORY.createParser(byteArray);
+        try {
+            return JsonTree.parse(jsonParser);
+        } finally {
+            jsonParser.close();
+        }
+    }
+
     /**
      * Serialize an object to a JSON String.
      *
@@ -155,6 +246,89 @@ public class LoganSquare {
         return mapperFor((Class<E>) object.getClass()).serialize(object);
     }
 
+    /**
+     * Serialize the fields of an object that changed since it was last marked clean to a JSON String. See
+     * {@link JsonMapper#serializeChanges(Object, JsonGenerator)}.
+     *
+     * @param object The object to serialize.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> String serializeChanges(E object) throws IOException {
+        return mapperFor((Class<E>) object.getClass()).serializeChanges(object);
+    }
+
+    /**
+     * Record the current field values of an object declared with {@literal @}JsonObject(trackChanges = true). See
+     * {@link JsonMapper#markClean(Object)}.
+     *
+     * @param object The object to mark as clean.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void markClean(E object) {
+        mapperFor((Class<E>) object.getClass()).markClean(object);
+    }
+
+    /**
+     * Write an RFC 7386 JSON merge patch that turns one version of an object into another. See
+     * {@link JsonMapper#diff(Object, Object, JsonGenerator)}.
+     *
+     * @param before The original version of the object.
+     * @param after  The modified version of the object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> String diff(E before, E after) throws IOException {
+        return mapperFor((Class<E>) after.getClass()).diff(before, after);
+    }
+
+    /**
+     * Apply an RFC 7386 JSON merge patch to an existing object. See {@link JsonMapper#applyPatch(Object, JsonParser)}.
+     *
+     * @param target     The object being patched.
+     * @param jsonString The merge patch.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void applyPatch(E target, String jsonString) throws IOException {
+        mapperFor((Class<E>) target.getClass()).applyPatch(target, jsonString);
+    }
+
+    /**
+     * Returns true if parsing an InputStream would produce an object that differs from an existing one, without creating
+     * the new object for classes declared with {@literal @}JsonObject(generateDiff = true). See
+     * {@link JsonMapper#parseDiffers(Object, JsonParser)}.
+     *
+     * @param existing        The object to compare with. May be null.
+     * @param is              The InputStream, most likely from your networking library.
+     * @param jsonObjectClass The @JsonObject class the InputStream would be parsed into
+     */
+    public static <E> boolean parseDiffers(E existing, InputStream is, Class<E> jsonObjectClass) throws IOException {
+        return mapperFor(jsonObjectClass).parseDiffers(existing, is);
+    }
+
+    /**
+     * Returns true if parsing a String would produce an object that differs from an existing one. See
+     * {@link JsonMapper#parseDiffers(Object, JsonParser)}.
+     *
+     * @param existing        The object to compare with. May be null.
+     * @param jsonString      The JSON string being compared.
+     * @param jsonObjectClass The @JsonObject class the String would be parsed into
+     */
+    public static <E> boolean parseDiffers(E existing, String jsonString, Class<E> jsonObjectClass) throws IOException {
+        return mapperFor(jsonObjectClass).parseDiffers(existing, jsonString);
+    }
+
+    /**
+     * Create a deep copy of an object. See {@link JsonMapper#copy(Object)}.
+     *
+     * @param object The object to copy.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> E copy(E object) throws IOException {
+        if (object == null) {
+            return null;
+        }
+        return mapperFor((Class<E>) object.getClass()).copy(object);
+    }
+
     /**
      * Serialize an object to an OutputStream.
      *
@@ -166,6 +340,18 @@ public class LoganSquare {
         mapperFor((Class<E>) object.getClass()).serialize(object, os);
     }
 
+    /**
+     * Serialize an object to an OutputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param object      The object to serialize.
+     * @param os          The OutputStream being written to.
+     * @param jsonFactory The JsonFactory used to write to the OutputStream
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void serialize(E object, OutputStream os, JsonFactory jsonFactory) throws IOException {
+        mapperFor((Class<E>) object.getClass()).serialize(object, os, jsonFactory);
+    }
+
     /**
      * Serialize a parameterized object to a JSON String.
      *
@@ -189,6 +375,18 @@ public class LoganSquare {
         mapperFor(parameterizedType).serialize(object, os);
     }
 
+    /**
+     * Serialize a parameterized object to an OutputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param object            The object to serialize.
+     * @param parameterizedType The ParameterizedType describing the object. Ex: LoganSquare.serialize(object, new ParameterizedType&lt;MyModel&lt;OtherModel&gt;&gt;() { }, os, jsonFactory);
+     * @param os                The OutputStream being written to.
+     * @param jsonFactory       The JsonFactory used to write to the OutputStream
+     */
+    public static <E> void serialize(E object, ParameterizedType<E> parameterizedType, OutputStream os, JsonFactory jsonFactory) throws IOException {
+        mapperFor(parameterizedType).serialize(object, os, jsonFactory);
+    }
+
     /**
      * Serialize a list of objects to a JSON String.
      *
@@ -210,6 +408,18 @@ public class LoganSquare {
         mapperFor(jsonObjectClass).serialize(list, os);
     }
 
+    /**
+     * Serialize a list of objects to an OutputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param list            The list of objects to serialize.
+     * @param os              The OutputStream to which the list should be serialized
+     * @param jsonObjectClass The @JsonObject class of the list elements
+     * @param jsonFactory     The JsonFactory used to write to the OutputStream
+     */
+    public static <E> void serialize(List<E> list, OutputStream os, Class<E> jsonObjectClass, JsonFactory jsonFactory) throws IOException {
+        mapperFor(jsonObjectClass).serialize(list, os, jsonFactory);
+    }
+
     /**
      * Serialize a map of objects to a JSON String.
      *
@@ -231,6 +441,69 @@ public class LoganSquare {
         mapperFor(jsonObjectClass).serialize(map, os);
     }
 
+    /**
+     * Serialize a map of objects to an OutputStream using a custom JsonFactory, such as one for Smile or CBOR.
+     *
+     * @param map             The map of objects to serialize.
+     * @param os              The OutputStream to which the list should be serialized
+     * @param jsonObjectClass The @JsonObject class of the list elements
+     * @param jsonFactory     The JsonFactory used to write to the OutputStream
+     */
+    public static <E> void serialize(Map<String, E> map, OutputStream os, Class<E> jsonObjectClass, JsonFactory jsonFactory) throws IOException {
+        mapperFor(jsonObjectClass).serialize(map, os, jsonFactory);
+    }
+
+    /**
+     * Write an object in LoganSquare's compact binary form. See {@link JsonMapper#writeBinary(Object, DataOutput)}.
+     *
+     * @param object The object to write.
+     * @param out    The DataOutput being written to.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void writeBinary(E object, DataOutput out) throws IOException {
+        mapperFor((Class<E>) object.getClass()).writeBinary(object, out);
+    }
+
+    /**
+     * Read an object written by {@link #writeBinary(Object, DataOutput)}.
+     *
+     * @param in              The DataInput being read from.
+     * @param jsonObjectClass The @JsonObject class to read.
+     */
+    public static <E> E readBinary(DataInput in, Class<E> jsonObjectClass) throws IOException {
+        return mapperFor(jsonObjectClass).readBinary(in);
+    }
+
+    /**
+     * Remove a cached {@literal @}JsonGetByKey result for a class declared with {@literal @}JsonObject(keyCacheSize = n).
+     * Should be called whenever the object stored for this key changes.
+     *
+     * @param jsonObjectClass The @JsonObject class of the cached object.
+     * @param key             The value of the object's {@literal @}JsonField(isKey = true) field.
+     */
+    public static <E> void invalidateSourceInstance(Class<E> jsonObjectClass, Object key) {
+        mapperFor(jsonObjectClass).invalidateSourceInstance(key);
+    }
+
+    /**
+     * Remove all cached {@literal @}JsonGetByKey results for a class declared with {@literal @}JsonObject(keyCacheSize = n).
+     *
+     * @param jsonObjectClass The @JsonObject class of the cached objects.
+     */
+    public static <E> void invalidateSourceInstances(Class<E> jsonObjectClass) {
+        mapperFor(jsonObjectClass).invalidateSourceInstances();
+    }
+
+    /**
+     * Forget all instances kept for a class declared with {@literal @}JsonObject(canonicalizeByKey = true). Calling this
+     * between responses limits instance sharing to objects parsed from the same response.
+     *
+     * @param jsonObjectClass The @JsonObject class of the canonical instances.
+     */
+    public static <E> void clearCanonicalInstances(Class<E> jsonObjectClass) {
+        mapperFor(jsonObjectClass).clearCanonicalInstances();
+    }
+
     @SuppressWarnings("unchecked")
     /*package*/ static <E> JsonMapper<E> getMapper(Class<E> cls) {
         JsonMapper<E> mapper = OBJECT_MAPPERS.get(cls);
@@ -341,6 +614,28 @@ public class LoganSquare {
     @SuppressWarnings("unchecked")
     public static <E> TypeConverter<E> typeConverterFor(Class<E> cls) throws NoSuchTypeConverterException {
         TypeConverter<E> typeConverter = TYPE_CONVERTERS.get(cls);
+        if (typeConverter == null && cls.isEnum()) {
+            // @JsonEnum types have a generated TypeConverter, which we can use if nothing else has been registered
+            Class<?> typeConverterClass = null;
+            try {
+                typeConverterClass = Class.forName(cls.getName() + Constants.TYPE_CONVERTER_CLASS_SUFFIX);
+            } catch (ClassNotFoundException ignored) {
+            }
+
+            if (typeConverterClass != null) {
+                try {
+                    typeConverter = (TypeConverter<E>) typeConverterClass.getDeclaredConstructor().newInstance();
+                } catch (Exception e) {
+                    throw new RuntimeException("Unable to create the generated TypeConverter for " + cls.getCanonicalName(), e);
+                }
+
+                // Another thread may have gotten here first, in which case everyone should share its instance
+                TypeConverter<E> existing = TYPE_CONVERTERS.putIfAbsent(cls, typeConverter);
+                if (existing != null) {
+                    typeConverter = existing;
+                }
+            }
+        }
         if (typeConverter == null) {
             throw new NoSuchTypeConverterException(cls);
         }
@@ -356,4 +651,21 @@ public class LoganSquare {
     public static <E> void registerTypeConverter(Class<E> cls, TypeConverter<E> converter) {
         TYPE_CONVERTERS.put(cls, converter);
     }
+
+    private static boolean isJavaTimeAvailable() {
+        try {
+            Class.forName("java.time.Instant");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static void registerJavaTimeTypeConverters() {
+        registerTypeConverter(Instant.class, new DefaultInstantConverter());
+        registerTypeConverter(OffsetDateTime.class, new DefaultOffsetDateTimeConverter());
+        registerTypeConverter(LocalDate.class, new DefaultLocalDateConverter());
+        registerTypeConverter(LocalDateTime.class, new DefaultLocalDateTimeConverter());
+        registerTypeConverter(Duration.class, new DefaultDurationConverter());
+    }
 }
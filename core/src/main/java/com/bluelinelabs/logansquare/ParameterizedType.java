@@ -6,6 +6,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class ParameterizedType<T> {
@@ -31,6 +32,20 @@ public abstract class ParameterizedType<T> {
         addTypeParameters(type);
     }
 
+    private ParameterizedType(Class<?> rawType, ParameterizedType<?>[] typeParameters) {
+        this.rawType = rawType;
+        this.typeParameters = new ArrayList<>(typeParameters.length);
+        Collections.addAll(this.typeParameters, typeParameters);
+    }
+
+    /**
+     * Creates a ParameterizedType from its raw type and type parameters, without declaring an anonymous subclass for it.
+     * This is how generated mappers create their type tokens. Ex: ParameterizedType.of(List.class, ParameterizedType.of(MyModel.class))
+     */
+    public static <T> ParameterizedType<T> of(Class<?> rawType, ParameterizedType<?>... typeParameters) {
+        return new ConcreteParameterizedType<>(rawType, typeParameters);
+    }
+
     private void addTypeParameters(Type type) {
         if (type instanceof java.lang.reflect.ParameterizedType) {
             Type[] actualTypeArguments = ((java.lang.reflect.ParameterizedType)type).getActualTypeArguments();
@@ -62,7 +77,8 @@ public abstract class ParameterizedType<T> {
     public boolean equals(Object o) {
         if (this == o) {
             return true;
-        } else if (o == null || getClass() != o.getClass()) {
+        } else if (!(o instanceof ParameterizedType)) {
+            // Every subclass describes a type the same way, so anonymous subclasses are equal to tokens created by of()
             return false;
         } else {
             ParameterizedType<?> that = (ParameterizedType<?>)o;
@@ -85,5 +101,9 @@ public abstract class ParameterizedType<T> {
         public ConcreteParameterizedType(Type type) {
             super(type);
         }
+
+        ConcreteParameterizedType(Class<?> rawType, ParameterizedType<?>[] typeParameters) {
+            super(rawType, typeParameters);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.bluelinelabs.logansquare.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Declare that an enum should have a TypeConverter generated for it. Fields of this type will
+ * use the generated converter directly rather than looking one up at runtime.
+ * <pre><code>
+ * {@literal @}JsonEnum
+ * public enum MyEnum {
+ *     ...
+ * }
+ * </code></pre>
+ */
+@Target(TYPE)
+@Retention(CLASS)
+public @interface JsonEnum {
+
+    /**
+     * Allows control over whether values are serialized as their ordinal rather than their
+     * name. Both are accepted while parsing. Defaults to false.
+     */
+    boolean serializeAsOrdinal() default false;
+}
@@ -27,6 +27,12 @@ public @interface JsonField {
     /** The TypeConverter that will be used to parse/serialize this variable. */
     Class typeConverter() default void.class;
 
+    /**
+     * Allows String values (including those within collections) to share instances with equal, recently parsed
+     * values. Useful for fields that hold a small set of repeated values, such as codes or statuses.
+     */
+    boolean dedup() default false;
+
     boolean isKey() default false;
 
     boolean inherits() default false;
@@ -0,0 +1,22 @@
+package com.bluelinelabs.logansquare.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Declare a static method that looks up the existing objects for a batch of keys, for use when parsing lists
+ * and maps of objects that should be merged with existing objects. All keys in a list or map are resolved with
+ * a single call before any merging or callbacks take place.
+ * <pre><code>
+ * {@literal @}JsonGetByKeys
+ * public static Map&lt;String, MyClass&gt; getByKeys(Collection&lt;String&gt; keys) {
+ *     ...
+ * }
+ * </code></pre>
+ */
+@Target(METHOD)
+@Retention(CLASS)
+public @interface JsonGetByKeys { }
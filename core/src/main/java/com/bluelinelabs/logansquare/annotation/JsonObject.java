@@ -76,4 +76,52 @@ public @interface JsonObject {
      * Allows control over whether or not null collection and array elements are serialized. Defaults to false.
      */
     boolean serializeNullCollectionElements() default false;
+
+    /**
+     * Allows control over whether or not String values of all fields share instances with equal, recently parsed
+     * values, as if each field were annotated with @JsonField(dedup = true). Defaults to false.
+     */
+    boolean dedupStrings() default false;
+
+    /**
+     * Allows control over whether or not a compact binary codec is generated, which writes fields by position
+     * rather than by name. See JsonMapper.writeBinary(). Objects without a codec, as well as objects using
+     * {@literal @}JsonGetByKey or inheriting fields from their parent, are written as JSON instead. Defaults to false.
+     */
+    boolean generateBinaryCodec() default false;
+
+    /**
+     * The number of objects returned by this class's {@literal @}JsonGetByKey or {@literal @}JsonGetByKeys method that are
+     * kept in a least-recently-used cache, keyed by their {@literal @}JsonField(isKey = true) value. Repeated keys are then
+     * merged without calling the method again. Cached objects must be invalidated with LoganSquare.invalidateSourceInstance()
+     * when the underlying data changes. Defaults to 0, which disables the cache.
+     */
+    int keyCacheSize() default 0;
+
+    /**
+     * Allows control over whether or not parsed objects share instances with equal, previously parsed objects that have
+     * the same {@literal @}JsonField(isKey = true) value, which saves memory when the same object is embedded many times.
+     * Shared instances should not be modified. Classes extending another {@literal @}JsonObject class, or using
+     * {@literal @}JsonGetByKey, are not canonicalized. Defaults to false.
+     */
+    boolean canonicalizeByKey() default false;
+
+    /**
+     * Allows control over whether or not changes are tracked, so that JsonMapper.serializeChanges() can write only the
+     * fields that changed since JsonMapper.markClean() was last called. Fields holding other objects are compared with
+     * equals(), so changes made inside those objects are only seen if they implement it. Defaults to false.
+     */
+    boolean trackChanges() default false;
+
+    /**
+     * Allows control over whether or not JsonMapper.diff() and JsonMapper.applyPatch() compare and patch this class field
+     * by field. Without this, diffs write every field and nested objects are replaced rather than patched. Defaults to false.
+     */
+    boolean generateDiff() default false;
+
+    /**
+     * Allows control over whether or not JsonMapper.copy() copies this class field by field, recursing into nested objects
+     * and collections. Without this, objects are copied by serializing and parsing them again. Defaults to false.
+     */
+    boolean generateCopy() default false;
 }
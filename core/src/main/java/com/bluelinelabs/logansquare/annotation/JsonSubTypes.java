@@ -0,0 +1,47 @@
+package com.bluelinelabs.logansquare.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Declare the subclasses of a {@literal @}JsonObject class that can be parsed in its place. Each subclass is written
+ * with a discriminator property naming it, and parsing the parent class returns an instance of whichever subclass that
+ * property names. Objects without a known discriminator are parsed as the parent class, or as null if it's abstract.
+ * <pre><code>
+ * {@literal @}JsonObject
+ * {@literal @}JsonSubTypes(property = "kind", value = {
+ *     {@literal @}JsonSubTypes.Type(value = Dog.class, name = "dog"),
+ *     {@literal @}JsonSubTypes.Type(value = Cat.class, name = "cat")
+ * })
+ * public abstract class Animal {
+ *     ...
+ * }
+ * </code></pre>
+ */
+@Target(TYPE)
+@Retention(CLASS)
+public @interface JsonSubTypes {
+
+    /**
+     * The name of the discriminator property. It's written automatically, so it shouldn't also be declared as a
+     * {@literal @}JsonField of the parent class or its subclasses.
+     */
+    String property() default "type";
+
+    /** The subclasses, which must also be annotated with {@literal @}JsonObject and compiled along with the parent class. */
+    Type[] value();
+
+    @Target({})
+    @Retention(CLASS)
+    public @interface Type {
+
+        /** The subclass. */
+        Class<?> value();
+
+        /** The value of the discriminator property identifying the subclass. */
+        String name();
+    }
+}
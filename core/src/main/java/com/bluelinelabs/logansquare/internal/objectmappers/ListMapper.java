@@ -1,11 +1,12 @@
 package com.bluelinelabs.logansquare.internal.objectmappers;
 
 import com.bluelinelabs.logansquare.JsonMapper;
-import com.bluelinelabs.logansquare.LoganSquare;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,7 +16,11 @@ public class ListMapper extends JsonMapper<List<Object>> {
 
     @Override
     public List<Object> parse(JsonParser jsonParser) throws IOException {
-        return LoganSquare.mapperFor(Object.class).parseList(jsonParser);
+        if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+            return ObjectMapper.parseArray(jsonParser);
+        } else {
+            return new ArrayList<>();
+        }
     }
 
     @Override
@@ -23,7 +28,7 @@ public class ListMapper extends JsonMapper<List<Object>> {
 
     @Override
     public void serialize(List<Object> list, JsonGenerator generator, boolean writeStartAndEnd) throws IOException {
-        LoganSquare.mapperFor(Object.class).serialize(list, generator);
+        ObjectMapper.serializeList(list, generator);
     }
 
 }
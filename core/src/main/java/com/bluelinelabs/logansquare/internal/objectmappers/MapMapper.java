@@ -1,7 +1,6 @@
 package com.bluelinelabs.logansquare.internal.objectmappers;
 
 import com.bluelinelabs.logansquare.JsonMapper;
-import com.bluelinelabs.logansquare.LoganSquare;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 
@@ -15,7 +14,7 @@ public class MapMapper extends JsonMapper<Map<String, Object>> {
 
     @Override
     public Map<String, Object> parse(JsonParser jsonParser) throws IOException {
-        return LoganSquare.mapperFor(Object.class).parseMap(jsonParser);
+        return ObjectMapper.parseObject(jsonParser);
     }
 
     @Override
@@ -23,7 +22,7 @@ public class MapMapper extends JsonMapper<Map<String, Object>> {
 
     @Override
     public void serialize(Map<String, Object> map, JsonGenerator generator, boolean writeStartAndEnd) throws IOException {
-        LoganSquare.mapperFor(Object.class).serialize(map, generator);
+        ObjectMapper.serializeMap(map, generator);
     }
 
 }
@@ -2,10 +2,14 @@ package com.bluelinelabs.logansquare.internal.objectmappers;
 
 import com.bluelinelabs.logansquare.JsonMapper;
 import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.util.CompactArrayMap;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,37 +18,120 @@ import java.util.Map;
  */
 public class ObjectMapper extends JsonMapper<Object> {
 
+    // Lookups in a CompactArrayMap are linear, so larger objects are moved into a LinkedHashMap
+    private static final int MAX_COMPACT_MAP_SIZE = 16;
+
     @Override
     public Object parse(JsonParser jsonParser) throws IOException {
+        return parseValue(jsonParser);
+    }
+
+    @Override
+    public void parseField(Object instance, String fieldName, JsonParser jsonParser) throws IOException { }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, boolean writeStartAndEnd) throws IOException {
+        if (value instanceof List) {
+            serializeList((List<?>)value, generator);
+        } else if (value instanceof Map) {
+            serializeMap((Map<?, ?>)value, generator);
+        } else if (value == null || isSimpleValue(value)) {
+            serializeValue(value, generator);
+        } else {
+            JsonMapper<Object> jsonMapper = mapperForValue(value);
+
+            if (jsonMapper != null) {
+                if (writeStartAndEnd) {
+                    generator.writeStartObject();
+                }
+
+                jsonMapper.serialize(value, generator, false);
+
+                if (writeStartAndEnd) {
+                    generator.writeEndObject();
+                }
+            }
+        }
+    }
+
+    /** Parses the current value, recursing into objects and arrays without going back through LoganSquare. */
+    static Object parseValue(JsonParser jsonParser) throws IOException {
         switch (jsonParser.getCurrentToken()) {
             case VALUE_NULL:
                 return null;
             case VALUE_FALSE:
-                return false;
+                return Boolean.FALSE;
             case VALUE_TRUE:
-                return true;
+                return Boolean.TRUE;
             case VALUE_NUMBER_FLOAT:
                 return jsonParser.getDoubleValue();
             case VALUE_NUMBER_INT:
-                return jsonParser.getLongValue();
+                // Integer.valueOf caches small values, and an Integer is smaller than a Long on most VMs
+                if (jsonParser.getNumberType() == JsonParser.NumberType.INT) {
+                    return Integer.valueOf(jsonParser.getIntValue());
+                } else {
+                    return jsonParser.getLongValue();
+                }
             case VALUE_STRING:
                 return jsonParser.getText();
             case VALUE_EMBEDDED_OBJECT:
-                return LoganSquare.mapperFor(Map.class).parse(jsonParser);
+                return jsonParser.getEmbeddedObject();
             case START_OBJECT:
-                return LoganSquare.mapperFor(Map.class).parse(jsonParser);
+                return parseObject(jsonParser);
             case START_ARRAY:
-                return LoganSquare.mapperFor(List.class).parse(jsonParser);
+                return parseArray(jsonParser);
             default:
                 throw new RuntimeException("Invalid json token encountered: " + jsonParser.getCurrentToken());
         }
     }
 
-    @Override
-    public void parseField(Object instance, String fieldName, JsonParser jsonParser) throws IOException { }
+    /** Parses the object starting at the current START_OBJECT token into an insertion-ordered map. */
+    static Map<String, Object> parseObject(JsonParser jsonParser) throws IOException {
+        CompactArrayMap<String, Object> compactMap = new CompactArrayMap<>();
+        Map<String, Object> map = compactMap;
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+            String key = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            map.put(key, parseValue(jsonParser));
 
-    @Override
-    public void serialize(Object value, JsonGenerator generator, boolean writeStartAndEnd) throws IOException {
+            if (map == compactMap && compactMap.size() > MAX_COMPACT_MAP_SIZE) {
+                map = new LinkedHashMap<>(compactMap);
+            }
+        }
+
+        if (map == compactMap) {
+            compactMap.trimToSize();
+        }
+        return map;
+    }
+
+    /** Parses the array starting at the current START_ARRAY token into a list. */
+    static List<Object> parseArray(JsonParser jsonParser) throws IOException {
+        List<Object> list = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(parseValue(jsonParser));
+        }
+        return list;
+    }
+
+    static void serializeList(List<?> list, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (Object value : list) {
+            serializeValue(value, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    static void serializeMap(Map<?, ?> map, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            generator.writeFieldName((String)entry.getKey());
+            serializeValue(entry.getValue(), generator);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void serializeValue(Object value, JsonGenerator generator) throws IOException {
         if (value == null) {
             generator.writeNull();
         } else if (value instanceof String) {
@@ -60,24 +147,24 @@ public class ObjectMapper extends JsonMapper<Object> {
         } else if (value instanceof Boolean) {
             generator.writeBoolean((Boolean)value);
         } else if (value instanceof List) {
-            LoganSquare.mapperFor(List.class).serialize((List<Object>)value, generator, writeStartAndEnd);
+            serializeList((List<?>)value, generator);
         } else if (value instanceof Map) {
-            LoganSquare.mapperFor(Map.class).serialize((Map<String, Object>)value, generator, writeStartAndEnd);
+            serializeMap((Map<?, ?>)value, generator);
         } else {
-            Class valueClass = value.getClass();
-            JsonMapper jsonMapper = LoganSquare.mapperFor(valueClass);
-
-            if (jsonMapper != null) {
-                if (writeStartAndEnd) {
-                    generator.writeStartObject();
-                }
+            JsonMapper<Object> jsonMapper = mapperForValue(value);
+            generator.writeStartObject();
+            jsonMapper.serialize(value, generator, false);
+            generator.writeEndObject();
+        }
+    }
 
-                jsonMapper.serialize(value, generator, false);
+    @SuppressWarnings("unchecked")
+    private static JsonMapper<Object> mapperForValue(Object value) {
+        return (JsonMapper<Object>)LoganSquare.mapperFor(value.getClass());
+    }
 
-                if (writeStartAndEnd) {
-                    generator.writeEndObject();
-                }
-            }
-        }
+    private static boolean isSimpleValue(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Float
+                || value instanceof Double || value instanceof Boolean;
     }
 }
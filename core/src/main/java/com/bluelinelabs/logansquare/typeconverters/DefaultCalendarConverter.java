@@ -1,14 +1,76 @@
 package com.bluelinelabs.logansquare.typeconverters;
 
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
 import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Calendar;
 
 /** The default CalendarTypeConverter implementation. Attempts to parse ISO8601-formatted dates. */
 public class DefaultCalendarConverter extends CalendarTypeConverter {
 
     private DateFormat mDateFormat;
 
+    // Subclasses that override getDateFormat() keep parsing and formatting through their own DateFormat
+    private final boolean mUsesDefaultDateFormat;
+
     public DefaultCalendarConverter() {
         mDateFormat = new DefaultDateFormatter();
+        mUsesDefaultDateFormat = isDefaultDateFormat();
+    }
+
+    @Override
+    public Calendar parse(JsonParser jsonParser) throws IOException {
+        if (mUsesDefaultDateFormat) {
+            try {
+                long millis;
+
+                // Parse straight out of the parser's buffer to avoid creating an intermediate String
+                if (jsonParser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                    millis = ISO8601Utils.parse(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+                } else {
+                    String dateString = jsonParser.getValueAsString(null);
+                    if (dateString == null) {
+                        return null;
+                    }
+                    millis = ISO8601Utils.parse(dateString);
+                }
+
+                Calendar calendar = Calendar.getInstance();
+                calendar.setTimeInMillis(millis);
+                return calendar;
+            } catch (ParseException ignored) {
+                // The DateFormat is more lenient, so give it a chance before giving up
+            }
+        }
+        return super.parse(jsonParser);
+    }
+
+    @Override
+    public void serialize(Calendar object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (mUsesDefaultDateFormat && ISO8601Utils.isFormattable(object.getTimeInMillis())) {
+            char[] buffer = new char[ISO8601Utils.FORMATTED_LENGTH];
+            int length = ISO8601Utils.format(object.getTimeInMillis(), buffer, 0);
+
+            if (fieldName != null) {
+                jsonGenerator.writeFieldName(fieldName);
+            }
+            jsonGenerator.writeString(buffer, 0, length);
+        } else {
+            super.serialize(object, fieldName, writeFieldNameForObject, jsonGenerator);
+        }
+    }
+
+    private boolean isDefaultDateFormat() {
+        try {
+            return getClass().getMethod("getDateFormat").getDeclaringClass() == DefaultCalendarConverter.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
     public DateFormat getDateFormat() {
@@ -1,10 +1,66 @@
 package com.bluelinelabs.logansquare.typeconverters;
 
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
 import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Date;
 
 /** The default DateTypeConverter implementation. Attempts to parse ISO8601-formatted dates. */
 public class DefaultDateConverter extends DateTypeConverter {
 
+    // Subclasses that override getDateFormat() keep parsing and formatting through their own DateFormat
+    private final boolean mUsesDefaultDateFormat;
+
+    public DefaultDateConverter() {
+        mUsesDefaultDateFormat = isDefaultDateFormat();
+    }
+
+    @Override
+    public Date parse(JsonParser jsonParser) throws IOException {
+        if (mUsesDefaultDateFormat) {
+            try {
+                // Parse straight out of the parser's buffer to avoid creating an intermediate String
+                if (jsonParser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                    return new Date(ISO8601Utils.parse(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength()));
+                }
+
+                String dateString = jsonParser.getValueAsString(null);
+                return dateString != null ? new Date(ISO8601Utils.parse(dateString)) : null;
+            } catch (ParseException ignored) {
+                // The DateFormat is more lenient, so give it a chance before giving up
+            }
+        }
+        return super.parse(jsonParser);
+    }
+
+    @Override
+    public void serialize(Date object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (mUsesDefaultDateFormat && object != null && ISO8601Utils.isFormattable(object.getTime())) {
+            char[] buffer = new char[ISO8601Utils.FORMATTED_LENGTH];
+            int length = ISO8601Utils.format(object.getTime(), buffer, 0);
+
+            if (fieldName != null) {
+                jsonGenerator.writeFieldName(fieldName);
+            }
+            jsonGenerator.writeString(buffer, 0, length);
+        } else {
+            super.serialize(object, fieldName, writeFieldNameForObject, jsonGenerator);
+        }
+    }
+
+    private boolean isDefaultDateFormat() {
+        try {
+            return getClass().getMethod("getDateFormat").getDeclaringClass() == DefaultDateConverter.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     public DateFormat getDateFormat() {
         return new DefaultDateFormatter();
     }
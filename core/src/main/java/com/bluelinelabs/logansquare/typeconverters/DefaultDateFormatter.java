@@ -17,7 +17,11 @@ public class DefaultDateFormatter extends SimpleDateFormat {
 
     /** Replace ending Z's with +0000 so Java's SimpleDateFormat can handle it correctly */
     private String getFixedInputString(String input) {
-        return input != null ? input.replaceAll("Z$", "+0000") : null;
+        if (input != null && input.endsWith("Z")) {
+            return input.substring(0, input.length() - 1) + "+0000";
+        } else {
+            return input;
+        }
     }
 
     @Override
@@ -0,0 +1,76 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default TypeConverter for java.time.Duration. Reads and writes ISO8601-formatted Strings, such as "PT1H30M",
+ * by default, or numbers if a unit is passed in. Numbers are always accepted when parsing.
+ */
+public class DefaultDurationConverter implements TypeConverter<Duration> {
+
+    /** Reads and writes Durations as a number of milliseconds */
+    public static class Millis extends DefaultDurationConverter {
+        public Millis() {
+            super(TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Reads and writes Durations as a number of seconds */
+    public static class Seconds extends DefaultDurationConverter {
+        public Seconds() {
+            super(TimeUnit.SECONDS);
+        }
+    }
+
+    private final TimeUnit mUnit;
+
+    public DefaultDurationConverter() {
+        this(null);
+    }
+
+    /**
+     * @param unit If non-null, Durations will be written as numbers of this unit. Must be either
+     *             TimeUnit.MILLISECONDS or TimeUnit.SECONDS.
+     */
+    public DefaultDurationConverter(TimeUnit unit) {
+        mUnit = JavaTimeUtils.checkEpochUnit(unit);
+    }
+
+    @Override
+    public Duration parse(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            long value = jsonParser.getLongValue();
+            return mUnit == TimeUnit.SECONDS ? Duration.ofSeconds(value) : Duration.ofMillis(value);
+        } else if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Duration.parse(jsonParser.getText());
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void serialize(Duration object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (object == null) {
+            JavaTimeUtils.writeNull(fieldName, jsonGenerator);
+        } else if (mUnit == TimeUnit.MILLISECONDS) {
+            JavaTimeUtils.writeNumber(object.toMillis(), fieldName, jsonGenerator);
+        } else if (mUnit == TimeUnit.SECONDS) {
+            JavaTimeUtils.writeNumber(object.getSeconds(), fieldName, jsonGenerator);
+        } else {
+            JavaTimeUtils.writeString(object.toString(), fieldName, jsonGenerator);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default TypeConverter for java.time.Instant. Reads and writes ISO8601-formatted Strings by default, or
+ * numbers since the epoch if an epoch unit is passed in. Numbers are always accepted when parsing.
+ */
+public class DefaultInstantConverter implements TypeConverter<Instant> {
+
+    /** Reads and writes Instants as milliseconds since the epoch */
+    public static class EpochMillis extends DefaultInstantConverter {
+        public EpochMillis() {
+            super(TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Reads and writes Instants as seconds since the epoch */
+    public static class EpochSeconds extends DefaultInstantConverter {
+        public EpochSeconds() {
+            super(TimeUnit.SECONDS);
+        }
+    }
+
+    private final TimeUnit mEpochUnit;
+
+    public DefaultInstantConverter() {
+        this(null);
+    }
+
+    /**
+     * @param epochUnit If non-null, Instants will be written as numbers of this unit since the epoch. Must be
+     *                  either TimeUnit.MILLISECONDS or TimeUnit.SECONDS.
+     */
+    public DefaultInstantConverter(TimeUnit epochUnit) {
+        mEpochUnit = JavaTimeUtils.checkEpochUnit(epochUnit);
+    }
+
+    @Override
+    public Instant parse(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            long value = jsonParser.getLongValue();
+            return mEpochUnit == TimeUnit.SECONDS ? Instant.ofEpochSecond(value) : Instant.ofEpochMilli(value);
+        } else if (token == JsonToken.VALUE_STRING) {
+            int[] fields = JavaTimeUtils.parseFields(jsonParser);
+            try {
+                if (fields != null) {
+                    return Instant.ofEpochSecond(ISO8601Utils.toEpochSecond(fields), fields[ISO8601Utils.FIELD_NANO]);
+                } else {
+                    return Instant.parse(jsonParser.getText());
+                }
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void serialize(Instant object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (object == null) {
+            JavaTimeUtils.writeNull(fieldName, jsonGenerator);
+        } else if (mEpochUnit == TimeUnit.MILLISECONDS) {
+            JavaTimeUtils.writeNumber(object.toEpochMilli(), fieldName, jsonGenerator);
+        } else if (mEpochUnit == TimeUnit.SECONDS) {
+            JavaTimeUtils.writeNumber(object.getEpochSecond(), fieldName, jsonGenerator);
+        } else if (ISO8601Utils.isFormattableEpochSecond(object.getEpochSecond())) {
+            char[] buffer = new char[ISO8601Utils.MAX_INSTANT_FORMATTED_LENGTH];
+            int length = ISO8601Utils.formatInstant(object.getEpochSecond(), object.getNano(), buffer, 0);
+
+            if (fieldName != null) {
+                jsonGenerator.writeFieldName(fieldName);
+            }
+            jsonGenerator.writeString(buffer, 0, length);
+        } else {
+            JavaTimeUtils.writeString(object.toString(), fieldName, jsonGenerator);
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/** The default TypeConverter for java.time.LocalDate. Reads and writes ISO8601-formatted Strings, such as "2015-02-21". */
+public class DefaultLocalDateConverter implements TypeConverter<LocalDate> {
+
+    @Override
+    public LocalDate parse(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            int[] fields = JavaTimeUtils.parseFields(jsonParser);
+            try {
+                if (fields != null && fields[ISO8601Utils.FIELD_FLAGS] == 0) {
+                    return LocalDate.of(fields[ISO8601Utils.FIELD_YEAR], fields[ISO8601Utils.FIELD_MONTH], fields[ISO8601Utils.FIELD_DAY]);
+                } else {
+                    return LocalDate.parse(jsonParser.getText());
+                }
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void serialize(LocalDate object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (object == null) {
+            JavaTimeUtils.writeNull(fieldName, jsonGenerator);
+        } else {
+            JavaTimeUtils.writeString(object.toString(), fieldName, jsonGenerator);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/** The default TypeConverter for java.time.LocalDateTime. Reads and writes ISO8601-formatted Strings, such as "2015-02-21T18:45:50". */
+public class DefaultLocalDateTimeConverter implements TypeConverter<LocalDateTime> {
+
+    @Override
+    public LocalDateTime parse(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            int[] fields = JavaTimeUtils.parseFields(jsonParser);
+            try {
+                if (fields != null && fields[ISO8601Utils.FIELD_FLAGS] == ISO8601Utils.FLAG_HAS_TIME) {
+                    return LocalDateTime.of(
+                            fields[ISO8601Utils.FIELD_YEAR],
+                            fields[ISO8601Utils.FIELD_MONTH],
+                            fields[ISO8601Utils.FIELD_DAY],
+                            fields[ISO8601Utils.FIELD_HOUR],
+                            fields[ISO8601Utils.FIELD_MINUTE],
+                            fields[ISO8601Utils.FIELD_SECOND],
+                            fields[ISO8601Utils.FIELD_NANO]
+                    );
+                } else {
+                    return LocalDateTime.parse(jsonParser.getText());
+                }
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void serialize(LocalDateTime object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (object == null) {
+            JavaTimeUtils.writeNull(fieldName, jsonGenerator);
+        } else {
+            JavaTimeUtils.writeString(object.toString(), fieldName, jsonGenerator);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default TypeConverter for java.time.OffsetDateTime. Reads and writes ISO8601-formatted Strings by default, or
+ * numbers since the epoch if an epoch unit is passed in. Numbers are always accepted when parsing, and are read as UTC.
+ */
+public class DefaultOffsetDateTimeConverter implements TypeConverter<OffsetDateTime> {
+
+    /** Reads and writes OffsetDateTimes as milliseconds since the epoch */
+    public static class EpochMillis extends DefaultOffsetDateTimeConverter {
+        public EpochMillis() {
+            super(TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Reads and writes OffsetDateTimes as seconds since the epoch */
+    public static class EpochSeconds extends DefaultOffsetDateTimeConverter {
+        public EpochSeconds() {
+            super(TimeUnit.SECONDS);
+        }
+    }
+
+    private final TimeUnit mEpochUnit;
+
+    public DefaultOffsetDateTimeConverter() {
+        this(null);
+    }
+
+    /**
+     * @param epochUnit If non-null, OffsetDateTimes will be written as numbers of this unit since the epoch. Must be
+     *                  either TimeUnit.MILLISECONDS or TimeUnit.SECONDS.
+     */
+    public DefaultOffsetDateTimeConverter(TimeUnit epochUnit) {
+        mEpochUnit = JavaTimeUtils.checkEpochUnit(epochUnit);
+    }
+
+    @Override
+    public OffsetDateTime parse(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            long value = jsonParser.getLongValue();
+            Instant instant = mEpochUnit == TimeUnit.SECONDS ? Instant.ofEpochSecond(value) : Instant.ofEpochMilli(value);
+            return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+        } else if (token == JsonToken.VALUE_STRING) {
+            int[] fields = JavaTimeUtils.parseFields(jsonParser);
+            try {
+                if (fields != null && (fields[ISO8601Utils.FIELD_FLAGS] & ISO8601Utils.FLAG_HAS_OFFSET) != 0) {
+                    return OffsetDateTime.of(
+                            fields[ISO8601Utils.FIELD_YEAR],
+                            fields[ISO8601Utils.FIELD_MONTH],
+                            fields[ISO8601Utils.FIELD_DAY],
+                            fields[ISO8601Utils.FIELD_HOUR],
+                            fields[ISO8601Utils.FIELD_MINUTE],
+                            fields[ISO8601Utils.FIELD_SECOND],
+                            fields[ISO8601Utils.FIELD_NANO],
+                            ZoneOffset.ofTotalSeconds(fields[ISO8601Utils.FIELD_OFFSET_SECONDS])
+                    );
+                } else {
+                    return OffsetDateTime.parse(jsonParser.getText());
+                }
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void serialize(OffsetDateTime object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (object == null) {
+            JavaTimeUtils.writeNull(fieldName, jsonGenerator);
+        } else if (mEpochUnit == TimeUnit.MILLISECONDS) {
+            JavaTimeUtils.writeNumber(object.toInstant().toEpochMilli(), fieldName, jsonGenerator);
+        } else if (mEpochUnit == TimeUnit.SECONDS) {
+            JavaTimeUtils.writeNumber(object.toEpochSecond(), fieldName, jsonGenerator);
+        } else {
+            JavaTimeUtils.writeString(object.toString(), fieldName, jsonGenerator);
+        }
+    }
+
+}
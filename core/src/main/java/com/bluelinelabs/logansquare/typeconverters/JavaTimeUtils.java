@@ -0,0 +1,61 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.bluelinelabs.logansquare.util.ISO8601Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+/** Shared helpers for the default java.time TypeConverters */
+class JavaTimeUtils {
+
+    private JavaTimeUtils() { }
+
+    static TimeUnit checkEpochUnit(TimeUnit epochUnit) {
+        if (epochUnit != null && epochUnit != TimeUnit.MILLISECONDS && epochUnit != TimeUnit.SECONDS) {
+            throw new IllegalArgumentException("Only MILLISECONDS and SECONDS are supported as epoch units.");
+        }
+        return epochUnit;
+    }
+
+    /**
+     * Parses the current String token into ISO8601Utils fields directly from the parser's buffer.
+     *
+     * @return The parsed fields, or null if the String isn't in a format supported by ISO8601Utils.
+     */
+    static int[] parseFields(JsonParser jsonParser) throws IOException {
+        int[] fields = new int[ISO8601Utils.FIELD_COUNT];
+        try {
+            ISO8601Utils.parse(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength(), fields);
+            return fields;
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    static void writeNull(String fieldName, JsonGenerator jsonGenerator) throws IOException {
+        if (fieldName != null) {
+            jsonGenerator.writeFieldName(fieldName);
+        }
+        jsonGenerator.writeNull();
+    }
+
+    static void writeString(String string, String fieldName, JsonGenerator jsonGenerator) throws IOException {
+        if (fieldName != null) {
+            jsonGenerator.writeStringField(fieldName, string);
+        } else {
+            jsonGenerator.writeString(string);
+        }
+    }
+
+    static void writeNumber(long number, String fieldName, JsonGenerator jsonGenerator) throws IOException {
+        if (fieldName != null) {
+            jsonGenerator.writeNumberField(fieldName, number);
+        } else {
+            jsonGenerator.writeNumber(number);
+        }
+    }
+
+}
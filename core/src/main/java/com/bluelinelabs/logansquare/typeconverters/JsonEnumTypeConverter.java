@@ -0,0 +1,76 @@
+package com.bluelinelabs.logansquare.typeconverters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+
+/**
+ * The base class for TypeConverters generated for @JsonEnum types. Names are matched directly against the
+ * parser's buffer and written from pre-encoded SerializedStrings, so neither direction needs Enum.valueOf
+ * or an intermediate String.
+ */
+public abstract class JsonEnumTypeConverter<T extends Enum<T>> implements TypeConverter<T> {
+
+    private final T[] mValues;
+    private final SerializedString[] mSerializedNames;
+    private final boolean mSerializeAsOrdinal;
+
+    protected JsonEnumTypeConverter(T[] values, boolean serializeAsOrdinal) {
+        mValues = values;
+        mSerializeAsOrdinal = serializeAsOrdinal;
+
+        mSerializedNames = new SerializedString[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mSerializedNames[i] = new SerializedString(values[i].name());
+        }
+    }
+
+    /**
+     * Called to find the enum constant whose name matches the passed chars.
+     *
+     * @return The matching constant, or null if there is none.
+     */
+    protected abstract T valueFor(char[] buffer, int offset, int length);
+
+    @Override
+    public T parse(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return valueFor(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+        } else if (token == JsonToken.VALUE_NUMBER_INT) {
+            int ordinal = jsonParser.getIntValue();
+            return ordinal >= 0 && ordinal < mValues.length ? mValues[ordinal] : null;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void serialize(T object, String fieldName, boolean writeFieldNameForObject, JsonGenerator jsonGenerator) throws IOException {
+        if (fieldName != null) {
+            jsonGenerator.writeFieldName(fieldName);
+        }
+
+        if (object == null) {
+            jsonGenerator.writeNull();
+        } else if (mSerializeAsOrdinal) {
+            jsonGenerator.writeNumber(object.ordinal());
+        } else {
+            jsonGenerator.writeString(mSerializedNames[object.ordinal()]);
+        }
+    }
+
+    /** Returns whether or not the chars starting at offset match the passed name. The caller must have already checked the length. */
+    protected static boolean matches(char[] buffer, int offset, String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (buffer[offset + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
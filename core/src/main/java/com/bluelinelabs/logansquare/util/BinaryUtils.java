@@ -0,0 +1,153 @@
+package com.bluelinelabs.logansquare.util;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+/**
+ * Helpers used by generated binary codecs. Integers are written as variable length (LEB128) values, with signed
+ * values zigzag encoded so that small negative numbers stay small. Anything without a generated codec is written
+ * as length-prefixed JSON.
+ */
+public final class BinaryUtils {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private BinaryUtils() { }
+
+    public static void writeUnsignedVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readUnsignedVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length int");
+    }
+
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeUnsignedVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = readUnsignedVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        value = (value << 1) ^ (value >> 63);
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte(((int)value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int)value);
+    }
+
+    public static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (value >>> 1) ^ -(value & 1);
+            }
+        }
+        throw new IOException("Malformed variable length long");
+    }
+
+    /** Writes a String as its UTF-8 length followed by its UTF-8 bytes. Unlike DataOutput.writeUTF, there is no length limit. */
+    public static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeUnsignedVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readUnsignedVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /** Writes an object that has no generated binary codec as length-prefixed JSON. */
+    public static <T> void writeWithMapper(JsonMapper<T> mapper, T value, DataOutput out) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(bytes);
+        mapper.serialize(value, jsonGenerator, true);
+        jsonGenerator.close();
+        writeBytes(out, bytes);
+    }
+
+    public static <T> T readWithMapper(JsonMapper<T> mapper, DataInput in) throws IOException {
+        JsonParser jsonParser = createParser(in);
+        try {
+            return mapper.parse(jsonParser);
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    /** Reads the fields written by {@link #writeWithMapper(JsonMapper, Object, DataOutput)} into an existing instance. */
+    public static <T> void readFieldsWithMapper(JsonMapper<T> mapper, T instance, DataInput in) throws IOException {
+        JsonParser jsonParser = createParser(in);
+        try {
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                mapper.parseField(instance, fieldName, jsonParser);
+                jsonParser.skipChildren();
+            }
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    /** Writes a value handled by a TypeConverter as length-prefixed JSON. */
+    public static <T> void writeWithTypeConverter(TypeConverter<T> typeConverter, T value, DataOutput out) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(bytes);
+        typeConverter.serialize(value, null, false, jsonGenerator);
+        jsonGenerator.close();
+        writeBytes(out, bytes);
+    }
+
+    public static <T> T readWithTypeConverter(TypeConverter<T> typeConverter, DataInput in) throws IOException {
+        JsonParser jsonParser = createParser(in);
+        try {
+            return typeConverter.parse(jsonParser);
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    private static void writeBytes(DataOutput out, ByteArrayOutputStream bytes) throws IOException {
+        writeUnsignedVarInt(out, bytes.size());
+        out.write(bytes.toByteArray());
+    }
+
+    private static JsonParser createParser(DataInput in) throws IOException {
+        byte[] bytes = new byte[readUnsignedVarInt(in)];
+        in.readFully(bytes);
+        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(bytes);
+        jsonParser.nextToken();
+        return jsonParser;
+    }
+}
@@ -0,0 +1,56 @@
+package com.bluelinelabs.logansquare.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the key of each parsed object to the canonical instance with that key, for classes declared with
+ * {@literal @}JsonObject(canonicalizeByKey = true). Instances are only weakly referenced, so an entry disappears
+ * once nothing else holds on to its instance.
+ */
+public final class CanonicalInstanceMap<K, V> {
+
+    private final Map<K, Entry<K, V>> mMap = new HashMap<>();
+    private final ReferenceQueue<V> mQueue = new ReferenceQueue<>();
+
+    /** Returns the canonical instance for the passed key, or null if there is none. */
+    public synchronized V get(K key) {
+        purge();
+        Entry<K, V> entry = mMap.get(key);
+        return entry != null ? entry.get() : null;
+    }
+
+    /** Makes the passed instance the canonical instance for its key. */
+    public synchronized void put(K key, V value) {
+        purge();
+        mMap.put(key, new Entry<>(key, value, mQueue));
+    }
+
+    public synchronized void clear() {
+        mMap.clear();
+        while (mQueue.poll() != null) { }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void purge() {
+        Entry<K, V> entry;
+        while ((entry = (Entry<K, V>) mQueue.poll()) != null) {
+            // The key may have been mapped to a newer instance since this one was collected
+            if (mMap.get(entry.mKey) == entry) {
+                mMap.remove(entry.mKey);
+            }
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+
+        private final K mKey;
+
+        Entry(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            mKey = key;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.bluelinelabs.logansquare.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds a snapshot of the serialized fields of each object marked clean, for classes declared with
+ * {@literal @}JsonObject(trackChanges = true). Objects are weakly referenced and matched by identity, so a snapshot
+ * disappears along with its object and equal objects never share one.
+ */
+public final class ChangeTracker<T> {
+
+    private final Map<Key, Object[]> mSnapshots = new HashMap<>();
+    private final ReferenceQueue<Object> mQueue = new ReferenceQueue<>();
+
+    /** Returns the snapshot taken when the passed object was last marked clean, or null if it never was. */
+    public synchronized Object[] get(T object) {
+        purge();
+        return mSnapshots.get(new Key(object, null));
+    }
+
+    public synchronized void put(T object, Object[] snapshot) {
+        purge();
+        mSnapshots.put(new Key(object, mQueue), snapshot);
+    }
+
+    /**
+     * Returns a copy of a field's value that won't change along with the field. Collections, Maps and arrays are
+     * copied one level deep; everything else is kept as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object snapshotOf(Object value) {
+        if (value instanceof List) {
+            return new ArrayList<>((List<Object>) value);
+        } else if (value instanceof Set) {
+            return new HashSet<>((Set<Object>) value);
+        } else if (value instanceof Collection) {
+            return new ArrayList<>((Collection<Object>) value);
+        } else if (value instanceof Map) {
+            return new HashMap<>((Map<Object, Object>) value);
+        } else if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        } else if (value instanceof boolean[]) {
+            return ((boolean[]) value).clone();
+        } else if (value instanceof int[]) {
+            return ((int[]) value).clone();
+        } else if (value instanceof long[]) {
+            return ((long[]) value).clone();
+        } else if (value instanceof float[]) {
+            return ((float[]) value).clone();
+        } else if (value instanceof double[]) {
+            return ((double[]) value).clone();
+        }
+        return value;
+    }
+
+    /** Returns true if a field's value no longer equals the snapshot taken by {@link #snapshotOf(Object)}. */
+    @SuppressWarnings("unchecked")
+    public static boolean isChanged(Object snapshot, Object value) {
+        if (snapshot == value) {
+            return false;
+        } else if (snapshot == null || value == null) {
+            return true;
+        } else if (value instanceof Collection && !(value instanceof List) && !(value instanceof Set)) {
+            return !snapshot.equals(new ArrayList<>((Collection<Object>) value));
+        } else if (value.getClass().isArray()) {
+            return !Arrays.deepEquals(new Object[]{snapshot}, new Object[]{value});
+        }
+        return !snapshot.equals(value);
+    }
+
+    private void purge() {
+        Object key;
+        while ((key = mQueue.poll()) != null) {
+            mSnapshots.remove(key);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+
+        private final int mHash;
+
+        Key(Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            mHash = System.identityHashCode(object);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object object = get();
+            return object != null && object == ((Key) o).get();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.bluelinelabs.logansquare.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A Map that stores its keys and values in a single array, in insertion order. Lookups are linear, so this
+ * is only intended for small maps, but it retains far less memory than a HashMap since it doesn't need
+ * a hash table or an Entry object per mapping.
+ */
+public class CompactArrayMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    /** Keys are stored at even indices, with their values immediately after them */
+    private Object[] mArray;
+    private int mSize;
+    private int mModCount;
+    private EntrySet mEntrySet;
+
+    public CompactArrayMap() {
+        mArray = EMPTY_ARRAY;
+    }
+
+    public CompactArrayMap(int capacity) {
+        mArray = capacity > 0 ? new Object[capacity << 1] : EMPTY_ARRAY;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOfKey(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOfKey(key);
+        return index >= 0 ? (V)mArray[(index << 1) + 1] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int index = indexOfKey(key);
+        if (index >= 0) {
+            V oldValue = (V)mArray[(index << 1) + 1];
+            mArray[(index << 1) + 1] = value;
+            return oldValue;
+        }
+
+        if (mSize << 1 == mArray.length) {
+            int newCapacity = mSize < 4 ? 4 : mSize + (mSize >> 1);
+            mArray = Arrays.copyOf(mArray, newCapacity << 1);
+        }
+
+        mArray[mSize << 1] = key;
+        mArray[(mSize << 1) + 1] = value;
+        mSize++;
+        mModCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = indexOfKey(key);
+        if (index >= 0) {
+            V oldValue = (V)mArray[(index << 1) + 1];
+            removeAt(index);
+            return oldValue;
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        mArray = EMPTY_ARRAY;
+        mSize = 0;
+        mModCount++;
+    }
+
+    /** Shrinks the backing array so that it holds exactly the current mappings. */
+    public void trimToSize() {
+        if (mSize << 1 < mArray.length) {
+            mArray = mSize > 0 ? Arrays.copyOf(mArray, mSize << 1) : EMPTY_ARRAY;
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (mEntrySet == null) {
+            mEntrySet = new EntrySet();
+        }
+        return mEntrySet;
+    }
+
+    private int indexOfKey(Object key) {
+        final Object[] array = mArray;
+        for (int i = 0; i < mSize; i++) {
+            Object candidate = array[i << 1];
+            if (key == candidate || (key != null && key.equals(candidate))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int moved = (mSize - index - 1) << 1;
+        if (moved > 0) {
+            System.arraycopy(mArray, (index + 1) << 1, mArray, index << 1, moved);
+        }
+        mSize--;
+        mArray[mSize << 1] = null;
+        mArray[(mSize << 1) + 1] = null;
+        mModCount++;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        @Override
+        public void clear() {
+            CompactArrayMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        private int mIndex;
+        private int mLastReturned = -1;
+        private int mExpectedModCount = mModCount;
+
+        @Override
+        public boolean hasNext() {
+            return mIndex < mSize;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (mModCount != mExpectedModCount) {
+                throw new ConcurrentModificationException();
+            } else if (mIndex >= mSize) {
+                throw new NoSuchElementException();
+            }
+            mLastReturned = mIndex++;
+            return new ArrayEntry(mLastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (mLastReturned < 0) {
+                throw new IllegalStateException();
+            } else if (mModCount != mExpectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(mLastReturned);
+            mIndex = mLastReturned;
+            mLastReturned = -1;
+            mExpectedModCount = mModCount;
+        }
+    }
+
+    private class ArrayEntry implements Map.Entry<K, V> {
+        private final int mIndex;
+
+        ArrayEntry(int index) {
+            mIndex = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K)mArray[mIndex << 1];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V)mArray[(mIndex << 1) + 1];
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            mArray[(mIndex << 1) + 1] = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>)o;
+            K key = getKey();
+            V value = getValue();
+            return (key == null ? other.getKey() == null : key.equals(other.getKey()))
+                    && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            K key = getKey();
+            V value = getValue();
+            return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
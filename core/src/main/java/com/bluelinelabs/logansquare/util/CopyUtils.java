@@ -0,0 +1,86 @@
+package com.bluelinelabs.logansquare.util;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Helpers used by generated copy() methods. Values that are known to be immutable are shared between copies, dates
+ * are cloned, and anything else is copied by serializing and parsing it again.
+ */
+public final class CopyUtils {
+
+    private CopyUtils() { }
+
+    /** Copies a value handled by a TypeConverter. */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyWithTypeConverter(TypeConverter<T> typeConverter, T value) throws IOException {
+        if (isImmutable(value)) {
+            return value;
+        } else if (value instanceof Date) {
+            return (T) ((Date) value).clone();
+        } else if (value instanceof Calendar) {
+            return (T) ((Calendar) value).clone();
+        }
+
+        StringWriter sw = new StringWriter();
+        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(sw);
+        typeConverter.serialize(value, null, false, jsonGenerator);
+        jsonGenerator.close();
+
+        JsonParser jsonParser = createParser(sw);
+        try {
+            return typeConverter.parse(jsonParser);
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    /** Copies an object that has no generated copy() method. */
+    public static <T> T copyWithMapper(JsonMapper<T> mapper, T value) throws IOException {
+        if (isImmutable(value)) {
+            return value;
+        }
+        return mapper.copy(value);
+    }
+
+    /** Copies the fields of one object into another by serializing the first and parsing its fields into the second. */
+    public static <T> void copyFieldsWithMapper(JsonMapper<T> mapper, T object, T instance) throws IOException {
+        StringWriter sw = new StringWriter();
+        JsonGenerator jsonGenerator = LoganSquare.JSON_FACTORY.createGenerator(sw);
+        mapper.serialize(object, jsonGenerator, true);
+        jsonGenerator.close();
+
+        JsonParser jsonParser = createParser(sw);
+        try {
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                mapper.parseField(instance, fieldName, jsonParser);
+                jsonParser.skipChildren();
+            }
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    private static boolean isImmutable(Object value) {
+        // Atomic numbers are the only mutable Numbers in the JDK
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum
+                || (value instanceof Number && !value.getClass().getName().startsWith("java.util.concurrent.atomic."));
+    }
+
+    private static JsonParser createParser(StringWriter sw) throws IOException {
+        JsonParser jsonParser = LoganSquare.JSON_FACTORY.createParser(sw.toString());
+        jsonParser.nextToken();
+        return jsonParser;
+    }
+}
@@ -0,0 +1,268 @@
+package com.bluelinelabs.logansquare.util;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helpers used by generated diff() and parseDiffers() methods. The differs() methods compare the current value of a
+ * JsonParser with an existing value the same way the generated parse() method would read it, without allocating.
+ */
+public final class DiffUtils {
+
+    private DiffUtils() { }
+
+    /**
+     * Returns true if two field values would be serialized the same way. Arrays are compared element by element, and
+     * Collections that are neither Lists nor Sets (ie: Queues) are compared in iteration order.
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean isEqual(Object a, Object b) {
+        if (a == b) {
+            return true;
+        } else if (a == null || b == null) {
+            return false;
+        } else if (a.getClass().isArray()) {
+            return Arrays.deepEquals(new Object[]{a}, new Object[]{b});
+        } else if (a instanceof Collection && !(a instanceof List) && !(a instanceof Set) && b instanceof Collection) {
+            return new ArrayList<>((Collection<Object>) a).equals(new ArrayList<>((Collection<Object>) b));
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * Returns true if two field values holding instances of a {@literal @}JsonObject class would be serialized the same way.
+     * Those instances are compared with their mapper's contentEquals(), since generated models don't implement equals().
+     * Arrays and ordered Collections are compared element by element, Sets regardless of order and Maps by key.
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean contentEquals(Object a, Object b, JsonMapper<?> mapper) throws IOException {
+        if (a == b) {
+            return true;
+        } else if (a == null || b == null) {
+            return false;
+        } else if (a instanceof Object[]) {
+            if (!(b instanceof Object[]) || ((Object[]) a).length != ((Object[]) b).length) {
+                return false;
+            }
+            for (int i = 0; i < ((Object[]) a).length; i++) {
+                if (!contentEquals(((Object[]) a)[i], ((Object[]) b)[i], mapper)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (a instanceof Set) {
+            if (!(b instanceof Set) || ((Set<?>) a).size() != ((Set<?>) b).size()) {
+                return false;
+            }
+            List<Object> unmatched = new ArrayList<>((Set<?>) b);
+            for (Object element : (Set<?>) a) {
+                if (!removeContentEqual(unmatched, element, mapper)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (a instanceof Collection) {
+            if (!(b instanceof Collection) || ((Collection<?>) a).size() != ((Collection<?>) b).size()) {
+                return false;
+            }
+            Iterator<?> iterator = ((Collection<?>) b).iterator();
+            for (Object element : (Collection<?>) a) {
+                if (!contentEquals(element, iterator.next(), mapper)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (a instanceof Map) {
+            if (!(b instanceof Map) || ((Map<?, ?>) a).size() != ((Map<?, ?>) b).size()) {
+                return false;
+            }
+            Map<?, ?> bMap = (Map<?, ?>) b;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) a).entrySet()) {
+                if (!bMap.containsKey(entry.getKey()) || !contentEquals(entry.getValue(), bMap.get(entry.getKey()), mapper)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return ((JsonMapper<Object>) mapper).contentEquals(a, b);
+    }
+
+    private static boolean removeContentEqual(List<Object> candidates, Object element, JsonMapper<?> mapper) throws IOException {
+        for (Iterator<Object> iterator = candidates.iterator(); iterator.hasNext(); ) {
+            if (contentEquals(element, iterator.next(), mapper)) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the fields of an RFC 7386 merge patch between two JSON objects, as parsed into Maps by LoganSquare. Keys that
+     * are missing or null in the newer object are written as null, objects are diffed recursively and any other value that
+     * changed is written in full.
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeMergePatchFields(Map<String, Object> before, Map<String, Object> after, JsonGenerator generator) throws IOException {
+        for (Map.Entry<String, Object> entry : before.entrySet()) {
+            if (entry.getValue() != null && after.get(entry.getKey()) == null) {
+                generator.writeNullField(entry.getKey());
+            }
+        }
+
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            Object beforeValue = before.get(entry.getKey());
+            Object afterValue = entry.getValue();
+            if (afterValue == null || afterValue.equals(beforeValue)) {
+                continue;
+            }
+
+            generator.writeFieldName(entry.getKey());
+            if (beforeValue instanceof Map && afterValue instanceof Map) {
+                generator.writeStartObject();
+                writeMergePatchFields((Map<String, Object>) beforeValue, (Map<String, Object>) afterValue, generator);
+                generator.writeEndObject();
+            } else {
+                LoganSquare.mapperFor(Object.class).serialize(afterValue, generator, true);
+            }
+        }
+    }
+
+    /**
+     * Returns the result of applying an RFC 7386 merge patch to a JSON value, as parsed by LoganSquare. Neither argument is
+     * modified.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object mergePatch(Object target, Object patch) {
+        if (!(patch instanceof Map)) {
+            return patch;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (target instanceof Map) {
+            result.putAll((Map<String, Object>) target);
+        }
+        for (Map.Entry<String, Object> entry : ((Map<String, Object>) patch).entrySet()) {
+            if (entry.getValue() == null) {
+                result.remove(entry.getKey());
+            } else {
+                result.put(entry.getKey(), mergePatch(result.get(entry.getKey()), entry.getValue()));
+            }
+        }
+        return result;
+    }
+
+    public static boolean differs(JsonParser jsonParser, int value) throws IOException {
+        return jsonParser.getValueAsInt() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, Integer value) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+        return jsonParser.getValueAsInt() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, long value) throws IOException {
+        return jsonParser.getValueAsLong() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, Long value) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+        return jsonParser.getValueAsLong() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, byte value) throws IOException {
+        return (byte)jsonParser.getValueAsInt() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, Byte value) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+        return (byte)jsonParser.getValueAsInt() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, float value) throws IOException {
+        return (float)jsonParser.getValueAsDouble() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, Float value) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+        return (float)jsonParser.getValueAsDouble() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, double value) throws IOException {
+        return jsonParser.getValueAsDouble() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, Double value) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+        return jsonParser.getValueAsDouble() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, boolean value) throws IOException {
+        return jsonParser.getValueAsBoolean() != value;
+    }
+
+    public static boolean differs(JsonParser jsonParser, Boolean value) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+        return jsonParser.getValueAsBoolean() != value;
+    }
+
+    /** Compares the text of the current token in place, rather than creating a String from it. */
+    public static boolean differs(JsonParser jsonParser, String value) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == null || token == JsonToken.VALUE_NULL || !token.isScalarValue()) {
+            return value != null;
+        } else if (value == null) {
+            return true;
+        }
+
+        int length = jsonParser.getTextLength();
+        if (length != value.length()) {
+            return true;
+        }
+        char[] text = jsonParser.getTextCharacters();
+        int offset = jsonParser.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (text[offset + i] != value.charAt(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,364 @@
+package com.bluelinelabs.logansquare.util;
+
+import java.text.ParseException;
+
+/**
+ * Hand-written ISO 8601 parser and formatter that works directly on char buffers. Unlike SimpleDateFormat,
+ * it holds no state, so it is safe to share between threads without a ThreadLocal.
+ */
+public final class ISO8601Utils {
+
+    /** The number of chars written by {@link #format(long, char[], int)}, e.g. "2015-02-21T18:45:50.748+0000" */
+    public static final int FORMATTED_LENGTH = 28;
+
+    /** The maximum number of chars written by {@link #formatInstant(long, int, char[], int)}, e.g. "2015-02-21T18:45:50.748123456Z" */
+    public static final int MAX_INSTANT_FORMATTED_LENGTH = 30;
+
+    /** Indices into the fields array populated by {@link #parse(char[], int, int, int[])} */
+    public static final int FIELD_YEAR = 0;
+    public static final int FIELD_MONTH = 1;
+    public static final int FIELD_DAY = 2;
+    public static final int FIELD_HOUR = 3;
+    public static final int FIELD_MINUTE = 4;
+    public static final int FIELD_SECOND = 5;
+    public static final int FIELD_NANO = 6;
+    public static final int FIELD_OFFSET_SECONDS = 7;
+    public static final int FIELD_FLAGS = 8;
+    public static final int FIELD_COUNT = 9;
+
+    /** Set in FIELD_FLAGS if the parsed String contained a time */
+    public static final int FLAG_HAS_TIME = 1;
+
+    /** Set in FIELD_FLAGS if the parsed String contained a time zone designator */
+    public static final int FLAG_HAS_OFFSET = 1 << 1;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = 60L * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60L * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+    private static final long SECONDS_PER_DAY = 24L * 60L * 60L;
+
+    private static final int[] DAYS_IN_MONTH = { 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    // The formatter always writes four digit years, so anything outside of 0000-9999 can't be formatted
+    private static final long MIN_FORMATTABLE_MILLIS = daysFromCivil(0, 1, 1) * MILLIS_PER_DAY;
+    private static final long MAX_FORMATTABLE_MILLIS = daysFromCivil(10000, 1, 1) * MILLIS_PER_DAY - 1;
+    private static final long MIN_FORMATTABLE_SECONDS = MIN_FORMATTABLE_MILLIS / MILLIS_PER_SECOND;
+    private static final long MAX_FORMATTABLE_SECONDS = (MAX_FORMATTABLE_MILLIS + 1) / MILLIS_PER_SECOND - 1;
+
+    private ISO8601Utils() { }
+
+    /**
+     * Parses an ISO 8601 date, such as "2015-02-21", "2015-02-21T18:45:50Z" or "2015-02-21T18:45:50.748+01:00".
+     * Dates without a time zone designator are treated as UTC.
+     *
+     * @param string The String to parse.
+     * @return The parsed date in milliseconds since the epoch.
+     */
+    public static long parse(String string) throws ParseException {
+        return parse(string.toCharArray(), 0, string.length());
+    }
+
+    /**
+     * Parses an ISO 8601 date, such as "2015-02-21", "2015-02-21T18:45:50Z" or "2015-02-21T18:45:50.748+01:00".
+     * Dates without a time zone designator are treated as UTC.
+     *
+     * @param buffer The buffer containing the date, such as the one returned by JsonParser.getTextCharacters()
+     * @param offset The offset at which the date starts in the buffer.
+     * @param length The length of the date.
+     * @return The parsed date in milliseconds since the epoch.
+     */
+    public static long parse(char[] buffer, int offset, int length) throws ParseException {
+        final int[] fields = new int[FIELD_COUNT];
+        parse(buffer, offset, length, fields);
+        return toEpochSecond(fields) * MILLIS_PER_SECOND + fields[FIELD_NANO] / 1000000;
+    }
+
+    /**
+     * Parses an ISO 8601 date into its individual fields, which allows callers to build their own date objects
+     * without losing precision or time zone information.
+     *
+     * @param buffer The buffer containing the date, such as the one returned by JsonParser.getTextCharacters()
+     * @param offset The offset at which the date starts in the buffer.
+     * @param length The length of the date.
+     * @param fields The array to populate, indexed by the FIELD_ constants. Must be at least FIELD_COUNT long.
+     */
+    public static void parse(char[] buffer, int offset, int length, int[] fields) throws ParseException {
+        final int end = offset + length;
+        int pos = offset;
+
+        final int year = parseDigits(buffer, pos, end, 4, offset);
+        pos = expect(buffer, pos + 4, end, '-', offset);
+        final int month = parseDigits(buffer, pos, end, 2, offset);
+        pos = expect(buffer, pos + 2, end, '-', offset);
+        final int day = parseDigits(buffer, pos, end, 2, offset);
+        pos += 2;
+
+        if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1] || (month == 2 && day == 29 && !isLeapYear(year))) {
+            throw new ParseException("Invalid date: " + new String(buffer, offset, length), 0);
+        }
+
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int zoneOffset = 0;
+        int flags = 0;
+
+        if (pos < end && (buffer[pos] == 'T' || buffer[pos] == 't' || buffer[pos] == ' ')) {
+            flags |= FLAG_HAS_TIME;
+
+            pos++;
+            hour = parseDigits(buffer, pos, end, 2, offset);
+            pos = expect(buffer, pos + 2, end, ':', offset);
+            minute = parseDigits(buffer, pos, end, 2, offset);
+            pos += 2;
+
+            if (pos < end && buffer[pos] == ':') {
+                pos++;
+                second = parseDigits(buffer, pos, end, 2, offset);
+                pos += 2;
+
+                if (pos < end && (buffer[pos] == '.' || buffer[pos] == ',')) {
+                    pos++;
+                    final int fractionStart = pos;
+                    int scale = 100000000;
+                    while (pos < end && buffer[pos] >= '0' && buffer[pos] <= '9') {
+                        nano += (buffer[pos] - '0') * scale;
+                        scale /= 10;
+                        pos++;
+                    }
+                    if (pos == fractionStart) {
+                        throw new ParseException("Expected fractional seconds", pos - offset);
+                    }
+                }
+            }
+
+            // Allow 60 seconds for leap seconds, which will simply roll over into the next minute
+            if (hour > 23 || minute > 59 || second > 60) {
+                throw new ParseException("Invalid time: " + new String(buffer, offset, length), 0);
+            }
+
+            if (pos < end) {
+                final char designator = buffer[pos];
+                if (designator == 'Z' || designator == 'z') {
+                    flags |= FLAG_HAS_OFFSET;
+                    pos++;
+                } else if (designator == '+' || designator == '-') {
+                    flags |= FLAG_HAS_OFFSET;
+                    pos++;
+                    final int offsetHours = parseDigits(buffer, pos, end, 2, offset);
+                    pos += 2;
+                    int offsetMinutes = 0;
+                    if (pos < end) {
+                        if (buffer[pos] == ':') {
+                            pos++;
+                        }
+                        offsetMinutes = parseDigits(buffer, pos, end, 2, offset);
+                        pos += 2;
+                    }
+                    if (offsetHours > 18 || offsetMinutes > 59) {
+                        throw new ParseException("Invalid offset: " + new String(buffer, offset, length), 0);
+                    }
+                    zoneOffset = offsetHours * 3600 + offsetMinutes * 60;
+                    if (designator == '-') {
+                        zoneOffset = -zoneOffset;
+                    }
+                }
+            }
+        }
+
+        if (pos != end) {
+            throw new ParseException("Unexpected trailing characters: " + new String(buffer, offset, length), pos - offset);
+        }
+
+        fields[FIELD_YEAR] = year;
+        fields[FIELD_MONTH] = month;
+        fields[FIELD_DAY] = day;
+        fields[FIELD_HOUR] = hour;
+        fields[FIELD_MINUTE] = minute;
+        fields[FIELD_SECOND] = second;
+        fields[FIELD_NANO] = nano;
+        fields[FIELD_OFFSET_SECONDS] = zoneOffset;
+        fields[FIELD_FLAGS] = flags;
+    }
+
+    /** Converts fields populated by {@link #parse(char[], int, int, int[])} into seconds since the epoch. */
+    public static long toEpochSecond(int[] fields) {
+        return daysFromCivil(fields[FIELD_YEAR], fields[FIELD_MONTH], fields[FIELD_DAY]) * SECONDS_PER_DAY
+                + fields[FIELD_HOUR] * 3600L
+                + fields[FIELD_MINUTE] * 60L
+                + fields[FIELD_SECOND]
+                - fields[FIELD_OFFSET_SECONDS];
+    }
+
+    /** Returns whether or not the passed date falls between the years 0000 and 9999, which can be formatted. */
+    public static boolean isFormattable(long millis) {
+        return millis >= MIN_FORMATTABLE_MILLIS && millis <= MAX_FORMATTABLE_MILLIS;
+    }
+
+    /**
+     * Formats a date in UTC, in the form of "2015-02-21T18:45:50.748+0000".
+     *
+     * @param millis The date in milliseconds since the epoch.
+     */
+    public static String format(long millis) {
+        char[] buffer = new char[FORMATTED_LENGTH];
+        format(millis, buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Formats a date in UTC, in the form of "2015-02-21T18:45:50.748+0000". The date must be formattable,
+     * as determined by {@link #isFormattable(long)}.
+     *
+     * @param millis The date in milliseconds since the epoch.
+     * @param buffer The buffer to write to. Must have at least FORMATTED_LENGTH chars available after the offset.
+     * @param offset The offset at which to start writing.
+     * @return The number of chars written.
+     */
+    public static int format(long millis, char[] buffer, int offset) {
+        if (!isFormattable(millis)) {
+            throw new IllegalArgumentException("Can't format dates outside of the years 0000-9999");
+        }
+
+        final long epochSecond = floorDiv(millis, MILLIS_PER_SECOND);
+
+        int pos = writeDateTime(epochSecond, buffer, offset);
+        buffer[pos++] = '.';
+        pos = writeDigits(buffer, pos, (int)(millis - epochSecond * MILLIS_PER_SECOND), 3);
+        buffer[pos++] = '+';
+        buffer[pos++] = '0';
+        buffer[pos++] = '0';
+        buffer[pos++] = '0';
+        buffer[pos++] = '0';
+
+        return pos - offset;
+    }
+
+    /** Returns whether or not the passed instant falls between the years 0000 and 9999, which can be formatted. */
+    public static boolean isFormattableEpochSecond(long epochSecond) {
+        return epochSecond >= MIN_FORMATTABLE_SECONDS && epochSecond <= MAX_FORMATTABLE_SECONDS;
+    }
+
+    /**
+     * Formats an instant in UTC the same way Instant.toString() does, e.g. "2015-02-21T18:45:50.748Z". The fraction
+     * is omitted when zero, and otherwise written with 3, 6 or 9 digits as needed.
+     *
+     * @param epochSecond The seconds since the epoch. Must be formattable, as determined by {@link #isFormattableEpochSecond(long)}.
+     * @param nano The nanoseconds within the second.
+     * @param buffer The buffer to write to. Must have at least MAX_INSTANT_FORMATTED_LENGTH chars available after the offset.
+     * @param offset The offset at which to start writing.
+     * @return The number of chars written.
+     */
+    public static int formatInstant(long epochSecond, int nano, char[] buffer, int offset) {
+        if (!isFormattableEpochSecond(epochSecond)) {
+            throw new IllegalArgumentException("Can't format dates outside of the years 0000-9999");
+        }
+
+        int pos = writeDateTime(epochSecond, buffer, offset);
+        if (nano != 0) {
+            buffer[pos++] = '.';
+            if (nano % 1000000 == 0) {
+                pos = writeDigits(buffer, pos, nano / 1000000, 3);
+            } else if (nano % 1000 == 0) {
+                pos = writeDigits(buffer, pos, nano / 1000, 6);
+            } else {
+                pos = writeDigits(buffer, pos, nano, 9);
+            }
+        }
+        buffer[pos++] = 'Z';
+
+        return pos - offset;
+    }
+
+    /** Writes the passed time as "yyyy-MM-dd'T'HH:mm:ss" and returns the position after the last char written. */
+    private static int writeDateTime(long epochSecond, char[] buffer, int pos) {
+        final long days = floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int)(epochSecond - days * SECONDS_PER_DAY);
+
+        // Convert the days since the epoch back into a civil date. See daysFromCivil for the inverse.
+        final long shiftedDays = days + 719468;
+        final long era = floorDiv(shiftedDays, 146097);
+        final int dayOfEra = (int)(shiftedDays - era * 146097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = (int)(yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        final int hour = secondOfDay / 3600;
+        secondOfDay -= hour * 3600;
+        final int minute = secondOfDay / 60;
+        final int second = secondOfDay - minute * 60;
+
+        pos = writeDigits(buffer, pos, year, 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, month, 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, day, 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, hour, 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, minute, 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, second, 2);
+
+        return pos;
+    }
+
+    /** Returns the number of days between 1970-01-01 and the passed proleptic Gregorian date. */
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        final long era = floorDiv(year, 400);
+        final int yearOfEra = (int)(year - era * 400);
+        final int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static long floorDiv(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        if ((dividend % divisor != 0) && ((dividend < 0) != (divisor < 0))) {
+            quotient--;
+        }
+        return quotient;
+    }
+
+    private static int parseDigits(char[] buffer, int pos, int end, int count, int offset) throws ParseException {
+        if (pos + count > end) {
+            throw new ParseException("Unexpected end of date: " + new String(buffer, offset, end - offset), end - offset);
+        }
+
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            final int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new ParseException("Expected a digit at position " + (i - offset) + ": " + new String(buffer, offset, end - offset), i - offset);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int expect(char[] buffer, int pos, int end, char expected, int offset) throws ParseException {
+        if (pos >= end || buffer[pos] != expected) {
+            throw new ParseException("Expected '" + expected + "' at position " + (pos - offset) + ": " + new String(buffer, offset, end - offset), pos - offset);
+        }
+        return pos + 1;
+    }
+
+    private static int writeDigits(char[] buffer, int pos, int value, int count) {
+        for (int i = pos + count - 1; i >= pos; i--) {
+            buffer[i] = (char)('0' + value % 10);
+            value /= 10;
+        }
+        return pos + count;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.bluelinelabs.logansquare.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of the objects returned by a {@literal @}JsonGetByKey or
+ * {@literal @}JsonGetByKeys method, keyed by the value of the object's {@literal @}JsonField(isKey = true) field.
+ * Used by generated mappers for classes declared with {@literal @}JsonObject(keyCacheSize = n).
+ *
+ * Keys are spread over a number of independently locked stripes so that concurrent parses rarely contend. Each
+ * stripe evicts its own least recently used entry, so eviction order is only approximately LRU across the cache.
+ */
+public final class SourceInstanceCache<K, V> {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_SIZE = 8;
+
+    private final Stripe<K, V>[] mStripes;
+    private final int mMask;
+
+    public SourceInstanceCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+
+        int stripeCount = 1;
+        while (stripeCount < MAX_STRIPES && maxSize / (stripeCount * 2) >= MIN_STRIPE_SIZE) {
+            stripeCount *= 2;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Stripe<K, V>[] stripes = new Stripe[stripeCount];
+        int stripeSize = (maxSize + stripeCount - 1) / stripeCount;
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(stripeSize);
+        }
+        mStripes = stripes;
+        mMask = stripeCount - 1;
+    }
+
+    /** Returns the cached object for the passed key, or null if there is none. */
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    public void put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    /** Removes the cached object for the passed key, so that the next parse looks it up again. */
+    public void remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /** Removes all cached objects. */
+    public void clear() {
+        for (Stripe<K, V> stripe : mStripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        if (key == null) {
+            return mStripes[0];
+        }
+        int hash = key.hashCode();
+        return mStripes[(hash ^ (hash >>> 16)) & mMask];
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int mMaxSize;
+
+        Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            mMaxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > mMaxSize;
+        }
+    }
+}
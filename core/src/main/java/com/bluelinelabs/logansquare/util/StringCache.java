@@ -0,0 +1,84 @@
+package com.bluelinelabs.logansquare.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * A small, fixed-size cache of recently parsed String values, used by fields annotated with
+ * {@literal @}JsonField(dedup = true) so that repeated values share a single instance. Lookups are done
+ * directly against the JsonParser's char buffer, so a hit doesn't allocate anything.
+ *
+ * Each slot holds one value and is simply overwritten on a collision, so the cache never grows and needs
+ * no locking. Racing threads may replace each other's entries, but since Strings are immutable a reader
+ * always sees either a complete String or nothing.
+ */
+public final class StringCache {
+
+    /** Values longer than this are unlikely to repeat, so they bypass the cache. */
+    public static final int MAX_LENGTH = 32;
+
+    private static final int SIZE = 2048;
+    private static final int MASK = SIZE - 1;
+
+    private static final String[] CACHE = new String[SIZE];
+
+    private StringCache() { }
+
+    /**
+     * Returns the current value of the passed JsonParser as a String, sharing the instance with previously
+     * parsed equal values where possible. Behaves like {@link JsonParser#getValueAsString(String)} with a
+     * null default.
+     *
+     * @param jsonParser The pre-configured JsonParser
+     */
+    public static String valueOf(JsonParser jsonParser) throws IOException {
+        if (jsonParser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            return jsonParser.getValueAsString(null);
+        }
+
+        final int length = jsonParser.getTextLength();
+        if (length > MAX_LENGTH) {
+            return jsonParser.getText();
+        }
+        return valueOf(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), length);
+    }
+
+    /**
+     * Returns a String with the passed characters, sharing the instance with a previously returned equal
+     * String where possible.
+     */
+    public static String valueOf(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, offset, length);
+        }
+
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        final int index = (hash ^ (hash >>> 16)) & MASK;
+
+        String cached = CACHE[index];
+        if (cached != null && matches(cached, chars, offset, length)) {
+            return cached;
+        }
+
+        String value = new String(chars, offset, length);
+        CACHE[index] = value;
+        return value;
+    }
+
+    private static boolean matches(String string, char[] chars, int offset, int length) {
+        if (string.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
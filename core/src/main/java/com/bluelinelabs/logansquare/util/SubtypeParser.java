@@ -0,0 +1,178 @@
+package com.bluelinelabs.logansquare.util;
+
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Reads the discriminator property of a polymorphic object for generated parse() methods when it isn't the object's
+ * first field. Fields that come before the discriminator are buffered, so that the whole object can then be replayed to
+ * the mapper of the subtype it names. Generated code reads a leading discriminator itself and uses {@link #resume}
+ * instead, so nothing is buffered for JSON written by LoganSquare.
+ */
+public final class SubtypeParser {
+
+    private final JsonParser mJsonParser;
+    private final StringWriter mBuffer = new StringWriter();
+    private final JsonGenerator mBufferGenerator;
+    private boolean mFoundDiscriminator;
+
+    /** Starts reading an object. The parser must be positioned at its first FIELD_NAME, or at its END_OBJECT if it's empty. */
+    public SubtypeParser(JsonParser jsonParser) throws IOException {
+        mJsonParser = jsonParser;
+        mBufferGenerator = LoganSquare.JSON_FACTORY.createGenerator(mBuffer);
+        mBufferGenerator.writeStartObject();
+    }
+
+    /**
+     * Reads fields up to and including the discriminator property, returning its value. Returns null if the object
+     * doesn't have one, in which case the whole object has been buffered.
+     */
+    public String readSubtype(String property) throws IOException {
+        for (JsonToken token = mJsonParser.getCurrentToken(); token == JsonToken.FIELD_NAME; token = mJsonParser.nextToken()) {
+            String fieldName = mJsonParser.getCurrentName();
+            mJsonParser.nextToken();
+            mBufferGenerator.writeFieldName(fieldName);
+            if (property.equals(fieldName)) {
+                String subtype = mJsonParser.getValueAsString(null);
+                mBufferGenerator.copyCurrentStructure(mJsonParser);
+                mFoundDiscriminator = true;
+                return subtype;
+            }
+            mBufferGenerator.copyCurrentStructure(mJsonParser);
+        }
+        return null;
+    }
+
+    /**
+     * Returns a parser positioned at the START_OBJECT of the object being read, which replays the buffered fields before
+     * continuing with the rest of the object.
+     */
+    public JsonParser replay() throws IOException {
+        mBufferGenerator.writeEndObject();
+        mBufferGenerator.close();
+
+        JsonParser bufferParser = LoganSquare.JSON_FACTORY.createParser(mBuffer.toString());
+        bufferParser.nextToken();
+        return mFoundDiscriminator ? new ReplayingJsonParser(bufferParser, mJsonParser) : bufferParser;
+    }
+
+    /** Skips the rest of the object being read. */
+    public void skip() throws IOException {
+        if (mFoundDiscriminator) {
+            skipRemainingFields(mJsonParser);
+        }
+    }
+
+    /**
+     * Returns a parser positioned at the START_OBJECT of an object whose leading discriminator has already been read,
+     * which continues with the fields after it. Subtype mappers never declare the discriminator as a field, so it
+     * doesn't need to be replayed.
+     */
+    public static JsonParser resume(JsonParser jsonParser) {
+        return new ResumingJsonParser(jsonParser);
+    }
+
+    /** Skips the value of the current field and the fields after it, leaving the parser at the END_OBJECT. */
+    public static void skipRemainingFields(JsonParser jsonParser) throws IOException {
+        jsonParser.skipChildren();
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            jsonParser.nextToken();
+            jsonParser.skipChildren();
+        }
+    }
+
+    /** Reports a START_OBJECT until it's advanced, then reads the rest of an object from the original parser. */
+    private static class ResumingJsonParser extends JsonParserDelegate {
+
+        private boolean mStarted;
+
+        ResumingJsonParser(JsonParser jsonParser) {
+            super(jsonParser);
+        }
+
+        @Override
+        public JsonToken getCurrentToken() {
+            return mStarted ? delegate.getCurrentToken() : JsonToken.START_OBJECT;
+        }
+
+        @Override
+        public int getCurrentTokenId() {
+            return mStarted ? delegate.getCurrentTokenId() : JsonToken.START_OBJECT.id();
+        }
+
+        @Override
+        public boolean hasCurrentToken() {
+            return true;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            if (!mStarted) {
+                mStarted = true;
+                delegate.skipChildren();
+            }
+            return delegate.nextToken();
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            if (token == JsonToken.FIELD_NAME) {
+                token = nextToken();
+            }
+            return token;
+        }
+
+        @Override
+        public JsonParser skipChildren() throws IOException {
+            if (!mStarted) {
+                mStarted = true;
+                skipRemainingFields(delegate);
+                return this;
+            }
+            delegate.skipChildren();
+            return this;
+        }
+    }
+
+    /** Reads from a buffered copy of the start of an object, then switches to the original parser for the rest of it. */
+    private static class ReplayingJsonParser extends JsonParserDelegate {
+
+        private final JsonParser mRemainingParser;
+
+        ReplayingJsonParser(JsonParser bufferParser, JsonParser remainingParser) {
+            super(bufferParser);
+            mRemainingParser = remainingParser;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            if (delegate == mRemainingParser) {
+                return delegate.nextToken();
+            }
+
+            JsonToken token = delegate.nextToken();
+            if (token == JsonToken.END_OBJECT && delegate.getParsingContext().inRoot()) {
+                delegate.close();
+                delegate = mRemainingParser;
+                return delegate.nextToken();
+            }
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            if (token == JsonToken.FIELD_NAME) {
+                token = nextToken();
+            }
+            return token;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.bluelinelabs.logansquare.formats;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Shared factories for the binary formats supported by Jackson. These can be passed to any of the LoganSquare or
+ * JsonMapper methods that accept a JsonFactory in order to parse or serialize the same models without JSON.
+ * <pre><code>
+ * LoganSquare.serialize(image, os, BinaryFormats.SMILE_FACTORY);
+ * Image image = LoganSquare.parse(is, Image.class, BinaryFormats.SMILE_FACTORY);
+ * </code></pre>
+ */
+public final class BinaryFormats {
+
+    /**
+     * The SmileFactory that should be used throughout the entire app.
+     */
+    public static final SmileFactory SMILE_FACTORY = new SmileFactory();
+
+    /**
+     * The CBORFactory that should be used throughout the entire app.
+     */
+    public static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    private BinaryFormats() {
+        throw new AssertionError();
+    }
+}
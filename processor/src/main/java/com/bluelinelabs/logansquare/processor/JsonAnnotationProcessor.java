@@ -1,6 +1,7 @@
 package com.bluelinelabs.logansquare.processor;
 
 import com.bluelinelabs.logansquare.processor.processor.Processor;
+import com.squareup.javapoet.ParameterizedTypeName;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -17,6 +18,7 @@ import javax.annotation.processing.Filer;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -25,11 +27,40 @@ import javax.tools.JavaFileObject;
 import static javax.tools.Diagnostic.Kind.ERROR;
 
 public class JsonAnnotationProcessor extends AbstractProcessor {
+
+    /**
+     * Whether or not concrete uses of generic classes get their own specialized mappers. Defaults to true. Specialized
+     * mappers depend on both the generic class and the class using it, so turning this off lets Gradle process each
+     * class in isolation and only regenerate the mappers of classes that changed.
+     */
+    public static final String OPTION_SPECIALIZE_GENERICS = "logansquare.specializeGenerics";
+
+    /**
+     * Whether or not mappers reference the mappers of nested @JsonObject classes by their generated, final classes rather
+     * than as JsonMapper. Defaults to false. This makes every call into a nested mapper monomorphic, so the JIT can inline
+     * it, but every nested class then has to be mapped by its generated mapper. Mappers from other libraries that aren't on
+     * the classpath, or custom mappers registered in their place, fail with a ClassCastException.
+     */
+    public static final String OPTION_DIRECT_MAPPER_CALLS = "logansquare.directMapperCalls";
+
+    /**
+     * Whether or not java.time fields call LoganSquare's default converters directly, rather than looking up their
+     * TypeConverter at runtime. Defaults to false. This skips the lookup, but converters registered for those types with
+     * LoganSquare.registerTypeConverter() are then ignored.
+     */
+    public static final String OPTION_DEFAULT_JAVA_TIME_CONVERTERS = "logansquare.defaultJavaTimeConverters";
+
+    /** Whether or not the time spent on each processing step and each class is reported as a note. Defaults to false. */
+    public static final String OPTION_TIMINGS = "logansquare.timings";
+
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+
     private Elements mElementUtils;
     private Types mTypeUtils;
     private Filer mFiler;
     private List<Processor> mProcessors;
-    private Map<String, JsonObjectHolder> mJsonObjectMap;
+    private ProcessingTimings mTimings;
 
     @Override
     public synchronized void init(ProcessingEnvironment env) {
@@ -38,8 +69,32 @@ public class JsonAnnotationProcessor extends AbstractProcessor {
         mElementUtils = env.getElementUtils();
         mTypeUtils = env.getTypeUtils();
         mFiler = env.getFiler();
-        mJsonObjectMap = new HashMap<>();
-        mProcessors = Processor.allProcessors(processingEnv);
+        mTimings = new ProcessingTimings("true".equals(env.getOptions().get(OPTION_TIMINGS)));
+        mProcessors = Processor.allProcessors(processingEnv, mTimings);
+    }
+
+    public static boolean isSpecializingGenerics(ProcessingEnvironment env) {
+        return !"false".equals(env.getOptions().get(OPTION_SPECIALIZE_GENERICS));
+    }
+
+    public static boolean isCallingMappersDirectly(ProcessingEnvironment env) {
+        return "true".equals(env.getOptions().get(OPTION_DIRECT_MAPPER_CALLS));
+    }
+
+    public static boolean isCallingDefaultJavaTimeConverters(ProcessingEnvironment env) {
+        return "true".equals(env.getOptions().get(OPTION_DEFAULT_JAVA_TIME_CONVERTERS));
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        // Read by Gradle, which registers this as a dynamic incremental processor
+        Set<String> options = new LinkedHashSet<>();
+        options.add(OPTION_SPECIALIZE_GENERICS);
+        options.add(OPTION_DIRECT_MAPPER_CALLS);
+        options.add(OPTION_DEFAULT_JAVA_TIME_CONVERTERS);
+        options.add(OPTION_TIMINGS);
+        options.add(isSpecializingGenerics(processingEnv) ? GRADLE_AGGREGATING : GRADLE_ISOLATING);
+        return options;
     }
 
     @Override
@@ -59,28 +114,40 @@ public class JsonAnnotationProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> elements, RoundEnvironment env) {
         try {
+            // Nothing is carried over between rounds, so each mapper only depends on the classes it's generated from
+            Map<String, JsonObjectHolder> jsonObjectMap = new HashMap<>();
+            MemberIndex memberIndex = new MemberIndex(mElementUtils);
+            for (Processor processor : mProcessors) {
+                long start = mTimings.start();
+                processor.findAndParseObjects(env, jsonObjectMap, mElementUtils, mTypeUtils, memberIndex);
+                mTimings.addStepTime("@" + processor.getAnnotation().getSimpleName(), start);
+            }
+            long postProcessStart = mTimings.start();
             for (Processor processor : mProcessors) {
-                processor.findAndParseObjects(env, mJsonObjectMap, mElementUtils, mTypeUtils);
+                processor.postProcess(jsonObjectMap, mElementUtils, mTypeUtils);
             }
+            mTimings.addStepTime("Post-processing", postProcessStart);
 
-            for (Map.Entry<String, JsonObjectHolder> entry : mJsonObjectMap.entrySet()) {
+            long writeStart = mTimings.start();
+            for (Map.Entry<String, JsonObjectHolder> entry : jsonObjectMap.entrySet()) {
                 String fqcn = entry.getKey();
                 JsonObjectHolder jsonObjectHolder = entry.getValue();
 
-                if (!jsonObjectHolder.fileCreated) {
-                    jsonObjectHolder.fileCreated = true;
-
-                    try {
-                        JavaFileObject jfo = mFiler.createSourceFile(fqcn);
-                        Writer writer = jfo.openWriter();
-                        writer.write(new ObjectMapperInjector(jsonObjectHolder).getJavaClassFile());
-                        writer.flush();
-                        writer.close();
-                    } catch (IOException e) {
-                        error(fqcn, "Exception occurred while attempting to write injector for type %s. Exception message: %s", fqcn, e.getMessage());
-                    }
+                long start = mTimings.start();
+                try {
+                    List<Element> originatingElements = jsonObjectHolder.originatingElements;
+                    JavaFileObject jfo = mFiler.createSourceFile(fqcn, originatingElements.toArray(new Element[originatingElements.size()]));
+                    Writer writer = jfo.openWriter();
+                    writer.write(new ObjectMapperInjector(jsonObjectHolder).getJavaClassFile());
+                    writer.flush();
+                    writer.close();
+                } catch (IOException e) {
+                    error(fqcn, "Exception occurred while attempting to write injector for type %s. Exception message: %s", fqcn, e.getMessage());
                 }
+                mTimings.addClassTime(getTimingName(jsonObjectHolder), start);
             }
+            mTimings.addStepTime("Writing mappers", writeStart);
+            mTimings.report(processingEnv.getMessager());
 
             return true;
         } catch (Throwable e) {
@@ -92,6 +159,14 @@ public class JsonAnnotationProcessor extends AbstractProcessor {
         }
     }
 
+    private static String getTimingName(JsonObjectHolder holder) {
+        // Generic classes are timed under their raw name, same as while their annotations were being processed
+        if (holder.typeParameters.size() > 0 && holder.objectTypeName instanceof ParameterizedTypeName) {
+            return ((ParameterizedTypeName) holder.objectTypeName).rawType.toString();
+        }
+        return holder.objectTypeName.toString();
+    }
+
     private void error(String message, Object... args) {
         processingEnv.getMessager().printMessage(ERROR, String.format(message, args));
     }
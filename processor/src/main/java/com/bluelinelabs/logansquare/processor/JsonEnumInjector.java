@@ -0,0 +1,99 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.typeconverters.JsonEnumTypeConverter;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.lang.model.element.Modifier;
+
+public class JsonEnumInjector {
+
+    private final ClassName mEnumClassName;
+    private final ClassName mInjectedClassName;
+    private final List<String> mConstants;
+    private final boolean mSerializeAsOrdinal;
+
+    public JsonEnumInjector(ClassName enumClassName, List<String> constants, boolean serializeAsOrdinal) {
+        mEnumClassName = enumClassName;
+        mInjectedClassName = TypeUtils.getInjectedTypeConverterClassName(enumClassName);
+        mConstants = constants;
+        mSerializeAsOrdinal = serializeAsOrdinal;
+    }
+
+    public String getInjectedFQCN() {
+        return mInjectedClassName.packageName() + "." + mInjectedClassName.simpleName();
+    }
+
+    public String getJavaClassFile() {
+        try {
+            return JavaFile.builder(mInjectedClassName.packageName(), getTypeSpec()).build().toString();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private TypeSpec getTypeSpec() {
+        TypeSpec.Builder builder = TypeSpec.classBuilder(mInjectedClassName.simpleName()).addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+
+        builder.superclass(ParameterizedTypeName.get(ClassName.get(JsonEnumTypeConverter.class), mEnumClassName));
+
+        builder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("super($T.values(), $L)", mEnumClassName, mSerializeAsOrdinal)
+                .build());
+
+        builder.addMethod(getValueForMethod());
+
+        return builder.build();
+    }
+
+    private MethodSpec getValueForMethod() {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("valueFor")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(mEnumClassName)
+                .addParameter(TypeName.get(char[].class), "buffer")
+                .addParameter(TypeName.INT, "offset")
+                .addParameter(TypeName.INT, "length");
+
+        // Group constants by length so that most lookups only need to compare chars against one or two names
+        Map<Integer, List<String>> constantsByLength = new TreeMap<>();
+        for (String constant : mConstants) {
+            List<String> constants = constantsByLength.get(constant.length());
+            if (constants == null) {
+                constants = new ArrayList<>();
+                constantsByLength.put(constant.length(), constants);
+            }
+            constants.add(constant);
+        }
+
+        if (constantsByLength.size() > 0) {
+            builder.beginControlFlow("switch (length)");
+            for (Map.Entry<Integer, List<String>> entry : constantsByLength.entrySet()) {
+                builder.addCode("case $L:\n", entry.getKey()).addCode("$>");
+                for (String constant : entry.getValue()) {
+                    builder.beginControlFlow("if (matches(buffer, offset, $S))", constant)
+                            .addStatement("return $T.$L", mEnumClassName, constant)
+                            .endControlFlow();
+                }
+                builder.addStatement("break").addCode("$<");
+            }
+            builder.endControlFlow();
+        }
+
+        builder.addStatement("return null");
+
+        return builder.build();
+    }
+}
@@ -2,7 +2,9 @@ package com.bluelinelabs.logansquare.processor;
 
 import com.bluelinelabs.logansquare.processor.type.Type;
 import com.bluelinelabs.logansquare.processor.type.collection.CollectionType;
+import com.bluelinelabs.logansquare.processor.type.field.JavaTimeFieldType;
 import com.bluelinelabs.logansquare.processor.type.field.ParameterizedTypeField;
+import com.bluelinelabs.logansquare.processor.type.field.StringFieldType;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,9 +13,10 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
@@ -26,9 +29,13 @@ public class JsonFieldHolder {
     public boolean shouldSerialize;
     public boolean isKey;
     public boolean inherits;
+    public boolean dedup;
+    public boolean callDefaultJavaTimeConverters;
     public Type type;
+    public Element element;
+    public TypeMirror typeConverterType;
 
-    public String fill(Element element, Elements elements, Types types, String[] fieldNames, TypeMirror typeConverterType, JsonObjectHolder objectHolder, boolean shouldParse, boolean shouldSerialize, boolean isKey, boolean inherits) {
+    public String fill(Element element, Elements elements, Types types, MemberIndex memberIndex, String[] fieldNames, TypeMirror typeConverterType, JsonObjectHolder objectHolder, boolean shouldParse, boolean shouldSerialize, boolean isKey, boolean inherits, boolean dedup) {
         if (fieldNames == null || fieldNames.length == 0) {
             String defaultFieldName = element.getSimpleName().toString();
 
@@ -46,22 +53,89 @@ public class JsonFieldHolder {
         this.shouldSerialize = shouldSerialize;
         this.isKey = isKey;
         this.inherits = inherits;
+        this.dedup = dedup || objectHolder.dedupStrings;
+        this.callDefaultJavaTimeConverters = objectHolder.callDefaultJavaTimeConverters;
+        this.element = element;
+        this.typeConverterType = typeConverterType;
 
-        setterMethod = getSetter(element, elements);
-        getterMethod = getGetter(element, elements);
+        setterMethod = getSetter(element, memberIndex);
+        getterMethod = getGetter(element, memberIndex);
 
-        TypeMirror typeMirror;
-        if (element instanceof ExecutableElement) {
+        type = Type.typeFor(getTypeMirror(element.asType()), typeConverterType, elements, types);
+        if (this.dedup) {
+            enableStringDedup(type);
+        }
+        if (callDefaultJavaTimeConverters) {
+            enableDefaultJavaTimeConverters(type);
+        }
+        return ensureValidType(type, element);
+    }
+
+    /**
+     * Creates a copy of this field as seen from a concrete instantiation of its enclosing generic class, so
+     * that type variables are replaced by the actual type arguments.
+     *
+     * @return The specialized copy, or null if the specialized type couldn't be determined.
+     */
+    public JsonFieldHolder specializedFor(DeclaredType ownerType, Elements elements, Types types) {
+        JsonFieldHolder specialized = new JsonFieldHolder();
+        specialized.fieldName = fieldName;
+        specialized.setterMethod = setterMethod;
+        specialized.getterMethod = getterMethod;
+        specialized.shouldParse = shouldParse;
+        specialized.shouldSerialize = shouldSerialize;
+        specialized.isKey = isKey;
+        specialized.inherits = inherits;
+        specialized.dedup = dedup;
+        specialized.callDefaultJavaTimeConverters = callDefaultJavaTimeConverters;
+        specialized.element = element;
+        specialized.typeConverterType = typeConverterType;
+
+        try {
+            specialized.type = Type.typeFor(getTypeMirror(types.asMemberOf(ownerType, element)), typeConverterType, elements, types);
+            if (dedup) {
+                enableStringDedup(specialized.type);
+            }
+            if (callDefaultJavaTimeConverters) {
+                enableDefaultJavaTimeConverters(specialized.type);
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return ensureValidType(specialized.type, element) == null ? specialized : null;
+    }
+
+    private TypeMirror getTypeMirror(TypeMirror memberType) {
+        if (memberType instanceof ExecutableType) {
+            ExecutableType executableType = (ExecutableType) memberType;
             if (setterMethod != null) {
-                typeMirror = ((ExecutableElement) element).getParameters().get(0).asType();
+                return executableType.getParameterTypes().get(0);
             } else {
-                typeMirror = ((ExecutableElement) element).getReturnType();
+                return executableType.getReturnType();
             }
         } else {
-            typeMirror = element.asType();
+            return memberType;
+        }
+    }
+
+    private static void enableStringDedup(Type type) {
+        if (type instanceof StringFieldType) {
+            ((StringFieldType) type).setDedup(true);
+        } else if (type != null) {
+            for (Type parameterType : type.parameterTypes) {
+                enableStringDedup(parameterType);
+            }
+        }
+    }
+
+    private static void enableDefaultJavaTimeConverters(Type type) {
+        if (type instanceof JavaTimeFieldType) {
+            ((JavaTimeFieldType) type).setCallDefaultConverter(true);
+        } else if (type != null) {
+            for (Type parameterType : type.parameterTypes) {
+                enableDefaultJavaTimeConverters(parameterType);
+            }
         }
-        type = Type.typeFor(typeMirror, typeConverterType, elements, types);
-        return ensureValidType(type, element);
     }
 
     private String ensureValidType(Type type, Element element) {
@@ -81,7 +155,7 @@ public class JsonFieldHolder {
         }
     }
 
-    public static String getGetter(Element element, Elements elements) {
+    public static String getGetter(Element element, MemberIndex memberIndex) {
         if (element.getKind() == ElementKind.METHOD) {
             ExecutableElement executableElement = (ExecutableElement) element;
             if (executableElement.getParameters().size() == 0) {
@@ -113,27 +187,12 @@ public class JsonFieldHolder {
                 }
             }
 
-            List<? extends Element> elementMembers = elements.getAllMembers(enclosingElement);
-            List<ExecutableElement> elementMethods = ElementFilter.methodsIn(elementMembers);
-            for (ExecutableElement methodElement : elementMethods) {
-                if (methodElement.getParameters().size() == 0) {
-                    String methodNameString = methodElement.getSimpleName().toString();
-                    String methodNameLowerCase = methodNameString.toLowerCase();
-
-                    if (possibleMethodNames.contains(methodNameLowerCase)) {
-                        if (methodElement.getParameters().size() == 0) {
-                            if (methodElement.getReturnType().toString().equals(element.asType().toString())) {
-                                return methodNameString;
-                            }
-                        }
-                    }
-                }
-            }
+            return memberIndex.findGetter(enclosingElement, possibleMethodNames, element.asType().toString());
         }
         return null;
     }
 
-    public static String getSetter(Element element, Elements elements) {
+    public static String getSetter(Element element, MemberIndex memberIndex) {
         if (element.getKind() == ElementKind.METHOD) {
             ExecutableElement executableElement = (ExecutableElement) element;
             if (executableElement.getParameters().size() == 1) {
@@ -153,20 +212,7 @@ public class JsonFieldHolder {
                 possibleMethodNames.add("set" + elementNameLowerCase.substring(1));
             }
 
-            List<? extends Element> elementMembers = elements.getAllMembers(enclosingElement);
-            List<ExecutableElement> elementMethods = ElementFilter.methodsIn(elementMembers);
-            for (ExecutableElement methodElement : elementMethods) {
-                String methodNameString = methodElement.getSimpleName().toString();
-                String methodNameLowerCase = methodNameString.toLowerCase();
-
-                if (possibleMethodNames.contains(methodNameLowerCase)) {
-                    if (methodElement.getParameters().size() == 1) {
-                        if (methodElement.getParameters().get(0).asType().toString().equals(element.asType().toString())) {
-                            return methodNameString;
-                        }
-                    }
-                }
-            }
+            return memberIndex.findSetter(enclosingElement, possibleMethodNames, element.asType().toString());
         }
         return null;
     }
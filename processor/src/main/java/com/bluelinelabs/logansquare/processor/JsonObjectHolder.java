@@ -8,12 +8,15 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
 
 public class JsonObjectHolder {
 
@@ -22,28 +25,71 @@ public class JsonObjectHolder {
     public final TypeName objectTypeName;
     public final boolean isAbstractClass;
     public final TypeName parentTypeName;
+    public final DeclaredType parentType;
     public final List<? extends TypeParameterElement> parentTypeParameters;
     public final List<String> parentUsedTypeParameters;
     public final FieldDetectionPolicy fieldDetectionPolicy;
     public final FieldNamingPolicy fieldNamingPolicy;
     public final boolean serializeNullObjects;
     public final boolean serializeNullCollectionElements;
+    public final boolean dedupStrings;
+    public final boolean generateBinaryCodec;
+    public final int keyCacheSize;
+    public final boolean canonicalizeByKey;
+    public final boolean trackChanges;
+    public final boolean generateDiff;
+    public final boolean generateCopy;
+    public final boolean directMapperCalls;
+    public final boolean callDefaultJavaTimeConverters;
     public final List<? extends TypeParameterElement> typeParameters;
     public String onCompleteCallback;
     public ExecutableElement onInheritCallback;
     public String preSerializeCallback;
     public String getObjectByKeyCallback;
+    public String getObjectsByKeysCallback;
     public boolean inheritsFromParent;
+    public ClassName specializedParentMapper;
+
+    // Set for classes annotated with @JsonSubTypes. Subclasses come before their own superclasses, so that the first
+    // instanceof check that matches an object is always the most specific one.
+    public String subtypeProperty;
+    public final Map<String, ClassName> subtypes = new LinkedHashMap<>();
+
+    // Set for classes named by a parent's @JsonSubTypes
+    public String discriminatorProperty;
+    public String discriminatorValue;
 
     // Using a TreeMap now to keep the entries sorted. This ensures that code is
     // always written the exact same way, no matter which JDK you're using.
     public final Map<String, JsonFieldHolder> fieldMap = new TreeMap<>();
-    public boolean fileCreated;
+
+    // The classes this mapper is generated from, which incremental builds use to decide when it has to be regenerated
+    public final List<Element> originatingElements = new ArrayList<>();
 
     public boolean hasParentClass() {
         return parentTypeName != null;
     }
 
+    public boolean isSpecializable() {
+        if (typeParameters.size() == 0 || isAbstractClass || inheritsFromParent || onInheritCallback != null || getObjectByKeyCallback != null || getObjectsByKeysCallback != null) {
+            return false;
+        }
+        for (JsonFieldHolder fieldHolder : fieldMap.values()) {
+            if (fieldHolder.inherits || fieldHolder.element == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isPolymorphic() {
+        return subtypes.size() > 0;
+    }
+
+    public boolean isUpdatable() {
+        return !TextUtils.isEmpty(getObjectByKeyCallback) || !TextUtils.isEmpty(getObjectsByKeysCallback);
+    }
+
     public TypeName getParameterizedParentTypeName() {
         if (parentUsedTypeParameters.size() > 0) {
             List<TypeName> usedParameters = new ArrayList<>();
@@ -66,12 +112,22 @@ public class JsonObjectHolder {
         objectTypeName = builder.objectTypeName;
         isAbstractClass = builder.isAbstractClass;
         parentTypeName = builder.parentTypeName;
+        parentType = builder.parentType;
         parentTypeParameters = builder.parentTypeParameters;
         parentUsedTypeParameters = builder.parentUsedTypeParameters;
         fieldDetectionPolicy = builder.fieldDetectionPolicy;
         fieldNamingPolicy = builder.fieldNamingPolicy;
         serializeNullObjects = builder.serializeNullObjects;
         serializeNullCollectionElements = builder.serializeNullCollectionElements;
+        dedupStrings = builder.dedupStrings;
+        generateBinaryCodec = builder.generateBinaryCodec;
+        keyCacheSize = builder.keyCacheSize;
+        canonicalizeByKey = builder.canonicalizeByKey;
+        trackChanges = builder.trackChanges;
+        generateDiff = builder.generateDiff;
+        generateCopy = builder.generateCopy;
+        directMapperCalls = builder.directMapperCalls;
+        callDefaultJavaTimeConverters = builder.callDefaultJavaTimeConverters;
         typeParameters = builder.typeParameters;
     }
 
@@ -81,12 +137,22 @@ public class JsonObjectHolder {
         private TypeName objectTypeName;
         private boolean isAbstractClass;
         private TypeName parentTypeName;
+        private DeclaredType parentType;
         private List<? extends TypeParameterElement> parentTypeParameters;
         private List<String> parentUsedTypeParameters;
         private FieldDetectionPolicy fieldDetectionPolicy;
         private FieldNamingPolicy fieldNamingPolicy;
         private boolean serializeNullObjects;
         private boolean serializeNullCollectionElements;
+        private boolean dedupStrings;
+        private boolean generateBinaryCodec;
+        private int keyCacheSize;
+        private boolean canonicalizeByKey;
+        private boolean trackChanges;
+        private boolean generateDiff;
+        private boolean generateCopy;
+        private boolean directMapperCalls;
+        private boolean callDefaultJavaTimeConverters;
         private List<? extends TypeParameterElement> typeParameters;
 
         public JsonObjectHolderBuilder setPackageName(String packageName) {
@@ -114,6 +180,11 @@ public class JsonObjectHolder {
             return this;
         }
 
+        public JsonObjectHolderBuilder setParentType(DeclaredType parentType) {
+            this.parentType = parentType;
+            return this;
+        }
+
         public JsonObjectHolderBuilder setParentTypeParameters(List<? extends TypeParameterElement> parentTypeParameters) {
             this.parentTypeParameters = parentTypeParameters;
             return this;
@@ -144,6 +215,51 @@ public class JsonObjectHolder {
             return this;
         }
 
+        public JsonObjectHolderBuilder setDedupStrings(boolean dedupStrings) {
+            this.dedupStrings = dedupStrings;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setGenerateBinaryCodec(boolean generateBinaryCodec) {
+            this.generateBinaryCodec = generateBinaryCodec;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setKeyCacheSize(int keyCacheSize) {
+            this.keyCacheSize = keyCacheSize;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setCanonicalizeByKey(boolean canonicalizeByKey) {
+            this.canonicalizeByKey = canonicalizeByKey;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setTrackChanges(boolean trackChanges) {
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setGenerateDiff(boolean generateDiff) {
+            this.generateDiff = generateDiff;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setGenerateCopy(boolean generateCopy) {
+            this.generateCopy = generateCopy;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setDirectMapperCalls(boolean directMapperCalls) {
+            this.directMapperCalls = directMapperCalls;
+            return this;
+        }
+
+        public JsonObjectHolderBuilder setCallDefaultJavaTimeConverters(boolean callDefaultJavaTimeConverters) {
+            this.callDefaultJavaTimeConverters = callDefaultJavaTimeConverters;
+            return this;
+        }
+
         public JsonObjectHolderBuilder setTypeParameters(List<? extends TypeParameterElement> typeParameters) {
             this.typeParameters = typeParameters;
             return this;
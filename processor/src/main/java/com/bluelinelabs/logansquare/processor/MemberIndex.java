@@ -0,0 +1,102 @@
+package com.bluelinelabs.logansquare.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * The getters and setters of classes, including inherited ones, indexed by their lower case names. A new index is
+ * created for each processing round, so each class's members are only scanned once per round no matter how many of its
+ * fields look for accessors.
+ */
+public class MemberIndex {
+
+    private final Elements mElements;
+    private final Map<TypeElement, Members> mMembers = new HashMap<>();
+
+    public MemberIndex(Elements elements) {
+        mElements = elements;
+    }
+
+    /** Returns the name of the first declared getter of a class with one of the given lower case names that returns the given type. */
+    public String findGetter(TypeElement owner, List<String> lowerCaseNames, String type) {
+        return find(membersOf(owner).getters, lowerCaseNames, type);
+    }
+
+    /** Returns the name of the first declared setter of a class with one of the given lower case names that accepts the given type. */
+    public String findSetter(TypeElement owner, List<String> lowerCaseNames, String type) {
+        return find(membersOf(owner).setters, lowerCaseNames, type);
+    }
+
+    private Members membersOf(TypeElement owner) {
+        Members members = mMembers.get(owner);
+        if (members == null) {
+            members = new Members(owner, mElements);
+            mMembers.put(owner, members);
+        }
+        return members;
+    }
+
+    private static void add(Map<String, List<Accessor>> accessors, Accessor accessor) {
+        String key = accessor.method.getSimpleName().toString().toLowerCase();
+        List<Accessor> list = accessors.get(key);
+        if (list == null) {
+            list = new ArrayList<>(1);
+            accessors.put(key, list);
+        }
+        list.add(accessor);
+    }
+
+    private static String find(Map<String, List<Accessor>> accessors, List<String> lowerCaseNames, String type) {
+        // Candidates are matched in declaration order rather than name order, just like a scan over every member would
+        Accessor match = null;
+        for (String name : lowerCaseNames) {
+            List<Accessor> candidates = accessors.get(name);
+            if (candidates != null) {
+                for (Accessor candidate : candidates) {
+                    if ((match == null || candidate.position < match.position) && candidate.type.equals(type)) {
+                        match = candidate;
+                        break;
+                    }
+                }
+            }
+        }
+        return match != null ? match.method.getSimpleName().toString() : null;
+    }
+
+    private static class Members {
+        final Map<String, List<Accessor>> getters = new HashMap<>();
+        final Map<String, List<Accessor>> setters = new HashMap<>();
+
+        Members(TypeElement type, Elements elements) {
+            List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(type));
+            for (int i = 0; i < methods.size(); i++) {
+                ExecutableElement method = methods.get(i);
+                int parameterCount = method.getParameters().size();
+                if (parameterCount == 0) {
+                    add(getters, new Accessor(method, i, method.getReturnType().toString()));
+                } else if (parameterCount == 1) {
+                    add(setters, new Accessor(method, i, method.getParameters().get(0).asType().toString()));
+                }
+            }
+        }
+    }
+
+    private static class Accessor {
+        final ExecutableElement method;
+        final int position;
+        final String type;
+
+        Accessor(ExecutableElement method, int position, String type) {
+            this.method = method;
+            this.position = position;
+            this.type = type;
+        }
+    }
+}
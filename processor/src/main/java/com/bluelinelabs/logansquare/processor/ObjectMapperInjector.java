@@ -6,16 +6,25 @@ import com.bluelinelabs.logansquare.LoganSquare;
 import com.bluelinelabs.logansquare.ParameterizedType;
 import com.bluelinelabs.logansquare.processor.type.Type;
 import com.bluelinelabs.logansquare.processor.type.Type.ClassNameObjectMapper;
+import com.bluelinelabs.logansquare.processor.type.collection.CollectionType;
+import com.bluelinelabs.logansquare.processor.type.collection.MapCollectionType;
 import com.bluelinelabs.logansquare.processor.type.field.FieldType;
+import com.bluelinelabs.logansquare.processor.type.field.JsonFieldType;
 import com.bluelinelabs.logansquare.processor.type.field.ParameterizedTypeField;
-import com.bluelinelabs.logansquare.processor.type.field.TypeConverterFieldType;
 import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.bluelinelabs.logansquare.util.CanonicalInstanceMap;
+import com.bluelinelabs.logansquare.util.ChangeTracker;
 import com.bluelinelabs.logansquare.util.SimpleArrayMap;
+import com.bluelinelabs.logansquare.util.SourceInstanceCache;
+import com.bluelinelabs.logansquare.util.SubtypeParser;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
@@ -23,9 +32,15 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,8 +54,19 @@ import javax.lang.model.type.TypeVariable;
 public class ObjectMapperInjector {
 
     public static final String PARENT_OBJECT_MAPPER_VARIABLE_NAME = "parentObjectMapper";
+    public static final String PARENT_OBJECT_MAPPER_HOLDER_NAME = "ParentObjectMapperHolder";
+    public static final String MAPPER_HOLDER_FIELD_NAME = "MAPPER";
     public static final String JSON_PARSER_VARIABLE_NAME = "jsonParser";
     public static final String JSON_GENERATOR_VARIABLE_NAME = "jsonGenerator";
+    public static final String BINARY_OUTPUT_VARIABLE_NAME = "out";
+    public static final String BINARY_INPUT_VARIABLE_NAME = "in";
+
+    // A rough average of the bytecode each line of generated code compiles to
+    private static final int ESTIMATED_BYTES_PER_LINE = 12;
+
+    // HotSpot never JIT compiles methods larger than 8000 bytes (-XX:HugeMethodLimit), so the parseField and serialize
+    // methods of large models are split into methods of about half that size, leaving room for estimation errors
+    private static final int MAX_ESTIMATED_METHOD_SIZE = 4000;
 
     private final JsonObjectHolder mJsonObjectHolder;
 
@@ -69,36 +95,52 @@ public class ObjectMapperInjector {
         }
 
         if (mJsonObjectHolder.hasParentClass()) {
-            FieldSpec.Builder parentMapperBuilder;
-
-            if (mJsonObjectHolder.parentTypeParameters.size() == 0) {
-                parentMapperBuilder = FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(JsonMapper.class), mJsonObjectHolder.parentTypeName), PARENT_OBJECT_MAPPER_VARIABLE_NAME)
-                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
-                        .initializer("$T.mapperFor($T.class)", LoganSquare.class, mJsonObjectHolder.parentTypeName);
+            if (mJsonObjectHolder.specializedParentMapper != null) {
+                builder.addType(getMapperHolder(PARENT_OBJECT_MAPPER_HOLDER_NAME, mJsonObjectHolder.specializedParentMapper, "new $T()", mJsonObjectHolder.specializedParentMapper));
+            } else if (mJsonObjectHolder.parentTypeParameters.size() == 0) {
+                builder.addType(getMapperHolder(PARENT_OBJECT_MAPPER_HOLDER_NAME, (ClassName) mJsonObjectHolder.parentTypeName, TypeUtils.getInjectedClassName((ClassName) mJsonObjectHolder.parentTypeName)));
             } else {
-                parentMapperBuilder = FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(JsonMapper.class), mJsonObjectHolder.getParameterizedParentTypeName()), PARENT_OBJECT_MAPPER_VARIABLE_NAME)
+                FieldSpec.Builder parentMapperBuilder = FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(JsonMapper.class), mJsonObjectHolder.getParameterizedParentTypeName()), PARENT_OBJECT_MAPPER_VARIABLE_NAME)
                         .addModifiers(Modifier.PRIVATE);
 
                 if (mJsonObjectHolder.typeParameters.size() == 0) {
-                    parentMapperBuilder.initializer("$T.mapperFor(new $T<$T>() { })", LoganSquare.class, ParameterizedType.class, mJsonObjectHolder.getParameterizedParentTypeName());
+                    List<Object> args = new ArrayList<>();
+                    String typeToken = getTypeToken(mJsonObjectHolder.getParameterizedParentTypeName(), args);
+                    args.add(0, LoganSquare.class);
+                    parentMapperBuilder.initializer("$T.mapperFor(" + typeToken + ")", args.toArray(new Object[args.size()]));
                 }
-            }
 
-            builder.addField(parentMapperBuilder.build());
+                builder.addField(parentMapperBuilder.build());
+            }
         }
 
-        boolean isUpdatable = !TextUtils.isEmpty(mJsonObjectHolder.getObjectByKeyCallback);
+        boolean isUpdatable = mJsonObjectHolder.isUpdatable();
 
         if (isUpdatable) {
             addUpdateFieldFlags(builder);
+            if (mJsonObjectHolder.keyCacheSize > 0) {
+                addSourceInstanceCache(builder);
+            }
+        }
+
+        if (isTrackingChanges()) {
+            TypeName trackerTypeName = ParameterizedTypeName.get(ClassName.get(ChangeTracker.class), mJsonObjectHolder.objectTypeName);
+            builder.addField(FieldSpec.builder(trackerTypeName, "changeTracker", Modifier.PRIVATE, Modifier.FINAL)
+                    .initializer("new $T()", trackerTypeName)
+                    .build());
+        }
+
+        if (isCanonicalized()) {
+            TypeName mapTypeName = ParameterizedTypeName.get(ClassName.get(CanonicalInstanceMap.class), getKeyTypeName(), mJsonObjectHolder.objectTypeName);
+            builder.addField(FieldSpec.builder(mapTypeName, "canonicalInstances", Modifier.PRIVATE, Modifier.FINAL)
+                    .initializer("new $T()", mapTypeName)
+                    .build());
         }
 
         // TypeConverters could be expensive to create, so just use one per class
         Set<ClassName> typeConvertersUsed = new HashSet<>();
         for (JsonFieldHolder fieldHolder : mJsonObjectHolder.fieldMap.values()) {
-            if (fieldHolder.type instanceof TypeConverterFieldType) {
-                typeConvertersUsed.add(((TypeConverterFieldType) fieldHolder.type).getTypeConverterClassName());
-            }
+            typeConvertersUsed.addAll(fieldHolder.type.getUsedTypeConverterClasses());
         }
         for (ClassName typeConverter : typeConvertersUsed) {
             builder.addField(FieldSpec.builder(typeConverter, getStaticFinalTypeConverterVariableName(typeConverter))
@@ -135,7 +177,7 @@ public class ObjectMapperInjector {
         }
 
         for (JsonFieldHolder jsonFieldHolder : mJsonObjectHolder.fieldMap.values()) {
-            if (jsonFieldHolder.type instanceof ParameterizedTypeField) {
+            if (jsonFieldHolder.type instanceof ParameterizedTypeField && ((ParameterizedTypeField) jsonFieldHolder.type).getSpecializedMapper() == null) {
                 final String jsonMapperVariableName = getJsonMapperVariableNameForTypeParameter(((ParameterizedTypeField) jsonFieldHolder.type).getParameterName());
 
                 if (!createdJsonMappers.contains(jsonMapperVariableName)) {
@@ -147,7 +189,9 @@ public class ObjectMapperInjector {
                             .build());
 
                     String typeName = jsonMapperVariableName + "Type";
-                    constructorBuilder.addStatement("$T $L = new $T<$T>() { }", ParameterizedType.class, typeName, ParameterizedType.class, jsonFieldHolder.type.getTypeName());
+                    List<Object> args = new ArrayList<Object>(Arrays.asList(ParameterizedType.class, typeName));
+                    String typeToken = getTypeToken(jsonFieldHolder.type.getTypeName(), args);
+                    constructorBuilder.addStatement("$T $L = " + typeToken, args.toArray(new Object[args.size()]));
 
                     if (mJsonObjectHolder.typeParameters.size() > 0) {
                         constructorBuilder.beginControlFlow("if ($L.equals(type))", typeName);
@@ -163,76 +207,165 @@ public class ObjectMapperInjector {
         }
 
         if (createdJsonMappers.size() > 0) {
-            if (mJsonObjectHolder.hasParentClass()) {
-                constructorBuilder.addStatement("$L = $T.mapperFor(new $T<$T>() { })", PARENT_OBJECT_MAPPER_VARIABLE_NAME, LoganSquare.class, ParameterizedType.class, mJsonObjectHolder.getParameterizedParentTypeName());
+            if (mJsonObjectHolder.hasParentClass() && mJsonObjectHolder.parentTypeParameters.size() > 0 && mJsonObjectHolder.specializedParentMapper == null) {
+                List<Object> args = new ArrayList<Object>(Arrays.asList(PARENT_OBJECT_MAPPER_VARIABLE_NAME, LoganSquare.class));
+                String typeToken = getTypeToken(mJsonObjectHolder.getParameterizedParentTypeName(), args);
+                constructorBuilder.addStatement("$L = $T.mapperFor(" + typeToken + ")", args.toArray(new Object[args.size()]));
             }
             builder.addMethod(constructorBuilder.build());
         }
 
-        builder.addMethod(getParseMethod(isUpdatable, false));
+        builder.addMethod(getParseMethod(isUpdatable, false, false));
         if (isUpdatable) {
-            builder.addMethod(getParseMethod(true, true));
+            builder.addMethod(getParseMethod(true, true, false));
+        }
+        if (isBatchUpdatable()) {
+            addBatchParseMethods(builder);
         }
         if (mJsonObjectHolder.inheritsFromParent) {
             builder.addMethod(getEndParseMethod(isUpdatable));
         }
-        builder.addMethod(getParseFieldMethod(false));
+        addParseFieldMethods(builder, false);
         if (isUpdatable) {
-            builder.addMethod(getParseFieldMethod(true));
+            addParseFieldMethods(builder, true);
             builder.addMethod(MethodSpec.methodBuilder("holder")
                     .addModifiers(Modifier.PUBLIC)
                     .addAnnotation(Override.class)
                     .addStatement("return new DataHolder()")
                     .returns(TypeName.OBJECT)
                     .build());
+            if (mJsonObjectHolder.keyCacheSize > 0) {
+                addSourceInstanceCacheMethods(builder);
+            }
+        }
+        addSerializeMethods(builder);
+        if (isTrackingChanges()) {
+            addChangeTrackingMethods(builder);
+        }
+        if (mJsonObjectHolder.generateDiff) {
+            addDiffMethods(builder);
+        }
+        if (mJsonObjectHolder.generateBinaryCodec && !isUpdatable && !mJsonObjectHolder.inheritsFromParent) {
+            addBinaryCodecMethods(builder);
+        }
+        if (mJsonObjectHolder.generateCopy && !mJsonObjectHolder.inheritsFromParent) {
+            addCopyMethods(builder);
+        }
+        if (isCanonicalized()) {
+            addCanonicalizeMethods(builder);
         }
-        builder.addMethod(getSerializeMethod());
         addUsedJsonMapperVariables(builder);
+        addUsedSpecializedMapperVariables(builder);
         addUsedTypeConverterMethods(builder);
         return builder.build();
     }
 
-    private MethodSpec getParseMethod(boolean isUpdatable, boolean isSecondary) {
-        MethodSpec.Builder builder = MethodSpec.methodBuilder("parse")
-                .addAnnotation(Override.class)
-                .addModifiers(Modifier.PUBLIC)
-                .returns(mJsonObjectHolder.objectTypeName)
-                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME);
-        if (isSecondary) {
-            builder.addParameter(TypeName.OBJECT, "dataHolderObject");
+    private MethodSpec getParseMethod(boolean isUpdatable, boolean isSecondary, boolean isDeferred) {
+        MethodSpec.Builder builder;
+        if (isDeferred) {
+            // Parses without looking up the source instance, leaving the merge to mergeDeferred()
+            builder = MethodSpec.methodBuilder("parseDeferred")
+                    .addModifiers(Modifier.PRIVATE)
+                    .returns(mJsonObjectHolder.objectTypeName)
+                    .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME)
+                    .addParameter(getDataHolderTypeName(), "dataHolder");
+        } else {
+            builder = MethodSpec.methodBuilder("parse")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(mJsonObjectHolder.objectTypeName)
+                    .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME);
+            if (isSecondary) {
+                builder.addParameter(TypeName.OBJECT, "dataHolderObject");
+            }
         }
         builder
                 .addException(IOException.class);
-        if (isSecondary) {
+        if (isSecondary && !isDeferred) {
             builder.addStatement("DataHolder dataHolder = (DataHolder) dataHolderObject")
                     .beginControlFlow("if(dataHolder == null)")
                     .addStatement("dataHolder = new DataHolder()")
                     .endControlFlow();
         }
+        if (mJsonObjectHolder.isPolymorphic()) {
+            addSubtypeDispatch(builder);
+        }
         if (!mJsonObjectHolder.isAbstractClass) {
-            builder.addStatement("$T instance = new $T()", mJsonObjectHolder.objectTypeName, mJsonObjectHolder.objectTypeName)
-                    .beginControlFlow("if ($L.getCurrentToken() == null)", JSON_PARSER_VARIABLE_NAME)
-                    .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
-                    .endControlFlow()
-                    .beginControlFlow("if ($L.getCurrentToken() != $T.START_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
-                    .addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
-                    .addStatement("return null")
-                    .endControlFlow();
-            if (isUpdatable && !isSecondary) {
-                builder.addStatement("DataHolder dataHolder = new DataHolder()");
+            List<String> inheritingFieldNames = getInheritingFieldNames();
+            if (mJsonObjectHolder.isPolymorphic()) {
+                // Objects without a known subtype are parsed as this class, from the replayed tokens if any were
+                // buffered or from just after a leading discriminator otherwise
+                builder.beginControlFlow("if (subtypeParser != null)")
+                        .addStatement("$L = subtypeParser.replay()", JSON_PARSER_VARIABLE_NAME)
+                        .endControlFlow()
+                        .addStatement("$T instance = new $T()", mJsonObjectHolder.objectTypeName, mJsonObjectHolder.objectTypeName);
+            } else {
+                builder.addStatement("$T instance = new $T()", mJsonObjectHolder.objectTypeName, mJsonObjectHolder.objectTypeName)
+                        .beginControlFlow("if ($L.getCurrentToken() == null)", JSON_PARSER_VARIABLE_NAME)
+                        .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
+                        .endControlFlow()
+                        .beginControlFlow("if ($L.getCurrentToken() != $T.START_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                        .addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
+                        .addStatement("return null")
+                        .endControlFlow();
+            }
+            if (isUpdatable) {
+                // Fields that were set are tracked in a bitmask on the stack, so parsing only allocates a DataHolder
+                // when an inheriting child needs one
+                for (int i = 0; i < getFieldsSetWordCount(); i++) {
+                    builder.addStatement("long $L = 0L", getFieldsSetName(i));
+                }
+                if (!isSecondary && inheritingFieldNames.size() > 0) {
+                    builder.addStatement("DataHolder dataHolder = null");
+                }
             }
             builder.beginControlFlow("while ($L.nextToken() != $T.END_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
                     .addStatement("String fieldName = $L.getCurrentName()", JSON_PARSER_VARIABLE_NAME)
-                    .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
-                    .addStatement("parseField(instance, fieldName, $L" + (isUpdatable
-                                                                          ? ", dataHolder"
-                                                                          : "") + ")", JSON_PARSER_VARIABLE_NAME)
-                    .addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
+                    .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME);
+            if (isUpdatable) {
+                if (!isSecondary && inheritingFieldNames.size() > 0) {
+                    List<Object> args = new ArrayList<>();
+                    StringBuilder ifStatement = new StringBuilder();
+                    for (String fieldName : inheritingFieldNames) {
+                        ifStatement.append(args.size() == 0 ? "" : " || ").append("$S.equals(fieldName)");
+                        args.add(fieldName);
+                    }
+                    builder.beginControlFlow("if (dataHolder == null && (" + ifStatement.toString() + "))", args.toArray(new Object[args.size()]))
+                            .addStatement("dataHolder = new DataHolder()")
+                            .endControlFlow();
+                }
+                builder.addStatement("int fieldIndex = parseTrackedField(instance, fieldName, $L" + (inheritingFieldNames.size() > 0
+                                                                                                     ? ", dataHolder"
+                                                                                                     : "") + ")", JSON_PARSER_VARIABLE_NAME);
+                for (int i = getFieldsSetWordCount() - 1; i >= 0; i--) {
+                    if (i == getFieldsSetWordCount() - 1) {
+                        builder.beginControlFlow("if (fieldIndex >= $L)", i * 64);
+                    } else {
+                        builder.nextControlFlow("else if (fieldIndex >= $L)", i * 64);
+                    }
+                    builder.addStatement("$L |= 1L << fieldIndex", getFieldsSetName(i));
+                }
+                builder.endControlFlow();
+            } else {
+                builder.addStatement("parseField(instance, fieldName, $L)", JSON_PARSER_VARIABLE_NAME);
+            }
+            builder.addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
                     .endControlFlow();
-            if (!mJsonObjectHolder.inheritsFromParent) {
-                endParseMethod(builder, isUpdatable);
+            if (!mJsonObjectHolder.inheritsFromParent && !isDeferred) {
+                endParseMethod(builder, isUpdatable, !isSecondary);
+            } else if (isSecondary) {
+                for (int i = 0; i < getFieldsSetWordCount(); i++) {
+                    builder.addStatement("dataHolder.$L = $L", getFieldsSetName(i), getFieldsSetName(i));
+                }
             }
-            builder.addStatement("return instance");
+            builder.addStatement(isCanonicalized() ? "return canonicalize(instance)" : "return instance");
+        } else if (mJsonObjectHolder.isPolymorphic()) {
+            builder.beginControlFlow("if (subtypeParser != null)")
+                    .addStatement("subtypeParser.skip()")
+                    .nextControlFlow("else")
+                    .addStatement("$T.skipRemainingFields($L)", SubtypeParser.class, JSON_PARSER_VARIABLE_NAME)
+                    .endControlFlow()
+                    .addStatement("return null");
         } else {
             builder.addStatement("return null");
         }
@@ -240,6 +373,41 @@ public class ObjectMapperInjector {
         return builder.build();
     }
 
+    private void addSubtypeDispatch(MethodSpec.Builder builder) {
+        builder.beginControlFlow("if ($L.getCurrentToken() == null)", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
+                .endControlFlow()
+                .beginControlFlow("if ($L.getCurrentToken() != $T.START_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T subtypeParser = null", SubtypeParser.class)
+                .addStatement("String subtype");
+
+        // A leading discriminator, which is where LoganSquare writes it, is read straight from the parser. Only objects
+        // with fields before it need to be buffered
+        builder.beginControlFlow("if ($L.nextToken() == $T.FIELD_NAME && $S.equals($L.getCurrentName()))", JSON_PARSER_VARIABLE_NAME, JsonToken.class, mJsonObjectHolder.subtypeProperty, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("subtype = $L.getValueAsString(null)", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
+                .nextControlFlow("else")
+                .addStatement("subtypeParser = new $T($L)", SubtypeParser.class, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("subtype = subtypeParser.readSubtype($S)", mJsonObjectHolder.subtypeProperty)
+                .endControlFlow()
+                .beginControlFlow("if (subtype != null)")
+                .beginControlFlow("switch (subtype)");
+        for (Map.Entry<String, ClassName> entry : mJsonObjectHolder.subtypes.entrySet()) {
+            builder.addCode("case $S:\n", entry.getKey())
+                    .addStatement("$>return $L.parse(subtypeParser != null ? subtypeParser.replay() : $T.resume($L))$<", getSubtypeMapperVariableName(entry.getValue()), SubtypeParser.class, JSON_PARSER_VARIABLE_NAME);
+        }
+        builder.endControlFlow()
+                .endControlFlow();
+    }
+
+    private String getSubtypeMapperVariableName(ClassName subtype) {
+        return getMapperVariableName(subtype.toString() + Constants.MAPPER_CLASS_SUFFIX);
+    }
+
     private MethodSpec getEndParseMethod(boolean isUpdatable) {
         MethodSpec.Builder builder = MethodSpec.methodBuilder("endParse")
                 .addAnnotation(Override.class)
@@ -249,10 +417,10 @@ public class ObjectMapperInjector {
                 .addParameter(TypeName.OBJECT, "dataObject")
                 .addException(IOException.class)
                 .returns(TypeName.VOID)
-                .addStatement("DataHolder dataHolder = (DataHolder) dataObject")
-                .beginControlFlow("if(dataHolder == null)")
-                .addStatement("dataHolder = new DataHolder()")
-                .endControlFlow();
+                .addStatement("DataHolder dataHolder = (DataHolder) dataObject");
+        for (int i = 0; i < getFieldsSetWordCount(); i++) {
+            builder.addStatement("long $L = dataHolder != null ? dataHolder.$L : 0L", getFieldsSetName(i), getFieldsSetName(i));
+        }
 
         if (mJsonObjectHolder.onInheritCallback != null) {
             ExecutableElement inheritCallback = mJsonObjectHolder.onInheritCallback;
@@ -264,41 +432,55 @@ public class ObjectMapperInjector {
             }
             builder.addStatement("instance.$L(" + parentType + "parentInstance)", inheritCallback.getSimpleName().toString());
         }
-        endParseMethod(builder, isUpdatable);
+        endParseMethod(builder, isUpdatable, true);
         return builder.build();
     }
 
-    private void endParseMethod(MethodSpec.Builder builder, boolean isUpdatable) {
+    private void endParseMethod(MethodSpec.Builder builder, boolean isUpdatable, boolean dataHolderMayBeNull) {
         if (isUpdatable) {
-            JsonFieldHolder keyField = null;
-            for (JsonFieldHolder holder : mJsonObjectHolder.fieldMap.values()) {
-                if (holder.isKey()) {
-                    keyField = holder;
-                    break;
-                }
-            }
-            if (keyField == null) {
-                throw new RuntimeException("Missing @JsonField with @JsonKey annotation for getByKey() method");
+            String key = getKeyGetter();
+            boolean isCached = mJsonObjectHolder.keyCacheSize > 0;
+
+            // With a cache the variable is declared by the cache lookup, and only assigned on a miss
+            String sourceInstance = isCached ? "sourceInstance" : "$T sourceInstance";
+            List<Object> args = new ArrayList<>();
+            if (isCached) {
+                builder.addStatement("$T sourceInstance = sourceInstanceCache.get($L)", mJsonObjectHolder.objectTypeName, key)
+                        .beginControlFlow("if (sourceInstance == null)");
+            } else {
+                args.add(mJsonObjectHolder.objectTypeName);
             }
 
-            StringBuilder stringBuilder = new StringBuilder(
-                    "$T sourceInstance = instance.$L(instance.");
-            if (keyField.hasGetter()) {
-                stringBuilder.append(keyField.getterMethod);
-                stringBuilder.append("()");
+            if (!TextUtils.isEmpty(mJsonObjectHolder.getObjectByKeyCallback)) {
+                Collections.addAll(args, mJsonObjectHolder.getObjectByKeyCallback, key);
+                builder.addStatement(sourceInstance + " = instance.$L($L)", args.toArray());
             } else {
-                stringBuilder.append(keyField.fieldName[0]);
+                args.add(key);
+                builder.addStatement("$T<$T, $T> sourceInstances = $T.$L($T.singletonList($L))", Map.class, getKeyTypeName(), mJsonObjectHolder.objectTypeName,
+                        getRawObjectTypeName(), mJsonObjectHolder.getObjectsByKeysCallback, Collections.class, key)
+                        .addStatement(sourceInstance + " = sourceInstances != null ? sourceInstances.get($L) : null", args.toArray());
             }
-            stringBuilder.append(")");
 
-            builder.addStatement(stringBuilder.toString(), mJsonObjectHolder.objectTypeName,
-                    mJsonObjectHolder.getObjectByKeyCallback)
-                    .beginControlFlow("if(sourceInstance != null)");
+            if (isCached) {
+                builder.beginControlFlow("if (sourceInstance != null)")
+                        .addStatement("sourceInstanceCache.put($L, sourceInstance)", key)
+                        .endControlFlow()
+                        .endControlFlow();
+            }
+        }
+        addMergeStatements(builder, isUpdatable, dataHolderMayBeNull);
+    }
+
+    private void addMergeStatements(MethodSpec.Builder builder, boolean isUpdatable, boolean dataHolderMayBeNull) {
+        if (isUpdatable) {
+            builder.beginControlFlow("if(sourceInstance != null)");
+            int fieldIndex = 0;
             for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
                 String fieldName = entry.getKey();
                 JsonFieldHolder fieldHolder = entry.getValue();
                 if (fieldHolder.shouldParse) {
-                    builder.beginControlFlow("if(!dataHolder." + getIsFieldSetName(fieldName) + ")");
+                    builder.beginControlFlow("if(($L & 1L << $L) == 0)", getFieldsSetName(fieldIndex / 64), fieldIndex % 64);
+                    fieldIndex++;
 
                     String getter;
                     if (fieldHolder.hasGetter()) {
@@ -330,9 +512,13 @@ public class ObjectMapperInjector {
                 if (fieldHolder.type != null) {
                     String mapperName = getMapperVariableName(fieldHolder.type.getTypeName() + Constants.MAPPER_CLASS_SUFFIX),
                             dataHolderName = getDataHolderName(entry.getKey());
-                    builder.beginControlFlow("if(" + getter + " != null)")
-                            .addStatement("$L.endParse(instance, " + getter + ", dataHolder.$L)", mapperName, dataHolderName)
-                            .endControlFlow();
+                    builder.beginControlFlow("if(" + getter + " != null)");
+                    if (isUpdatable && dataHolderMayBeNull) {
+                        builder.addStatement("$L.endParse(instance, " + getter + ", dataHolder != null ? dataHolder.$L : null)", mapperName, dataHolderName);
+                    } else {
+                        builder.addStatement("$L.endParse(instance, " + getter + ", dataHolder.$L)", mapperName, dataHolderName);
+                    }
+                    builder.endControlFlow();
                 }
             }
         }
@@ -341,38 +527,104 @@ public class ObjectMapperInjector {
         }
     }
 
-    private MethodSpec getParseFieldMethod(boolean isUpdatable) {
-        MethodSpec.Builder builder = MethodSpec.methodBuilder("parseField")
-                .addModifiers(Modifier.PUBLIC)
-                .addParameter(mJsonObjectHolder.objectTypeName, "instance")
-                .addParameter(String.class, "fieldName")
-                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME);
+    private void addParseFieldMethods(TypeSpec.Builder typeBuilder, boolean isUpdatable) {
+        String methodName = isUpdatable ? "parseTrackedField" : "parseField";
+        boolean hasDataHolder = isUpdatable && getInheritingFieldNames().size() > 0;
+
+        MethodSpec.Builder builder = getParseFieldMethodBuilder(methodName, hasDataHolder)
+                .addModifiers(Modifier.PUBLIC);
         if (isUpdatable) {
-            builder.addParameter(ClassName.get(mJsonObjectHolder.packageName + "." + mJsonObjectHolder.injectedClassName, "DataHolder"), "dataHolder");
+            // Returns the index of the field that was parsed, or -1 if it isn't tracked
+            builder.returns(TypeName.INT);
         } else {
             builder.addAnnotation(Override.class);
         }
-        builder.addException(IOException.class);
 
-        int parseFieldLines = addParseFieldLines(builder, isUpdatable);
+        List<FieldCode> fieldCodes = getParseFieldCodes(isUpdatable);
+        List<List<FieldCode>> groups = getMethodGroups(fieldCodes);
+        List<MethodSpec> groupMethods = new ArrayList<>();
+
+        if (groups.size() > 1) {
+            // Each group is parsed by its own method, which returns whether it found the field
+            String groupArgs = "instance, fieldName, " + JSON_PARSER_VARIABLE_NAME + (hasDataHolder ? ", dataHolder" : "");
+            for (int i = 0; i < groups.size(); i++) {
+                String groupMethodName = methodName + i;
+                MethodSpec.Builder groupBuilder = getParseFieldMethodBuilder(groupMethodName, hasDataHolder)
+                        .addModifiers(Modifier.PRIVATE)
+                        .returns(isUpdatable ? TypeName.INT : TypeName.BOOLEAN);
+                addParseFieldBranches(groupBuilder, groups.get(i), !isUpdatable);
+                groupBuilder.endControlFlow()
+                        .addStatement(isUpdatable ? "return -1" : "return false");
+                groupMethods.add(groupBuilder.build());
+
+                if (isUpdatable) {
+                    builder.addStatement(i == 0 ? "int fieldIndex = $L($L)" : "fieldIndex = $L($L)", groupMethodName, groupArgs)
+                            .beginControlFlow("if (fieldIndex >= 0)")
+                            .addStatement("return fieldIndex")
+                            .endControlFlow();
+                } else {
+                    builder.beginControlFlow("if ($L($L))", groupMethodName, groupArgs)
+                            .addStatement("return")
+                            .endControlFlow();
+                }
+            }
+
+            if (mJsonObjectHolder.hasParentClass()) {
+                builder.addStatement("$L.parseField(instance, fieldName, $L)", getParentMapper(), JSON_PARSER_VARIABLE_NAME);
+            }
+        } else {
+            addParseFieldBranches(builder, fieldCodes, false);
 
-        if (mJsonObjectHolder.hasParentClass()) {
-            if (parseFieldLines > 0) {
-                builder.nextControlFlow("else");
-                builder.addStatement("$L.parseField(instance, fieldName, $L)", PARENT_OBJECT_MAPPER_VARIABLE_NAME, JSON_PARSER_VARIABLE_NAME);
-            } else {
-                builder.addStatement("$L.parseField(instance, fieldName, $L)", PARENT_OBJECT_MAPPER_VARIABLE_NAME, JSON_PARSER_VARIABLE_NAME);
+            if (mJsonObjectHolder.hasParentClass()) {
+                if (fieldCodes.size() > 0) {
+                    builder.nextControlFlow("else");
+                }
+                builder.addStatement("$L.parseField(instance, fieldName, $L)", getParentMapper(), JSON_PARSER_VARIABLE_NAME);
+            }
+
+            if (fieldCodes.size() > 0) {
+                builder.endControlFlow();
             }
         }
 
-        if (parseFieldLines > 0) {
-            builder.endControlFlow();
+        if (isUpdatable) {
+            builder.addStatement("return -1");
         }
 
-        return builder.build();
+        typeBuilder.addMethod(builder.build());
+        for (MethodSpec groupMethod : groupMethods) {
+            typeBuilder.addMethod(groupMethod);
+        }
     }
 
-    private MethodSpec getSerializeMethod() {
+    private MethodSpec.Builder getParseFieldMethodBuilder(String methodName, boolean hasDataHolder) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addParameter(mJsonObjectHolder.objectTypeName, "instance")
+                .addParameter(String.class, "fieldName")
+                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME);
+        if (hasDataHolder) {
+            builder.addParameter(getDataHolderTypeName(), "dataHolder");
+        }
+        return builder.addException(IOException.class);
+    }
+
+    private void addParseFieldBranches(MethodSpec.Builder builder, List<FieldCode> fieldCodes, boolean returnIfParsed) {
+        boolean isFirst = true;
+        for (FieldCode fieldCode : fieldCodes) {
+            if (isFirst) {
+                builder.beginControlFlow("if (" + fieldCode.condition + ")", fieldCode.conditionArgs);
+                isFirst = false;
+            } else {
+                builder.nextControlFlow("else if (" + fieldCode.condition + ")", fieldCode.conditionArgs);
+            }
+            builder.addCode(fieldCode.code);
+            if (returnIfParsed) {
+                builder.addStatement("return true");
+            }
+        }
+    }
+
+    private void addSerializeMethods(TypeSpec.Builder typeBuilder) {
         MethodSpec.Builder builder = MethodSpec.methodBuilder("serialize")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
@@ -381,21 +633,48 @@ public class ObjectMapperInjector {
                 .addParameter(boolean.class, "writeStartAndEnd")
                 .addException(IOException.class);
 
-        insertSerializeStatements(builder);
+        if (mJsonObjectHolder.isPolymorphic()) {
+            // Subtypes are written by their own mappers, which call back into this one with writeStartAndEnd = false
+            builder.beginControlFlow("if (writeStartAndEnd)");
+            boolean isFirst = true;
+            for (ClassName subtype : mJsonObjectHolder.subtypes.values()) {
+                if (isFirst) {
+                    builder.beginControlFlow("if (object instanceof $T)", subtype);
+                    isFirst = false;
+                } else {
+                    builder.nextControlFlow("else if (object instanceof $T)", subtype);
+                }
+                builder.addStatement("$L.serialize(($T) object, $L, true)", getSubtypeMapperVariableName(subtype), subtype, JSON_GENERATOR_VARIABLE_NAME)
+                        .addStatement("return");
+            }
+            builder.endControlFlow()
+                    .endControlFlow();
+        }
+
+        List<MethodSpec> groupMethods = new ArrayList<>();
+        insertSerializeStatements(builder, groupMethods);
 
-        return builder.build();
+        typeBuilder.addMethod(builder.build());
+        for (MethodSpec groupMethod : groupMethods) {
+            typeBuilder.addMethod(groupMethod);
+        }
     }
 
-    private void insertSerializeStatements(MethodSpec.Builder builder) {
+    private void insertSerializeStatements(MethodSpec.Builder builder, List<MethodSpec> groupMethods) {
         if (!TextUtils.isEmpty(mJsonObjectHolder.preSerializeCallback)) {
             builder.addStatement("object.$L()", mJsonObjectHolder.preSerializeCallback);
         }
 
         builder
                 .beginControlFlow("if (writeStartAndEnd)")
-                .addStatement("$L.writeStartObject()", JSON_GENERATOR_VARIABLE_NAME)
-                .endControlFlow();
+                .addStatement("$L.writeStartObject()", JSON_GENERATOR_VARIABLE_NAME);
+        if (!TextUtils.isEmpty(mJsonObjectHolder.discriminatorValue)) {
+            // The discriminator goes first so that parsing the parent class doesn't have to buffer anything
+            builder.addStatement("$L.writeStringField($S, $S)", JSON_GENERATOR_VARIABLE_NAME, mJsonObjectHolder.discriminatorProperty, mJsonObjectHolder.discriminatorValue);
+        }
+        builder.endControlFlow();
 
+        List<FieldCode> fieldCodes = new ArrayList<>();
         List<String> processedFields = new ArrayList<>(mJsonObjectHolder.fieldMap.size());
         for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
             JsonFieldHolder fieldHolder = entry.getValue();
@@ -408,12 +687,36 @@ public class ObjectMapperInjector {
                     getter = "object." + entry.getKey();
                 }
 
-                fieldHolder.type.serialize(builder, 1, fieldHolder.fieldName[0], processedFields, getter, true, true, mJsonObjectHolder.serializeNullObjects, mJsonObjectHolder.serializeNullCollectionElements);
+                MethodSpec.Builder fieldBuilder = MethodSpec.methodBuilder(entry.getKey());
+                fieldHolder.type.serialize(fieldBuilder, 1, fieldHolder.fieldName[0], processedFields, getter, true, true, mJsonObjectHolder.serializeNullObjects, mJsonObjectHolder.serializeNullCollectionElements);
+                fieldCodes.add(new FieldCode(null, null, fieldBuilder.build().code));
+            }
+        }
+
+        List<List<FieldCode>> groups = getMethodGroups(fieldCodes);
+        if (groups.size() > 1) {
+            for (int i = 0; i < groups.size(); i++) {
+                String groupMethodName = "serializeFields" + i;
+                MethodSpec.Builder groupBuilder = MethodSpec.methodBuilder(groupMethodName)
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                        .addParameter(JsonGenerator.class, JSON_GENERATOR_VARIABLE_NAME)
+                        .addException(IOException.class);
+                for (FieldCode fieldCode : groups.get(i)) {
+                    groupBuilder.addCode(fieldCode.code);
+                }
+                groupMethods.add(groupBuilder.build());
+
+                builder.addStatement("$L(object, $L)", groupMethodName, JSON_GENERATOR_VARIABLE_NAME);
+            }
+        } else {
+            for (FieldCode fieldCode : fieldCodes) {
+                builder.addCode(fieldCode.code);
             }
         }
 
         if (mJsonObjectHolder.hasParentClass()) {
-            builder.addStatement("$L.serialize(object, $L, false)", PARENT_OBJECT_MAPPER_VARIABLE_NAME, JSON_GENERATOR_VARIABLE_NAME);
+            builder.addStatement("$L.serialize(object, $L, false)", getParentMapper(), JSON_GENERATOR_VARIABLE_NAME);
         }
 
         builder
@@ -422,37 +725,842 @@ public class ObjectMapperInjector {
                 .endControlFlow();
     }
 
+    /**
+     * Splits the code generated for each field into groups that are small enough to be JIT compiled as separate methods.
+     * Everything stays in a single group if it fits in one method.
+     */
+    private static List<List<FieldCode>> getMethodGroups(List<FieldCode> fieldCodes) {
+        List<List<FieldCode>> groups = new ArrayList<>();
+        List<FieldCode> group = new ArrayList<>();
+        int groupSize = 0;
+        for (FieldCode fieldCode : fieldCodes) {
+            if (group.size() > 0 && groupSize + fieldCode.estimatedSize > MAX_ESTIMATED_METHOD_SIZE) {
+                groups.add(group);
+                group = new ArrayList<>();
+                groupSize = 0;
+            }
+            group.add(fieldCode);
+            groupSize += fieldCode.estimatedSize;
+        }
+        if (group.size() > 0) {
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private boolean isTrackingChanges() {
+        return mJsonObjectHolder.trackChanges && !mJsonObjectHolder.isAbstractClass;
+    }
+
+    private void addChangeTrackingMethods(TypeSpec.Builder builder) {
+        List<String> snapshotValues = new ArrayList<>();
+        MethodSpec.Builder serializeChangesBuilder = MethodSpec.methodBuilder("serializeChanges")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                .addParameter(JsonGenerator.class, JSON_GENERATOR_VARIABLE_NAME)
+                .addException(IOException.class)
+                .addStatement("Object[] snapshot = changeTracker.get(object)")
+                .beginControlFlow("if (snapshot == null)")
+                .addStatement("serialize(object, $L, true)", JSON_GENERATOR_VARIABLE_NAME)
+                .addStatement("return")
+                .endControlFlow();
+        if (!TextUtils.isEmpty(mJsonObjectHolder.preSerializeCallback)) {
+            serializeChangesBuilder.addStatement("object.$L()", mJsonObjectHolder.preSerializeCallback);
+        }
+        serializeChangesBuilder.addStatement("$L.writeStartObject()", JSON_GENERATOR_VARIABLE_NAME);
+
+        List<String> processedFields = new ArrayList<>(mJsonObjectHolder.fieldMap.size());
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            JsonFieldHolder fieldHolder = entry.getValue();
+            if (!fieldHolder.shouldSerialize || fieldHolder.type == null) {
+                continue;
+            }
+
+            String getter = fieldHolder.hasGetter() ? "object." + fieldHolder.getterMethod + "()" : "object." + entry.getKey();
+            if (fieldHolder.isKey()) {
+                // The key identifies the object to whoever applies the changes, so it's always written
+                fieldHolder.type.serialize(serializeChangesBuilder, 1, fieldHolder.fieldName[0], processedFields, getter, true, true, mJsonObjectHolder.serializeNullObjects, mJsonObjectHolder.serializeNullCollectionElements);
+            } else {
+                serializeChangesBuilder.beginControlFlow("if ($T.isChanged(snapshot[$L], $L))", ChangeTracker.class, snapshotValues.size(), getter);
+                addChangedFieldSerialization(serializeChangesBuilder, fieldHolder, getter, processedFields);
+                serializeChangesBuilder.endControlFlow();
+                snapshotValues.add(getter);
+            }
+        }
+
+        if (mJsonObjectHolder.hasParentClass()) {
+            serializeChangesBuilder.addStatement("$L.serialize(object, $L, false)", getParentMapper(), JSON_GENERATOR_VARIABLE_NAME);
+        }
+        builder.addMethod(serializeChangesBuilder.addStatement("$L.writeEndObject()", JSON_GENERATOR_VARIABLE_NAME).build());
+
+        StringBuilder snapshot = new StringBuilder();
+        for (String getter : snapshotValues) {
+            snapshot.append(snapshot.length() == 0 ? "" : ", ").append("$T.snapshotOf(").append(getter).append(")");
+        }
+        builder.addMethod(MethodSpec.methodBuilder("markClean")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                .addStatement("changeTracker.put(object, new Object[] {" + snapshot.toString() + "})", Collections.nCopies(snapshotValues.size(), ChangeTracker.class).toArray())
+                .build());
+    }
+
+    private void addChangedFieldSerialization(MethodSpec.Builder builder, JsonFieldHolder fieldHolder, String getter, List<String> processedFields) {
+        // Fields changed to null are written as null so that the change isn't lost
+        if (fieldHolder.type instanceof CollectionType) {
+            // Collection types don't write nulls themselves
+            builder.beginControlFlow("if ($L == null)", getter)
+                    .addStatement("$L.writeNullField($S)", JSON_GENERATOR_VARIABLE_NAME, fieldHolder.fieldName[0])
+                    .nextControlFlow("else");
+            fieldHolder.type.serialize(builder, 3, fieldHolder.fieldName[0], processedFields, getter, true, true, true, mJsonObjectHolder.serializeNullCollectionElements);
+            builder.endControlFlow();
+        } else {
+            fieldHolder.type.serialize(builder, 2, fieldHolder.fieldName[0], processedFields, getter, true, true, true, mJsonObjectHolder.serializeNullCollectionElements);
+        }
+    }
+
+    private void addDiffMethods(TypeSpec.Builder builder) {
+        TypeName objectTypeName = mJsonObjectHolder.objectTypeName;
+
+        MethodSpec.Builder diffBuilder = MethodSpec.methodBuilder("diffFields")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(objectTypeName, "before")
+                .addParameter(objectTypeName, "after")
+                .addParameter(JsonGenerator.class, JSON_GENERATOR_VARIABLE_NAME)
+                .addException(IOException.class);
+        if (!TextUtils.isEmpty(mJsonObjectHolder.preSerializeCallback)) {
+            diffBuilder.addStatement("after.$L()", mJsonObjectHolder.preSerializeCallback);
+        }
+
+        MethodSpec.Builder equalsBuilder = MethodSpec.methodBuilder("contentEquals")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(objectTypeName, "a")
+                .addParameter(objectTypeName, "b")
+                .addException(IOException.class)
+                .beginControlFlow("if (a == b)")
+                .addStatement("return true")
+                .nextControlFlow("else if (a == null || b == null)")
+                .addStatement("return false")
+                .endControlFlow();
+
+        MethodSpec.Builder patchBuilder = MethodSpec.methodBuilder("applyPatchField")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(objectTypeName, "target")
+                .addParameter(String.class, "fieldName")
+                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME)
+                .addException(IOException.class);
+        int patchedFields = 0;
+
+        List<String> processedFields = new ArrayList<>(mJsonObjectHolder.fieldMap.size());
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            JsonFieldHolder fieldHolder = entry.getValue();
+            if (!fieldHolder.shouldSerialize || fieldHolder.type == null) {
+                continue;
+            }
+
+            String getter = fieldHolder.hasGetter() ? fieldHolder.getterMethod + "()" : entry.getKey();
+            TypeName typeName = fieldHolder.type.getTypeName();
+            if (fieldHolder.type instanceof JsonFieldType) {
+                // Nested objects are patched rather than replaced, as long as they exist on both sides
+                String mapperName = ((JsonFieldType) fieldHolder.type).getMapperVariableName();
+                diffBuilder.beginControlFlow("if (!$L.contentEquals(before.$L, after.$L))", mapperName, getter, getter)
+                        .addStatement("$L.writeFieldName($S)", JSON_GENERATOR_VARIABLE_NAME, fieldHolder.fieldName[0])
+                        .addStatement("$L.diff(before.$L, after.$L, $L)", mapperName, getter, getter, JSON_GENERATOR_VARIABLE_NAME)
+                        .endControlFlow();
+                equalsBuilder.beginControlFlow("if (!$L.contentEquals(a.$L, b.$L))", mapperName, getter, getter);
+
+                if (fieldHolder.shouldParse) {
+                    beginPatchedFieldControlFlow(patchBuilder, fieldHolder, getter, patchedFields++);
+                    patchBuilder.addStatement("$L.applyPatch(target.$L, $L)", mapperName, getter, JSON_PARSER_VARIABLE_NAME);
+                }
+            } else {
+                if (typeName.isPrimitive()) {
+                    diffBuilder.beginControlFlow("if (before.$L != after.$L)", getter, getter);
+                    equalsBuilder.beginControlFlow("if (a.$L != b.$L)", getter, getter);
+                } else {
+                    beginContentDiffersControlFlow(diffBuilder, "", fieldHolder.type, "before." + getter, "after." + getter);
+                    beginContentDiffersControlFlow(equalsBuilder, "", fieldHolder.type, "a." + getter, "b." + getter);
+                }
+                if (fieldHolder.type instanceof MapCollectionType) {
+                    // Maps that exist on both sides are patched key by key, like nested objects
+                    MapCollectionType mapType = (MapCollectionType) fieldHolder.type;
+                    diffBuilder.beginControlFlow("if (before.$L != null && after.$L != null)", getter, getter)
+                            .addStatement("$L.writeFieldName($S)", JSON_GENERATOR_VARIABLE_NAME, fieldHolder.fieldName[0]);
+                    mapType.diffEntries(diffBuilder, 3, fieldHolder.fieldName[0], processedFields, "before." + getter, "after." + getter, mJsonObjectHolder.serializeNullCollectionElements);
+                    diffBuilder.nextControlFlow("else");
+                    addChangedFieldSerialization(diffBuilder, fieldHolder, "after." + getter, processedFields);
+                    diffBuilder.endControlFlow();
+
+                    if (fieldHolder.shouldParse) {
+                        beginPatchedFieldControlFlow(patchBuilder, fieldHolder, getter, patchedFields++);
+                        mapType.applyPatchEntries(patchBuilder, 1, "target." + getter);
+                    }
+                } else {
+                    addChangedFieldSerialization(diffBuilder, fieldHolder, "after." + getter, processedFields);
+                }
+                diffBuilder.endControlFlow();
+            }
+            equalsBuilder.addStatement("return false")
+                    .endControlFlow();
+        }
+
+        if (mJsonObjectHolder.hasParentClass()) {
+            diffBuilder.addStatement("$L.diffFields(before, after, $L)", getParentMapper(), JSON_GENERATOR_VARIABLE_NAME);
+            equalsBuilder.addStatement("return $L.contentEquals(a, b)", getParentMapper());
+        } else {
+            equalsBuilder.addStatement("return true");
+        }
+        builder.addMethod(diffBuilder.build());
+        builder.addMethod(equalsBuilder.build());
+
+        if (patchedFields > 0) {
+            builder.addMethod(patchBuilder.nextControlFlow("else")
+                    .addStatement("parseField(target, fieldName, $L)", JSON_PARSER_VARIABLE_NAME)
+                    .endControlFlow()
+                    .build());
+        }
+
+        // Streaming comparisons need to know every field a parsed object would have, and that nothing changes them after parsing
+        if (!mJsonObjectHolder.isAbstractClass && !mJsonObjectHolder.hasParentClass() && !mJsonObjectHolder.isUpdatable()
+                && !mJsonObjectHolder.inheritsFromParent && TextUtils.isEmpty(mJsonObjectHolder.onCompleteCallback)) {
+            builder.addMethod(getParseDiffersMethod());
+        }
+    }
+
+    private MethodSpec getParseDiffersMethod() {
+        TypeName objectTypeName = mJsonObjectHolder.objectTypeName;
+
+        List<Map.Entry<String, JsonFieldHolder>> parsedFields = new ArrayList<>();
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            if (entry.getValue().shouldParse && entry.getValue().type != null) {
+                parsedFields.add(entry);
+            }
+        }
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("parseDiffers")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(objectTypeName, "existing")
+                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME)
+                .addException(IOException.class)
+                .beginControlFlow("if ($L.getCurrentToken() == null)", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
+                .endControlFlow()
+                .beginControlFlow("if ($L.getCurrentToken() != $T.START_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("return existing != null")
+                .endControlFlow()
+                .beginControlFlow("if (existing == null)")
+                .addStatement("return true")
+                .endControlFlow();
+
+        // Fields missing from the document keep the values a new instance starts with, so seen fields are recorded in a bitmap
+        for (int i = 0; i < parsedFields.size(); i += 32) {
+            builder.addStatement("int $L = 0", getSeenVariableName(i));
+        }
+
+        builder.beginControlFlow("while ($L.nextToken() != $T.END_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("String fieldName = $L.getCurrentName()", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME);
+
+        for (int i = 0; i < parsedFields.size(); i++) {
+            JsonFieldHolder fieldHolder = parsedFields.get(i).getValue();
+            setFieldHolderJsonMapperVariableName(fieldHolder.type);
+
+            List<Object> args = new ArrayList<>();
+            StringBuilder ifStatement = new StringBuilder();
+            for (String fieldName : fieldHolder.fieldName) {
+                ifStatement.append(args.size() == 0 ? "" : " || ").append("$S.equals(fieldName)");
+                args.add(fieldName);
+            }
+            if (i == 0) {
+                builder.beginControlFlow("if (" + ifStatement.toString() + ")", args.toArray());
+            } else {
+                builder.nextControlFlow("else if (" + ifStatement.toString() + ")", args.toArray());
+            }
+
+            builder.addStatement("$L |= 1 << $L", getSeenVariableName(i), i % 32);
+            fieldHolder.type.parseDiffers(builder, 1, "existing." + getDiffGetter(parsedFields.get(i)));
+        }
+        if (parsedFields.size() > 0) {
+            builder.endControlFlow();
+        }
+
+        builder.addStatement("$L.skipChildren()", JSON_PARSER_VARIABLE_NAME)
+                .endControlFlow();
+
+        if (parsedFields.size() > 0) {
+            StringBuilder anyUnseen = new StringBuilder();
+            List<Object> anyUnseenArgs = new ArrayList<>();
+            for (int i = 0; i < parsedFields.size(); i += 32) {
+                int fieldsInWord = Math.min(32, parsedFields.size() - i);
+                anyUnseen.append(i == 0 ? "" : " || ").append("$L != $L");
+                anyUnseenArgs.add(getSeenVariableName(i));
+                anyUnseenArgs.add(fieldsInWord == 32 ? -1 : (1 << fieldsInWord) - 1);
+            }
+
+            builder.beginControlFlow("if (" + anyUnseen.toString() + ")", anyUnseenArgs.toArray())
+                    .addStatement("$T defaults = new $T()", objectTypeName, objectTypeName);
+            for (int i = 0; i < parsedFields.size(); i++) {
+                JsonFieldHolder fieldHolder = parsedFields.get(i).getValue();
+                String getter = getDiffGetter(parsedFields.get(i));
+
+                String unseen = "($L & 1 << $L) == 0";
+                if (fieldHolder.type.getTypeName().isPrimitive()) {
+                    builder.beginControlFlow("if (" + unseen + " && existing.$L != defaults.$L)", getSeenVariableName(i), i % 32, getter, getter);
+                } else {
+                    beginContentDiffersControlFlow(builder, unseen + " && ", fieldHolder.type, "existing." + getter, "defaults." + getter, getSeenVariableName(i), i % 32);
+                }
+                builder.addStatement("return true")
+                        .endControlFlow();
+            }
+            builder.endControlFlow();
+        }
+
+        return builder.addStatement("return false").build();
+    }
+
+    /** Starts the branch of applyPatchField() that patches a field in place when it exists and the patch holds an object. */
+    private void beginPatchedFieldControlFlow(MethodSpec.Builder builder, JsonFieldHolder fieldHolder, String getter, int patchedFieldIndex) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder ifStatement = new StringBuilder("(");
+        for (String fieldName : fieldHolder.fieldName) {
+            ifStatement.append(args.size() == 0 ? "" : " || ").append("$S.equals(fieldName)");
+            args.add(fieldName);
+        }
+        ifStatement.append(") && target.$L != null && $L.getCurrentToken() == $T.START_OBJECT");
+        Collections.addAll(args, getter, JSON_PARSER_VARIABLE_NAME, JsonToken.class);
+        if (patchedFieldIndex == 0) {
+            builder.beginControlFlow("if (" + ifStatement.toString() + ")", args.toArray());
+        } else {
+            builder.nextControlFlow("else if (" + ifStatement.toString() + ")", args.toArray());
+        }
+    }
+
+    private void beginContentDiffersControlFlow(MethodSpec.Builder builder, String prefix, Type type, String a, String b, Object... prefixArgs) {
+        StringBuilder condition = new StringBuilder(prefix);
+        List<Object> args = new ArrayList<>();
+        Collections.addAll(args, prefixArgs);
+        type.appendContentDiffersCondition(condition, args, a, b);
+        builder.beginControlFlow("if (" + condition.toString() + ")", args.toArray());
+    }
+
+    private String getDiffGetter(Map.Entry<String, JsonFieldHolder> entry) {
+        return entry.getValue().hasGetter() ? entry.getValue().getterMethod + "()" : entry.getKey();
+    }
+
+    private String getSeenVariableName(int fieldIndex) {
+        return "seen" + (fieldIndex / 32);
+    }
+
+    private void addBinaryCodecMethods(TypeSpec.Builder builder) {
+        // Fields are written in fieldMap order, so the fingerprint changes whenever a field is added, removed, renamed or retyped
+        List<Map.Entry<String, JsonFieldHolder>> binaryFields = new ArrayList<>();
+        StringBuilder schema = new StringBuilder(mJsonObjectHolder.objectTypeName.toString());
+        if (mJsonObjectHolder.hasParentClass()) {
+            schema.append(" extends ").append(mJsonObjectHolder.parentTypeName);
+        }
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            JsonFieldHolder fieldHolder = entry.getValue();
+            if (fieldHolder.shouldParse && fieldHolder.shouldSerialize && fieldHolder.type != null) {
+                setFieldHolderJsonMapperVariableName(fieldHolder.type);
+                binaryFields.add(entry);
+                schema.append(';').append(entry.getKey()).append(' ').append(fieldHolder.type.getTypeName());
+            }
+        }
+
+        builder.addMethod(MethodSpec.methodBuilder("getBinarySchemaFingerprint")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.INT)
+                .addStatement("return $L", schema.toString().hashCode())
+                .build());
+
+        MethodSpec.Builder writeFieldsBuilder = MethodSpec.methodBuilder("writeBinaryFields")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                .addParameter(DataOutput.class, BINARY_OUTPUT_VARIABLE_NAME)
+                .addException(IOException.class);
+
+        MethodSpec.Builder readFieldsBuilder = MethodSpec.methodBuilder("readBinaryFields")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mJsonObjectHolder.objectTypeName, "instance")
+                .addParameter(DataInput.class, BINARY_INPUT_VARIABLE_NAME)
+                .addException(IOException.class);
+
+        if (!TextUtils.isEmpty(mJsonObjectHolder.preSerializeCallback)) {
+            writeFieldsBuilder.addStatement("object.$L()", mJsonObjectHolder.preSerializeCallback);
+        }
+
+        // Nullable fields are only written if present, which is recorded in a bitmap of up to 32 fields per int
+        int nullableFieldCount = 0;
+        for (Map.Entry<String, JsonFieldHolder> entry : binaryFields) {
+            if (!entry.getValue().type.getTypeName().isPrimitive()) {
+                nullableFieldCount++;
+            }
+        }
+        for (int i = 0; i < nullableFieldCount; i += 32) {
+            writeFieldsBuilder.addStatement("int $L = 0", getPresenceVariableName(i));
+            readFieldsBuilder.addStatement("int $L = $T.readUnsignedVarInt($L)", getPresenceVariableName(i), BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME);
+        }
+
+        int nullableFieldIndex = 0;
+        for (Map.Entry<String, JsonFieldHolder> entry : binaryFields) {
+            if (!entry.getValue().type.getTypeName().isPrimitive()) {
+                writeFieldsBuilder.beginControlFlow("if ($L != null)", getBinaryGetter(entry))
+                        .addStatement("$L |= 1 << $L", getPresenceVariableName(nullableFieldIndex), nullableFieldIndex % 32)
+                        .endControlFlow();
+                nullableFieldIndex++;
+            }
+        }
+        for (int i = 0; i < nullableFieldCount; i += 32) {
+            writeFieldsBuilder.addStatement("$T.writeUnsignedVarInt($L, $L)", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, getPresenceVariableName(i));
+        }
+
+        nullableFieldIndex = 0;
+        for (Map.Entry<String, JsonFieldHolder> entry : binaryFields) {
+            JsonFieldHolder fieldHolder = entry.getValue();
+
+            String setter;
+            Object[] stringFormatArgs;
+            if (fieldHolder.hasSetter()) {
+                setter = "instance.$L($L)";
+                stringFormatArgs = new Object[]{fieldHolder.setterMethod};
+            } else {
+                setter = "instance.$L = $L";
+                stringFormatArgs = new Object[]{entry.getKey()};
+            }
+
+            if (fieldHolder.type.getTypeName().isPrimitive()) {
+                fieldHolder.type.writeBinary(writeFieldsBuilder, 1, getBinaryGetter(entry));
+                fieldHolder.type.readBinary(readFieldsBuilder, 1, setter, stringFormatArgs);
+            } else {
+                String presenceCheck = "if (($L & 1 << $L) != 0)";
+                String presenceVariableName = getPresenceVariableName(nullableFieldIndex);
+                int presenceBit = nullableFieldIndex % 32;
+
+                writeFieldsBuilder.beginControlFlow(presenceCheck, presenceVariableName, presenceBit);
+                fieldHolder.type.writeBinary(writeFieldsBuilder, 1, getBinaryGetter(entry));
+                writeFieldsBuilder.endControlFlow();
+
+                readFieldsBuilder.beginControlFlow(presenceCheck, presenceVariableName, presenceBit);
+                fieldHolder.type.readBinary(readFieldsBuilder, 1, setter, stringFormatArgs);
+                readFieldsBuilder.nextControlFlow("else")
+                        .addStatement(setter, expandArgs(stringFormatArgs, "null"))
+                        .endControlFlow();
+
+                nullableFieldIndex++;
+            }
+        }
+
+        if (mJsonObjectHolder.hasParentClass()) {
+            writeFieldsBuilder.addStatement("$L.writeBinaryFields(object, $L)", getParentMapper(), BINARY_OUTPUT_VARIABLE_NAME);
+            readFieldsBuilder.addStatement("$L.readBinaryFields(instance, $L)", getParentMapper(), BINARY_INPUT_VARIABLE_NAME);
+        }
+
+        builder.addMethod(writeFieldsBuilder.build());
+        builder.addMethod(readFieldsBuilder.build());
+
+        // Abstract classes can't be instantiated, so they keep the JSON fallback for whole objects just like parse() does
+        if (!mJsonObjectHolder.isAbstractClass) {
+            builder.addMethod(MethodSpec.methodBuilder("writeBinaryBody")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                    .addParameter(DataOutput.class, BINARY_OUTPUT_VARIABLE_NAME)
+                    .addException(IOException.class)
+                    .addStatement("writeBinaryFields(object, $L)", BINARY_OUTPUT_VARIABLE_NAME)
+                    .build());
+
+            MethodSpec.Builder readBodyBuilder = MethodSpec.methodBuilder("readBinaryBody")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(mJsonObjectHolder.objectTypeName)
+                    .addParameter(DataInput.class, BINARY_INPUT_VARIABLE_NAME)
+                    .addException(IOException.class)
+                    .addStatement("$T instance = new $T()", mJsonObjectHolder.objectTypeName, mJsonObjectHolder.objectTypeName)
+                    .addStatement("readBinaryFields(instance, $L)", BINARY_INPUT_VARIABLE_NAME);
+            if (!TextUtils.isEmpty(mJsonObjectHolder.onCompleteCallback)) {
+                readBodyBuilder.addStatement("instance.$L()", mJsonObjectHolder.onCompleteCallback);
+            }
+            builder.addMethod(readBodyBuilder.addStatement("return instance").build());
+        }
+    }
+
+    private void addCopyMethods(TypeSpec.Builder builder) {
+        MethodSpec.Builder copyFieldsBuilder = MethodSpec.methodBuilder("copyFields")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                .addParameter(mJsonObjectHolder.objectTypeName, "instance")
+                .addException(IOException.class);
+
+        if (!TextUtils.isEmpty(mJsonObjectHolder.preSerializeCallback)) {
+            copyFieldsBuilder.addStatement("object.$L()", mJsonObjectHolder.preSerializeCallback);
+        }
+
+        // Only fields that would survive serializing and parsing are copied, so copies match what parse(serialize()) returned
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            JsonFieldHolder fieldHolder = entry.getValue();
+            if (!fieldHolder.shouldParse || !fieldHolder.shouldSerialize || fieldHolder.type == null) {
+                continue;
+            }
+            setFieldHolderJsonMapperVariableName(fieldHolder.type);
+
+            String setter;
+            Object[] stringFormatArgs;
+            if (fieldHolder.hasSetter()) {
+                setter = "instance.$L($L)";
+                stringFormatArgs = new Object[]{fieldHolder.setterMethod};
+            } else {
+                setter = "instance.$L = $L";
+                stringFormatArgs = new Object[]{entry.getKey()};
+            }
+
+            String getter = getBinaryGetter(entry);
+            if (fieldHolder.type.getTypeName().isPrimitive()) {
+                fieldHolder.type.copy(copyFieldsBuilder, 1, getter, setter, stringFormatArgs);
+            } else {
+                copyFieldsBuilder.beginControlFlow("if ($L != null)", getter);
+                fieldHolder.type.copy(copyFieldsBuilder, 1, getter, setter, stringFormatArgs);
+                copyFieldsBuilder.nextControlFlow("else")
+                        .addStatement(setter, expandArgs(stringFormatArgs, "null"))
+                        .endControlFlow();
+            }
+        }
+
+        if (mJsonObjectHolder.hasParentClass()) {
+            copyFieldsBuilder.addStatement("$L.copyFields(object, instance)", getParentMapper());
+        }
+        builder.addMethod(copyFieldsBuilder.build());
+
+        // Abstract classes can't be instantiated, so whole objects are still copied through JSON, just like parse() does
+        if (!mJsonObjectHolder.isAbstractClass) {
+            MethodSpec.Builder copyBuilder = MethodSpec.methodBuilder("copy")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(mJsonObjectHolder.objectTypeName)
+                    .addParameter(mJsonObjectHolder.objectTypeName, "object")
+                    .addException(IOException.class)
+                    .beginControlFlow("if (object == null)")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("$T instance = new $T()", mJsonObjectHolder.objectTypeName, mJsonObjectHolder.objectTypeName)
+                    .addStatement("copyFields(object, instance)");
+            if (!TextUtils.isEmpty(mJsonObjectHolder.onCompleteCallback)) {
+                copyBuilder.addStatement("instance.$L()", mJsonObjectHolder.onCompleteCallback);
+            }
+            builder.addMethod(copyBuilder.addStatement("return instance").build());
+        }
+    }
+
+    private String getBinaryGetter(Map.Entry<String, JsonFieldHolder> entry) {
+        if (entry.getValue().hasGetter()) {
+            return "object." + entry.getValue().getterMethod + "()";
+        } else {
+            return "object." + entry.getKey();
+        }
+    }
+
+    private String getPresenceVariableName(int nullableFieldIndex) {
+        return "presence" + (nullableFieldIndex / 32);
+    }
+
+    private Object[] expandArgs(Object[] args, Object lastArg) {
+        Object[] expanded = new Object[args.length + 1];
+        System.arraycopy(args, 0, expanded, 0, args.length);
+        expanded[args.length] = lastArg;
+        return expanded;
+    }
+
     private void addUpdateFieldFlags(TypeSpec.Builder builder) {
         TypeSpec.Builder holderBuilder = TypeSpec.classBuilder("DataHolder")
                 .addModifiers(Modifier.PUBLIC)
                 .addModifiers(Modifier.STATIC);
+        for (int i = 0; i < getFieldsSetWordCount(); i++) {
+            holderBuilder.addField(FieldSpec.builder(TypeName.LONG, getFieldsSetName(i), Modifier.PRIVATE).build());
+        }
         for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
-            String key = entry.getKey();
             JsonFieldHolder holder = entry.getValue();
-            if (holder.shouldParse) {
-                holderBuilder.addField(FieldSpec.builder(TypeName.BOOLEAN, getIsFieldSetName(key), Modifier.PRIVATE).build());
-                if (holder.inherits) {
-                    holderBuilder.addField(Object.class, getDataHolderName(key));
-                }
+            if (holder.shouldParse && holder.inherits) {
+                holderBuilder.addField(Object.class, getDataHolderName(entry.getKey()));
             }
         }
         TypeSpec dataHolderTypeSpec = holderBuilder.build();
         builder.addType(dataHolderTypeSpec);
     }
 
-    private String getIsFieldSetName(String name) {
-        if (name.length() > 0) {
-            name = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    private boolean isBatchUpdatable() {
+        // Objects inheriting fields from their parent are merged by their parent's mapper, one at a time
+        return !TextUtils.isEmpty(mJsonObjectHolder.getObjectsByKeysCallback) && !mJsonObjectHolder.inheritsFromParent && !mJsonObjectHolder.isAbstractClass;
+    }
+
+    private void addBatchParseMethods(TypeSpec.Builder builder) {
+        TypeName objectTypeName = mJsonObjectHolder.objectTypeName;
+        TypeName listTypeName = ParameterizedTypeName.get(ClassName.get(List.class), objectTypeName);
+        TypeName dataHolderListTypeName = ParameterizedTypeName.get(ClassName.get(List.class), getDataHolderTypeName());
+        TypeName keyTypeName = getKeyTypeName();
+
+        builder.addMethod(getParseMethod(true, true, true));
+
+        MethodSpec.Builder mergeBuilder = MethodSpec.methodBuilder("mergeDeferred")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(listTypeName, "instances")
+                .addParameter(dataHolderListTypeName, "dataHolders")
+                .addException(IOException.class)
+                .addStatement("$T<$T> keys = new $T<$T>(instances.size())", List.class, keyTypeName, ArrayList.class, keyTypeName);
+        if (mJsonObjectHolder.keyCacheSize > 0) {
+            // Only keys missing from the cache are passed to the lookup method
+            mergeBuilder.addStatement("$T<$T, $T> sourceInstances = new $T<$T, $T>()", Map.class, keyTypeName, objectTypeName, HashMap.class, keyTypeName, objectTypeName)
+                    .beginControlFlow("for ($T instance : instances)", objectTypeName)
+                    .beginControlFlow("if (instance != null)")
+                    .addStatement("$T cachedInstance = sourceInstanceCache.get($L)", objectTypeName, getKeyGetter())
+                    .beginControlFlow("if (cachedInstance != null)")
+                    .addStatement("sourceInstances.put($L, cachedInstance)", getKeyGetter())
+                    .nextControlFlow("else")
+                    .addStatement("keys.add($L)", getKeyGetter())
+                    .endControlFlow()
+                    .endControlFlow()
+                    .endControlFlow()
+                    .beginControlFlow("if (keys.size() > 0)")
+                    .addStatement("$T<$T, $T> loadedInstances = $T.$L(keys)", Map.class, keyTypeName, objectTypeName,
+                            getRawObjectTypeName(), mJsonObjectHolder.getObjectsByKeysCallback)
+                    .beginControlFlow("if (loadedInstances != null)")
+                    .beginControlFlow("for ($T<$T, $T> entry : loadedInstances.entrySet())", Map.Entry.class, keyTypeName, objectTypeName)
+                    .beginControlFlow("if (entry.getValue() != null)")
+                    .addStatement("sourceInstanceCache.put(entry.getKey(), entry.getValue())")
+                    .addStatement("sourceInstances.put(entry.getKey(), entry.getValue())")
+                    .endControlFlow()
+                    .endControlFlow()
+                    .endControlFlow()
+                    .endControlFlow();
+        } else {
+            mergeBuilder.beginControlFlow("for ($T instance : instances)", objectTypeName)
+                    .beginControlFlow("if (instance != null)")
+                    .addStatement("keys.add($L)", getKeyGetter())
+                    .endControlFlow()
+                    .endControlFlow()
+                    .addStatement("$T<$T, $T> sourceInstances = keys.size() > 0 ? $T.$L(keys) : null", Map.class, keyTypeName, objectTypeName,
+                            getRawObjectTypeName(), mJsonObjectHolder.getObjectsByKeysCallback);
+        }
+        mergeBuilder.beginControlFlow("for (int i = 0; i < instances.size(); i++)")
+                .addStatement("$T instance = instances.get(i)", objectTypeName)
+                .beginControlFlow("if (instance == null)")
+                .addStatement("continue")
+                .endControlFlow()
+                .addStatement("DataHolder dataHolder = dataHolders.get(i)");
+        for (int i = 0; i < getFieldsSetWordCount(); i++) {
+            mergeBuilder.addStatement("long $L = dataHolder.$L", getFieldsSetName(i), getFieldsSetName(i));
+        }
+        mergeBuilder.addStatement("$T sourceInstance = sourceInstances != null ? sourceInstances.get($L) : null", objectTypeName, getKeyGetter());
+        addMergeStatements(mergeBuilder, true, false);
+        mergeBuilder.endControlFlow();
+        builder.addMethod(mergeBuilder.build());
+
+        builder.addMethod(MethodSpec.methodBuilder("parseList")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(listTypeName)
+                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME)
+                .addException(IOException.class)
+                .addStatement("$T list = new $T<$T>()", listTypeName, ArrayList.class, objectTypeName)
+                .addStatement("$T dataHolders = new $T<DataHolder>()", dataHolderListTypeName, ArrayList.class)
+                .beginControlFlow("if ($L.getCurrentToken() == $T.START_ARRAY)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .beginControlFlow("while ($L.nextToken() != $T.END_ARRAY)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("DataHolder dataHolder = new DataHolder()")
+                .addStatement("list.add(parseDeferred($L, dataHolder))", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("dataHolders.add(dataHolder)")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("mergeDeferred(list, dataHolders)")
+                .addStatement("return list")
+                .build());
+
+        TypeName mapTypeName = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), objectTypeName);
+        builder.addMethod(MethodSpec.methodBuilder("parseMap")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(mapTypeName)
+                .addParameter(JsonParser.class, JSON_PARSER_VARIABLE_NAME)
+                .addException(IOException.class)
+                .addStatement("$T map = new $T<$T, $T>()", mapTypeName, HashMap.class, String.class, objectTypeName)
+                .addStatement("$T instances = new $T<$T>()", listTypeName, ArrayList.class, objectTypeName)
+                .addStatement("$T dataHolders = new $T<DataHolder>()", dataHolderListTypeName, ArrayList.class)
+                .beginControlFlow("while ($L.nextToken() != $T.END_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("String key = $L.getCurrentName()", JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
+                .beginControlFlow("if ($L.getCurrentToken() == $T.VALUE_NULL)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("map.put(key, null)")
+                .nextControlFlow("else")
+                .addStatement("DataHolder dataHolder = new DataHolder()")
+                .addStatement("$T instance = parseDeferred($L, dataHolder)", objectTypeName, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("map.put(key, instance)")
+                .addStatement("instances.add(instance)")
+                .addStatement("dataHolders.add(dataHolder)")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("mergeDeferred(instances, dataHolders)")
+                .addStatement("return map")
+                .build());
+    }
+
+    private void addSourceInstanceCache(TypeSpec.Builder builder) {
+        TypeName cacheTypeName = ParameterizedTypeName.get(ClassName.get(SourceInstanceCache.class), getKeyTypeName(), mJsonObjectHolder.objectTypeName);
+        builder.addField(FieldSpec.builder(cacheTypeName, "sourceInstanceCache", Modifier.PRIVATE, Modifier.FINAL)
+                .initializer("new $T($L)", cacheTypeName, mJsonObjectHolder.keyCacheSize)
+                .build());
+    }
+
+    private void addSourceInstanceCacheMethods(TypeSpec.Builder builder) {
+        builder.addMethod(MethodSpec.methodBuilder("invalidateSourceInstance")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(TypeName.OBJECT, "key")
+                .addStatement("sourceInstanceCache.remove(($T)key)", getKeyTypeName())
+                .build());
+        builder.addMethod(MethodSpec.methodBuilder("invalidateSourceInstances")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("sourceInstanceCache.clear()")
+                .build());
+    }
+
+    private boolean isCanonicalized() {
+        // Parent mappers own the parent's fields, so they can't be compared here
+        return mJsonObjectHolder.canonicalizeByKey && !mJsonObjectHolder.isUpdatable() && !mJsonObjectHolder.inheritsFromParent
+                && !mJsonObjectHolder.isAbstractClass && !mJsonObjectHolder.hasParentClass();
+    }
+
+    private void addCanonicalizeMethods(TypeSpec.Builder builder) {
+        TypeName objectTypeName = mJsonObjectHolder.objectTypeName;
+        String key = getKeyGetter();
+
+        MethodSpec.Builder canonicalizeBuilder = MethodSpec.methodBuilder("canonicalize")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(objectTypeName)
+                .addParameter(objectTypeName, "instance")
+                .addException(IOException.class);
+        if (!getKeyField().type.getTypeName().isPrimitive()) {
+            canonicalizeBuilder.beginControlFlow("if ($L == null)", key)
+                    .addStatement("return instance")
+                    .endControlFlow();
+        }
+        builder.addMethod(canonicalizeBuilder
+                .addStatement("$T canonicalInstance = canonicalInstances.get($L)", objectTypeName, key)
+                .beginControlFlow("if (canonicalInstance != null && hasSameContent(canonicalInstance, instance))")
+                .addStatement("return canonicalInstance")
+                .endControlFlow()
+                .addStatement("canonicalInstances.put($L, instance)", key)
+                .addStatement("return instance")
+                .build());
+
+        MethodSpec.Builder sameContentBuilder = MethodSpec.methodBuilder("hasSameContent")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(TypeName.BOOLEAN)
+                .addParameter(objectTypeName, "a")
+                .addParameter(objectTypeName, "b")
+                .addException(IOException.class);
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            JsonFieldHolder fieldHolder = entry.getValue();
+            if (!fieldHolder.shouldParse || fieldHolder.type == null) {
+                continue;
+            }
+
+            String getter = fieldHolder.hasGetter() ? fieldHolder.getterMethod + "()" : entry.getKey();
+            TypeName typeName = fieldHolder.type.getTypeName();
+            if (typeName.isPrimitive()) {
+                sameContentBuilder.beginControlFlow("if (a.$L != b.$L)", getter, getter);
+            } else if (fieldHolder.type instanceof JsonFieldType || fieldHolder.type.getContentMapperVariableName() != null) {
+                // Nested objects are compared through their mapper, since generated models don't implement equals()
+                beginContentDiffersControlFlow(sameContentBuilder, "a.$L != b.$L && ", fieldHolder.type, "a." + getter, "b." + getter, getter, getter);
+            } else if (typeName instanceof ArrayTypeName) {
+                sameContentBuilder.beginControlFlow("if (!$T.equals(a.$L, b.$L))", Arrays.class, getter, getter);
+            } else {
+                // Nested canonicalized objects are usually the same instance, so check that before calling equals()
+                sameContentBuilder.beginControlFlow("if (a.$L != b.$L && (a.$L == null || !a.$L.equals(b.$L)))", getter, getter, getter, getter, getter);
+            }
+            sameContentBuilder.addStatement("return false")
+                    .endControlFlow();
+        }
+        builder.addMethod(sameContentBuilder.addStatement("return true").build());
+
+        builder.addMethod(MethodSpec.methodBuilder("clearCanonicalInstances")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("canonicalInstances.clear()")
+                .build());
+    }
+
+    private JsonFieldHolder getKeyField() {
+        for (JsonFieldHolder holder : mJsonObjectHolder.fieldMap.values()) {
+            if (holder.isKey()) {
+                return holder;
+            }
+        }
+        throw new RuntimeException("Missing @JsonField with @JsonKey annotation for getByKey() method");
+    }
+
+    private String getKeyGetter() {
+        for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
+            JsonFieldHolder holder = entry.getValue();
+            if (holder.isKey()) {
+                return holder.hasGetter() ? "instance." + holder.getterMethod + "()" : "instance." + entry.getKey();
+            }
+        }
+        throw new RuntimeException("Missing @JsonField with @JsonKey annotation for getByKey() method");
+    }
+
+    private TypeName getKeyTypeName() {
+        return getKeyField().type.getTypeName().box();
+    }
+
+    private TypeName getRawObjectTypeName() {
+        TypeName objectTypeName = mJsonObjectHolder.objectTypeName;
+        return objectTypeName instanceof ParameterizedTypeName ? ((ParameterizedTypeName) objectTypeName).rawType : objectTypeName;
+    }
+
+    private ClassName getDataHolderTypeName() {
+        return ClassName.get(mJsonObjectHolder.packageName, mJsonObjectHolder.injectedClassName, "DataHolder");
+    }
+
+    private int getFieldsSetWordCount() {
+        int trackedFieldCount = 0;
+        for (JsonFieldHolder holder : mJsonObjectHolder.fieldMap.values()) {
+            if (holder.shouldParse) {
+                trackedFieldCount++;
+            }
         }
-        return "is" + name + "Set";
+        return Math.max(1, (trackedFieldCount + 63) / 64);
+    }
+
+    private String getFieldsSetName(int word) {
+        return "fieldsSet" + word;
+    }
+
+    private List<String> getInheritingFieldNames() {
+        List<String> fieldNames = new ArrayList<>();
+        for (JsonFieldHolder holder : mJsonObjectHolder.fieldMap.values()) {
+            if (holder.shouldParse && holder.inherits) {
+                Collections.addAll(fieldNames, holder.fieldName);
+            }
+        }
+        return fieldNames;
     }
 
     private String getDataHolderName(String name) {
         return name + "DataHolder";
     }
 
-    private int addParseFieldLines(MethodSpec.Builder builder, boolean isUpdatable) {
-        int entryCount = 0;
+    private List<FieldCode> getParseFieldCodes(boolean isUpdatable) {
+        List<FieldCode> fieldCodes = new ArrayList<>();
         for (Map.Entry<String, JsonFieldHolder> entry : mJsonObjectHolder.fieldMap.entrySet()) {
             JsonFieldHolder fieldHolder = entry.getValue();
 
@@ -470,12 +1578,6 @@ public class ObjectMapperInjector {
                     args.add(fieldName);
                 }
 
-                if (entryCount == 0) {
-                    builder.beginControlFlow("if (" + ifStatement.toString() + ")", args.toArray(new Object[args.size()]));
-                } else {
-                    builder.nextControlFlow("else if (" + ifStatement.toString() + ")", args.toArray(new Object[args.size()]));
-                }
-
                 String setter;
                 Object[] stringFormatArgs;
                 if (fieldHolder.hasSetter()) {
@@ -486,6 +1588,7 @@ public class ObjectMapperInjector {
                     stringFormatArgs = new Object[]{entry.getKey()};
                 }
 
+                MethodSpec.Builder builder = MethodSpec.methodBuilder(entry.getKey());
                 if (fieldHolder.type != null) {
                     setFieldHolderJsonMapperVariableName(fieldHolder.type);
                     if (fieldHolder.inherits && isUpdatable) {
@@ -497,14 +1600,14 @@ public class ObjectMapperInjector {
                         fieldHolder.type.parse(builder, 1, setter, stringFormatArgs);
                     }
                     if (isUpdatable) {
-                        builder.addStatement("dataHolder." + getIsFieldSetName(entry.getKey()) + " = true");
+                        builder.addStatement("return $L", fieldCodes.size());
                     }
                 }
 
-                entryCount++;
+                fieldCodes.add(new FieldCode(ifStatement.toString(), args.toArray(new Object[args.size()]), builder.build().code));
             }
         }
-        return entryCount;
+        return fieldCodes;
     }
 
     private void addUsedJsonMapperVariables(TypeSpec.Builder builder) {
@@ -516,13 +1619,102 @@ public class ObjectMapperInjector {
             }
             usedJsonObjectMappers.addAll(holder.type.getUsedJsonObjectMappers());
         }
+        for (ClassName subtype : mJsonObjectHolder.subtypes.values()) {
+            usedJsonObjectMappers.add(new ClassNameObjectMapper(subtype, subtype.toString() + Constants.MAPPER_CLASS_SUFFIX, TypeUtils.getInjectedClassName(subtype)));
+        }
 
         for (ClassNameObjectMapper usedJsonObjectMapper : usedJsonObjectMappers) {
-            builder.addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(JsonMapper.class), usedJsonObjectMapper.className), getMapperVariableName(usedJsonObjectMapper.objectMapper))
-                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
-                    .initializer("$T.mapperFor($T.class)", LoganSquare.class, usedJsonObjectMapper.className)
-                    .build()
-            );
+            builder.addType(getMapperHolder(getMapperHolderName(usedJsonObjectMapper.objectMapper), usedJsonObjectMapper.className, usedJsonObjectMapper.generatedMapper));
+        }
+    }
+
+    /**
+     * Returns the holder of the mapper for the given class. When the class has a generated mapper and direct mapper calls
+     * are on, the holder keeps it as that final class instead of as a JsonMapper. Calls through it are then bound to
+     * exactly one implementation, so they stay inlinable no matter how many other mappers share JsonMapper's call sites.
+     */
+    private TypeSpec getMapperHolder(String holderName, ClassName className, ClassName generatedMapper) {
+        if (mJsonObjectHolder.directMapperCalls && generatedMapper != null) {
+            return getMapperHolder(holderName, generatedMapper, "($T) $T.mapperFor($T.class)", generatedMapper, LoganSquare.class, className);
+        } else {
+            return getMapperHolder(holderName, ParameterizedTypeName.get(ClassName.get(JsonMapper.class), className), "$T.mapperFor($T.class)", LoganSquare.class, className);
+        }
+    }
+
+    /**
+     * Mappers of other classes are kept in holder classes, which the JVM only initializes the first time they're used.
+     * Loading one mapper therefore doesn't load every mapper it could reach, and since mapper classes no longer
+     * initialize each other, warming up mutually referencing mappers from several threads can't deadlock.
+     */
+    private static TypeSpec getMapperHolder(String holderName, TypeName mapperTypeName, String initializerFormat, Object... initializerArgs) {
+        return TypeSpec.classBuilder(holderName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addField(FieldSpec.builder(mapperTypeName, MAPPER_HOLDER_FIELD_NAME, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(initializerFormat, initializerArgs)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Returns the format of a ParameterizedType.of() call describing the given type and appends its arguments to args.
+     * Unlike "new ParameterizedType<T>() { }", this doesn't add an anonymous class to the generated code for every
+     * token, and since tokens are compared by the types they describe, both kinds share the same cached mappers.
+     */
+    private static String getTypeToken(TypeName typeName, List<Object> args) {
+        args.add(ParameterizedType.class);
+        args.add(typeName.box());
+        return "$T.<$T>" + getTypeTokenArguments(typeName, args);
+    }
+
+    private static String getTypeTokenArguments(TypeName typeName, List<Object> args) {
+        // Type variables, wildcards and arrays are reduced to their erasure, just like ParameterizedType does for reflected types
+        StringBuilder format = new StringBuilder("of($T.class");
+        if (typeName instanceof ParameterizedTypeName) {
+            args.add(((ParameterizedTypeName)typeName).rawType);
+            for (TypeName typeArgument : ((ParameterizedTypeName)typeName).typeArguments) {
+                args.add(ParameterizedType.class);
+                format.append(", $T.").append(getTypeTokenArguments(typeArgument, args));
+            }
+        } else if (typeName instanceof TypeVariableName) {
+            args.add(Object.class);
+        } else if (typeName instanceof WildcardTypeName) {
+            args.add(getErasure(((WildcardTypeName)typeName).upperBounds.get(0)));
+        } else {
+            args.add(getErasure(typeName));
+        }
+        return format.append(")").toString();
+    }
+
+    private static TypeName getErasure(TypeName typeName) {
+        if (typeName instanceof ParameterizedTypeName) {
+            return ((ParameterizedTypeName)typeName).rawType;
+        } else if (typeName instanceof TypeVariableName || typeName instanceof WildcardTypeName) {
+            return ClassName.get(Object.class);
+        } else if (typeName instanceof ArrayTypeName) {
+            return ArrayTypeName.of(getErasure(((ArrayTypeName)typeName).componentType));
+        } else {
+            return typeName;
+        }
+    }
+
+    private String getParentMapper() {
+        if (mJsonObjectHolder.specializedParentMapper != null || mJsonObjectHolder.parentTypeParameters.size() == 0) {
+            return PARENT_OBJECT_MAPPER_HOLDER_NAME + "." + MAPPER_HOLDER_FIELD_NAME;
+        } else {
+            return PARENT_OBJECT_MAPPER_VARIABLE_NAME;
+        }
+    }
+
+    private void addUsedSpecializedMapperVariables(TypeSpec.Builder builder) {
+        Set<ClassName> usedSpecializedMappers = new HashSet<>();
+
+        for (JsonFieldHolder holder : mJsonObjectHolder.fieldMap.values()) {
+            usedSpecializedMappers.addAll(holder.type.getUsedSpecializedMappers());
+        }
+
+        // Specialized mappers are stateless, so each class can safely create its own instance
+        for (ClassName usedSpecializedMapper : usedSpecializedMappers) {
+            builder.addType(getMapperHolder(getMapperHolderName(usedSpecializedMapper.toString()), usedSpecializedMapper, "new $T()", usedSpecializedMapper));
         }
     }
 
@@ -581,12 +1773,66 @@ public class ObjectMapperInjector {
         return getMapperVariableName(cls.getCanonicalName());
     }
 
+    /** Returns the expression generated code uses to reach the mapper with the given class name. */
     public static String getMapperVariableName(String fullyQualifiedClassName) {
-        return fullyQualifiedClassName.replaceAll("\\.", "_").replaceAll("\\$", "_").toUpperCase();
+        return getMapperHolderName(fullyQualifiedClassName) + "." + MAPPER_HOLDER_FIELD_NAME;
+    }
+
+    /**
+     * Returns the name of the holder class for the mapper with the given class name. Dots become underscores. Since an
+     * identifier can't start with a digit, underscores, dollar signs and any other characters are escaped as an
+     * underscore followed by a digit, so that ie: t.Foo.Bar, t.FooBar and t.Foo_Bar always get different holders.
+     */
+    public static String getMapperHolderName(String fullyQualifiedClassName) {
+        String suffix = "_0Holder";
+        if (fullyQualifiedClassName.endsWith(Constants.MAPPER_CLASS_SUFFIX)) {
+            fullyQualifiedClassName = fullyQualifiedClassName.substring(0, fullyQualifiedClassName.length() - Constants.MAPPER_CLASS_SUFFIX.length());
+            suffix = "MapperHolder";
+        }
+
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < fullyQualifiedClassName.length(); i++) {
+            char c = fullyQualifiedClassName.charAt(i);
+            if (c == '.') {
+                name.append('_');
+            } else if (c == '_') {
+                name.append("_1");
+            } else if (c == '$') {
+                name.append("_2");
+            } else if (Character.isJavaIdentifierPart(c)) {
+                name.append(c);
+            } else {
+                name.append(String.format("_3%04x", (int)c));
+            }
+        }
+        return name.append(suffix).toString();
     }
 
     public static String getTypeConverterGetter(TypeName typeName) {
         return "get" + getTypeConverterVariableName(typeName);
     }
 
+    /** The code generated to parse or serialize a single field, along with a rough estimate of its bytecode size. */
+    private static class FieldCode {
+        final String condition;
+        final Object[] conditionArgs;
+        final CodeBlock code;
+        final int estimatedSize;
+
+        FieldCode(String condition, Object[] conditionArgs, CodeBlock code) {
+            this.condition = condition;
+            this.conditionArgs = conditionArgs;
+            this.code = code;
+
+            int lines = conditionArgs != null ? conditionArgs.length : 0;
+            for (String line : code.toString().split("\n")) {
+                String trimmed = line.trim();
+                if (trimmed.length() > 0 && !trimmed.equals("}")) {
+                    lines++;
+                }
+            }
+            estimatedSize = lines * ESTIMATED_BYTES_PER_LINE;
+        }
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.bluelinelabs.logansquare.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.Messager;
+
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+/**
+ * Collects how long each processing step and each class took during a round, so that it can be reported through the
+ * Messager when the logansquare.timings option is set. Does nothing otherwise.
+ */
+public class ProcessingTimings {
+
+    private final boolean mEnabled;
+    private final Map<String, Long> mStepTimes = new LinkedHashMap<>();
+    private final Map<String, Long> mClassTimes = new LinkedHashMap<>();
+
+    public ProcessingTimings(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public long start() {
+        return mEnabled ? System.nanoTime() : 0;
+    }
+
+    public void addStepTime(String step, long startNanos) {
+        if (mEnabled) {
+            add(mStepTimes, step, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void addClassTime(String className, long startNanos) {
+        if (mEnabled) {
+            add(mClassTimes, className, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static void add(Map<String, Long> times, String key, long nanos) {
+        Long total = times.get(key);
+        times.put(key, total != null ? total + nanos : nanos);
+    }
+
+    /** Prints the times collected since the last report, with the slowest classes first, and starts over. */
+    public void report(Messager messager) {
+        if (!mEnabled || mClassTimes.isEmpty()) {
+            return;
+        }
+
+        long total = 0;
+        for (long nanos : mStepTimes.values()) {
+            total += nanos;
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.US, "LoganSquare processed %d classes in %s", mClassTimes.size(), format(total)));
+        for (Map.Entry<String, Long> entry : mStepTimes.entrySet()) {
+            report.append(String.format(Locale.US, "\n  %s: %s", entry.getKey(), format(entry.getValue())));
+        }
+
+        List<Map.Entry<String, Long>> classTimes = new ArrayList<>(mClassTimes.entrySet());
+        Collections.sort(classTimes, new Comparator<Map.Entry<String, Long>>() {
+            @Override
+            public int compare(Map.Entry<String, Long> lhs, Map.Entry<String, Long> rhs) {
+                return rhs.getValue().compareTo(lhs.getValue());
+            }
+        });
+        report.append("\nTime per class:");
+        for (Map.Entry<String, Long> entry : classTimes) {
+            report.append(String.format(Locale.US, "\n  %s: %s", entry.getKey(), format(entry.getValue())));
+        }
+
+        messager.printMessage(NOTE, report.toString());
+
+        mStepTimes.clear();
+        mClassTimes.clear();
+    }
+
+    private static String format(long nanos) {
+        return String.format(Locale.US, "%.2f ms", nanos / 1000000.0);
+    }
+}
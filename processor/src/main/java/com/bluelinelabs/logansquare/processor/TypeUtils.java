@@ -2,6 +2,7 @@ package com.bluelinelabs.logansquare.processor;
 
 import com.bluelinelabs.logansquare.Constants;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
 
 import java.util.List;
 
@@ -22,6 +23,21 @@ public class TypeUtils {
     }
 
     public static String getInjectedFQCN(ClassName className) {
+        return getInjectedClassName(className).toString();
+    }
+
+    public static ClassName getInjectedClassName(ClassName className) {
+        StringBuilder name = new StringBuilder();
+        for (String part : className.simpleNames()) {
+            if (name.length() > 0) {
+                name.append("$");
+            }
+            name.append(part);
+        }
+        return ClassName.get(className.packageName(), name.toString() + Constants.MAPPER_CLASS_SUFFIX);
+    }
+
+    public static ClassName getInjectedTypeConverterClassName(ClassName className) {
         StringBuilder name = new StringBuilder();
         for (String part : className.simpleNames()) {
             if (name.length() > 0) {
@@ -29,7 +45,15 @@ public class TypeUtils {
             }
             name.append(part);
         }
-        return className.packageName() + "." + name.toString() + Constants.MAPPER_CLASS_SUFFIX;
+        return ClassName.get(className.packageName(), name.toString() + Constants.TYPE_CONVERTER_CLASS_SUFFIX);
+    }
+
+    public static String getSpecializedInjectedClassName(String injectedClassName, DeclaredType declaredType) {
+        StringBuilder name = new StringBuilder(injectedClassName);
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+            name.append("$$").append(TypeName.get(typeArgument).toString().replaceAll("[^a-zA-Z0-9]", "_"));
+        }
+        return name.toString();
     }
 
     @SuppressWarnings("unchecked")
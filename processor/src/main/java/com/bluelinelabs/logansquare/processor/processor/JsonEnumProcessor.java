@@ -0,0 +1,67 @@
+package com.bluelinelabs.logansquare.processor.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonEnum;
+import com.bluelinelabs.logansquare.processor.JsonEnumInjector;
+import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
+import com.squareup.javapoet.ClassName;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+
+import static javax.lang.model.element.Modifier.PRIVATE;
+
+public class JsonEnumProcessor extends Processor {
+
+    public JsonEnumProcessor(ProcessingEnvironment processingEnv) {
+        super(processingEnv);
+    }
+
+    @Override
+    public Class getAnnotation() {
+        return JsonEnum.class;
+    }
+
+    @Override
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
+        for (Element element : env.getElementsAnnotatedWith(JsonEnum.class)) {
+            if (element.getKind() != ElementKind.ENUM) {
+                error(element, "%s: @%s can only be used on enums.", element, JsonEnum.class.getSimpleName());
+                continue;
+            } else if (element.getModifiers().contains(PRIVATE)) {
+                error(element, "%s: @%s can't be used on private enums.", element, JsonEnum.class.getSimpleName());
+                continue;
+            }
+
+            List<String> constants = new ArrayList<>();
+            for (Element enclosedElement : element.getEnclosedElements()) {
+                if (enclosedElement.getKind() == ElementKind.ENUM_CONSTANT) {
+                    constants.add(enclosedElement.getSimpleName().toString());
+                }
+            }
+
+            JsonEnumInjector injector = new JsonEnumInjector(ClassName.get((TypeElement) element), constants, element.getAnnotation(JsonEnum.class).serializeAsOrdinal());
+            try {
+                JavaFileObject jfo = mProcessingEnv.getFiler().createSourceFile(injector.getInjectedFQCN(), element);
+                Writer writer = jfo.openWriter();
+                writer.write(injector.getJavaClassFile());
+                writer.flush();
+                writer.close();
+            } catch (IOException e) {
+                error(element, "Exception occurred while attempting to write type converter for type %s. Exception message: %s", element, e.getMessage());
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.bluelinelabs.logansquare.annotation.JsonIgnore.IgnorePolicy;
 import com.bluelinelabs.logansquare.annotation.JsonObject;
 import com.bluelinelabs.logansquare.processor.JsonFieldHolder;
 import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
 import com.bluelinelabs.logansquare.processor.TextUtils;
 import com.bluelinelabs.logansquare.processor.TypeUtils;
 import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
@@ -43,21 +44,23 @@ public class JsonFieldProcessor extends Processor {
     }
 
     @Override
-    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
         for (Element element : env.getElementsAnnotatedWith(JsonField.class)) {
+            long start = mTimings.start();
             try {
-                processJsonFieldAnnotation(element, jsonObjectMap, elements, types);
+                processJsonFieldAnnotation(element, jsonObjectMap, elements, types, memberIndex);
             } catch (Exception e) {
                 StringWriter stackTrace = new StringWriter();
                 e.printStackTrace(new PrintWriter(stackTrace));
 
                 error(element, "Unable to generate injector for %s. Stack trace incoming:\n%s", JsonField.class, stackTrace.toString());
             }
+            mTimings.addClassTime(((TypeElement) element.getEnclosingElement()).getQualifiedName().toString(), start);
         }
     }
 
-    private void processJsonFieldAnnotation(Element element, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
-        if (!isJsonFieldFieldAnnotationValid(element, elements)) {
+    private void processJsonFieldAnnotation(Element element, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
+        if (!isJsonFieldFieldAnnotationValid(element, memberIndex)) {
             return;
         }
 
@@ -96,8 +99,9 @@ public class JsonFieldProcessor extends Processor {
         boolean shouldSerialize = !isSetter && (ignoreAnnotation == null || ignoreAnnotation.ignorePolicy() == IgnorePolicy.PARSE_ONLY);
         boolean isKey = annotation.isKey();
         boolean inherits = annotation.inherits();
+        boolean dedup = annotation.dedup();
 
-        String error = fieldHolder.fill(element, elements, types, fieldName, typeConverterType, objectHolder, shouldParse, shouldSerialize, isKey, inherits);
+        String error = fieldHolder.fill(element, elements, types, memberIndex, fieldName, typeConverterType, objectHolder, shouldParse, shouldSerialize, isKey, inherits, dedup);
         if (!TextUtils.isEmpty(error)) {
             error(element, error);
         }
@@ -105,7 +109,7 @@ public class JsonFieldProcessor extends Processor {
         ensureTypeConverterClassValid(typeConverterType, elements, types);
     }
 
-    private boolean isJsonFieldFieldAnnotationValid(Element element, Elements elements) {
+    private boolean isJsonFieldFieldAnnotationValid(Element element, MemberIndex memberIndex) {
         TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
 
         Annotation objectAnnotation = enclosingElement.getAnnotation(JsonObject.class);
@@ -114,7 +118,7 @@ public class JsonFieldProcessor extends Processor {
             return false;
         }
 
-        if (element.getKind() == ElementKind.FIELD && element.getModifiers().contains(PRIVATE) && (TextUtils.isEmpty(JsonFieldHolder.getGetter(element, elements)) || TextUtils.isEmpty(JsonFieldHolder.getSetter(element, elements)))) {
+        if (element.getKind() == ElementKind.FIELD && element.getModifiers().contains(PRIVATE) && (TextUtils.isEmpty(JsonFieldHolder.getGetter(element, memberIndex)) || TextUtils.isEmpty(JsonFieldHolder.getSetter(element, memberIndex)))) {
             error(element, "@%s annotation can only be used on private fields if both getter and setter are present.", JsonField.class.getSimpleName());
             return false;
         } else if (element.getKind() == ElementKind.METHOD) {
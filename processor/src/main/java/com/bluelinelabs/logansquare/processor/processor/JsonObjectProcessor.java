@@ -6,11 +6,15 @@ import com.bluelinelabs.logansquare.annotation.JsonIgnore;
 import com.bluelinelabs.logansquare.annotation.JsonIgnore.IgnorePolicy;
 import com.bluelinelabs.logansquare.annotation.JsonObject;
 import com.bluelinelabs.logansquare.annotation.JsonObject.FieldDetectionPolicy;
+import com.bluelinelabs.logansquare.processor.JsonAnnotationProcessor;
 import com.bluelinelabs.logansquare.processor.JsonFieldHolder;
 import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
 import com.bluelinelabs.logansquare.processor.JsonObjectHolder.JsonObjectHolderBuilder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
 import com.bluelinelabs.logansquare.processor.TextUtils;
 import com.bluelinelabs.logansquare.processor.TypeUtils;
+import com.bluelinelabs.logansquare.processor.type.Type;
+import com.bluelinelabs.logansquare.processor.type.field.ParameterizedTypeField;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 
@@ -29,6 +33,8 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
@@ -39,6 +45,8 @@ import static javax.lang.model.element.Modifier.PRIVATE;
 
 public class JsonObjectProcessor extends Processor {
 
+    private static final int MAX_SPECIALIZATION_DEPTH = 4;
+
     public JsonObjectProcessor(ProcessingEnvironment processingEnv) {
         super(processingEnv);
     }
@@ -49,20 +57,22 @@ public class JsonObjectProcessor extends Processor {
     }
 
     @Override
-    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
         for (Element element : env.getElementsAnnotatedWith(JsonObject.class)) {
+            long start = mTimings.start();
             try {
-                processJsonObjectAnnotation(element, jsonObjectMap, elements, types);
+                processJsonObjectAnnotation(element, jsonObjectMap, elements, types, memberIndex);
             } catch (Exception e) {
                 StringWriter stackTrace = new StringWriter();
                 e.printStackTrace(new PrintWriter(stackTrace));
 
                 error(element, "Unable to generate injector for %s. Stack trace incoming:\n%s", JsonObject.class, stackTrace.toString());
             }
+            mTimings.addClassTime(((TypeElement) element).getQualifiedName().toString(), start);
         }
     }
 
-    private void processJsonObjectAnnotation(Element element, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+    private void processJsonObjectAnnotation(Element element, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
         TypeElement typeElement = (TypeElement) element;
 
         if (element.getModifiers().contains(PRIVATE)) {
@@ -78,6 +88,7 @@ public class JsonObjectProcessor extends Processor {
             List<? extends TypeParameterElement> parentTypeParameters = new ArrayList<>();
             List<String> parentUsedTypeParameters = new ArrayList<>();
             TypeName parentClassName = null;
+            DeclaredType parentType = null;
 
             TypeMirror superclass = typeElement.getSuperclass();
             if (superclass.getKind() != TypeKind.NONE) {
@@ -87,12 +98,8 @@ public class JsonObjectProcessor extends Processor {
                         parentTypeParameters = superclassElement.getTypeParameters();
                     }
 
-                    String superclassName = superclass.toString();
-                    int indexOfTypeParamStart = superclassName.indexOf("<");
-                    if (indexOfTypeParamStart > 0) {
-                        String typeParams = superclassName.substring(indexOfTypeParamStart + 1, superclassName.length() - 1);
-                        parentUsedTypeParameters = Arrays.asList(typeParams.split("\\s*,\\s*"));
-                    }
+                    parentUsedTypeParameters = getUsedTypeParameters(superclass);
+                    parentType = (DeclaredType) superclass;
                 }
             }
             while (superclass.getKind() != TypeKind.NONE) {
@@ -115,41 +122,210 @@ public class JsonObjectProcessor extends Processor {
                     .setObjectTypeName(TypeName.get(typeElement.asType()))
                     .setIsAbstractClass(abstractClass)
                     .setParentTypeName(parentClassName)
+                    .setParentType(parentType)
                     .setParentTypeParameters(parentTypeParameters)
                     .setParentUsedTypeParameters(parentUsedTypeParameters)
                     .setFieldDetectionPolicy(annotation.fieldDetectionPolicy())
                     .setFieldNamingPolicy(annotation.fieldNamingPolicy())
                     .setSerializeNullObjects(annotation.serializeNullObjects())
                     .setSerializeNullCollectionElements(annotation.serializeNullCollectionElements())
+                    .setDedupStrings(annotation.dedupStrings())
+                    .setGenerateBinaryCodec(annotation.generateBinaryCodec())
+                    .setKeyCacheSize(annotation.keyCacheSize())
+                    .setCanonicalizeByKey(annotation.canonicalizeByKey())
+                    .setTrackChanges(annotation.trackChanges())
+                    .setGenerateDiff(annotation.generateDiff())
+                    .setGenerateCopy(annotation.generateCopy())
+                    .setDirectMapperCalls(JsonAnnotationProcessor.isCallingMappersDirectly(mProcessingEnv))
+                    .setCallDefaultJavaTimeConverters(JsonAnnotationProcessor.isCallingDefaultJavaTimeConverters(mProcessingEnv))
                     .setTypeParameters(typeElement.getTypeParameters())
                     .build();
 
             FieldDetectionPolicy fieldDetectionPolicy = annotation.fieldDetectionPolicy();
             if (fieldDetectionPolicy == FieldDetectionPolicy.NONPRIVATE_FIELDS || fieldDetectionPolicy == FieldDetectionPolicy.NONPRIVATE_FIELDS_AND_ACCESSORS) {
-                addAllNonPrivateFields(element, elements, types, holder);
+                addAllNonPrivateFields(element, elements, types, memberIndex, holder);
             }
             if (fieldDetectionPolicy == FieldDetectionPolicy.NONPRIVATE_FIELDS_AND_ACCESSORS) {
-                addAllNonPrivateAccessors(element, elements, types, holder);
+                addAllNonPrivateAccessors(element, elements, types, memberIndex, holder);
             }
 
+            holder.originatingElements.add(typeElement);
+
             jsonObjectMap.put(TypeUtils.getInjectedFQCN(typeElement, elements), holder);
         }
     }
 
-    private void addAllNonPrivateFields(Element element, Elements elements, Types types, JsonObjectHolder objectHolder) {
+    @Override
+    public void postProcess(Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+        // Concrete uses of generic classes (ie: a Page<User> field or UserPage extends Page<User>) get their own
+        // specialized mappers so they don't have to go through ParameterizedType lookups at runtime. These depend on
+        // more than one class, so they can be turned off to let Gradle process each class in isolation.
+        if (!JsonAnnotationProcessor.isSpecializingGenerics(mProcessingEnv)) {
+            return;
+        }
+
+        List<JsonObjectHolder> pendingHolders = new ArrayList<>(jsonObjectMap.values());
+        while (pendingHolders.size() > 0) {
+            JsonObjectHolder holder = pendingHolders.remove(pendingHolders.size() - 1);
+
+            if (holder.parentType != null && holder.specializedParentMapper == null) {
+                holder.specializedParentMapper = getSpecializedMapper(holder, holder.parentType, jsonObjectMap, pendingHolders, elements, types);
+            }
+
+            for (JsonFieldHolder fieldHolder : holder.fieldMap.values()) {
+                if (fieldHolder.type != null) {
+                    specializeParameterizedTypes(holder, fieldHolder.type, jsonObjectMap, pendingHolders, elements, types);
+                }
+            }
+        }
+    }
+
+    private void specializeParameterizedTypes(JsonObjectHolder usingHolder, Type type, Map<String, JsonObjectHolder> jsonObjectMap, List<JsonObjectHolder> pendingHolders, Elements elements, Types types) {
+        if (type instanceof ParameterizedTypeField) {
+            ParameterizedTypeField parameterizedTypeField = (ParameterizedTypeField) type;
+            if (parameterizedTypeField.getSpecializedMapper() == null && parameterizedTypeField.getTypeMirror() != null) {
+                parameterizedTypeField.setSpecializedMapper(getSpecializedMapper(usingHolder, parameterizedTypeField.getTypeMirror(), jsonObjectMap, pendingHolders, elements, types));
+            }
+        }
+
+        for (Type parameterType : type.parameterTypes) {
+            specializeParameterizedTypes(usingHolder, parameterType, jsonObjectMap, pendingHolders, elements, types);
+        }
+    }
+
+    private ClassName getSpecializedMapper(JsonObjectHolder usingHolder, TypeMirror typeMirror, Map<String, JsonObjectHolder> jsonObjectMap, List<JsonObjectHolder> pendingHolders, Elements elements, Types types) {
+        if (typeMirror.getKind() != TypeKind.DECLARED || ((DeclaredType) typeMirror).getTypeArguments().size() == 0 || !isConcreteType(typeMirror, 0)) {
+            return null;
+        }
+
+        DeclaredType declaredType = (DeclaredType) typeMirror;
+        JsonObjectHolder genericHolder = jsonObjectMap.get(TypeUtils.getInjectedFQCN((TypeElement) declaredType.asElement(), elements));
+        if (genericHolder == null || !genericHolder.isSpecializable()) {
+            return null;
+        }
+
+        String injectedClassName = TypeUtils.getSpecializedInjectedClassName(genericHolder.injectedClassName, declaredType);
+        String injectedFQCN = genericHolder.packageName + "." + injectedClassName;
+        JsonObjectHolder holder = jsonObjectMap.get(injectedFQCN);
+        if (holder == null) {
+            holder = createSpecializedHolder(genericHolder, declaredType, injectedClassName, elements, types);
+            if (holder == null) {
+                return null;
+            }
+
+            holder.originatingElements.addAll(genericHolder.originatingElements);
+            jsonObjectMap.put(injectedFQCN, holder);
+            pendingHolders.add(holder);
+        }
+        for (Element element : usingHolder.originatingElements) {
+            if (!holder.originatingElements.contains(element)) {
+                holder.originatingElements.add(element);
+            }
+        }
+
+        return ClassName.get(genericHolder.packageName, injectedClassName);
+    }
+
+    private JsonObjectHolder createSpecializedHolder(JsonObjectHolder genericHolder, DeclaredType declaredType, String injectedClassName, Elements elements, Types types) {
+        DeclaredType parentType = null;
+        List<? extends TypeParameterElement> parentTypeParameters = new ArrayList<>();
+        List<String> parentUsedTypeParameters = new ArrayList<>();
+
+        if (genericHolder.parentType != null) {
+            // The superclass is always the first direct supertype, with our type arguments already substituted in
+            parentType = (DeclaredType) types.directSupertypes(declaredType).get(0);
+            parentTypeParameters = ((TypeElement) parentType.asElement()).getTypeParameters();
+            parentUsedTypeParameters = getUsedTypeParameters(parentType);
+
+            for (String parameter : parentUsedTypeParameters) {
+                if (parameter.contains("<")) {
+                    return null;
+                }
+            }
+        }
+
+        JsonObjectHolder holder = new JsonObjectHolderBuilder()
+                .setPackageName(genericHolder.packageName)
+                .setInjectedClassName(injectedClassName)
+                .setObjectTypeName(TypeName.get(declaredType))
+                .setIsAbstractClass(false)
+                .setParentTypeName(genericHolder.parentTypeName)
+                .setParentType(parentType)
+                .setParentTypeParameters(parentTypeParameters)
+                .setParentUsedTypeParameters(parentUsedTypeParameters)
+                .setFieldDetectionPolicy(genericHolder.fieldDetectionPolicy)
+                .setFieldNamingPolicy(genericHolder.fieldNamingPolicy)
+                .setSerializeNullObjects(genericHolder.serializeNullObjects)
+                .setSerializeNullCollectionElements(genericHolder.serializeNullCollectionElements)
+                .setDedupStrings(genericHolder.dedupStrings)
+                .setGenerateBinaryCodec(genericHolder.generateBinaryCodec)
+                .setKeyCacheSize(genericHolder.keyCacheSize)
+                .setCanonicalizeByKey(genericHolder.canonicalizeByKey)
+                .setTrackChanges(genericHolder.trackChanges)
+                .setGenerateDiff(genericHolder.generateDiff)
+                .setGenerateCopy(genericHolder.generateCopy)
+                .setDirectMapperCalls(genericHolder.directMapperCalls)
+                .setCallDefaultJavaTimeConverters(genericHolder.callDefaultJavaTimeConverters)
+                .setTypeParameters(new ArrayList<TypeParameterElement>())
+                .build();
+
+        holder.onCompleteCallback = genericHolder.onCompleteCallback;
+        holder.preSerializeCallback = genericHolder.preSerializeCallback;
+
+        for (Map.Entry<String, JsonFieldHolder> entry : genericHolder.fieldMap.entrySet()) {
+            JsonFieldHolder fieldHolder = entry.getValue().specializedFor(declaredType, elements, types);
+            if (fieldHolder == null) {
+                return null;
+            }
+            holder.fieldMap.put(entry.getKey(), fieldHolder);
+        }
+
+        return holder;
+    }
+
+    private boolean isConcreteType(TypeMirror typeMirror, int depth) {
+        // Guard against types that keep growing as they're specialized (ie: Node<T> with a Node<List<T>> field)
+        if (depth > MAX_SPECIALIZATION_DEPTH) {
+            return false;
+        } else if (typeMirror.getKind() == TypeKind.ARRAY) {
+            return isConcreteType(((ArrayType) typeMirror).getComponentType(), depth + 1);
+        } else if (typeMirror.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        for (TypeMirror typeArgument : ((DeclaredType) typeMirror).getTypeArguments()) {
+            if (!isConcreteType(typeArgument, depth + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> getUsedTypeParameters(TypeMirror superclass) {
+        String superclassName = superclass.toString();
+        int indexOfTypeParamStart = superclassName.indexOf("<");
+        if (indexOfTypeParamStart > 0) {
+            String typeParams = superclassName.substring(indexOfTypeParamStart + 1, superclassName.length() - 1);
+            return Arrays.asList(typeParams.split("\\s*,\\s*"));
+        } else {
+            return new ArrayList<>();
+        }
+    }
+
+    private void addAllNonPrivateFields(Element element, Elements elements, Types types, MemberIndex memberIndex, JsonObjectHolder objectHolder) {
         List<? extends Element> enclosedElements = element.getEnclosedElements();
         for (Element enclosedElement : enclosedElements) {
             ElementKind enclosedElementKind = enclosedElement.getKind();
             if (enclosedElementKind == ElementKind.FIELD) {
                 Set<Modifier> modifiers = enclosedElement.getModifiers();
                 if (!modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.PROTECTED) && !modifiers.contains(Modifier.TRANSIENT) && !modifiers.contains(Modifier.STATIC)) {
-                    createOrUpdateFieldHolder(enclosedElement, elements, types, objectHolder);
+                    createOrUpdateFieldHolder(enclosedElement, elements, types, memberIndex, objectHolder);
                 }
             }
         }
     }
 
-    private void addAllNonPrivateAccessors(Element element, Elements elements, Types types, JsonObjectHolder objectHolder) {
+    private void addAllNonPrivateAccessors(Element element, Elements elements, Types types, MemberIndex memberIndex, JsonObjectHolder objectHolder) {
         List<? extends Element> enclosedElements = element.getEnclosedElements();
         for (Element enclosedElement : enclosedElements) {
             ElementKind enclosedElementKind = enclosedElement.getKind();
@@ -158,24 +334,25 @@ public class JsonObjectProcessor extends Processor {
 
                 if (modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.TRANSIENT) && !modifiers.contains(Modifier.STATIC)) {
 
-                    String getter = JsonFieldHolder.getGetter(enclosedElement, elements);
-                    String setter = JsonFieldHolder.getSetter(enclosedElement, elements);
+                    String getter = JsonFieldHolder.getGetter(enclosedElement, memberIndex);
+                    String setter = JsonFieldHolder.getSetter(enclosedElement, memberIndex);
 
                     if (!TextUtils.isEmpty(getter) && !TextUtils.isEmpty(setter)) {
-                        createOrUpdateFieldHolder(enclosedElement, elements, types, objectHolder);
+                        createOrUpdateFieldHolder(enclosedElement, elements, types, memberIndex, objectHolder);
                     }
                 }
             }
         }
     }
 
-    private void createOrUpdateFieldHolder(Element element, Elements elements, Types types, JsonObjectHolder objectHolder) {
+    private void createOrUpdateFieldHolder(Element element, Elements elements, Types types, MemberIndex memberIndex, JsonObjectHolder objectHolder) {
         JsonField annotation = element.getAnnotation(JsonField.class);
         JsonIgnore ignoreAnnotation = element.getAnnotation(JsonIgnore.class);
         boolean shouldParse = ignoreAnnotation == null || ignoreAnnotation.ignorePolicy() == IgnorePolicy.SERIALIZE_ONLY;
         boolean shouldSerialize = ignoreAnnotation == null || ignoreAnnotation.ignorePolicy() == IgnorePolicy.PARSE_ONLY;
         boolean isKey = annotation.isKey();
         boolean inherits = annotation.inherits();
+        boolean dedup = annotation.dedup();
 
         if (shouldParse || shouldSerialize || isKey || inherits) {
             JsonFieldHolder fieldHolder = objectHolder.fieldMap.get(element.getSimpleName().toString());
@@ -184,7 +361,7 @@ public class JsonObjectProcessor extends Processor {
                 objectHolder.fieldMap.put(element.getSimpleName().toString(), fieldHolder);
             }
 
-            String error = fieldHolder.fill(element, elements, types, null, null, objectHolder, shouldParse, shouldSerialize, isKey, inherits);
+            String error = fieldHolder.fill(element, elements, types, memberIndex, null, null, objectHolder, shouldParse, shouldSerialize, isKey, inherits, dedup);
             if (!TextUtils.isEmpty(error)) {
                 error(element, error);
             }
@@ -0,0 +1,168 @@
+package com.bluelinelabs.logansquare.processor.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+import com.bluelinelabs.logansquare.annotation.JsonSubTypes;
+import com.bluelinelabs.logansquare.processor.JsonFieldHolder;
+import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
+import com.bluelinelabs.logansquare.processor.TypeUtils;
+import com.squareup.javapoet.ClassName;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+public class JsonSubTypesProcessor extends Processor {
+
+    private final List<TypeElement> mPolymorphicElements = new ArrayList<>();
+    private final List<TypeElement> mSubtypeElements = new ArrayList<>();
+
+    public JsonSubTypesProcessor(ProcessingEnvironment processingEnv) {
+        super(processingEnv);
+    }
+
+    @Override
+    public Class getAnnotation() {
+        return JsonSubTypes.class;
+    }
+
+    @Override
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
+        mPolymorphicElements.clear();
+        mSubtypeElements.clear();
+        for (Element element : env.getElementsAnnotatedWith(JsonSubTypes.class)) {
+            try {
+                processJsonSubTypesAnnotation((TypeElement) element, jsonObjectMap, elements, types);
+            } catch (Exception e) {
+                StringWriter stackTrace = new StringWriter();
+                e.printStackTrace(new PrintWriter(stackTrace));
+
+                error(element, "Unable to generate injector for %s. Stack trace incoming:\n%s", JsonSubTypes.class, stackTrace.toString());
+            }
+        }
+
+        // Subtypes find their discriminator through their own superclasses rather than through the parent's holder, so
+        // that they can be processed without their parent being compiled at the same time.
+        for (Element element : env.getElementsAnnotatedWith(JsonObject.class)) {
+            JsonObjectHolder holder = jsonObjectMap.get(TypeUtils.getInjectedFQCN((TypeElement) element, elements));
+            if (holder != null) {
+                processSubtype((TypeElement) element, holder, types);
+            }
+        }
+    }
+
+    private void processJsonSubTypesAnnotation(TypeElement element, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+        JsonObjectHolder holder = jsonObjectMap.get(TypeUtils.getInjectedFQCN(element, elements));
+        if (holder == null || element.getAnnotation(JsonObject.class) == null) {
+            error(element, "%s: @%s can only be used on classes annotated with @%s.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName(), JsonObject.class.getSimpleName());
+            return;
+        }
+        if (element.getTypeParameters().size() > 0) {
+            error(element, "%s: @%s can't be used on generic classes.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName());
+            return;
+        }
+
+        JsonSubTypes annotation = element.getAnnotation(JsonSubTypes.class);
+        List<TypeElement> subtypeElements = new ArrayList<>();
+        List<String> subtypeNames = new ArrayList<>();
+        for (JsonSubTypes.Type subtype : annotation.value()) {
+            TypeMirror subtypeMirror = getSubtypeMirror(subtype, elements);
+            TypeElement subtypeElement = (TypeElement) types.asElement(subtypeMirror);
+            if (subtypeElement.getAnnotation(JsonObject.class) == null) {
+                error(element, "%s: @%s subtype %s must be annotated with @%s.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName(), subtypeElement.getQualifiedName(), JsonObject.class.getSimpleName());
+                return;
+            } else if (types.isSameType(types.erasure(subtypeMirror), types.erasure(element.asType())) || !types.isSubtype(types.erasure(subtypeMirror), types.erasure(element.asType()))) {
+                error(element, "%s: @%s subtype %s must be a subclass of %s.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName(), subtypeElement.getQualifiedName(), element.getSimpleName());
+                return;
+            } else if (subtypeElement.getTypeParameters().size() > 0) {
+                error(element, "%s: @%s subtype %s can't be generic.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName(), subtypeElement.getQualifiedName());
+                return;
+            } else if (subtypeNames.contains(subtype.name())) {
+                error(element, "%s: @%s name \"%s\" is used more than once.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName(), subtype.name());
+                return;
+            }
+
+            // Insert each subtype before any of its own superclasses
+            int index = subtypeElements.size();
+            for (int i = 0; i < subtypeElements.size(); i++) {
+                if (types.isSubtype(types.erasure(subtypeMirror), types.erasure(subtypeElements.get(i).asType()))) {
+                    index = i;
+                    break;
+                }
+            }
+            subtypeElements.add(index, subtypeElement);
+            subtypeNames.add(index, subtype.name());
+        }
+
+        holder.subtypeProperty = annotation.property();
+        for (int i = 0; i < subtypeElements.size(); i++) {
+            holder.subtypes.put(subtypeNames.get(i), ClassName.get(subtypeElements.get(i)));
+        }
+        mPolymorphicElements.add(element);
+    }
+
+    private void processSubtype(TypeElement element, JsonObjectHolder holder, Types types) {
+        // The closest superclass naming this class wins
+        TypeMirror superclass = element.getSuperclass();
+        while (superclass.getKind() != TypeKind.NONE) {
+            TypeElement superclassElement = (TypeElement) types.asElement(superclass);
+            JsonSubTypes annotation = superclassElement.getAnnotation(JsonSubTypes.class);
+            if (annotation != null) {
+                for (JsonSubTypes.Type subtype : annotation.value()) {
+                    if (types.isSameType(types.erasure(getSubtypeMirror(subtype, mProcessingEnv.getElementUtils())), types.erasure(element.asType()))) {
+                        holder.discriminatorProperty = annotation.property();
+                        holder.discriminatorValue = subtype.name();
+                        mSubtypeElements.add(element);
+                        return;
+                    }
+                }
+            }
+            superclass = superclassElement.getSuperclass();
+        }
+    }
+
+    private TypeMirror getSubtypeMirror(JsonSubTypes.Type subtype, Elements elements) {
+        try {
+            return elements.getTypeElement(subtype.value().getCanonicalName()).asType();
+        } catch (MirroredTypeException mte) {
+            return mte.getTypeMirror();
+        }
+    }
+
+    @Override
+    public void postProcess(Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+        // Fields and callbacks are only known once the other processors have run
+        for (TypeElement element : mPolymorphicElements) {
+            JsonObjectHolder holder = jsonObjectMap.get(TypeUtils.getInjectedFQCN(element, elements));
+            if (holder.isUpdatable()) {
+                error(element, "%s: @%s can't be used on classes with @JsonGetByKey or @JsonGetByKeys methods.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName());
+            }
+            checkDiscriminatorConflicts(element, holder, holder.subtypeProperty);
+        }
+        for (TypeElement element : mSubtypeElements) {
+            JsonObjectHolder holder = jsonObjectMap.get(TypeUtils.getInjectedFQCN(element, elements));
+            checkDiscriminatorConflicts(element, holder, holder.discriminatorProperty);
+        }
+    }
+
+    private void checkDiscriminatorConflicts(TypeElement element, JsonObjectHolder holder, String property) {
+        for (JsonFieldHolder fieldHolder : holder.fieldMap.values()) {
+            if (fieldHolder.fieldName != null && Arrays.asList(fieldHolder.fieldName).contains(property)) {
+                error(element, "%s: @%s property \"%s\" is written automatically and can't also be a field of %s.", element.getQualifiedName(), JsonSubTypes.class.getSimpleName(), property, holder.objectTypeName);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.bluelinelabs.logansquare.processor.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonGetByKeys;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
+import com.bluelinelabs.logansquare.processor.TypeUtils;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+public class OnJsonGetObjectsByKeysProcessor extends MethodProcessor {
+
+    public OnJsonGetObjectsByKeysProcessor(ProcessingEnvironment processingEnv) {
+        super(processingEnv);
+    }
+
+    @Override
+    public Class getAnnotation() {
+        return JsonGetByKeys.class;
+    }
+
+    @Override
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
+        for (Element element : env.getElementsAnnotatedWith(JsonGetByKeys.class)) {
+            try {
+                processJsonGetByKeysMethodAnnotation(element, jsonObjectMap, elements, types);
+            } catch (Exception e) {
+                StringWriter stackTrace = new StringWriter();
+                e.printStackTrace(new PrintWriter(stackTrace));
+
+                error(element, "Unable to generate injector for %s. Stack trace incoming:\n%s", JsonGetByKeys.class, stackTrace.toString());
+            }
+        }
+    }
+
+    private void processJsonGetByKeysMethodAnnotation(Element element, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) throws Exception {
+        if (!isCallbackMethodAnnotationValid(element, JsonGetByKeys.class.getSimpleName())) {
+            return;
+        }
+
+        ExecutableElement executableElement = (ExecutableElement) element;
+        TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+
+        if (!executableElement.getModifiers().contains(Modifier.STATIC)) {
+            error(element, "%s: @%s methods must be static.", enclosingElement.getQualifiedName(), JsonGetByKeys.class.getSimpleName());
+            return;
+        }
+
+        TypeMirror collectionType = types.erasure(elements.getTypeElement(Collection.class.getCanonicalName()).asType());
+        TypeMirror parameterType = types.erasure(executableElement.getParameters().get(0).asType());
+        if (!types.isAssignable(collectionType, parameterType)) {
+            error(element, "%s: @%s methods must take a Collection of keys.", enclosingElement.getQualifiedName(), JsonGetByKeys.class.getSimpleName());
+            return;
+        }
+
+        TypeMirror mapType = types.erasure(elements.getTypeElement(Map.class.getCanonicalName()).asType());
+        if (!types.isAssignable(types.erasure(executableElement.getReturnType()), mapType)) {
+            error(element, "%s: @%s methods must return a Map of keys to objects.", enclosingElement.getQualifiedName(), JsonGetByKeys.class.getSimpleName());
+            return;
+        }
+
+        JsonObjectHolder objectHolder = jsonObjectMap.get(TypeUtils.getInjectedFQCN(enclosingElement, elements));
+        objectHolder.getObjectsByKeysCallback = executableElement.getSimpleName().toString();
+    }
+
+    @Override
+    public boolean isCallbackMethodAnnotationValid(Element element, String annotationName) {
+        TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+
+        if (enclosingElement.getAnnotation(JsonObject.class) == null) {
+            error(enclosingElement, "%s: @%s methods can only be in classes annotated with @%s.", enclosingElement.getQualifiedName(), annotationName, JsonObject.class.getSimpleName());
+            return false;
+        }
+
+        ExecutableElement executableElement = (ExecutableElement) element;
+        if (executableElement.getParameters().size() != 1) {
+            error(element, "%s: @%s methods must take exactly one parameter.", enclosingElement.getQualifiedName(), annotationName);
+            return false;
+        }
+
+        List<? extends Element> allElements = enclosingElement.getEnclosedElements();
+        int methodInstances = 0;
+        for (Element enclosedElement : allElements) {
+            for (AnnotationMirror am : enclosedElement.getAnnotationMirrors()) {
+                if (am.getAnnotationType().asElement().getSimpleName().toString().equals(annotationName)) {
+                    methodInstances++;
+                }
+            }
+        }
+        if (methodInstances != 1) {
+            error(element, "%s: There can only be one @%s method per class.", enclosingElement.getQualifiedName(), annotationName);
+            return false;
+        }
+
+        return true;
+    }
+}
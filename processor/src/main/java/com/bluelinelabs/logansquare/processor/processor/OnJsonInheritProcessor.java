@@ -3,6 +3,7 @@ package com.bluelinelabs.logansquare.processor.processor;
 import com.bluelinelabs.logansquare.annotation.JsonObject;
 import com.bluelinelabs.logansquare.annotation.OnJsonInherit;
 import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
 import com.bluelinelabs.logansquare.processor.TypeUtils;
 
 import java.io.PrintWriter;
@@ -31,7 +32,7 @@ public class OnJsonInheritProcessor extends MethodProcessor {
     }
 
     @Override
-    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
         for (Element element : env.getElementsAnnotatedWith(OnJsonInherit.class)) {
             try {
                 processOnPreJsonSerializeMethodAnnotation(element, jsonObjectMap, elements);
@@ -2,6 +2,7 @@ package com.bluelinelabs.logansquare.processor.processor;
 
 import com.bluelinelabs.logansquare.annotation.OnJsonParseComplete;
 import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
 import com.bluelinelabs.logansquare.processor.TypeUtils;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -27,7 +28,7 @@ public class OnJsonParseCompleteProcessor extends MethodProcessor {
     }
 
     @Override
-    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) {
+    public void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex) {
         for (Element element : env.getElementsAnnotatedWith(OnJsonParseComplete.class)) {
             try {
                 processOnCompleteMethodAnnotation(element, jsonObjectMap, elements);
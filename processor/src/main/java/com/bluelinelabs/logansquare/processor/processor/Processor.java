@@ -1,6 +1,8 @@
 package com.bluelinelabs.logansquare.processor.processor;
 
 import com.bluelinelabs.logansquare.processor.JsonObjectHolder;
+import com.bluelinelabs.logansquare.processor.MemberIndex;
+import com.bluelinelabs.logansquare.processor.ProcessingTimings;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +19,7 @@ import static javax.tools.Diagnostic.Kind.ERROR;
 public abstract class Processor {
 
     protected ProcessingEnvironment mProcessingEnv;
+    protected ProcessingTimings mTimings;
 
     protected Processor(ProcessingEnvironment processingEnv) {
         mProcessingEnv = processingEnv;
@@ -24,16 +27,25 @@ public abstract class Processor {
 
     public abstract Class getAnnotation();
 
-    public abstract void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types);
+    public abstract void findAndParseObjects(RoundEnvironment env, Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types, MemberIndex memberIndex);
 
-    public static List<Processor> allProcessors(ProcessingEnvironment processingEnvironment) {
+    /** Called once all processors have parsed their objects for the current round. */
+    public void postProcess(Map<String, JsonObjectHolder> jsonObjectMap, Elements elements, Types types) { }
+
+    public static List<Processor> allProcessors(ProcessingEnvironment processingEnvironment, ProcessingTimings timings) {
         List<Processor> list = new ArrayList<>();
         list.add(new JsonObjectProcessor(processingEnvironment));
+        list.add(new JsonEnumProcessor(processingEnvironment));
+        list.add(new JsonSubTypesProcessor(processingEnvironment));
         list.add(new OnJsonParseCompleteProcessor(processingEnvironment));
         list.add(new OnJsonGetObjectByKeyProcessor(processingEnvironment));
+        list.add(new OnJsonGetObjectsByKeysProcessor(processingEnvironment));
         list.add(new OnJsonInheritProcessor(processingEnvironment));
         list.add(new OnPreSerializeProcessor(processingEnvironment));
         list.add(new JsonFieldProcessor(processingEnvironment));
+        for (Processor processor : list) {
+            processor.mTimings = timings;
+        }
         return list;
     }
 
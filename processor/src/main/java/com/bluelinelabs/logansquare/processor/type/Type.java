@@ -1,9 +1,11 @@
 package com.bluelinelabs.logansquare.processor.type;
 
+import com.bluelinelabs.logansquare.processor.ObjectMapperInjector;
 import com.bluelinelabs.logansquare.processor.type.collection.ArrayCollectionType;
 import com.bluelinelabs.logansquare.processor.type.collection.CollectionType;
 import com.bluelinelabs.logansquare.processor.type.field.FieldType;
 import com.bluelinelabs.logansquare.processor.type.field.ParameterizedTypeField;
+import com.bluelinelabs.logansquare.util.DiffUtils;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
@@ -29,10 +31,64 @@ public abstract class Type {
     public abstract void parse(MethodSpec.Builder builder, int depth, String setter, Object... setterFormatArgs);
     public abstract void serialize(MethodSpec.Builder builder, int depth, String fieldName, List<String> processedFieldNames, String getter, boolean isObjectProperty, boolean checkIfNull, boolean writeIfNull, boolean writeCollectionElementIfNull);
 
+    /** Writes a value that is known not to be null for the generated binary codec */
+    public abstract void writeBinary(MethodSpec.Builder builder, int depth, String getter);
+    public abstract void readBinary(MethodSpec.Builder builder, int depth, String setter, Object... setterFormatArgs);
+
+    /** Copies a value that is known not to be null for the generated copy() method */
+    public abstract void copy(MethodSpec.Builder builder, int depth, String getter, String setter, Object... setterFormatArgs);
+
     public Type() {
         parameterTypes = new ArrayList<>();
     }
 
+    /**
+     * Compares the value at the parser's current token with an existing value for the generated parseDiffers() method,
+     * returning true on the first difference. Unless overridden, the value is parsed and then compared.
+     */
+    public void parseDiffers(MethodSpec.Builder builder, int depth, String getter) {
+        final String parsedVarName = "parsed" + depth;
+
+        builder.addStatement(String.format("%s $L", getParameterizedTypeString()), expandStringArgs(getParameterizedTypeStringArgs(), parsedVarName));
+        parse(builder, depth, "$L = $L", parsedVarName);
+        StringBuilder condition = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        appendContentDiffersCondition(condition, args, parsedVarName, getter);
+        builder.beginControlFlow("if (" + condition.toString() + ")", args.toArray())
+                .addStatement("return true")
+                .endControlFlow();
+    }
+
+    /**
+     * Appends a condition that is true when two non-primitive values of this type would not be serialized the same way.
+     * Generated models don't implement equals(), so values holding them are compared with their mapper.
+     */
+    public void appendContentDiffersCondition(StringBuilder condition, List<Object> args, String a, String b) {
+        String mapperName = getContentMapperVariableName();
+        if (mapperName != null) {
+            condition.append("!$T.contentEquals($L, $L, $L)");
+            Collections.addAll(args, DiffUtils.class, a, b, mapperName);
+        } else {
+            condition.append("!$T.isEqual($L, $L)");
+            Collections.addAll(args, DiffUtils.class, a, b);
+        }
+    }
+
+    /**
+     * Returns the mapper of the {@literal @}JsonObject class held by this type's collections, or null if it doesn't hold
+     * exactly one generated model type.
+     */
+    public String getContentMapperVariableName() {
+        Set<ClassNameObjectMapper> mappers = getUsedJsonObjectMappers();
+        if (mappers.size() == 1) {
+            ClassNameObjectMapper mapper = mappers.iterator().next();
+            if (mapper.generatedMapper != null) {
+                return ObjectMapperInjector.getMapperVariableName(mapper.objectMapper);
+            }
+        }
+        return null;
+    }
+
     public static Type typeFor(TypeMirror typeMirror, TypeMirror typeConverterType, Elements elements, Types types) {
 
         TypeMirror genericClassTypeMirror = types.erasure(typeMirror);
@@ -50,7 +106,7 @@ public abstract class Type {
                     throw new RuntimeException("Generic types with wildcards are currently not supported by LoganSquare.");
                 }
                 try {
-                    type = new ParameterizedTypeField(TypeName.get(typeMirror));
+                    type = new ParameterizedTypeField(TypeName.get(typeMirror), typeMirror);
                 } catch (Exception ignored) { }
             }
         } else {
@@ -103,13 +159,37 @@ public abstract class Type {
         return set;
     }
 
+    public Set<ClassName> getUsedTypeConverterClasses() {
+        Set<ClassName> set = new HashSet<>();
+        for (Type parameterType : parameterTypes) {
+            set.addAll(parameterType.getUsedTypeConverterClasses());
+        }
+        return set;
+    }
+
+    public Set<ClassName> getUsedSpecializedMappers() {
+        Set<ClassName> set = new HashSet<>();
+        for (Type parameterType : parameterTypes) {
+            set.addAll(parameterType.getUsedSpecializedMappers());
+        }
+        return set;
+    }
+
     public static class ClassNameObjectMapper {
         public final ClassName className;
         public final String objectMapper;
 
+        // The generated mapper class, for @JsonObject classes whose mapper is known at compile time
+        public final ClassName generatedMapper;
+
         public ClassNameObjectMapper(ClassName className, String objectMapper) {
+            this(className, objectMapper, null);
+        }
+
+        public ClassNameObjectMapper(ClassName className, String objectMapper, ClassName generatedMapper) {
             this.className = className;
             this.objectMapper = objectMapper;
+            this.generatedMapper = generatedMapper;
         }
 
         @Override
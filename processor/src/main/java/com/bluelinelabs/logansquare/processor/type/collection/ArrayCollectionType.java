@@ -2,16 +2,20 @@ package com.bluelinelabs.logansquare.processor.type.collection;
 
 import com.bluelinelabs.logansquare.processor.TextUtils;
 import com.bluelinelabs.logansquare.processor.type.Type;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.MethodSpec.Builder;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -143,4 +147,104 @@ public class ArrayCollectionType extends CollectionType {
         mappers.addAll(arrayType.getUsedJsonObjectMappers());
         return mappers;
     }
+
+    @Override
+    public void writeBinary(MethodSpec.Builder builder, int depth, String getter) {
+        final String arrayVarName = "array" + depth;
+        final String elementVarName = "element" + depth;
+        final boolean isPrimitive = arrayType.getTypeName().isPrimitive();
+
+        builder
+                .addStatement("final $T $L = $L", getTypeName(), arrayVarName, getter)
+                .addStatement("$T.writeUnsignedVarInt($L, $L.length)", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, arrayVarName)
+                .beginControlFlow("for ($T $L : $L)", arrayType.getTypeName(), elementVarName, arrayVarName);
+
+        if (isPrimitive) {
+            arrayType.writeBinary(builder, depth + 1, elementVarName);
+        } else {
+            builder
+                    .beginControlFlow("if ($L != null)", elementVarName)
+                    .addStatement("$L.writeBoolean(true)", BINARY_OUTPUT_VARIABLE_NAME);
+
+            arrayType.writeBinary(builder, depth + 1, elementVarName);
+
+            builder
+                    .nextControlFlow("else")
+                    .addStatement("$L.writeBoolean(false)", BINARY_OUTPUT_VARIABLE_NAME)
+                    .endControlFlow();
+        }
+
+        builder.endControlFlow();
+    }
+
+    @Override
+    public void readBinary(MethodSpec.Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        final String arrayVarName = "array" + depth;
+        final String sizeVarName = "size" + depth;
+        final String indexVarName = "i" + depth;
+
+        // Arrays of arrays have to be created as new Type[size][], so find the innermost component type
+        TypeName componentType = arrayType.getTypeName();
+        StringBuilder dimensions = new StringBuilder();
+        while (componentType instanceof ArrayTypeName) {
+            componentType = ((ArrayTypeName)componentType).componentType;
+            dimensions.append("[]");
+        }
+        if (componentType instanceof ParameterizedTypeName) {
+            componentType = ((ParameterizedTypeName)componentType).rawType;
+        }
+
+        builder
+                .addStatement("int $L = $T.readUnsignedVarInt($L)", sizeVarName, BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME)
+                .addStatement("$T $L = new $T[$L]" + dimensions, getTypeName(), arrayVarName, componentType, sizeVarName)
+                .beginControlFlow("for (int $L = 0; $L < $L; $L++)", indexVarName, indexVarName, sizeVarName, indexVarName);
+
+        if (arrayType.getTypeName().isPrimitive()) {
+            arrayType.readBinary(builder, depth + 1, "$L[$L] = $L", arrayVarName, indexVarName);
+        } else {
+            builder.beginControlFlow("if ($L.readBoolean())", BINARY_INPUT_VARIABLE_NAME);
+            arrayType.readBinary(builder, depth + 1, "$L[$L] = $L", arrayVarName, indexVarName);
+            builder.endControlFlow();
+        }
+
+        builder
+                .endControlFlow()
+                .addStatement(setter, expandStringArgs(setterFormatArgs, arrayVarName));
+    }
+
+    @Override
+    public void copy(MethodSpec.Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        final String sourceVarName = "source" + depth;
+        final String arrayVarName = "array" + depth;
+        final String indexVarName = "i" + depth;
+
+        if (arrayType.getTypeName().isPrimitive()) {
+            builder.addStatement(setter, expandStringArgs(setterFormatArgs, getter + ".clone()"));
+            return;
+        }
+
+        // Arrays of arrays have to be created as new Type[size][], so find the innermost component type
+        TypeName componentType = arrayType.getTypeName();
+        StringBuilder dimensions = new StringBuilder();
+        while (componentType instanceof ArrayTypeName) {
+            componentType = ((ArrayTypeName)componentType).componentType;
+            dimensions.append("[]");
+        }
+        if (componentType instanceof ParameterizedTypeName) {
+            componentType = ((ParameterizedTypeName)componentType).rawType;
+        }
+
+        builder
+                .addStatement("final $T $L = $L", getTypeName(), sourceVarName, getter)
+                .addStatement("$T $L = new $T[$L.length]" + dimensions, getTypeName(), arrayVarName, componentType, sourceVarName)
+                .beginControlFlow("for (int $L = 0; $L < $L.length; $L++)", indexVarName, indexVarName, sourceVarName, indexVarName)
+                .beginControlFlow("if ($L[$L] != null)", sourceVarName, indexVarName);
+
+        arrayType.copy(builder, depth + 1, sourceVarName + "[" + indexVarName + "]", "$L[$L] = $L", arrayVarName, indexVarName);
+
+        builder
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement(setter, expandStringArgs(setterFormatArgs, arrayVarName));
+    }
 }
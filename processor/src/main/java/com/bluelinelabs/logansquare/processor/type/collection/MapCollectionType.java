@@ -2,14 +2,20 @@ package com.bluelinelabs.logansquare.processor.type.collection;
 
 import com.bluelinelabs.logansquare.processor.TextUtils;
 import com.bluelinelabs.logansquare.processor.type.Type;
+import com.bluelinelabs.logansquare.processor.type.field.JsonFieldType;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.MethodSpec.Builder;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -44,7 +50,7 @@ public abstract class MapCollectionType extends CollectionType {
         builder.beginControlFlow("if ($L.getCurrentToken() == $T.START_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
                 .addStatement(instanceCreator, instanceCreatorArgs)
                 .beginControlFlow("while ($L.nextToken() != $T.END_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
-                .addStatement("$T $L = $L.getText()", String.class, keyVariableName, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$T $L = $L.getCurrentName()", String.class, keyVariableName, JSON_PARSER_VARIABLE_NAME)
                 .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
                 .beginControlFlow("if ($L.getCurrentToken() == $T.VALUE_NULL)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
                 .addStatement("$L.put($L, null)", mapVariableName, keyVariableName)
@@ -102,4 +108,173 @@ public abstract class MapCollectionType extends CollectionType {
                 .addStatement("$L.writeEndObject()", JSON_GENERATOR_VARIABLE_NAME)
                 .endControlFlow();
     }
+
+    /**
+     * Writes an RFC 7386 merge patch between two non-null maps one key at a time. Removed keys are written as null, nested
+     * objects and maps are diffed recursively and any other value that changed is written in full.
+     */
+    public void diffEntries(MethodSpec.Builder builder, int depth, String fieldName, List<String> processedFieldNames, String before, String after, boolean writeCollectionElementIfNull) {
+        Type parameterType = parameterTypes.get(1);
+        final String keyVariableName = "key" + depth;
+        final String entryVariableName = "entry" + depth;
+        final String beforeValueVariableName = "beforeValue" + depth;
+        final String afterValue = entryVariableName + ".getValue()";
+
+        final String forLine = String.format("for ($T<$T, %s> $L : $L.entrySet())", parameterType.getParameterizedTypeString());
+        final Object[] forLineArgs = expandStringArgs(Map.Entry.class, String.class, parameterType.getParameterizedTypeStringArgs(), entryVariableName, after);
+
+        final String beforeValueLine = String.format("final %s $L = $L.get($L.getKey())", parameterType.getParameterizedTypeString());
+        final Object[] beforeValueArgs = expandStringArgs(parameterType.getParameterizedTypeStringArgs(), beforeValueVariableName, before, entryVariableName);
+
+        StringBuilder condition = new StringBuilder("!$L.containsKey($L.getKey()) || ");
+        List<Object> conditionArgs = new ArrayList<>();
+        Collections.addAll(conditionArgs, before, entryVariableName);
+        parameterType.appendContentDiffersCondition(condition, conditionArgs, beforeValueVariableName, afterValue);
+
+        builder
+                .addStatement("$L.writeStartObject()", JSON_GENERATOR_VARIABLE_NAME)
+                .beginControlFlow("for ($T $L : $L.keySet())", String.class, keyVariableName, before)
+                .beginControlFlow("if (!$L.containsKey($L))", after, keyVariableName)
+                .addStatement("$L.writeNullField($L)", JSON_GENERATOR_VARIABLE_NAME, keyVariableName)
+                .endControlFlow()
+                .endControlFlow()
+                .beginControlFlow(forLine, forLineArgs)
+                .addStatement(beforeValueLine, beforeValueArgs)
+                .beginControlFlow("if (" + condition.toString() + ")", conditionArgs.toArray())
+                .addStatement("$L.writeFieldName($L.getKey())", JSON_GENERATOR_VARIABLE_NAME, entryVariableName);
+
+        if (parameterType instanceof JsonFieldType) {
+            builder.addStatement("$L.diff($L, $L, $L)", ((JsonFieldType) parameterType).getMapperVariableName(), beforeValueVariableName, afterValue, JSON_GENERATOR_VARIABLE_NAME);
+        } else {
+            // A null value can't be told apart from a removed key in a merge patch
+            builder.beginControlFlow("if ($L == null)", afterValue)
+                    .addStatement("$L.writeNull()", JSON_GENERATOR_VARIABLE_NAME);
+            if (parameterType instanceof MapCollectionType) {
+                builder.nextControlFlow("else if ($L != null)", beforeValueVariableName);
+                ((MapCollectionType) parameterType).diffEntries(builder, depth + 1, fieldName + "Element", processedFieldNames, beforeValueVariableName, afterValue, writeCollectionElementIfNull);
+            }
+            builder.nextControlFlow("else");
+            parameterType.serialize(builder, depth + 1, fieldName + "Element", processedFieldNames, afterValue, false, false, true, writeCollectionElementIfNull);
+            builder.endControlFlow();
+        }
+
+        builder
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("$L.writeEndObject()", JSON_GENERATOR_VARIABLE_NAME);
+    }
+
+    /**
+     * Applies the RFC 7386 merge patch at the current START_OBJECT token to an existing map one key at a time. Null values
+     * remove their keys, nested objects and maps that already exist are patched in place and any other value is replaced.
+     */
+    public void applyPatchEntries(MethodSpec.Builder builder, int depth, String target) {
+        Type parameterType = parameterTypes.get(1);
+        final String keyVariableName = "key" + depth;
+
+        builder.beginControlFlow("while ($L.nextToken() != $T.END_OBJECT)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("$T $L = $L.getCurrentName()", String.class, keyVariableName, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("$L.nextToken()", JSON_PARSER_VARIABLE_NAME)
+                .beginControlFlow("if ($L.getCurrentToken() == $T.VALUE_NULL)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement("$L.remove($L)", target, keyVariableName);
+
+        if (parameterType instanceof JsonFieldType || parameterType instanceof MapCollectionType) {
+            builder.nextControlFlow("else if ($L.get($L) != null && $L.getCurrentToken() == $T.START_OBJECT)", target, keyVariableName, JSON_PARSER_VARIABLE_NAME, JsonToken.class);
+            if (parameterType instanceof JsonFieldType) {
+                builder.addStatement("$L.applyPatch($L.get($L), $L)", ((JsonFieldType) parameterType).getMapperVariableName(), target, keyVariableName, JSON_PARSER_VARIABLE_NAME);
+            } else {
+                ((MapCollectionType) parameterType).applyPatchEntries(builder, depth + 1, target + ".get(" + keyVariableName + ")");
+            }
+        }
+
+        builder.nextControlFlow("else");
+        parameterType.parse(builder, depth + 1, "$L.put($L, $L)", target, keyVariableName);
+        builder
+                .endControlFlow()
+                .endControlFlow();
+    }
+
+    @Override
+    public void writeBinary(MethodSpec.Builder builder, int depth, String getter) {
+        Type parameterType = parameterTypes.get(1);
+        final String mapVariableName = "map" + depth;
+        final String entryVariableName = "entry" + depth;
+
+        final String instanceCreator = String.format("final $T<$T, %s> $L = $L", parameterType.getParameterizedTypeString());
+        final Object[] instanceCreatorArgs = expandStringArgs(Map.class, String.class, parameterType.getParameterizedTypeStringArgs(), mapVariableName, getter);
+
+        final String forLine = String.format("for ($T<$T, %s> $L : $L.entrySet())", parameterType.getParameterizedTypeString());
+        final Object[] forLineArgs = expandStringArgs(Map.Entry.class, String.class, parameterType.getParameterizedTypeStringArgs(), entryVariableName, mapVariableName);
+
+        builder
+                .addStatement(instanceCreator, instanceCreatorArgs)
+                .addStatement("$T.writeUnsignedVarInt($L, $L.size())", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, mapVariableName)
+                .beginControlFlow(forLine, forLineArgs)
+                .addStatement("$T.writeString($L, $L.getKey())", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, entryVariableName)
+                .beginControlFlow("if ($L.getValue() != null)", entryVariableName)
+                .addStatement("$L.writeBoolean(true)", BINARY_OUTPUT_VARIABLE_NAME);
+
+        parameterType.writeBinary(builder, depth + 1, entryVariableName + ".getValue()");
+
+        builder
+                .nextControlFlow("else")
+                .addStatement("$L.writeBoolean(false)", BINARY_OUTPUT_VARIABLE_NAME)
+                .endControlFlow()
+                .endControlFlow();
+    }
+
+    @Override
+    public void readBinary(MethodSpec.Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        Type parameterType = parameterTypes.get(1);
+        final String mapVariableName = "map" + depth;
+        final String keyVariableName = "key" + depth;
+        final String sizeVarName = "size" + depth;
+        final String indexVarName = "i" + depth;
+
+        final String instanceCreator = String.format("$T<$T, %s> $L = new $T<$T, %s>()", parameterType.getParameterizedTypeString(), parameterType.getParameterizedTypeString());
+        final Object[] instanceCreatorArgs = expandStringArgs(getTypeName(), String.class, parameterType.getParameterizedTypeStringArgs(), mapVariableName, getTypeName(), String.class, parameterType.getParameterizedTypeStringArgs());
+
+        builder
+                .addStatement("int $L = $T.readUnsignedVarInt($L)", sizeVarName, BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME)
+                .addStatement(instanceCreator, instanceCreatorArgs)
+                .beginControlFlow("for (int $L = 0; $L < $L; $L++)", indexVarName, indexVarName, sizeVarName, indexVarName)
+                .addStatement("$T $L = $T.readString($L)", String.class, keyVariableName, BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME)
+                .beginControlFlow("if ($L.readBoolean())", BINARY_INPUT_VARIABLE_NAME);
+
+        parameterType.readBinary(builder, depth + 1, "$L.put($L, $L)", mapVariableName, keyVariableName);
+
+        builder
+                .nextControlFlow("else")
+                .addStatement("$L.put($L, null)", mapVariableName, keyVariableName)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement(setter, expandStringArgs(setterFormatArgs, mapVariableName));
+    }
+
+    @Override
+    public void copy(MethodSpec.Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        Type parameterType = parameterTypes.get(1);
+        final String mapVariableName = "map" + depth;
+        final String entryVariableName = "entry" + depth;
+
+        final String instanceCreator = String.format("$T<$T, %s> $L = new $T<$T, %s>()", parameterType.getParameterizedTypeString(), parameterType.getParameterizedTypeString());
+        final Object[] instanceCreatorArgs = expandStringArgs(getTypeName(), String.class, parameterType.getParameterizedTypeStringArgs(), mapVariableName, getTypeName(), String.class, parameterType.getParameterizedTypeStringArgs());
+
+        final String forLine = String.format("for ($T<$T, %s> $L : $L.entrySet())", parameterType.getParameterizedTypeString());
+        final Object[] forLineArgs = expandStringArgs(Map.Entry.class, String.class, parameterType.getParameterizedTypeStringArgs(), entryVariableName, getter);
+
+        builder
+                .addStatement(instanceCreator, instanceCreatorArgs)
+                .beginControlFlow(forLine, forLineArgs)
+                .beginControlFlow("if ($L.getValue() != null)", entryVariableName);
+
+        parameterType.copy(builder, depth + 1, entryVariableName + ".getValue()", "$L.put($L.getKey(), $L)", mapVariableName, entryVariableName);
+
+        builder
+                .nextControlFlow("else")
+                .addStatement("$L.put($L.getKey(), null)", mapVariableName, entryVariableName)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement(setter, expandStringArgs(setterFormatArgs, mapVariableName));
+    }
 }
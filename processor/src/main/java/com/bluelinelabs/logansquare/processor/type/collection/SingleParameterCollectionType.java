@@ -2,6 +2,7 @@ package com.bluelinelabs.logansquare.processor.type.collection;
 
 import com.bluelinelabs.logansquare.processor.TextUtils;
 import com.bluelinelabs.logansquare.processor.type.Type;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.MethodSpec.Builder;
@@ -9,6 +10,8 @@ import com.squareup.javapoet.MethodSpec.Builder;
 import java.util.List;
 import java.util.Set;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -85,4 +88,124 @@ public abstract class SingleParameterCollectionType extends CollectionType {
                 .endControlFlow();
     }
 
+    @Override
+    public void writeBinary(MethodSpec.Builder builder, int depth, String getter) {
+        Type parameterType = parameterTypes.get(0);
+        final String collectionVarName = "collection" + depth;
+        final String elementVarName = "element" + depth;
+
+        final String instanceCreator = String.format("final $T<%s> $L = $L", parameterType.getParameterizedTypeString());
+        final Object[] instanceCreatorArgs = expandStringArgs(getGenericClass(), parameterType.getParameterizedTypeStringArgs(), collectionVarName, getter);
+
+        final String forLine = String.format("for (%s $L : $L)", parameterType.getParameterizedTypeString());
+        final Object[] forLineArgs = expandStringArgs(parameterType.getParameterizedTypeStringArgs(), elementVarName, collectionVarName);
+
+        builder
+                .addStatement(instanceCreator, instanceCreatorArgs)
+                .addStatement("$T.writeUnsignedVarInt($L, $L.size())", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, collectionVarName)
+                .beginControlFlow(forLine, forLineArgs)
+                .beginControlFlow("if ($L != null)", elementVarName)
+                .addStatement("$L.writeBoolean(true)", BINARY_OUTPUT_VARIABLE_NAME);
+
+        parameterType.writeBinary(builder, depth + 1, elementVarName);
+
+        builder
+                .nextControlFlow("else")
+                .addStatement("$L.writeBoolean(false)", BINARY_OUTPUT_VARIABLE_NAME)
+                .endControlFlow()
+                .endControlFlow();
+    }
+
+    @Override
+    public void readBinary(MethodSpec.Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        Type parameterType = parameterTypes.get(0);
+        final String collectionVarName = "collection" + depth;
+        final String sizeVarName = "size" + depth;
+        final String indexVarName = "i" + depth;
+
+        final String instanceCreator = String.format("$T<%s> $L = new $T<%s>()", parameterType.getParameterizedTypeString(), parameterType.getParameterizedTypeString());
+        final Object[] instanceCreatorArgs = expandStringArgs(getTypeName(), parameterType.getParameterizedTypeStringArgs(), collectionVarName, getTypeName(), parameterType.getParameterizedTypeStringArgs());
+
+        builder
+                .addStatement("int $L = $T.readUnsignedVarInt($L)", sizeVarName, BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME)
+                .addStatement(instanceCreator, instanceCreatorArgs)
+                .beginControlFlow("for (int $L = 0; $L < $L; $L++)", indexVarName, indexVarName, sizeVarName, indexVarName)
+                .beginControlFlow("if ($L.readBoolean())", BINARY_INPUT_VARIABLE_NAME);
+
+        parameterType.readBinary(builder, depth + 1, "$L.add($L)", collectionVarName);
+
+        builder
+                .nextControlFlow("else")
+                .addStatement("$L.add(null)", collectionVarName)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement(setter, expandStringArgs(setterFormatArgs, collectionVarName));
+    }
+
+    @Override
+    public void copy(MethodSpec.Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        Type parameterType = parameterTypes.get(0);
+        final String collectionVarName = "collection" + depth;
+        final String elementVarName = "element" + depth;
+
+        final String instanceCreator = String.format("$T<%s> $L = new $T<%s>()", parameterType.getParameterizedTypeString(), parameterType.getParameterizedTypeString());
+        final Object[] instanceCreatorArgs = expandStringArgs(getTypeName(), parameterType.getParameterizedTypeStringArgs(), collectionVarName, getTypeName(), parameterType.getParameterizedTypeStringArgs());
+
+        final String forLine = String.format("for (%s $L : $L)", parameterType.getParameterizedTypeString());
+        final Object[] forLineArgs = expandStringArgs(parameterType.getParameterizedTypeStringArgs(), elementVarName, getter);
+
+        builder
+                .addStatement(instanceCreator, instanceCreatorArgs)
+                .beginControlFlow(forLine, forLineArgs)
+                .beginControlFlow("if ($L != null)", elementVarName);
+
+        parameterType.copy(builder, depth + 1, elementVarName, "$L.add($L)", collectionVarName);
+
+        builder
+                .nextControlFlow("else")
+                .addStatement("$L.add(null)", collectionVarName)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement(setter, expandStringArgs(setterFormatArgs, collectionVarName));
+    }
+
+    @Override
+    public void parseDiffers(MethodSpec.Builder builder, int depth, String getter) {
+        // Only Lists can be compared element by element while streaming, since other collections may be reordered
+        if (getGenericClass() != List.class) {
+            super.parseDiffers(builder, depth, getter);
+            return;
+        }
+
+        Type parameterType = parameterTypes.get(0);
+        final String listVarName = "list" + depth;
+        final String indexVarName = "i" + depth;
+
+        final String listCreator = String.format("final $T<%s> $L = $L", parameterType.getParameterizedTypeString());
+        final Object[] listCreatorArgs = expandStringArgs(List.class, parameterType.getParameterizedTypeStringArgs(), listVarName, getter);
+
+        builder
+                .beginControlFlow("if ($L.getCurrentToken() == $T.START_ARRAY)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .addStatement(listCreator, listCreatorArgs)
+                .beginControlFlow("if ($L == null)", listVarName)
+                .addStatement("return true")
+                .endControlFlow()
+                .addStatement("int $L = 0", indexVarName)
+                .beginControlFlow("while ($L.nextToken() != $T.END_ARRAY)", JSON_PARSER_VARIABLE_NAME, JsonToken.class)
+                .beginControlFlow("if ($L >= $L.size())", indexVarName, listVarName)
+                .addStatement("return true")
+                .endControlFlow();
+
+        parameterType.parseDiffers(builder, depth + 1, String.format("%s.get(%s)", listVarName, indexVarName));
+
+        builder
+                .addStatement("$L++", indexVarName)
+                .endControlFlow()
+                .beginControlFlow("if ($L != $L.size())", indexVarName, listVarName)
+                .addStatement("return true")
+                .endControlFlow()
+                .nextControlFlow("else if ($L != null)", getter)
+                .addStatement("return true")
+                .endControlFlow();
+    }
 }
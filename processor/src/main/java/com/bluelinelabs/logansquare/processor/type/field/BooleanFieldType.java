@@ -1,5 +1,6 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
+import com.bluelinelabs.logansquare.util.DiffUtils;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
@@ -7,6 +8,8 @@ import com.squareup.javapoet.TypeName;
 
 import java.util.List;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -64,4 +67,22 @@ public class BooleanFieldType extends FieldType {
             builder.endControlFlow();
         }
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$L.writeBoolean($L)", BINARY_OUTPUT_VARIABLE_NAME, getter);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$L.readBoolean()");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void parseDiffers(Builder builder, int depth, String getter) {
+        builder.beginControlFlow("if ($T.differs($L, $L))", DiffUtils.class, JSON_PARSER_VARIABLE_NAME, getter)
+                .addStatement("return true")
+                .endControlFlow();
+    }
 }
@@ -5,6 +5,8 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
 public class DoubleFieldType extends NumberFieldType {
@@ -33,4 +35,15 @@ public class DoubleFieldType extends NumberFieldType {
             builder.addStatement(setter, expandStringArgs(setterFormatArgs, JSON_PARSER_VARIABLE_NAME, JsonToken.class, JSON_PARSER_VARIABLE_NAME));
         }
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$L.writeDouble($L)", BINARY_OUTPUT_VARIABLE_NAME, getter);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$L.readDouble()");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BINARY_INPUT_VARIABLE_NAME));
+    }
 }
@@ -1,12 +1,16 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
 import com.bluelinelabs.logansquare.processor.ObjectMapperInjector;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.bluelinelabs.logansquare.util.CopyUtils;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
 import java.util.List;
 import java.util.Set;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -60,4 +64,21 @@ public class DynamicFieldType extends FieldType {
         set.add(mTypeName);
         return set;
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$T.writeWithTypeConverter($L(), $L, $L)", BinaryUtils.class, ObjectMapperInjector.getTypeConverterGetter(mTypeName), getter, BINARY_OUTPUT_VARIABLE_NAME);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.readWithTypeConverter($L(), $L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BinaryUtils.class, ObjectMapperInjector.getTypeConverterGetter(mTypeName), BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.copyWithTypeConverter($L(), $L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, CopyUtils.class, ObjectMapperInjector.getTypeConverterGetter(mTypeName), getter));
+    }
 }
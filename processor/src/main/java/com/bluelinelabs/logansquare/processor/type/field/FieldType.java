@@ -1,12 +1,20 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
+import com.bluelinelabs.logansquare.annotation.JsonEnum;
 import com.bluelinelabs.logansquare.annotation.JsonObject;
+import com.bluelinelabs.logansquare.processor.TypeUtils;
 import com.bluelinelabs.logansquare.processor.type.Type;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
 
 import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
 
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -15,6 +23,18 @@ import javax.lang.model.util.Types;
 
 public abstract class FieldType extends Type {
 
+    private static final String TYPE_CONVERTERS_PACKAGE = "com.bluelinelabs.logansquare.typeconverters";
+
+    // java.time types have default converters in core, which can optionally be called directly rather than looked up at runtime
+    private static final Map<String, ClassName> JAVA_TIME_TYPE_CONVERTERS = new HashMap<>();
+    static {
+        JAVA_TIME_TYPE_CONVERTERS.put("java.time.Instant", ClassName.get(TYPE_CONVERTERS_PACKAGE, "DefaultInstantConverter"));
+        JAVA_TIME_TYPE_CONVERTERS.put("java.time.OffsetDateTime", ClassName.get(TYPE_CONVERTERS_PACKAGE, "DefaultOffsetDateTimeConverter"));
+        JAVA_TIME_TYPE_CONVERTERS.put("java.time.LocalDate", ClassName.get(TYPE_CONVERTERS_PACKAGE, "DefaultLocalDateConverter"));
+        JAVA_TIME_TYPE_CONVERTERS.put("java.time.LocalDateTime", ClassName.get(TYPE_CONVERTERS_PACKAGE, "DefaultLocalDateTimeConverter"));
+        JAVA_TIME_TYPE_CONVERTERS.put("java.time.Duration", ClassName.get(TYPE_CONVERTERS_PACKAGE, "DefaultDurationConverter"));
+    }
+
     public abstract TypeName getNonPrimitiveTypeName();
 
     @Override
@@ -27,6 +47,12 @@ public abstract class FieldType extends Type {
         return new Object[] { getNonPrimitiveTypeName() };
     }
 
+    @Override
+    public void copy(MethodSpec.Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        // Primitives, boxed primitives and Strings are immutable, so copies can share them
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, getter));
+    }
+
     public static FieldType fieldTypeFor(TypeMirror typeMirror, TypeMirror typeConverterType, Elements elements, Types types) {
         if (typeMirror != null) {
             if (typeConverterType != null && !"void".equals(typeConverterType.toString())) {
@@ -59,8 +85,15 @@ public abstract class FieldType extends Type {
                 return new StringFieldType();
             } else if (Object.class.getCanonicalName().equals(typeMirror.toString())) {
                 return new UnknownFieldType();
+            } else if (JAVA_TIME_TYPE_CONVERTERS.containsKey(typeMirror.toString())) {
+                return new JavaTimeFieldType(TypeName.get(typeMirror), JAVA_TIME_TYPE_CONVERTERS.get(typeMirror.toString()));
             } else if (typeMirror instanceof DeclaredType) {
-                Annotation annotation = ((DeclaredType) typeMirror).asElement().getAnnotation(JsonObject.class);
+                Element element = ((DeclaredType) typeMirror).asElement();
+                if (element.getKind() == ElementKind.ENUM && element.getAnnotation(JsonEnum.class) != null) {
+                    return new ImplicitTypeConverterFieldType(TypeName.get(typeMirror), TypeUtils.getInjectedTypeConverterClassName(ClassName.get((TypeElement) element)));
+                }
+
+                Annotation annotation = element.getAnnotation(JsonObject.class);
                 if (annotation != null) {
                     return new JsonFieldType(ClassName.bestGuess(typeMirror.toString()));
                 }
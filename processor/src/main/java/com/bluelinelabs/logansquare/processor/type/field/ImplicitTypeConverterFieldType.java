@@ -0,0 +1,44 @@
+package com.bluelinelabs.logansquare.processor.type.field;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec.Builder;
+import com.squareup.javapoet.TypeName;
+
+import java.util.List;
+
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
+
+/** A field whose TypeConverter is known at compile time without being declared on its @JsonField, such as @JsonEnum types */
+public class ImplicitTypeConverterFieldType extends TypeConverterFieldType {
+
+    public ImplicitTypeConverterFieldType(TypeName typeName, ClassName typeConverterClassName) {
+        super(typeName, typeConverterClassName);
+    }
+
+    @Override
+    public void serialize(Builder builder, int depth, String fieldName, List<String> processedFieldNames, String getter, boolean isObjectProperty, boolean checkIfNull, boolean writeIfNull, boolean writeCollectionElementIfNull) {
+        if (checkIfNull) {
+            builder.beginControlFlow("if ($L != null)", getter);
+        }
+
+        super.serialize(builder, depth, fieldName, processedFieldNames, getter, isObjectProperty, checkIfNull, writeIfNull, writeCollectionElementIfNull);
+
+        if (checkIfNull) {
+            if (writeIfNull) {
+                builder.nextControlFlow("else");
+
+                if (isObjectProperty) {
+                    builder.addStatement("$L.writeFieldName($S)", JSON_GENERATOR_VARIABLE_NAME, fieldName);
+                }
+                builder.addStatement("$L.writeNull()", JSON_GENERATOR_VARIABLE_NAME);
+            }
+            builder.endControlFlow();
+        }
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        // Enum values are immutable, so copies can share them
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, getter));
+    }
+}
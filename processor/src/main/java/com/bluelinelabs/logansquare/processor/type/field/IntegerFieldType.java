@@ -1,10 +1,13 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
+import com.bluelinelabs.logansquare.util.BinaryUtils;
 import com.fasterxml.jackson.core.JsonToken;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
 public class IntegerFieldType extends NumberFieldType {
@@ -33,4 +36,15 @@ public class IntegerFieldType extends NumberFieldType {
             builder.addStatement(setter, expandStringArgs(setterFormatArgs, JSON_PARSER_VARIABLE_NAME, JsonToken.class, JSON_PARSER_VARIABLE_NAME));
         }
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$T.writeVarInt($L, $L)", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, getter);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.readVarInt($L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME));
+    }
 }
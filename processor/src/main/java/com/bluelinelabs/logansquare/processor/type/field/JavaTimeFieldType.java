@@ -0,0 +1,80 @@
+package com.bluelinelabs.logansquare.processor.type.field;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec.Builder;
+import com.squareup.javapoet.TypeName;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A java.time field. Its TypeConverter is looked up at runtime like other types without a declared converter, so one
+ * registered with LoganSquare.registerTypeConverter() replaces the built-in default. The default converter can be called
+ * directly instead, which skips the lookup but ignores registered converters.
+ */
+public class JavaTimeFieldType extends DynamicFieldType {
+
+    private final TypeConverterFieldType mDefaultConverterType;
+    private boolean mCallDefaultConverter;
+
+    public JavaTimeFieldType(TypeName typeName, ClassName defaultTypeConverterClassName) {
+        super(typeName);
+        mDefaultConverterType = new ImplicitTypeConverterFieldType(typeName, defaultTypeConverterClassName);
+    }
+
+    public void setCallDefaultConverter(boolean callDefaultConverter) {
+        mCallDefaultConverter = callDefaultConverter;
+    }
+
+    @Override
+    public void parse(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        if (mCallDefaultConverter) {
+            mDefaultConverterType.parse(builder, depth, setter, setterFormatArgs);
+        } else {
+            super.parse(builder, depth, setter, setterFormatArgs);
+        }
+    }
+
+    @Override
+    public void serialize(Builder builder, int depth, String fieldName, List<String> processedFieldNames, String getter, boolean isObjectProperty, boolean checkIfNull, boolean writeIfNull, boolean writeCollectionElementIfNull) {
+        if (mCallDefaultConverter) {
+            mDefaultConverterType.serialize(builder, depth, fieldName, processedFieldNames, getter, isObjectProperty, checkIfNull, writeIfNull, writeCollectionElementIfNull);
+        } else {
+            super.serialize(builder, depth, fieldName, processedFieldNames, getter, isObjectProperty, checkIfNull, writeIfNull, writeCollectionElementIfNull);
+        }
+    }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        if (mCallDefaultConverter) {
+            mDefaultConverterType.writeBinary(builder, depth, getter);
+        } else {
+            super.writeBinary(builder, depth, getter);
+        }
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        if (mCallDefaultConverter) {
+            mDefaultConverterType.readBinary(builder, depth, setter, setterFormatArgs);
+        } else {
+            super.readBinary(builder, depth, setter, setterFormatArgs);
+        }
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        // java.time values are immutable, so copies can share them
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, getter));
+    }
+
+    @Override
+    public Set<TypeName> getUsedTypeConverters() {
+        return mCallDefaultConverter ? mDefaultConverterType.getUsedTypeConverters() : super.getUsedTypeConverters();
+    }
+
+    @Override
+    public Set<ClassName> getUsedTypeConverterClasses() {
+        return mCallDefaultConverter ? mDefaultConverterType.getUsedTypeConverterClasses() : super.getUsedTypeConverterClasses();
+    }
+}
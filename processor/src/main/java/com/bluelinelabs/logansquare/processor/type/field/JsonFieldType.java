@@ -2,13 +2,17 @@ package com.bluelinelabs.logansquare.processor.type.field;
 
 import com.bluelinelabs.logansquare.Constants;
 import com.bluelinelabs.logansquare.processor.ObjectMapperInjector;
+import com.bluelinelabs.logansquare.processor.TypeUtils;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -24,6 +28,10 @@ public class JsonFieldType extends FieldType {
         mMapperVariableName = ObjectMapperInjector.getMapperVariableName(mMapperClassName);
     }
 
+    public String getMapperVariableName() {
+        return mMapperVariableName;
+    }
+
     @Override
     public TypeName getTypeName() {
         return mClassName;
@@ -70,7 +78,37 @@ public class JsonFieldType extends FieldType {
     @Override
     public Set<ClassNameObjectMapper> getUsedJsonObjectMappers() {
         Set<ClassNameObjectMapper> set = super.getUsedJsonObjectMappers();
-        set.add(new ClassNameObjectMapper(mClassName, mMapperClassName));
+        set.add(new ClassNameObjectMapper(mClassName, mMapperClassName, TypeUtils.getInjectedClassName(mClassName)));
         return set;
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$L.writeBinaryBody($L, $L)", mMapperVariableName, getter, BINARY_OUTPUT_VARIABLE_NAME);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$L.readBinaryBody($L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, mMapperVariableName, BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$L.copy($L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, mMapperVariableName, getter));
+    }
+
+    @Override
+    public void appendContentDiffersCondition(StringBuilder condition, List<Object> args, String a, String b) {
+        condition.append("!$L.contentEquals($L, $L)");
+        Collections.addAll(args, mMapperVariableName, a, b);
+    }
+
+    @Override
+    public void parseDiffers(Builder builder, int depth, String getter) {
+        builder.beginControlFlow("if ($L.parseDiffers($L, $L))", mMapperVariableName, getter, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("return true")
+                .endControlFlow();
+    }
 }
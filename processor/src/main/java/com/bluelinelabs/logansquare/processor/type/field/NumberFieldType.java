@@ -1,10 +1,12 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
+import com.bluelinelabs.logansquare.util.DiffUtils;
 import com.squareup.javapoet.MethodSpec.Builder;
 
 import java.util.List;
 
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
 public abstract class NumberFieldType extends FieldType {
 
@@ -40,4 +42,10 @@ public abstract class NumberFieldType extends FieldType {
         }
     }
 
+    @Override
+    public void parseDiffers(Builder builder, int depth, String getter) {
+        builder.beginControlFlow("if ($T.differs($L, $L))", DiffUtils.class, JSON_PARSER_VARIABLE_NAME, getter)
+                .addStatement("return true")
+                .endControlFlow();
+    }
 }
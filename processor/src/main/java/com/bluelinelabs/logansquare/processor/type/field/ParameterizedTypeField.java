@@ -1,28 +1,41 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
+import com.bluelinelabs.logansquare.processor.ObjectMapperInjector;
 import com.bluelinelabs.logansquare.processor.type.Type;
-import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import javax.lang.model.type.TypeMirror;
+
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
 public class ParameterizedTypeField extends FieldType {
 
     private final TypeName mTypeName;
+    private final TypeMirror mTypeMirror;
     private String mJsonMapperVariableName;
+    private ClassName mSpecializedMapper;
 
     public ParameterizedTypeField(TypeName typeName) {
+        this(typeName, null);
+    }
+
+    public ParameterizedTypeField(TypeName typeName, TypeMirror typeMirror) {
         mTypeName = typeName;
+        mTypeMirror = typeMirror;
     }
 
     @Override
     public void parse(Builder builder, int depth, String setter, Object... setterFormatArgs) {
-        setter = replaceLastLiteral(setter, String.format("%s.parse($L)", mJsonMapperVariableName));
+        setter = replaceLastLiteral(setter, String.format("%s.parse($L)", getJsonMapperVariableName()));
         builder.addStatement(setter, expandStringArgs(setterFormatArgs, JSON_PARSER_VARIABLE_NAME));
     }
 
@@ -35,7 +48,7 @@ public class ParameterizedTypeField extends FieldType {
         if (isObjectProperty) {
             builder.addStatement("$L.writeFieldName($S)", JSON_GENERATOR_VARIABLE_NAME, fieldName);
         }
-        builder.addStatement("$L.serialize($L, $L, true)", mJsonMapperVariableName, getter, JSON_GENERATOR_VARIABLE_NAME);
+        builder.addStatement("$L.serialize($L, $L, true)", getJsonMapperVariableName(), getter, JSON_GENERATOR_VARIABLE_NAME);
 
         if (checkIfNull) {
             if (writeIfNull) {
@@ -94,7 +107,60 @@ public class ParameterizedTypeField extends FieldType {
         mJsonMapperVariableName = jsonMapperVariableName;
     }
 
+    public String getJsonMapperVariableName() {
+        if (mSpecializedMapper != null) {
+            return ObjectMapperInjector.getMapperVariableName(mSpecializedMapper.toString());
+        } else {
+            return mJsonMapperVariableName;
+        }
+    }
+
+    public TypeMirror getTypeMirror() {
+        return mTypeMirror;
+    }
+
+    public ClassName getSpecializedMapper() {
+        return mSpecializedMapper;
+    }
+
+    public void setSpecializedMapper(ClassName specializedMapper) {
+        mSpecializedMapper = specializedMapper;
+    }
+
+    @Override
+    public Set<ClassName> getUsedSpecializedMappers() {
+        Set<ClassName> set = super.getUsedSpecializedMappers();
+        if (mSpecializedMapper != null) {
+            set.add(mSpecializedMapper);
+        }
+        return set;
+    }
+
     public String getParameterName() {
         return mTypeName.toString();
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$L.writeBinaryBody($L, $L)", getJsonMapperVariableName(), getter, BINARY_OUTPUT_VARIABLE_NAME);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$L.readBinaryBody($L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, getJsonMapperVariableName(), BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$L.copy($L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, getJsonMapperVariableName(), getter));
+    }
+
+    @Override
+    public void parseDiffers(Builder builder, int depth, String getter) {
+        builder.beginControlFlow("if ($L.parseDiffers($L, $L))", getJsonMapperVariableName(), getter, JSON_PARSER_VARIABLE_NAME)
+                .addStatement("return true")
+                .endControlFlow();
+    }
 }
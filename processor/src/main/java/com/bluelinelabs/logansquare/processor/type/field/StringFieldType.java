@@ -1,16 +1,27 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.bluelinelabs.logansquare.util.DiffUtils;
+import com.bluelinelabs.logansquare.util.StringCache;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
 import java.util.List;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
 public class StringFieldType extends FieldType {
 
+    private boolean dedup;
+
+    public void setDedup(boolean dedup) {
+        this.dedup = dedup;
+    }
+
     @Override
     public TypeName getTypeName() {
         return ClassName.get(String.class);
@@ -23,8 +34,13 @@ public class StringFieldType extends FieldType {
 
     @Override
     public void parse(Builder builder, int depth, String setter, Object... setterFormatArgs) {
-        setter = replaceLastLiteral(setter, "$L.getValueAsString(null)");
-        builder.addStatement(setter, expandStringArgs(setterFormatArgs, JSON_PARSER_VARIABLE_NAME));
+        if (dedup) {
+            setter = replaceLastLiteral(setter, "$T.valueOf($L)");
+            builder.addStatement(setter, expandStringArgs(setterFormatArgs, ClassName.get(StringCache.class), JSON_PARSER_VARIABLE_NAME));
+        } else {
+            setter = replaceLastLiteral(setter, "$L.getValueAsString(null)");
+            builder.addStatement(setter, expandStringArgs(setterFormatArgs, JSON_PARSER_VARIABLE_NAME));
+        }
     }
 
     @Override
@@ -52,4 +68,22 @@ public class StringFieldType extends FieldType {
             builder.endControlFlow();
         }
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$T.writeString($L, $L)", BinaryUtils.class, BINARY_OUTPUT_VARIABLE_NAME, getter);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.readString($L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BinaryUtils.class, BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void parseDiffers(Builder builder, int depth, String getter) {
+        builder.beginControlFlow("if ($T.differs($L, $L))", DiffUtils.class, JSON_PARSER_VARIABLE_NAME, getter)
+                .addStatement("return true")
+                .endControlFlow();
+    }
 }
@@ -1,12 +1,17 @@
 package com.bluelinelabs.logansquare.processor.type.field;
 
 import com.bluelinelabs.logansquare.processor.ObjectMapperInjector;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.bluelinelabs.logansquare.util.CopyUtils;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 
 import java.util.List;
+import java.util.Set;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -42,6 +47,30 @@ public class TypeConverterFieldType extends FieldType {
 
     @Override
     public void serialize(Builder builder, int depth, String fieldName, List<String> processedFieldNames, String getter, boolean isObjectProperty, boolean checkIfNull, boolean writeIfNull, boolean writeCollectionElementIfNull) {
-        builder.addStatement("$L.serialize($L, $S, $L, $L)", ObjectMapperInjector.getStaticFinalTypeConverterVariableName(mTypeConverter), getter, fieldName, isObjectProperty, JSON_GENERATOR_VARIABLE_NAME);
+        builder.addStatement("$L.serialize($L, $S, $L, $L)", ObjectMapperInjector.getStaticFinalTypeConverterVariableName(mTypeConverter), getter, isObjectProperty ? fieldName : null, isObjectProperty, JSON_GENERATOR_VARIABLE_NAME);
+    }
+
+    @Override
+    public Set<ClassName> getUsedTypeConverterClasses() {
+        Set<ClassName> set = super.getUsedTypeConverterClasses();
+        set.add(mTypeConverter);
+        return set;
+    }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$T.writeWithTypeConverter($L, $L, $L)", BinaryUtils.class, ObjectMapperInjector.getStaticFinalTypeConverterVariableName(mTypeConverter), getter, BINARY_OUTPUT_VARIABLE_NAME);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.readWithTypeConverter($L, $L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BinaryUtils.class, ObjectMapperInjector.getStaticFinalTypeConverterVariableName(mTypeConverter), BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.copyWithTypeConverter($L, $L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, CopyUtils.class, ObjectMapperInjector.getStaticFinalTypeConverterVariableName(mTypeConverter), getter));
     }
 }
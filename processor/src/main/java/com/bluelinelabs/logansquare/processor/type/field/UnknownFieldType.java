@@ -2,6 +2,8 @@ package com.bluelinelabs.logansquare.processor.type.field;
 
 import com.bluelinelabs.logansquare.internal.objectmappers.ObjectMapper;
 import com.bluelinelabs.logansquare.processor.ObjectMapperInjector;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.bluelinelabs.logansquare.util.CopyUtils;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
@@ -9,6 +11,8 @@ import com.squareup.javapoet.TypeName;
 import java.util.List;
 import java.util.Set;
 
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_INPUT_VARIABLE_NAME;
+import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.BINARY_OUTPUT_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_GENERATOR_VARIABLE_NAME;
 import static com.bluelinelabs.logansquare.processor.ObjectMapperInjector.JSON_PARSER_VARIABLE_NAME;
 
@@ -58,4 +62,21 @@ public class UnknownFieldType extends FieldType {
         set.add(new ClassNameObjectMapper(ClassName.get(Object.class), ObjectMapper.class.getCanonicalName()));
         return set;
     }
+
+    @Override
+    public void writeBinary(Builder builder, int depth, String getter) {
+        builder.addStatement("$T.writeWithMapper($L, $L, $L)", BinaryUtils.class, ObjectMapperInjector.getMapperVariableName(ObjectMapper.class), getter, BINARY_OUTPUT_VARIABLE_NAME);
+    }
+
+    @Override
+    public void readBinary(Builder builder, int depth, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.readWithMapper($L, $L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, BinaryUtils.class, ObjectMapperInjector.getMapperVariableName(ObjectMapper.class), BINARY_INPUT_VARIABLE_NAME));
+    }
+
+    @Override
+    public void copy(Builder builder, int depth, String getter, String setter, Object... setterFormatArgs) {
+        setter = replaceLastLiteral(setter, "$T.copyWithMapper($L, $L)");
+        builder.addStatement(setter, expandStringArgs(setterFormatArgs, CopyUtils.class, ObjectMapperInjector.getMapperVariableName(ObjectMapper.class), getter));
+    }
 }
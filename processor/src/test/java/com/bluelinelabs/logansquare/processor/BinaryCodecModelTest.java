@@ -0,0 +1,20 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.ASSERT;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class BinaryCodecModelTest {
+
+    @Test
+    public void generatedSource() {
+        ASSERT.about(javaSource())
+                .that(JavaFileObjects.forResource("model/good/BinaryCodecModel.java"))
+                .processedWith(new JsonAnnotationProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesSources(JavaFileObjects.forResource("generated/BinaryCodecModel$$JsonObjectMapper.java"));
+    }
+}
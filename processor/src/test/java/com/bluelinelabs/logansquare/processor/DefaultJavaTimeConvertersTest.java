@@ -0,0 +1,32 @@
+package com.bluelinelabs.logansquare.processor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.ASSERT;
+
+public class DefaultJavaTimeConvertersTest {
+
+    private static final String MAPPER = "com.bluelinelabs.logansquare.processor.JavaTimeModel$$JsonObjectMapper";
+
+    @Test
+    public void registeredConvertersByDefault() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Collections.<String>emptyList(), "model/good/JavaTimeModel.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        ASSERT.that(compilation.generatedSource(MAPPER)).contains("instance.instant = getjava_time_Instant_type_converter().parse(jsonParser);");
+        ASSERT.that(compilation.generatedSource(MAPPER)).doesNotContain("DefaultInstantConverter COM_BLUELINELABS_LOGANSQUARE_TYPECONVERTERS_DEFAULTINSTANTCONVERTER =");
+    }
+
+    @Test
+    public void defaultConvertersWhenEnabled() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Arrays.asList("logansquare.defaultJavaTimeConverters=true"), "model/good/JavaTimeModel.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        ASSERT.that(compilation.generatedSource(MAPPER)).contains("instance.instant = COM_BLUELINELABS_LOGANSQUARE_TYPECONVERTERS_DEFAULTINSTANTCONVERTER.parse(jsonParser);");
+        ASSERT.that(compilation.generatedSource(MAPPER)).contains("value1 = COM_BLUELINELABS_LOGANSQUARE_TYPECONVERTERS_DEFAULTLOCALDATECONVERTER.parse(jsonParser);");
+        ASSERT.that(compilation.generatedSource(MAPPER)).doesNotContain("typeConverterFor");
+    }
+}
@@ -0,0 +1,34 @@
+package com.bluelinelabs.logansquare.processor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.ASSERT;
+
+public class DirectMapperCallsTest {
+
+    private static final String MAPPER = "com.bluelinelabs.logansquare.processor.MutualModelA$$JsonObjectMapper";
+
+    @Test
+    public void jsonMapperHoldersByDefault() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Collections.<String>emptyList(),
+                "model/options/MutualModelA.java", "model/options/MutualModelB.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        ASSERT.that(compilation.generatedSource(MAPPER))
+                .contains("static final JsonMapper<MutualModelB> MAPPER = LoganSquare.mapperFor(MutualModelB.class);");
+        ASSERT.that(compilation.generatedSource(MAPPER)).doesNotContain("MutualModelB$$JsonObjectMapper MAPPER");
+    }
+
+    @Test
+    public void finalMapperHoldersWhenEnabled() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Arrays.asList("logansquare.directMapperCalls=true"),
+                "model/options/MutualModelA.java", "model/options/MutualModelB.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        ASSERT.that(compilation.generatedSource(MAPPER))
+                .contains("static final MutualModelB$$JsonObjectMapper MAPPER = (MutualModelB$$JsonObjectMapper) LoganSquare.mapperFor(MutualModelB.class);");
+    }
+}
@@ -0,0 +1,49 @@
+package com.bluelinelabs.logansquare.processor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.ASSERT;
+
+public class IncrementalProcessingTest {
+
+    private static final String PACKAGE = "com.bluelinelabs.logansquare.processor.";
+
+    @Test
+    public void aggregatingWhileSpecializingGenerics() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Collections.<String>emptyList(),
+                "model/options/GenericBox.java", "model/options/GenericBoxUser.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        ASSERT.that(compilation.supportedOptions).contains("org.gradle.annotation.processing.aggregating");
+        ASSERT.that(compilation.supportedOptions).doesNotContain("org.gradle.annotation.processing.isolating");
+
+        ASSERT.that(compilation.originatingElements(PACKAGE + "GenericBox$$JsonObjectMapper"))
+                .isEqualTo(Arrays.asList(PACKAGE + "GenericBox"));
+        ASSERT.that(compilation.originatingElements(PACKAGE + "GenericBoxUser$$JsonObjectMapper"))
+                .isEqualTo(Arrays.asList(PACKAGE + "GenericBoxUser"));
+
+        // Specialized mappers depend on both the generic class and the class using it
+        ASSERT.that(compilation.originatingElements(PACKAGE + "GenericBox$$JsonObjectMapper$$java_lang_String"))
+                .containsExactly(PACKAGE + "GenericBox", PACKAGE + "GenericBoxUser");
+    }
+
+    @Test
+    public void isolatingWithoutSpecializedGenerics() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Arrays.asList("logansquare.specializeGenerics=false"),
+                "model/options/GenericBox.java", "model/options/GenericBoxUser.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        ASSERT.that(compilation.supportedOptions).contains("org.gradle.annotation.processing.isolating");
+        ASSERT.that(compilation.supportedOptions).doesNotContain("org.gradle.annotation.processing.aggregating");
+
+        // Isolating processors must give each generated file exactly one originating element
+        ASSERT.that(compilation.generatedSource(PACKAGE + "GenericBox$$JsonObjectMapper$$java_lang_String")).isNull();
+        ASSERT.that(compilation.originatingElements(PACKAGE + "GenericBox$$JsonObjectMapper"))
+                .isEqualTo(Arrays.asList(PACKAGE + "GenericBox"));
+        ASSERT.that(compilation.originatingElements(PACKAGE + "GenericBoxUser$$JsonObjectMapper"))
+                .isEqualTo(Arrays.asList(PACKAGE + "GenericBoxUser"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.bluelinelabs.logansquare.processor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.ASSERT;
+
+public class LazyMapperHolderTest {
+
+    private static final String PACKAGE = "com.bluelinelabs.logansquare.processor.";
+
+    @Test
+    public void mutuallyReferencingModels() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Collections.<String>emptyList(),
+                "model/options/MutualModelA.java", "model/options/MutualModelB.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        assertLazyHolder(compilation.generatedSource(PACKAGE + "MutualModelA$$JsonObjectMapper"), "MutualModelB");
+        assertLazyHolder(compilation.generatedSource(PACKAGE + "MutualModelB$$JsonObjectMapper"), "MutualModelA");
+    }
+
+    @Test
+    public void mutuallyReferencingModelsWithDirectMapperCalls() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Arrays.asList("logansquare.directMapperCalls=true"),
+                "model/options/MutualModelA.java", "model/options/MutualModelB.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        assertLazyHolder(compilation.generatedSource(PACKAGE + "MutualModelA$$JsonObjectMapper"), "MutualModelB");
+        assertLazyHolder(compilation.generatedSource(PACKAGE + "MutualModelB$$JsonObjectMapper"), "MutualModelA");
+    }
+
+    @Test
+    public void holderNamesDontCollide() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Collections.<String>emptyList(),
+                "model/options/Foo.java", "model/options/FooBar.java", "model/options/HolderNameModel.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        String source = compilation.generatedSource(PACKAGE + "HolderNameModel$$JsonObjectMapper");
+        ASSERT.that(source).contains("private static final class com_bluelinelabs_logansquare_processor_Foo_BarMapperHolder {");
+        ASSERT.that(source).contains("private static final class com_bluelinelabs_logansquare_processor_FooBarMapperHolder {");
+    }
+
+    private static void assertLazyHolder(String source, String referencedModel) {
+        String holderName = "com_bluelinelabs_logansquare_processor_" + referencedModel + "MapperHolder";
+
+        // The referenced mapper is only looked up inside its holder, so loading this mapper doesn't initialize it
+        ASSERT.that(source).contains("private static final class " + holderName + " {");
+        ASSERT.that(source).contains(holderName + ".MAPPER.parse(jsonParser)");
+        ASSERT.that(source.indexOf("LoganSquare.mapperFor(" + referencedModel + ".class)")).isGreaterThan(source.indexOf("class " + holderName));
+    }
+}
@@ -0,0 +1,217 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.testing.compile.JavaFileObjects;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles test models with -A processor options, which compile-testing can't pass along, and records what the
+ * processor generated and which elements each generated file originated from.
+ */
+final class OptionsCompilation {
+
+    final boolean success;
+    final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    final Set<String> supportedOptions;
+
+    // Generated source files and their originating elements, keyed by the qualified name of the generated class
+    private final Map<String, String> mGeneratedSources;
+    private final Map<String, List<String>> mOriginatingElements;
+
+    private OptionsCompilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Set<String> supportedOptions,
+                               Map<String, String> generatedSources, Map<String, List<String>> originatingElements) {
+        this.success = success;
+        this.diagnostics = diagnostics;
+        this.supportedOptions = supportedOptions;
+        mGeneratedSources = generatedSources;
+        mOriginatingElements = originatingElements;
+    }
+
+    /** Returns the source generated for the passed class, or null if it wasn't generated. */
+    String generatedSource(String qualifiedName) {
+        return mGeneratedSources.get(qualifiedName);
+    }
+
+    /** Returns the qualified names of the elements the passed class was generated from, or null if it wasn't generated. */
+    List<String> originatingElements(String qualifiedName) {
+        return mOriginatingElements.get(qualifiedName);
+    }
+
+    /** Returns the notes the processor printed while compiling. */
+    List<String> notes() {
+        List<String> notes = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+            if (diagnostic.getKind() == Diagnostic.Kind.NOTE) {
+                notes.add(diagnostic.getMessage(null));
+            }
+        }
+        return notes;
+    }
+
+    /**
+     * Compiles the passed model resources with the annotation processor.
+     *
+     * @param options       Processor options, without the -A prefix. Ex: logansquare.specializeGenerics=false
+     * @param resourceNames The model sources to compile
+     */
+    static OptionsCompilation compile(List<String> options, String... resourceNames) throws IOException {
+        List<JavaFileObject> sources = new ArrayList<>();
+        for (String resourceName : resourceNames) {
+            sources.add(JavaFileObjects.forResource(resourceName));
+        }
+
+        List<String> compilerOptions = new ArrayList<>();
+        compilerOptions.add("-classpath");
+        compilerOptions.add(System.getProperty("java.class.path"));
+        for (String option : options) {
+            compilerOptions.add("-A" + option);
+        }
+
+        File outputDir = Files.createTempDir();
+        File sourceOutputDir = new File(outputDir, "sources");
+        File classOutputDir = new File(outputDir, "classes");
+        sourceOutputDir.mkdirs();
+        classOutputDir.mkdirs();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, Charsets.UTF_8);
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(sourceOutputDir));
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(classOutputDir));
+
+        Map<String, List<String>> originatingElements = new LinkedHashMap<>();
+        JsonAnnotationProcessor processor = new JsonAnnotationProcessor();
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, compilerOptions, null, sources);
+        task.setProcessors(Collections.singleton(new RecordingProcessor(processor, originatingElements)));
+        boolean success = task.call();
+        fileManager.close();
+
+        Map<String, String> generatedSources = new LinkedHashMap<>();
+        for (String qualifiedName : originatingElements.keySet()) {
+            File file = new File(sourceOutputDir, qualifiedName.replace('.', File.separatorChar) + ".java");
+            if (file.exists()) {
+                generatedSources.put(qualifiedName, Files.toString(file, Charsets.UTF_8));
+            }
+        }
+        delete(outputDir);
+
+        return new OptionsCompilation(success, diagnostics.getDiagnostics(), processor.getSupportedOptions(), generatedSources, originatingElements);
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    /** Runs a processor with a Filer that records the originating elements of each source file it creates. */
+    private static class RecordingProcessor implements Processor {
+
+        private final Processor mProcessor;
+        private final Map<String, List<String>> mOriginatingElements;
+
+        RecordingProcessor(Processor processor, Map<String, List<String>> originatingElements) {
+            mProcessor = processor;
+            mOriginatingElements = originatingElements;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return mProcessor.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return mProcessor.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return mProcessor.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            final Filer filer = processingEnv.getFiler();
+            final Filer recordingFiler = delegate(Filer.class, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if (method.getName().equals("createSourceFile")) {
+                        List<String> elementNames = new ArrayList<>();
+                        for (Element element : (Element[]) args[1]) {
+                            elementNames.add(((TypeElement) element).getQualifiedName().toString());
+                        }
+                        mOriginatingElements.put(args[0].toString(), elementNames);
+                    }
+                    return invokeDelegate(method, filer, args);
+                }
+            });
+
+            final ProcessingEnvironment env = processingEnv;
+            mProcessor.init(delegate(ProcessingEnvironment.class, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    return method.getName().equals("getFiler") ? recordingFiler : invokeDelegate(method, env, args);
+                }
+            }));
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return mProcessor.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation, ExecutableElement member, String userText) {
+            return mProcessor.getCompletions(element, annotation, member, userText);
+        }
+
+        private static <T> T delegate(Class<T> cls, InvocationHandler handler) {
+            return cls.cast(Proxy.newProxyInstance(OptionsCompilation.class.getClassLoader(), new Class<?>[]{ cls }, handler));
+        }
+
+        private static Object invokeDelegate(Method method, Object instance, Object[] args) throws Throwable {
+            try {
+                return method.invoke(instance, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.bluelinelabs.logansquare.processor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.ASSERT;
+
+public class ProcessingTimingsTest {
+
+    @Test
+    public void reportsTimesPerClass() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Arrays.asList("logansquare.timings=true"),
+                "model/options/GenericBox.java", "model/options/GenericBoxUser.java");
+
+        ASSERT.that(compilation.success).isTrue();
+
+        String report = null;
+        for (String note : compilation.notes()) {
+            if (note.startsWith("LoganSquare processed")) {
+                report = note;
+            }
+        }
+        // The specialized GenericBox<String> mapper is timed as a class of its own
+        ASSERT.that(report).startsWith("LoganSquare processed 3 classes in ");
+        ASSERT.that(report).contains("@JsonObject: ");
+        ASSERT.that(report).contains("Writing mappers: ");
+        ASSERT.that(report).contains("Time per class:");
+        ASSERT.that(report).contains("com.bluelinelabs.logansquare.processor.GenericBox: ");
+        ASSERT.that(report).contains("com.bluelinelabs.logansquare.processor.GenericBoxUser: ");
+        ASSERT.that(report).contains("com.bluelinelabs.logansquare.processor.GenericBox<java.lang.String>: ");
+    }
+
+    @Test
+    public void silentByDefault() throws Exception {
+        OptionsCompilation compilation = OptionsCompilation.compile(Collections.<String>emptyList(),
+                "model/options/GenericBox.java", "model/options/GenericBoxUser.java");
+
+        ASSERT.that(compilation.success).isTrue();
+        for (String note : compilation.notes()) {
+            ASSERT.that(note).doesNotContain("LoganSquare processed");
+        }
+    }
+}
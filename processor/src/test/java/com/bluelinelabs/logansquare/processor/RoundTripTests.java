@@ -1,29 +1,67 @@
 package com.bluelinelabs.logansquare.processor;
 
+import com.bluelinelabs.logansquare.JsonNode;
+import com.bluelinelabs.logansquare.JsonTree;
 import com.bluelinelabs.logansquare.LoganSquare;
 import com.bluelinelabs.logansquare.ParameterizedType;
+import com.bluelinelabs.logansquare.processor.model.BatchUpdatableModel;
+import com.bluelinelabs.logansquare.processor.model.BinaryCodecModel;
+import com.bluelinelabs.logansquare.processor.model.CachedUpdatableModel;
+import com.bluelinelabs.logansquare.processor.model.CanonicalModel;
+import com.bluelinelabs.logansquare.processor.model.ChangeTrackingModel;
+import com.bluelinelabs.logansquare.processor.model.CopyModel;
+import com.bluelinelabs.logansquare.processor.model.DiffModel;
 import com.bluelinelabs.logansquare.processor.model.EnumListModel;
 import com.bluelinelabs.logansquare.processor.model.EnumListModel.LsEnumTestConverter;
 import com.bluelinelabs.logansquare.processor.model.EnumListModel.TestEnum;
 import com.bluelinelabs.logansquare.processor.model.ExternalModel;
+import com.bluelinelabs.logansquare.processor.model.JavaTimeModel;
+import com.bluelinelabs.logansquare.processor.model.JsonEnumModel;
+import com.bluelinelabs.logansquare.processor.model.LargeModel;
 import com.bluelinelabs.logansquare.processor.model.NestedCollectionModel;
+import com.bluelinelabs.logansquare.processor.model.PolymorphicModel;
+import com.bluelinelabs.logansquare.processor.model.RegisteredJavaTimeModel;
 import com.bluelinelabs.logansquare.processor.model.SimpleGenericModel;
 import com.bluelinelabs.logansquare.processor.model.SimpleGenericModelWithExtends;
 import com.bluelinelabs.logansquare.processor.model.SimpleGenericStringModel;
 import com.bluelinelabs.logansquare.processor.model.SimpleModel;
 import com.bluelinelabs.logansquare.processor.model.SimpleModelWithGenericField;
 import com.bluelinelabs.logansquare.processor.model.SimpleModelWithoutNullObjects;
+import com.bluelinelabs.logansquare.processor.model.StringDedupModel;
 import com.bluelinelabs.logansquare.processor.model.TwoParamGenericModel;
 import com.bluelinelabs.logansquare.processor.model.TwoParamGenericWithStringModel;
+import com.bluelinelabs.logansquare.processor.model.UpdatableModel;
+import com.bluelinelabs.logansquare.typeconverters.DefaultCalendarConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultDateConverter;
+import com.bluelinelabs.logansquare.typeconverters.DefaultDurationConverter;
+import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.UUID;
 
@@ -161,6 +199,73 @@ public class RoundTripTests {
         ASSERT.that(json.equals(reserialized)).isTrue();
     }
 
+    @Test
+    public void nestedObjectMap() {
+        String json = "{\"key\":{\"z\":1,\"y\":10000000000,\"x\":[1,{\"b\":2,\"a\":null}],\"k1\":1,\"k2\":2,\"k3\":3,\"k4\":4,\"k5\":5,\"k6\":6,\"k7\":7,\"k8\":8,\"k9\":9,\"k10\":10,\"k11\":11,\"k12\":12,\"k13\":13,\"k14\":14}}";
+
+        String reserialized = null;
+        Map<String, Object> nested = null;
+        try {
+            Map<String, Object> map = LoganSquare.parseMap(json, Object.class);
+            nested = (Map<String, Object>)map.get("key");
+            reserialized = LoganSquare.serialize(map, Object.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+        ASSERT.that(nested.get("z") instanceof Integer).isTrue();
+        ASSERT.that(nested.get("y") instanceof Long).isTrue();
+    }
+
+    @Test
+    public void jsonTree() {
+        String modelJson = "{\"date\":\"2015-02-21T18:45:50.748+0000\",\"string\":\"testString\",\"test_double\":342.0,\"test_double_obj\":345.0,\"test_float\":898.0,\"test_float_obj\":382.0,\"test_int\":32,\"test_int_obj\":323,\"test_long\":932,\"test_long_obj\":3920,\"test_string\":\"anotherTestString\"}";
+        String json = "{\"meta\":{\"count\":2,\"next\":null,\"ratio\":0.5,\"big\":123456789012345678901234567890},\"flags\":[true,false],\"items\":[" + modelJson + ",{\"test_int\":7}]}";
+
+        String reserialized = null;
+        JsonTree tree = null;
+        SimpleModel simpleModel = null;
+        try {
+            tree = LoganSquare.parseTree(json.getBytes("UTF-8"));
+            reserialized = tree.toString();
+            simpleModel = tree.getRoot().get("items").get(0).bind(SimpleModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+
+        JsonNode root = tree.getRoot();
+        ASSERT.that(root.size()).isEqualTo(3);
+        ASSERT.that(root.get("meta").get("count").asInt()).isEqualTo(2);
+        ASSERT.that(root.get("meta").get("next").isNull()).isTrue();
+        ASSERT.that(root.get("meta").get("ratio").asDouble()).isEqualTo(0.5);
+        ASSERT.that(root.get("meta").get("big").asString()).isEqualTo("123456789012345678901234567890");
+        ASSERT.that(root.get("meta").get("missing")).isNull();
+        ASSERT.that(root.get("flags").get(1).asBoolean()).isFalse();
+        ASSERT.that(root.get("flags").getFirstChild().getNextSibling().getNextSibling()).isNull();
+        ASSERT.that(root.get("items").get(1).get("test_int").getParent().getName()).isNull();
+        ASSERT.that(root.get("items").getNextSibling()).isNull();
+        ASSERT.that(root.get("meta").getNextSibling().getName()).isEqualTo("flags");
+        ASSERT.that(simpleModel.testInt).isEqualTo(32);
+        ASSERT.that(simpleModel.testString).isEqualTo("anotherTestString");
+    }
+
+    @Test
+    public void jsonTreeIntOutOfRange() {
+        JsonNode large = null;
+        try {
+            large = LoganSquare.parseTree("{\"large\":3000000000}".getBytes("UTF-8")).getRoot().get("large");
+        } catch (Exception ignored) { }
+
+        boolean failed = false;
+        try {
+            large.asInt();
+        } catch (IllegalStateException e) {
+            failed = true;
+        }
+
+        ASSERT.that(large.asLong()).isEqualTo(3000000000L);
+        ASSERT.that(failed).isTrue();
+    }
+
     @Test
     public void simpleGenericObject() {
         String json = "{\"date\":\"2015-02-21T18:45:50.748+0000\",\"string\":\"testString\",\"test_double\":342.0,\"test_double_obj\":345.0,\"test_float\":898.0,\"test_float_obj\":382.0,\"test_int\":32,\"test_int_obj\":323,\"test_long\":932,\"test_long_obj\":3920,\"test_nested_generic\":{\"test_double\":0.0,\"test_float\":0.2,\"test_int\":10,\"test_long\":0},\"test_string\":\"anotherTestString\",\"test_t\":\"generic string!\"}";
@@ -243,6 +348,22 @@ public class RoundTripTests {
         ASSERT.that(json.equals(reserialized)).isTrue();
     }
 
+    @Test
+    public void parameterizedTypeOfObject() {
+        String json = "{\"t_list\":[\"a\",\"b\"],\"test_k\":1,\"test_t\":\"hello\"}";
+
+        ParameterizedType<TwoParamGenericModel<String, Integer>> parameterizedType = ParameterizedType.of(TwoParamGenericModel.class, ParameterizedType.of(String.class), ParameterizedType.of(Integer.class));
+        ASSERT.that(parameterizedType).isEqualTo(new ParameterizedType<TwoParamGenericModel<String, Integer>>() { });
+
+        String reserialized = null;
+        try {
+            TwoParamGenericModel<String, Integer> model = LoganSquare.parse(json, parameterizedType);
+            reserialized = LoganSquare.serialize(model, parameterizedType);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+    }
+
     @Test
     public void twoParamGenericWithStringModelObject() {
         String json = "{\"t_list\":[\"a\",\"b\"],\"test_k\":1,\"test_t\":\"hello\"}";
@@ -257,6 +378,26 @@ public class RoundTripTests {
         ASSERT.that(json.equals(reserialized)).isTrue();
     }
 
+    @Test
+    public void largeObject() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 50; i++) {
+            json.append(String.format("\"number%03d\":%d,", i, i));
+        }
+        for (int i = 0; i < 200; i++) {
+            json.append(String.format("\"string%03d\":\"value%d\",", i, i));
+        }
+        json.setCharAt(json.length() - 1, '}');
+
+        String reserialized = null;
+        try {
+            LargeModel largeModel = LoganSquare.parse(json.toString(), LargeModel.class);
+            reserialized = LoganSquare.serialize(largeModel);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.toString().equals(reserialized)).isTrue();
+    }
+
     @Test
     public void simpleObject() {
         String json = "{\"date\":\"2015-02-21T18:45:50.748+0000\",\"object_map\":{\"key2\":2,\"key\":\"value\"},\"primitiveByteArray\":[1,2,3],\"primitiveIntArray\":[1,3,5],\"string\":\"testString\",\"test_double\":342.0,\"test_double_obj\":345.0,\"test_float\":898.0,\"test_float_obj\":382.0,\"test_int\":32,\"test_int_obj\":323,\"test_long\":932,\"test_long_obj\":3920,\"test_string\":\"anotherTestString\"}";
@@ -270,6 +411,582 @@ public class RoundTripTests {
         ASSERT.that(json.equals(reserialized)).isTrue();
     }
 
+    @Test
+    public void isoDateVariants() {
+        String[] dates = new String[] {
+                "2015-02-21T18:45:50.748Z",
+                "2015-02-21T18:45:50.748+0000",
+                "2015-02-21T19:45:50.748+01:00",
+                "2015-02-21T13:45:50.748-05",
+                "2015-02-21T18:45:50.748123Z"
+        };
+
+        for (String date : dates) {
+            String reserialized = null;
+            try {
+                SimpleModel simpleModel = LoganSquare.parse("{\"date\":\"" + date + "\"}", SimpleModel.class);
+                reserialized = LoganSquare.serialize(simpleModel);
+            } catch (Exception ignored) { }
+
+            ASSERT.that(reserialized != null && reserialized.contains("\"date\":\"2015-02-21T18:45:50.748+0000\"")).isTrue();
+        }
+    }
+
+    @Test
+    public void javaTimeObject() {
+        String json = "{\"duration\":\"PT1H30M\",\"epochMillis\":1424544350748,\"instant\":\"2015-02-21T18:45:50.748123Z\",\"localDate\":\"2015-02-21\",\"localDateList\":[\"2015-02-21\",\"2016-02-29\"],\"localDateTime\":\"2015-02-21T18:45:50.748\",\"offsetDateTime\":\"2015-02-21T19:45:50.748+01:00\"}";
+
+        String reserialized = null;
+        try {
+            JavaTimeModel javaTimeModel = LoganSquare.parse(json, JavaTimeModel.class);
+            reserialized = LoganSquare.serialize(javaTimeModel);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+    }
+
+    @Test
+    public void registeredJavaTimeConverter() throws Exception {
+        String json = "{\"timeout\":90}";
+
+        LoganSquare.registerTypeConverter(Duration.class, new DefaultDurationConverter.Seconds());
+        try {
+            RegisteredJavaTimeModel model = LoganSquare.parse(json, RegisteredJavaTimeModel.class);
+            ASSERT.that(model.timeout).isEqualTo(Duration.ofSeconds(90));
+            ASSERT.that(LoganSquare.serialize(model)).isEqualTo(json);
+        } finally {
+            LoganSquare.registerTypeConverter(Duration.class, new DefaultDurationConverter());
+        }
+    }
+
+    @Test
+    public void stringDedupObjectList() {
+        String json = "[{\"countryCode\":\"US\",\"labels\":{\"a\":\"shared\"},\"name\":\"first\",\"tags\":[\"shared\",\"new\"]},{\"countryCode\":\"US\",\"labels\":{\"b\":\"shared\"},\"name\":\"second\",\"tags\":[\"new\"]}]";
+
+        String reserialized = null;
+        List<StringDedupModel> list = null;
+        try {
+            list = LoganSquare.parseList(json, StringDedupModel.class);
+            reserialized = LoganSquare.serialize(list, StringDedupModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+        ASSERT.that(list.get(0).countryCode == list.get(1).countryCode).isTrue();
+        ASSERT.that(list.get(0).tags.get(1) == list.get(1).tags.get(0)).isTrue();
+        ASSERT.that(list.get(0).labels.get("a") == list.get(0).tags.get(0)).isTrue();
+    }
+
+    @Test
+    public void canonicalMapKeys() throws Exception {
+        String json = "[{\"labels\":{\"key\":\"first\"}},{\"labels\":{\"key\":\"second\"}}]";
+
+        JsonFactory uncanonicalFactory = new JsonFactory().disable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES);
+
+        List<StringDedupModel> canonicalList = LoganSquare.parseList(json, StringDedupModel.class);
+        List<StringDedupModel> uncanonicalList = LoganSquare.parseList(new ByteArrayInputStream(json.getBytes("UTF-8")), StringDedupModel.class, uncanonicalFactory);
+        List<StringDedupModel> laterCanonicalList = LoganSquare.parseList(json, StringDedupModel.class);
+
+        ASSERT.that(canonicalList.get(0).labels.keySet().iterator().next() == canonicalList.get(1).labels.keySet().iterator().next()).isTrue();
+        ASSERT.that(uncanonicalList.get(0).labels.keySet().iterator().next() == uncanonicalList.get(1).labels.keySet().iterator().next()).isFalse();
+        ASSERT.that(uncanonicalList.get(1).labels.get("key")).isEqualTo("second");
+        ASSERT.that(laterCanonicalList.get(0).labels.keySet().iterator().next() == canonicalList.get(0).labels.keySet().iterator().next()).isTrue();
+    }
+
+    @Test
+    public void customJsonFactory() {
+        String json = "[{\"countryCode\":\"US\",\"name\":\"first\"}]";
+        String commentedJson = "/* header */ [{\"countryCode\":\"US\", // trailing\n\"name\":\"first\"}]";
+
+        JsonFactory parseFactory = new JsonFactory().enable(JsonParser.Feature.ALLOW_COMMENTS);
+        JsonFactory serializeFactory = new JsonFactory().disable(JsonGenerator.Feature.QUOTE_FIELD_NAMES);
+
+        String reserialized = null;
+        String unquoted = null;
+        try {
+            List<StringDedupModel> list = LoganSquare.parseList(new ByteArrayInputStream(commentedJson.getBytes("UTF-8")), StringDedupModel.class, parseFactory);
+            reserialized = LoganSquare.serialize(list, StringDedupModel.class);
+
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            LoganSquare.serialize(list.get(0), os, serializeFactory);
+            unquoted = os.toString("UTF-8");
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+        ASSERT.that(unquoted).isEqualTo("{countryCode:\"US\",name:\"first\"}");
+    }
+
+    @Test
+    public void dateConverterFormats() {
+        DefaultDateConverter isoConverter = new DefaultDateConverter();
+        DefaultDateConverter slashConverter = new DefaultDateConverter() {
+            @Override
+            public DateFormat getDateFormat() {
+                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd", Locale.US);
+                dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+                return dateFormat;
+            }
+        };
+        DefaultCalendarConverter slashCalendarConverter = new DefaultCalendarConverter() {
+            @Override
+            public DateFormat getDateFormat() {
+                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd", Locale.US);
+                dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+                return dateFormat;
+            }
+        };
+
+        Date iso = null;
+        Date unpadded = null;
+        Date slashed = null;
+        Calendar slashedCalendar = null;
+        String slashedSerialized = null;
+        try {
+            iso = parseValue(isoConverter, "\"2015-02-21T18:45:50.748+0000\"");
+            unpadded = parseValue(isoConverter, "\"2015-2-21T18:45:50.748+0000\"");
+            slashed = parseValue(slashConverter, "\"2015/02/21\"");
+            slashedCalendar = parseValue(slashCalendarConverter, "\"2015/02/21\"");
+
+            StringWriter writer = new StringWriter();
+            JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer);
+            slashConverter.serialize(slashed, null, false, jsonGenerator);
+            jsonGenerator.close();
+            slashedSerialized = writer.toString();
+        } catch (Exception ignored) { }
+
+        ASSERT.that(iso).isEqualTo(new Date(1424544350748L));
+        ASSERT.that(unpadded).isEqualTo(iso);
+        ASSERT.that(slashed).isEqualTo(new Date(1424476800000L));
+        ASSERT.that(slashedCalendar.getTimeInMillis()).isEqualTo(1424476800000L);
+        ASSERT.that(slashedSerialized).isEqualTo("\"2015/02/21\"");
+    }
+
+    @Test
+    public void binaryCodec() {
+        String json = "{\"aliases\":[\"a\",\"b\"],\"child\":{\"count\":-7,\"enabled\":false,\"ratio\":0.0,\"timestamp\":0},\"children\":[{\"count\":1,\"enabled\":false,\"name\":\"first\",\"ratio\":0.0,\"timestamp\":0}],\"codes\":[1,-300,70000],\"count\":42,\"counts\":{\"x\":3},\"enabled\":true,\"extra\":{\"key\":[1,\"two\"]},\"name\":\"binary\",\"ratio\":0.5,\"score\":1.5,\"tags\":[\"one\",\"two\"],\"timestamp\":-1234567890123}";
+
+        String serialized = null;
+        String reserialized = null;
+        int binarySize = 0;
+        try {
+            BinaryCodecModel model = LoganSquare.parse(json, BinaryCodecModel.class);
+            serialized = LoganSquare.serialize(model);
+
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            LoganSquare.writeBinary(model, new DataOutputStream(os));
+            binarySize = os.size();
+
+            BinaryCodecModel copy = LoganSquare.readBinary(new DataInputStream(new ByteArrayInputStream(os.toByteArray())), BinaryCodecModel.class);
+            reserialized = LoganSquare.serialize(copy);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(serialized).isEqualTo(reserialized);
+        ASSERT.that(binarySize > 0 && binarySize < json.length() / 2).isTrue();
+    }
+
+    @Test
+    public void binaryFallback() {
+        String json = "{\"countryCode\":\"US\",\"labels\":{\"a\":\"b\"},\"name\":\"first\",\"tags\":[\"one\"]}";
+
+        String reserialized = null;
+        try {
+            StringDedupModel model = LoganSquare.parse(json, StringDedupModel.class);
+
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            LoganSquare.writeBinary(model, new DataOutputStream(os));
+
+            StringDedupModel copy = LoganSquare.readBinary(new DataInputStream(new ByteArrayInputStream(os.toByteArray())), StringDedupModel.class);
+            reserialized = LoganSquare.serialize(copy);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+    }
+
+    @Test
+    public void binarySchemaMismatch() {
+        boolean failed = false;
+        try {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            LoganSquare.writeBinary(new StringDedupModel(), new DataOutputStream(os));
+            LoganSquare.readBinary(new DataInputStream(new ByteArrayInputStream(os.toByteArray())), BinaryCodecModel.class);
+        } catch (IOException e) {
+            failed = true;
+        }
+
+        ASSERT.that(failed).isTrue();
+    }
+
+    @Test
+    public void updatableMerge() {
+        String json = "{\"string\":\"abc\",\"test_long\":5,\"testModel\":{\"string\":\"abc\",\"test_double\":2.5}}";
+
+        UpdatableModel model = null;
+        try {
+            model = LoganSquare.parse(json, UpdatableModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(model.testLong).isEqualTo(5L);
+        ASSERT.that(model.testInt).isEqualTo(60);
+        ASSERT.that(model.testModel.testDouble).isEqualTo(2.5);
+        ASSERT.that(model.testModel.testInt).isEqualTo(60);
+    }
+
+    @Test
+    public void batchUpdatableMerge() {
+        String json = "[{\"model_id\":1,\"test_int\":5},null,{\"model_id\":2,\"name\":\"parsed\"}]";
+
+        BatchUpdatableModel.batchCount = 0;
+        List<BatchUpdatableModel> models = null;
+        try {
+            models = LoganSquare.parseList(json, BatchUpdatableModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(BatchUpdatableModel.batchCount).isEqualTo(1);
+        ASSERT.that(models.size()).isEqualTo(3);
+        ASSERT.that(models.get(0).testInt).isEqualTo(5);
+        ASSERT.that(models.get(0).name).isEqualTo("existing");
+        ASSERT.that(models.get(1)).isNull();
+        ASSERT.that(models.get(2).testInt).isEqualTo(60);
+        ASSERT.that(models.get(2).name).isEqualTo("parsed");
+
+        String mapJson = "{\"a\":{\"model_id\":1},\"b\":{\"model_id\":2,\"test_int\":7}}";
+
+        BatchUpdatableModel.batchCount = 0;
+        Map<String, BatchUpdatableModel> map = null;
+        try {
+            map = LoganSquare.parseMap(mapJson, BatchUpdatableModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(BatchUpdatableModel.batchCount).isEqualTo(1);
+        ASSERT.that(map.get("a").testInt).isEqualTo(60);
+        ASSERT.that(map.get("b").testInt).isEqualTo(7);
+        ASSERT.that(map.get("b").name).isEqualTo("existing");
+    }
+
+    @Test
+    public void cachedSourceInstances() {
+        LoganSquare.invalidateSourceInstances(CachedUpdatableModel.class);
+        CachedUpdatableModel.lookupCount = 0;
+
+        List<CachedUpdatableModel> firstPage = null;
+        List<CachedUpdatableModel> secondPage = null;
+        CachedUpdatableModel single = null;
+        CachedUpdatableModel invalidated = null;
+        try {
+            firstPage = LoganSquare.parseList("[{\"model_id\":1},{\"model_id\":2}]", CachedUpdatableModel.class);
+            secondPage = LoganSquare.parseList("[{\"model_id\":2},{\"model_id\":3,\"name\":\"parsed\"}]", CachedUpdatableModel.class);
+            single = LoganSquare.parse("{\"model_id\":1}", CachedUpdatableModel.class);
+            LoganSquare.invalidateSourceInstance(CachedUpdatableModel.class, 1L);
+            invalidated = LoganSquare.parse("{\"model_id\":1}", CachedUpdatableModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(firstPage.get(0).name).isEqualTo("existing1");
+        ASSERT.that(secondPage.get(0).name).isEqualTo("existing2");
+        ASSERT.that(secondPage.get(1).name).isEqualTo("parsed");
+        ASSERT.that(single.name).isEqualTo("existing1");
+        ASSERT.that(invalidated.name).isEqualTo("existing1");
+        ASSERT.that(CachedUpdatableModel.lookupCount).isEqualTo(4);
+    }
+
+    @Test
+    public void canonicalizeByKey() {
+        String json = "[{\"id\":\"a\",\"name\":\"Ann\",\"follower_count\":3,\"badges\":[1,2],\"tags\":[\"x\"]},"
+                + "{\"id\":\"a\",\"name\":\"Ann\",\"follower_count\":3,\"badges\":[1,2],\"tags\":[\"x\"]},"
+                + "{\"id\":\"a\",\"name\":\"Ann\",\"follower_count\":4,\"badges\":[1,2],\"tags\":[\"x\"]},"
+                + "{\"name\":\"No key\"},{\"name\":\"No key\"}]";
+
+        LoganSquare.clearCanonicalInstances(CanonicalModel.class);
+        List<CanonicalModel> models = null;
+        CanonicalModel nextResponse = null;
+        try {
+            models = LoganSquare.parseList(json, CanonicalModel.class);
+            nextResponse = LoganSquare.parse("{\"id\":\"a\",\"name\":\"Ann\",\"follower_count\":4,\"badges\":[1,2],\"tags\":[\"x\"]}", CanonicalModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(models.get(1)).isSameAs(models.get(0));
+        ASSERT.that(models.get(2)).isNotSameAs(models.get(0));
+        ASSERT.that(models.get(2).followerCount).isEqualTo(4);
+        ASSERT.that(models.get(4)).isNotSameAs(models.get(3));
+        ASSERT.that(nextResponse).isSameAs(models.get(2));
+    }
+
+    @Test
+    public void canonicalizeByKeyWithNestedObjects() {
+        String json = "[{\"id\":\"b\",\"homepage\":{\"url\":\"a.com\"},\"links\":[{\"url\":\"b.com\"}]},"
+                + "{\"id\":\"b\",\"homepage\":{\"url\":\"a.com\"},\"links\":[{\"url\":\"b.com\"}]},"
+                + "{\"id\":\"b\",\"homepage\":{\"url\":\"a.com\"},\"links\":[{\"url\":\"c.com\"}]},"
+                + "{\"id\":\"b\",\"homepage\":{\"url\":\"d.com\"},\"links\":[{\"url\":\"c.com\"}]}]";
+
+        LoganSquare.clearCanonicalInstances(CanonicalModel.class);
+        List<CanonicalModel> models = null;
+        try {
+            models = LoganSquare.parseList(json, CanonicalModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(models.get(1)).isSameAs(models.get(0));
+        ASSERT.that(models.get(2)).isNotSameAs(models.get(0));
+        ASSERT.that(models.get(3)).isNotSameAs(models.get(2));
+        ASSERT.that(models.get(3).homepage.url).isEqualTo("d.com");
+    }
+
+    @Test
+    public void serializeChanges() {
+        String json = "{\"id\":7,\"like_count\":3,\"name\":\"Post\",\"tags\":[\"a\"]}";
+
+        String unmarked = null;
+        String unchanged = null;
+        String changed = null;
+        String afterClean = null;
+        String nullCollection = null;
+        try {
+            ChangeTrackingModel model = LoganSquare.parse(json, ChangeTrackingModel.class);
+            unmarked = LoganSquare.serializeChanges(model);
+
+            LoganSquare.markClean(model);
+            unchanged = LoganSquare.serializeChanges(model);
+
+            model.likeCount = 4;
+            model.name = null;
+            model.tags.add("b");
+            changed = LoganSquare.serializeChanges(model);
+
+            LoganSquare.markClean(model);
+            afterClean = LoganSquare.serializeChanges(model);
+
+            model.tags = null;
+            nullCollection = LoganSquare.serializeChanges(model);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(unmarked).isEqualTo(json);
+        ASSERT.that(unchanged).isEqualTo("{\"id\":7}");
+        ASSERT.that(changed).isEqualTo("{\"id\":7,\"like_count\":4,\"name\":null,\"tags\":[\"a\",\"b\"]}");
+        ASSERT.that(afterClean).isEqualTo("{\"id\":7}");
+        ASSERT.that(nullCollection).isEqualTo("{\"id\":7,\"tags\":null}");
+    }
+
+    @Test
+    public void diffAndApplyPatch() {
+        String beforeJson = "{\"author\":{\"email\":\"a@example.com\",\"name\":\"Ann\"},\"tags\":[\"a\"],\"title\":\"Old\",\"view_count\":1}";
+        String afterJson = "{\"author\":{\"name\":\"Ann\"},\"tags\":[\"a\",\"b\"],\"view_count\":1}";
+
+        String patch = null;
+        String unchangedPatch = null;
+        String patched = null;
+        try {
+            DiffModel before = LoganSquare.parse(beforeJson, DiffModel.class);
+            DiffModel after = LoganSquare.parse(afterJson, DiffModel.class);
+            patch = LoganSquare.diff(before, after);
+            unchangedPatch = LoganSquare.diff(after, LoganSquare.parse(afterJson, DiffModel.class));
+
+            DiffModel.Author author = before.author;
+            LoganSquare.applyPatch(before, patch);
+            ASSERT.that(before.author).isSameAs(author);
+            patched = LoganSquare.serialize(before);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(patch).isEqualTo("{\"author\":{\"email\":null},\"tags\":[\"a\",\"b\"],\"title\":null}");
+        ASSERT.that(unchangedPatch).isEqualTo("{}");
+        ASSERT.that(patched).isEqualTo(afterJson);
+    }
+
+    @Test
+    public void diffAndApplyPatchToMap() throws Exception {
+        String beforeJson = "{\"reviewers\":{\"lead\":{\"email\":\"d@example.com\",\"name\":\"Dee\"},\"second\":{\"name\":\"Eve\"}}}";
+        String afterJson = "{\"reviewers\":{\"lead\":{\"name\":\"Dee\"},\"third\":{\"name\":\"Fay\"}}}";
+
+        DiffModel before = LoganSquare.parse(beforeJson, DiffModel.class);
+        DiffModel after = LoganSquare.parse(afterJson, DiffModel.class);
+        String patch = LoganSquare.diff(before, after);
+
+        DiffModel.Author lead = before.reviewers.get("lead");
+        LoganSquare.applyPatch(before, patch);
+
+        ASSERT.that(patch).isEqualTo("{\"reviewers\":{\"second\":null,\"third\":{\"name\":\"Fay\"},\"lead\":{\"email\":null}}}");
+        ASSERT.that(before.reviewers.get("lead")).isSameAs(lead);
+        ASSERT.that(before.reviewers.containsKey("second")).isFalse();
+        ASSERT.that(LoganSquare.mapperFor(DiffModel.class).contentEquals(before, after)).isTrue();
+    }
+
+    @Test
+    public void diffNestedObjectWithoutGeneratedDiff() throws Exception {
+        String beforeJson = "{\"profile\":{\"name\":\"x\",\"email\":\"e1\",\"links\":{\"home\":\"h\",\"work\":\"w\"}}}";
+        String afterJson = "{\"profile\":{\"email\":\"e2\",\"links\":{\"home\":\"h\"}}}";
+
+        DiffModel before = LoganSquare.parse(beforeJson, DiffModel.class);
+        DiffModel after = LoganSquare.parse(afterJson, DiffModel.class);
+        String patch = LoganSquare.diff(before, after);
+
+        DiffModel.Profile profile = before.profile;
+        LoganSquare.applyPatch(before, patch);
+
+        ASSERT.that(patch).isEqualTo("{\"profile\":{\"name\":null,\"links\":{\"work\":null},\"email\":\"e2\"}}");
+        ASSERT.that(before.profile).isSameAs(profile);
+        ASSERT.that(before.profile.name).isNull();
+        ASSERT.that(before.profile.email).isEqualTo("e2");
+        ASSERT.that(before.profile.links).isEqualTo(Collections.singletonMap("home", "h"));
+    }
+
+    @Test
+    public void diffNestedCollections() {
+        String json = "{\"contributors\":[{\"name\":\"Ann\"},{\"name\":\"Bob\"}],\"editors\":[{\"name\":\"Cal\"}],\"reviewers\":{\"lead\":{\"name\":\"Dee\"}}}";
+
+        String unchangedPatch = null;
+        String changedPatch = null;
+        boolean sameContent = false;
+        try {
+            DiffModel before = LoganSquare.parse(json, DiffModel.class);
+            DiffModel after = LoganSquare.parse(json, DiffModel.class);
+            unchangedPatch = LoganSquare.diff(before, after);
+            sameContent = LoganSquare.mapperFor(DiffModel.class).contentEquals(before, after);
+
+            after.contributors.get(1).name = "Bea";
+            changedPatch = LoganSquare.diff(before, after);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(unchangedPatch).isEqualTo("{}");
+        ASSERT.that(sameContent).isTrue();
+        ASSERT.that(changedPatch).isEqualTo("{\"contributors\":[{\"name\":\"Ann\"},{\"name\":\"Bea\"}]}");
+    }
+
+    @Test
+    public void parseDiffers() {
+        String json = "{\"author\":{\"email\":\"a@example.com\",\"name\":\"Ann\"},\"tags\":[\"a\",\"b\"],\"title\":\"Title\",\"view_count\":1}";
+
+        boolean same = true;
+        boolean changedTitle = false;
+        boolean changedTag = false;
+        boolean extraTag = false;
+        boolean changedAuthor = false;
+        boolean missingTitle = false;
+        boolean nullExisting = false;
+        boolean unchangedWithoutCodegen = true;
+        try {
+            DiffModel existing = LoganSquare.parse(json, DiffModel.class);
+            same = LoganSquare.parseDiffers(existing, json, DiffModel.class);
+            changedTitle = LoganSquare.parseDiffers(existing, json.replace("\"Title\"", "\"Other\""), DiffModel.class);
+            changedTag = LoganSquare.parseDiffers(existing, json.replace("[\"a\",\"b\"]", "[\"a\",\"c\"]"), DiffModel.class);
+            extraTag = LoganSquare.parseDiffers(existing, json.replace("[\"a\",\"b\"]", "[\"a\",\"b\",\"c\"]"), DiffModel.class);
+            changedAuthor = LoganSquare.parseDiffers(existing, json.replace("Ann", "Bob"), DiffModel.class);
+            missingTitle = LoganSquare.parseDiffers(existing, json.replace(",\"title\":\"Title\"", ""), DiffModel.class);
+            nullExisting = LoganSquare.parseDiffers(null, json, DiffModel.class);
+
+            String simpleJson = "{\"string\":\"value\"}";
+            unchangedWithoutCodegen = LoganSquare.parseDiffers(LoganSquare.parse(simpleJson, SimpleModelWithoutNullObjects.class), simpleJson, SimpleModelWithoutNullObjects.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(same).isFalse();
+        ASSERT.that(changedTitle).isTrue();
+        ASSERT.that(changedTag).isTrue();
+        ASSERT.that(extraTag).isTrue();
+        ASSERT.that(changedAuthor).isTrue();
+        ASSERT.that(missingTitle).isTrue();
+        ASSERT.that(nullExisting).isTrue();
+        ASSERT.that(unchangedWithoutCodegen).isFalse();
+    }
+
+    @Test
+    public void parseDiffersNestedCollections() {
+        String json = "{\"contributors\":[{\"name\":\"Ann\"},{\"name\":\"Bob\"}],\"editors\":[{\"name\":\"Cal\"}],\"reviewers\":{\"lead\":{\"name\":\"Dee\"}}}";
+
+        boolean same = true;
+        boolean changedContributor = false;
+        boolean changedEditor = false;
+        boolean changedReviewer = false;
+        try {
+            DiffModel existing = LoganSquare.parse(json, DiffModel.class);
+            same = LoganSquare.parseDiffers(existing, json, DiffModel.class);
+            changedContributor = LoganSquare.parseDiffers(existing, json.replace("Bob", "Bea"), DiffModel.class);
+            changedEditor = LoganSquare.parseDiffers(existing, json.replace("Cal", "Cy"), DiffModel.class);
+            changedReviewer = LoganSquare.parseDiffers(existing, json.replace("Dee", "Di"), DiffModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(same).isFalse();
+        ASSERT.that(changedContributor).isTrue();
+        ASSERT.that(changedEditor).isTrue();
+        ASSERT.that(changedReviewer).isTrue();
+    }
+
+    @Test
+    public void deepCopy() {
+        String json = "{\"items\":[{\"name\":\"first\",\"tags\":[\"a\",\"b\"]}],\"itemsById\":{\"first\":{\"name\":\"first\"}},\"note\":\"private\",\"pinned\":[{\"name\":\"pinned\"}],\"scores\":[3,1,2],\"title\":\"Title\",\"view_count\":5}";
+
+        String copied = null;
+        try {
+            CopyModel original = LoganSquare.parse(json, CopyModel.class);
+            original.created = new Date(1420070400000L);
+            original.transientState = "ignored";
+
+            CopyModel copy = LoganSquare.copy(original);
+            ASSERT.that(copy).isNotSameAs(original);
+            ASSERT.that(copy.created).isNotSameAs(original.created);
+            ASSERT.that(copy.created).isEqualTo(original.created);
+            ASSERT.that(copy.scores).isNotSameAs(original.scores);
+            ASSERT.that(copy.items).isNotSameAs(original.items);
+            ASSERT.that(copy.items.get(0)).isNotSameAs(original.items.get(0));
+            ASSERT.that(copy.items.get(0).tags).isNotSameAs(original.items.get(0).tags);
+            ASSERT.that(copy.itemsById.get("first")).isNotSameAs(original.itemsById.get("first"));
+            ASSERT.that(copy.pinned[0]).isNotSameAs(original.pinned[0]);
+            ASSERT.that(copy.transientState).isNull();
+
+            copy.created = null;
+            copied = LoganSquare.serialize(copy);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(copied).isEqualTo(json);
+    }
+
+    @Test
+    public void polymorphicObjectList() {
+        String json = "[{\"kind\":\"dog\",\"goodBoy\":true,\"name\":\"Rex\"},{\"kind\":\"cat\",\"lives\":9,\"name\":\"Tom\"}]";
+
+        List<PolymorphicModel> animals = null;
+        String reserialized = null;
+        try {
+            animals = LoganSquare.parseList(json, PolymorphicModel.class);
+            reserialized = LoganSquare.serialize(animals, PolymorphicModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(animals.get(0) instanceof PolymorphicModel.Dog).isTrue();
+        ASSERT.that(animals.get(1) instanceof PolymorphicModel.Cat).isTrue();
+        ASSERT.that(json.equals(reserialized)).isTrue();
+    }
+
+    @Test
+    public void polymorphicObjectWithLateDiscriminator() {
+        String json = "{\"name\":\"Tom\",\"toys\":[{\"kind\":\"dog\"}],\"kind\":\"cat\",\"lives\":7}";
+
+        PolymorphicModel animal = null;
+        PolymorphicModel unknown = null;
+        PolymorphicModel missing = null;
+        List<PolymorphicModel> animals = null;
+        try {
+            animal = LoganSquare.parse(json, PolymorphicModel.class);
+            unknown = LoganSquare.parse("{\"name\":\"Nemo\",\"kind\":\"fish\",\"fins\":{\"count\":2}}", PolymorphicModel.class);
+            missing = LoganSquare.parse("{\"name\":\"Nemo\"}", PolymorphicModel.class);
+            animals = LoganSquare.parseList("[{\"name\":\"Nemo\",\"kind\":\"fish\",\"fins\":2},{\"lives\":3,\"kind\":\"cat\"}]", PolymorphicModel.class);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(animal instanceof PolymorphicModel.Cat).isTrue();
+        ASSERT.that(animal.name).isEqualTo("Tom");
+        ASSERT.that(((PolymorphicModel.Cat)animal).lives).isEqualTo(7);
+        ASSERT.that(unknown).isNull();
+        ASSERT.that(missing).isNull();
+        ASSERT.that(animals.size()).isEqualTo(2);
+        ASSERT.that(animals.get(0)).isNull();
+        ASSERT.that(((PolymorphicModel.Cat)animals.get(1)).lives).isEqualTo(3);
+    }
+
+    @Test
+    public void polymorphicObjectWithUnknownLeadingDiscriminator() throws Exception {
+        String json = "[{\"kind\":\"fish\",\"fins\":{\"count\":2},\"name\":\"Nemo\"},{\"kind\":{\"name\":\"dog\"},\"name\":\"Rex\"},{\"kind\":\"cat\",\"lives\":3}]";
+
+        List<PolymorphicModel> animals = LoganSquare.parseList(json, PolymorphicModel.class);
+
+        ASSERT.that(animals.size()).isEqualTo(3);
+        ASSERT.that(animals.get(0)).isNull();
+        ASSERT.that(animals.get(1)).isNull();
+        ASSERT.that(((PolymorphicModel.Cat)animals.get(2)).lives).isEqualTo(3);
+    }
+
     @Test
     public void externalObject() {
         String json = "{\"string\":\"I am a very good string.\"}";
@@ -297,6 +1014,19 @@ public class RoundTripTests {
         ASSERT.that(json.equals(serialized)).isTrue();
     }
 
+    @Test
+    public void jsonEnumObject() {
+        String json = "{\"priority\":1,\"status\":\"BANNED\",\"statusList\":[\"ACTIVE\",\"DELETED\",\"INACTIVE\"]}";
+
+        String reserialized = null;
+        try {
+            JsonEnumModel jsonEnumModel = LoganSquare.parse(json, JsonEnumModel.class);
+            reserialized = LoganSquare.serialize(jsonEnumModel);
+        } catch (Exception ignored) { }
+
+        ASSERT.that(json.equals(reserialized)).isTrue();
+    }
+
     @Test
     public void simpleObjectList() {
         String json = "[{\"date\":\"2015-02-21T18:45:50.748+0000\",\"string\":\"testString\",\"test_double\":342.0,\"test_double_obj\":345.0,\"test_float\":898.0,\"test_float_obj\":382.0,\"test_int\":32,\"test_int_obj\":323,\"test_long\":932,\"test_long_obj\":3920,\"test_string\":\"anotherTestString\"}," +
@@ -419,6 +1149,12 @@ public class RoundTripTests {
         return list;
     }
 
+    private <T> T parseValue(TypeConverter<T> typeConverter, String json) throws IOException {
+        JsonParser jsonParser = new JsonFactory().createParser(json);
+        jsonParser.nextToken();
+        return typeConverter.parse(jsonParser);
+    }
+
     private Map<String, List<String>> getStringListMap() {
         Map<String, List<String>> map = new HashMap<>();
         map.put(UUID.randomUUID().toString(), getStringList());
@@ -0,0 +1,29 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static com.google.common.truth.Truth.ASSERT;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+
+public class SimpleGenericStringModelTest {
+
+    @Test
+    public void generatedSource() {
+        ASSERT.about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("model/good/SimpleGenericModel.java"),
+                        JavaFileObjects.forResource("model/good/SimpleGenericStringModel.java")
+                ))
+                .processedWith(new JsonAnnotationProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesSources(
+                        JavaFileObjects.forResource("generated/SimpleGenericStringModel$$JsonObjectMapper.java"),
+                        JavaFileObjects.forResource("generated/SimpleGenericModel$$JsonObjectMapper$$java_lang_String.java")
+                );
+    }
+}
@@ -0,0 +1,38 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonGetByKeys;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@JsonObject
+public class BatchUpdatableModel {
+
+    public static int batchCount;
+
+    @JsonField(name = "model_id", isKey = true)
+    public long id;
+
+    @JsonField
+    public String name;
+
+    @JsonField(name = "test_int")
+    public int testInt;
+
+    @JsonGetByKeys
+    public static Map<Long, BatchUpdatableModel> getByKeys(Collection<Long> ids) {
+        batchCount++;
+        Map<Long, BatchUpdatableModel> models = new HashMap<>();
+        for (Long id : ids) {
+            BatchUpdatableModel model = new BatchUpdatableModel();
+            model.id = id;
+            model.name = "existing";
+            model.testInt = 60;
+            models.put(id, model);
+        }
+        return models;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonGetByKeys;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@JsonObject(keyCacheSize = 100)
+public class CachedUpdatableModel {
+
+    public static int lookupCount;
+
+    @JsonField(name = "model_id", isKey = true)
+    public long id;
+
+    @JsonField
+    public String name;
+
+    @JsonGetByKeys
+    public static Map<Long, CachedUpdatableModel> getByKeys(Collection<Long> ids) {
+        lookupCount += ids.size();
+        Map<Long, CachedUpdatableModel> models = new HashMap<>();
+        for (Long id : ids) {
+            CachedUpdatableModel model = new CachedUpdatableModel();
+            model.id = id;
+            model.name = "existing" + id;
+            models.put(id, model);
+        }
+        return models;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+
+@JsonObject(trackChanges = true)
+public class ChangeTrackingModel {
+
+    @JsonField(isKey = true)
+    public long id;
+
+    @JsonField
+    public String name;
+
+    @JsonField(name = "like_count")
+    public int likeCount;
+
+    @JsonField
+    public List<String> tags;
+}
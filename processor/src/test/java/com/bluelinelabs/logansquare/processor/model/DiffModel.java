@@ -0,0 +1,58 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+@JsonObject(generateDiff = true)
+public class DiffModel {
+
+    @JsonField
+    public String title;
+
+    @JsonField(name = "view_count")
+    public int viewCount;
+
+    @JsonField
+    public List<String> tags;
+
+    @JsonField
+    public Author author;
+
+    @JsonField
+    public List<Author> contributors;
+
+    @JsonField
+    public Map<String, Author> reviewers;
+
+    @JsonField
+    public Author[] editors;
+
+    @JsonField
+    public Profile profile;
+
+    @JsonObject(generateDiff = true)
+    public static class Author {
+
+        @JsonField
+        public String name;
+
+        @JsonField
+        public String email;
+    }
+
+    @JsonObject
+    public static class Profile {
+
+        @JsonField
+        public String name;
+
+        @JsonField
+        public String email;
+
+        @JsonField
+        public Map<String, String> links;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonEnum;
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+
+@JsonObject
+public class JsonEnumModel {
+
+    @JsonEnum
+    public enum Status {
+        ACTIVE,
+        INACTIVE,
+        BANNED,
+        DELETED
+    }
+
+    @JsonEnum(serializeAsOrdinal = true)
+    public enum Priority {
+        LOW,
+        HIGH
+    }
+
+    @JsonField
+    public Status status;
+
+    @JsonField
+    public Priority priority;
+
+    @JsonField
+    public List<Status> statusList;
+}
@@ -0,0 +1,759 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+// Enough fields for its parseField and serialize methods to be split into several methods
+@JsonObject
+public class LargeModel {
+
+    @JsonField
+    public int number000;
+
+    @JsonField
+    public int number001;
+
+    @JsonField
+    public int number002;
+
+    @JsonField
+    public int number003;
+
+    @JsonField
+    public int number004;
+
+    @JsonField
+    public int number005;
+
+    @JsonField
+    public int number006;
+
+    @JsonField
+    public int number007;
+
+    @JsonField
+    public int number008;
+
+    @JsonField
+    public int number009;
+
+    @JsonField
+    public int number010;
+
+    @JsonField
+    public int number011;
+
+    @JsonField
+    public int number012;
+
+    @JsonField
+    public int number013;
+
+    @JsonField
+    public int number014;
+
+    @JsonField
+    public int number015;
+
+    @JsonField
+    public int number016;
+
+    @JsonField
+    public int number017;
+
+    @JsonField
+    public int number018;
+
+    @JsonField
+    public int number019;
+
+    @JsonField
+    public int number020;
+
+    @JsonField
+    public int number021;
+
+    @JsonField
+    public int number022;
+
+    @JsonField
+    public int number023;
+
+    @JsonField
+    public int number024;
+
+    @JsonField
+    public int number025;
+
+    @JsonField
+    public int number026;
+
+    @JsonField
+    public int number027;
+
+    @JsonField
+    public int number028;
+
+    @JsonField
+    public int number029;
+
+    @JsonField
+    public int number030;
+
+    @JsonField
+    public int number031;
+
+    @JsonField
+    public int number032;
+
+    @JsonField
+    public int number033;
+
+    @JsonField
+    public int number034;
+
+    @JsonField
+    public int number035;
+
+    @JsonField
+    public int number036;
+
+    @JsonField
+    public int number037;
+
+    @JsonField
+    public int number038;
+
+    @JsonField
+    public int number039;
+
+    @JsonField
+    public int number040;
+
+    @JsonField
+    public int number041;
+
+    @JsonField
+    public int number042;
+
+    @JsonField
+    public int number043;
+
+    @JsonField
+    public int number044;
+
+    @JsonField
+    public int number045;
+
+    @JsonField
+    public int number046;
+
+    @JsonField
+    public int number047;
+
+    @JsonField
+    public int number048;
+
+    @JsonField
+    public int number049;
+
+    @JsonField
+    public String string000;
+
+    @JsonField
+    public String string001;
+
+    @JsonField
+    public String string002;
+
+    @JsonField
+    public String string003;
+
+    @JsonField
+    public String string004;
+
+    @JsonField
+    public String string005;
+
+    @JsonField
+    public String string006;
+
+    @JsonField
+    public String string007;
+
+    @JsonField
+    public String string008;
+
+    @JsonField
+    public String string009;
+
+    @JsonField
+    public String string010;
+
+    @JsonField
+    public String string011;
+
+    @JsonField
+    public String string012;
+
+    @JsonField
+    public String string013;
+
+    @JsonField
+    public String string014;
+
+    @JsonField
+    public String string015;
+
+    @JsonField
+    public String string016;
+
+    @JsonField
+    public String string017;
+
+    @JsonField
+    public String string018;
+
+    @JsonField
+    public String string019;
+
+    @JsonField
+    public String string020;
+
+    @JsonField
+    public String string021;
+
+    @JsonField
+    public String string022;
+
+    @JsonField
+    public String string023;
+
+    @JsonField
+    public String string024;
+
+    @JsonField
+    public String string025;
+
+    @JsonField
+    public String string026;
+
+    @JsonField
+    public String string027;
+
+    @JsonField
+    public String string028;
+
+    @JsonField
+    public String string029;
+
+    @JsonField
+    public String string030;
+
+    @JsonField
+    public String string031;
+
+    @JsonField
+    public String string032;
+
+    @JsonField
+    public String string033;
+
+    @JsonField
+    public String string034;
+
+    @JsonField
+    public String string035;
+
+    @JsonField
+    public String string036;
+
+    @JsonField
+    public String string037;
+
+    @JsonField
+    public String string038;
+
+    @JsonField
+    public String string039;
+
+    @JsonField
+    public String string040;
+
+    @JsonField
+    public String string041;
+
+    @JsonField
+    public String string042;
+
+    @JsonField
+    public String string043;
+
+    @JsonField
+    public String string044;
+
+    @JsonField
+    public String string045;
+
+    @JsonField
+    public String string046;
+
+    @JsonField
+    public String string047;
+
+    @JsonField
+    public String string048;
+
+    @JsonField
+    public String string049;
+
+    @JsonField
+    public String string050;
+
+    @JsonField
+    public String string051;
+
+    @JsonField
+    public String string052;
+
+    @JsonField
+    public String string053;
+
+    @JsonField
+    public String string054;
+
+    @JsonField
+    public String string055;
+
+    @JsonField
+    public String string056;
+
+    @JsonField
+    public String string057;
+
+    @JsonField
+    public String string058;
+
+    @JsonField
+    public String string059;
+
+    @JsonField
+    public String string060;
+
+    @JsonField
+    public String string061;
+
+    @JsonField
+    public String string062;
+
+    @JsonField
+    public String string063;
+
+    @JsonField
+    public String string064;
+
+    @JsonField
+    public String string065;
+
+    @JsonField
+    public String string066;
+
+    @JsonField
+    public String string067;
+
+    @JsonField
+    public String string068;
+
+    @JsonField
+    public String string069;
+
+    @JsonField
+    public String string070;
+
+    @JsonField
+    public String string071;
+
+    @JsonField
+    public String string072;
+
+    @JsonField
+    public String string073;
+
+    @JsonField
+    public String string074;
+
+    @JsonField
+    public String string075;
+
+    @JsonField
+    public String string076;
+
+    @JsonField
+    public String string077;
+
+    @JsonField
+    public String string078;
+
+    @JsonField
+    public String string079;
+
+    @JsonField
+    public String string080;
+
+    @JsonField
+    public String string081;
+
+    @JsonField
+    public String string082;
+
+    @JsonField
+    public String string083;
+
+    @JsonField
+    public String string084;
+
+    @JsonField
+    public String string085;
+
+    @JsonField
+    public String string086;
+
+    @JsonField
+    public String string087;
+
+    @JsonField
+    public String string088;
+
+    @JsonField
+    public String string089;
+
+    @JsonField
+    public String string090;
+
+    @JsonField
+    public String string091;
+
+    @JsonField
+    public String string092;
+
+    @JsonField
+    public String string093;
+
+    @JsonField
+    public String string094;
+
+    @JsonField
+    public String string095;
+
+    @JsonField
+    public String string096;
+
+    @JsonField
+    public String string097;
+
+    @JsonField
+    public String string098;
+
+    @JsonField
+    public String string099;
+
+    @JsonField
+    public String string100;
+
+    @JsonField
+    public String string101;
+
+    @JsonField
+    public String string102;
+
+    @JsonField
+    public String string103;
+
+    @JsonField
+    public String string104;
+
+    @JsonField
+    public String string105;
+
+    @JsonField
+    public String string106;
+
+    @JsonField
+    public String string107;
+
+    @JsonField
+    public String string108;
+
+    @JsonField
+    public String string109;
+
+    @JsonField
+    public String string110;
+
+    @JsonField
+    public String string111;
+
+    @JsonField
+    public String string112;
+
+    @JsonField
+    public String string113;
+
+    @JsonField
+    public String string114;
+
+    @JsonField
+    public String string115;
+
+    @JsonField
+    public String string116;
+
+    @JsonField
+    public String string117;
+
+    @JsonField
+    public String string118;
+
+    @JsonField
+    public String string119;
+
+    @JsonField
+    public String string120;
+
+    @JsonField
+    public String string121;
+
+    @JsonField
+    public String string122;
+
+    @JsonField
+    public String string123;
+
+    @JsonField
+    public String string124;
+
+    @JsonField
+    public String string125;
+
+    @JsonField
+    public String string126;
+
+    @JsonField
+    public String string127;
+
+    @JsonField
+    public String string128;
+
+    @JsonField
+    public String string129;
+
+    @JsonField
+    public String string130;
+
+    @JsonField
+    public String string131;
+
+    @JsonField
+    public String string132;
+
+    @JsonField
+    public String string133;
+
+    @JsonField
+    public String string134;
+
+    @JsonField
+    public String string135;
+
+    @JsonField
+    public String string136;
+
+    @JsonField
+    public String string137;
+
+    @JsonField
+    public String string138;
+
+    @JsonField
+    public String string139;
+
+    @JsonField
+    public String string140;
+
+    @JsonField
+    public String string141;
+
+    @JsonField
+    public String string142;
+
+    @JsonField
+    public String string143;
+
+    @JsonField
+    public String string144;
+
+    @JsonField
+    public String string145;
+
+    @JsonField
+    public String string146;
+
+    @JsonField
+    public String string147;
+
+    @JsonField
+    public String string148;
+
+    @JsonField
+    public String string149;
+
+    @JsonField
+    public String string150;
+
+    @JsonField
+    public String string151;
+
+    @JsonField
+    public String string152;
+
+    @JsonField
+    public String string153;
+
+    @JsonField
+    public String string154;
+
+    @JsonField
+    public String string155;
+
+    @JsonField
+    public String string156;
+
+    @JsonField
+    public String string157;
+
+    @JsonField
+    public String string158;
+
+    @JsonField
+    public String string159;
+
+    @JsonField
+    public String string160;
+
+    @JsonField
+    public String string161;
+
+    @JsonField
+    public String string162;
+
+    @JsonField
+    public String string163;
+
+    @JsonField
+    public String string164;
+
+    @JsonField
+    public String string165;
+
+    @JsonField
+    public String string166;
+
+    @JsonField
+    public String string167;
+
+    @JsonField
+    public String string168;
+
+    @JsonField
+    public String string169;
+
+    @JsonField
+    public String string170;
+
+    @JsonField
+    public String string171;
+
+    @JsonField
+    public String string172;
+
+    @JsonField
+    public String string173;
+
+    @JsonField
+    public String string174;
+
+    @JsonField
+    public String string175;
+
+    @JsonField
+    public String string176;
+
+    @JsonField
+    public String string177;
+
+    @JsonField
+    public String string178;
+
+    @JsonField
+    public String string179;
+
+    @JsonField
+    public String string180;
+
+    @JsonField
+    public String string181;
+
+    @JsonField
+    public String string182;
+
+    @JsonField
+    public String string183;
+
+    @JsonField
+    public String string184;
+
+    @JsonField
+    public String string185;
+
+    @JsonField
+    public String string186;
+
+    @JsonField
+    public String string187;
+
+    @JsonField
+    public String string188;
+
+    @JsonField
+    public String string189;
+
+    @JsonField
+    public String string190;
+
+    @JsonField
+    public String string191;
+
+    @JsonField
+    public String string192;
+
+    @JsonField
+    public String string193;
+
+    @JsonField
+    public String string194;
+
+    @JsonField
+    public String string195;
+
+    @JsonField
+    public String string196;
+
+    @JsonField
+    public String string197;
+
+    @JsonField
+    public String string198;
+
+    @JsonField
+    public String string199;
+}
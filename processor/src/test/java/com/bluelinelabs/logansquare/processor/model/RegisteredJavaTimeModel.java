@@ -0,0 +1,12 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+import java.time.Duration;
+
+@JsonObject
+public class RegisteredJavaTimeModel {
+
+    @JsonField
+    public Duration timeout;
+}
@@ -0,0 +1,23 @@
+package com.bluelinelabs.logansquare.processor.model;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+@JsonObject
+public class StringDedupModel {
+
+    @JsonField(dedup = true)
+    public String countryCode;
+
+    @JsonField(dedup = true)
+    public List<String> tags;
+
+    @JsonField(dedup = true)
+    public Map<String, String> labels;
+
+    @JsonField
+    public String name;
+}
@@ -0,0 +1,235 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Long;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class BatchUpdatableModel$$JsonObjectMapper extends JsonMapper<BatchUpdatableModel> {
+  @Override
+  public BatchUpdatableModel parse(JsonParser jsonParser) throws IOException {
+    BatchUpdatableModel instance = new BatchUpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    Map<Long, BatchUpdatableModel> sourceInstances = BatchUpdatableModel.getByKeys(Collections.singletonList(instance.id));
+    BatchUpdatableModel sourceInstance = sourceInstances != null ? sourceInstances.get(instance.id) : null;
+    if(sourceInstance != null) {
+      if((fieldsSet0 & 1L << 0) == 0) {
+        instance.id = sourceInstance.id;
+      }
+      if((fieldsSet0 & 1L << 1) == 0) {
+        instance.name = sourceInstance.name;
+      }
+      if((fieldsSet0 & 1L << 2) == 0) {
+        instance.testInt = sourceInstance.testInt;
+      }
+    }
+    return instance;
+  }
+
+  @Override
+  public BatchUpdatableModel parse(JsonParser jsonParser, Object dataHolderObject) throws IOException {
+    DataHolder dataHolder = (DataHolder) dataHolderObject;
+    if(dataHolder == null) {
+      dataHolder = new DataHolder();
+    }
+    BatchUpdatableModel instance = new BatchUpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    Map<Long, BatchUpdatableModel> sourceInstances = BatchUpdatableModel.getByKeys(Collections.singletonList(instance.id));
+    BatchUpdatableModel sourceInstance = sourceInstances != null ? sourceInstances.get(instance.id) : null;
+    if(sourceInstance != null) {
+      if((fieldsSet0 & 1L << 0) == 0) {
+        instance.id = sourceInstance.id;
+      }
+      if((fieldsSet0 & 1L << 1) == 0) {
+        instance.name = sourceInstance.name;
+      }
+      if((fieldsSet0 & 1L << 2) == 0) {
+        instance.testInt = sourceInstance.testInt;
+      }
+    }
+    return instance;
+  }
+
+  private BatchUpdatableModel parseDeferred(JsonParser jsonParser, DataHolder dataHolder) throws IOException {
+    BatchUpdatableModel instance = new BatchUpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    dataHolder.fieldsSet0 = fieldsSet0;
+    return instance;
+  }
+
+  private void mergeDeferred(List<BatchUpdatableModel> instances, List<DataHolder> dataHolders) throws IOException {
+    List<Long> keys = new ArrayList<Long>(instances.size());
+    for (BatchUpdatableModel instance : instances) {
+      if (instance != null) {
+        keys.add(instance.id);
+      }
+    }
+    Map<Long, BatchUpdatableModel> sourceInstances = keys.size() > 0 ? BatchUpdatableModel.getByKeys(keys) : null;
+    for (int i = 0; i < instances.size(); i++) {
+      BatchUpdatableModel instance = instances.get(i);
+      if (instance == null) {
+        continue;
+      }
+      DataHolder dataHolder = dataHolders.get(i);
+      long fieldsSet0 = dataHolder.fieldsSet0;
+      BatchUpdatableModel sourceInstance = sourceInstances != null ? sourceInstances.get(instance.id) : null;
+      if(sourceInstance != null) {
+        if((fieldsSet0 & 1L << 0) == 0) {
+          instance.id = sourceInstance.id;
+        }
+        if((fieldsSet0 & 1L << 1) == 0) {
+          instance.name = sourceInstance.name;
+        }
+        if((fieldsSet0 & 1L << 2) == 0) {
+          instance.testInt = sourceInstance.testInt;
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<BatchUpdatableModel> parseList(JsonParser jsonParser) throws IOException {
+    List<BatchUpdatableModel> list = new ArrayList<BatchUpdatableModel>();
+    List<DataHolder> dataHolders = new ArrayList<DataHolder>();
+    if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+      while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+        DataHolder dataHolder = new DataHolder();
+        list.add(parseDeferred(jsonParser, dataHolder));
+        dataHolders.add(dataHolder);
+      }
+    }
+    mergeDeferred(list, dataHolders);
+    return list;
+  }
+
+  @Override
+  public Map<String, BatchUpdatableModel> parseMap(JsonParser jsonParser) throws IOException {
+    Map<String, BatchUpdatableModel> map = new HashMap<String, BatchUpdatableModel>();
+    List<BatchUpdatableModel> instances = new ArrayList<BatchUpdatableModel>();
+    List<DataHolder> dataHolders = new ArrayList<DataHolder>();
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String key = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+        map.put(key, null);
+      } else {
+        DataHolder dataHolder = new DataHolder();
+        BatchUpdatableModel instance = parseDeferred(jsonParser, dataHolder);
+        map.put(key, instance);
+        instances.add(instance);
+        dataHolders.add(dataHolder);
+      }
+    }
+    mergeDeferred(instances, dataHolders);
+    return map;
+  }
+
+  @Override
+  public void parseField(BatchUpdatableModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("model_id".equals(fieldName)) {
+      instance.id = jsonParser.getValueAsLong();
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    } else if ("test_int".equals(fieldName)) {
+      instance.testInt = jsonParser.getValueAsInt();
+    }
+  }
+
+  public int parseTrackedField(BatchUpdatableModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("model_id".equals(fieldName)) {
+      instance.id = jsonParser.getValueAsLong();
+      return 0;
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+      return 1;
+    } else if ("test_int".equals(fieldName)) {
+      instance.testInt = jsonParser.getValueAsInt();
+      return 2;
+    }
+    return -1;
+  }
+
+  @Override
+  public Object holder() {
+    return new DataHolder();
+  }
+
+  @Override
+  public void serialize(BatchUpdatableModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    jsonGenerator.writeNumberField("model_id", object.id);
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    jsonGenerator.writeNumberField("test_int", object.testInt);
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  public static class DataHolder {
+    private long fieldsSet0;
+  }
+}
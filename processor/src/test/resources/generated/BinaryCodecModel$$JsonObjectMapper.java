@@ -0,0 +1,463 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+import com.bluelinelabs.logansquare.util.BinaryUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class BinaryCodecModel$$JsonObjectMapper extends JsonMapper<BinaryCodecModel> {
+  private static TypeConverter<Date> java_util_Date_type_converter;
+
+  @Override
+  public BinaryCodecModel parse(JsonParser jsonParser) throws IOException {
+    BinaryCodecModel instance = new BinaryCodecModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(BinaryCodecModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("aliases".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        List<String> collection1 = new ArrayList<String>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          String value1;
+          value1 = jsonParser.getValueAsString(null);
+          collection1.add(value1);
+        }
+        String[] array = collection1.toArray(new String[collection1.size()]);
+        instance.aliases = array;
+      } else {
+        instance.aliases = null;
+      }
+    } else if ("child".equals(fieldName)) {
+      instance.child = com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.parse(jsonParser);
+    } else if ("children".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<BinaryCodecModel> collection1 = new ArrayList<BinaryCodecModel>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          BinaryCodecModel value1;
+          value1 = com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.parse(jsonParser);
+          collection1.add(value1);
+        }
+        instance.children = collection1;
+      } else {
+        instance.children = null;
+      }
+    } else if ("codes".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        List<Integer> collection1 = new ArrayList<Integer>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          collection1.add(jsonParser.getValueAsInt());
+        }
+        int[] array = new int[collection1.size()];
+        int i = 0;
+        for (int value : collection1) {
+          array[i++] = value;
+        }
+        instance.codes = array;
+      } else {
+        instance.codes = null;
+      }
+    } else if ("count".equals(fieldName)) {
+      instance.count = jsonParser.getValueAsInt();
+    } else if ("counts".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, Integer> map1 = new HashMap<String, Integer>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            map1.put(key1, jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Integer.valueOf(jsonParser.getValueAsInt()));
+          }
+        }
+        instance.counts = map1;
+      } else {
+        instance.counts = null;
+      }
+    } else if ("date".equals(fieldName)) {
+      instance.date = getjava_util_Date_type_converter().parse(jsonParser);
+    } else if ("enabled".equals(fieldName)) {
+      instance.enabled = jsonParser.getValueAsBoolean();
+    } else if ("extra".equals(fieldName)) {
+      instance.extra = com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.parse(jsonParser);
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    } else if ("ratio".equals(fieldName)) {
+      instance.ratio = jsonParser.getValueAsDouble();
+    } else if ("score".equals(fieldName)) {
+      instance.score = jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : new Float(jsonParser.getValueAsDouble());
+    } else if ("tags".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<String> collection1 = new ArrayList<String>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          String value1;
+          value1 = jsonParser.getValueAsString(null);
+          collection1.add(value1);
+        }
+        instance.tags = collection1;
+      } else {
+        instance.tags = null;
+      }
+    } else if ("timestamp".equals(fieldName)) {
+      instance.timestamp = jsonParser.getValueAsLong();
+    }
+  }
+
+  @Override
+  public void serialize(BinaryCodecModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    final String[] lslocalaliases = object.aliases;
+    if (lslocalaliases != null) {
+      jsonGenerator.writeFieldName("aliases");
+      jsonGenerator.writeStartArray();
+      for (String element1 : lslocalaliases) {
+        if (element1 != null) {
+          jsonGenerator.writeString(element1);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (object.child != null) {
+      jsonGenerator.writeFieldName("child");
+      com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.serialize(object.child, jsonGenerator, true);
+    }
+    final List<BinaryCodecModel> lslocalchildren = object.children;
+    if (lslocalchildren != null) {
+      jsonGenerator.writeFieldName("children");
+      jsonGenerator.writeStartArray();
+      for (BinaryCodecModel element1 : lslocalchildren) {
+        if (element1 != null) {
+          com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    final int[] lslocalcodes = object.codes;
+    if (lslocalcodes != null) {
+      jsonGenerator.writeFieldName("codes");
+      jsonGenerator.writeStartArray();
+      for (int element1 : lslocalcodes) {
+        jsonGenerator.writeNumber(element1);
+      }
+      jsonGenerator.writeEndArray();
+    }
+    jsonGenerator.writeNumberField("count", object.count);
+    final Map<String, Integer> lslocalcounts = object.counts;
+    if (lslocalcounts != null) {
+      jsonGenerator.writeFieldName("counts");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, Integer> entry1 : lslocalcounts.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          jsonGenerator.writeNumber(entry1.getValue());
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    if (object.date != null) {
+      getjava_util_Date_type_converter().serialize(object.date, "date", true, jsonGenerator);
+    }
+    jsonGenerator.writeBooleanField("enabled", object.enabled);
+    if (object.extra != null) {
+      com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.serialize(object.extra, jsonGenerator, true);
+    }
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    jsonGenerator.writeNumberField("ratio", object.ratio);
+    if (object.score != null) {
+      jsonGenerator.writeNumberField("score", object.score);
+    }
+    final List<String> lslocaltags = object.tags;
+    if (lslocaltags != null) {
+      jsonGenerator.writeFieldName("tags");
+      jsonGenerator.writeStartArray();
+      for (String element1 : lslocaltags) {
+        if (element1 != null) {
+          jsonGenerator.writeString(element1);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    jsonGenerator.writeNumberField("timestamp", object.timestamp);
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  @Override
+  public int getBinarySchemaFingerprint() {
+    return 231723630;
+  }
+
+  @Override
+  public void writeBinaryFields(BinaryCodecModel object, DataOutput out) throws IOException {
+    int presence0 = 0;
+    if (object.aliases != null) {
+      presence0 |= 1 << 0;
+    }
+    if (object.child != null) {
+      presence0 |= 1 << 1;
+    }
+    if (object.children != null) {
+      presence0 |= 1 << 2;
+    }
+    if (object.codes != null) {
+      presence0 |= 1 << 3;
+    }
+    if (object.counts != null) {
+      presence0 |= 1 << 4;
+    }
+    if (object.date != null) {
+      presence0 |= 1 << 5;
+    }
+    if (object.extra != null) {
+      presence0 |= 1 << 6;
+    }
+    if (object.name != null) {
+      presence0 |= 1 << 7;
+    }
+    if (object.score != null) {
+      presence0 |= 1 << 8;
+    }
+    if (object.tags != null) {
+      presence0 |= 1 << 9;
+    }
+    BinaryUtils.writeUnsignedVarInt(out, presence0);
+    if ((presence0 & 1 << 0) != 0) {
+      final String[] array1 = object.aliases;
+      BinaryUtils.writeUnsignedVarInt(out, array1.length);
+      for (String element1 : array1) {
+        if (element1 != null) {
+          out.writeBoolean(true);
+          BinaryUtils.writeString(out, element1);
+        } else {
+          out.writeBoolean(false);
+        }
+      }
+    }
+    if ((presence0 & 1 << 1) != 0) {
+      com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.writeBinaryBody(object.child, out);
+    }
+    if ((presence0 & 1 << 2) != 0) {
+      final List<BinaryCodecModel> collection1 = object.children;
+      BinaryUtils.writeUnsignedVarInt(out, collection1.size());
+      for (BinaryCodecModel element1 : collection1) {
+        if (element1 != null) {
+          out.writeBoolean(true);
+          com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.writeBinaryBody(element1, out);
+        } else {
+          out.writeBoolean(false);
+        }
+      }
+    }
+    if ((presence0 & 1 << 3) != 0) {
+      final int[] array1 = object.codes;
+      BinaryUtils.writeUnsignedVarInt(out, array1.length);
+      for (int element1 : array1) {
+        BinaryUtils.writeVarInt(out, element1);
+      }
+    }
+    BinaryUtils.writeVarInt(out, object.count);
+    if ((presence0 & 1 << 4) != 0) {
+      final Map<String, Integer> map1 = object.counts;
+      BinaryUtils.writeUnsignedVarInt(out, map1.size());
+      for (Map.Entry<String, Integer> entry1 : map1.entrySet()) {
+        BinaryUtils.writeString(out, entry1.getKey());
+        if (entry1.getValue() != null) {
+          out.writeBoolean(true);
+          BinaryUtils.writeVarInt(out, entry1.getValue());
+        } else {
+          out.writeBoolean(false);
+        }
+      }
+    }
+    if ((presence0 & 1 << 5) != 0) {
+      BinaryUtils.writeWithTypeConverter(getjava_util_Date_type_converter(), object.date, out);
+    }
+    out.writeBoolean(object.enabled);
+    if ((presence0 & 1 << 6) != 0) {
+      BinaryUtils.writeWithMapper(com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER, object.extra, out);
+    }
+    if ((presence0 & 1 << 7) != 0) {
+      BinaryUtils.writeString(out, object.name);
+    }
+    out.writeDouble(object.ratio);
+    if ((presence0 & 1 << 8) != 0) {
+      out.writeFloat(object.score);
+    }
+    if ((presence0 & 1 << 9) != 0) {
+      final List<String> collection1 = object.tags;
+      BinaryUtils.writeUnsignedVarInt(out, collection1.size());
+      for (String element1 : collection1) {
+        if (element1 != null) {
+          out.writeBoolean(true);
+          BinaryUtils.writeString(out, element1);
+        } else {
+          out.writeBoolean(false);
+        }
+      }
+    }
+    BinaryUtils.writeVarLong(out, object.timestamp);
+  }
+
+  @Override
+  public void readBinaryFields(BinaryCodecModel instance, DataInput in) throws IOException {
+    int presence0 = BinaryUtils.readUnsignedVarInt(in);
+    if ((presence0 & 1 << 0) != 0) {
+      int size1 = BinaryUtils.readUnsignedVarInt(in);
+      String[] array1 = new String[size1];
+      for (int i1 = 0; i1 < size1; i1++) {
+        if (in.readBoolean()) {
+          array1[i1] = BinaryUtils.readString(in);
+        }
+      }
+      instance.aliases = array1;
+    } else {
+      instance.aliases = null;
+    }
+    if ((presence0 & 1 << 1) != 0) {
+      instance.child = com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.readBinaryBody(in);
+    } else {
+      instance.child = null;
+    }
+    if ((presence0 & 1 << 2) != 0) {
+      int size1 = BinaryUtils.readUnsignedVarInt(in);
+      ArrayList<BinaryCodecModel> collection1 = new ArrayList<BinaryCodecModel>();
+      for (int i1 = 0; i1 < size1; i1++) {
+        if (in.readBoolean()) {
+          collection1.add(com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder.MAPPER.readBinaryBody(in));
+        } else {
+          collection1.add(null);
+        }
+      }
+      instance.children = collection1;
+    } else {
+      instance.children = null;
+    }
+    if ((presence0 & 1 << 3) != 0) {
+      int size1 = BinaryUtils.readUnsignedVarInt(in);
+      int[] array1 = new int[size1];
+      for (int i1 = 0; i1 < size1; i1++) {
+        array1[i1] = BinaryUtils.readVarInt(in);
+      }
+      instance.codes = array1;
+    } else {
+      instance.codes = null;
+    }
+    instance.count = BinaryUtils.readVarInt(in);
+    if ((presence0 & 1 << 4) != 0) {
+      int size1 = BinaryUtils.readUnsignedVarInt(in);
+      HashMap<String, Integer> map1 = new HashMap<String, Integer>();
+      for (int i1 = 0; i1 < size1; i1++) {
+        String key1 = BinaryUtils.readString(in);
+        if (in.readBoolean()) {
+          map1.put(key1, BinaryUtils.readVarInt(in));
+        } else {
+          map1.put(key1, null);
+        }
+      }
+      instance.counts = map1;
+    } else {
+      instance.counts = null;
+    }
+    if ((presence0 & 1 << 5) != 0) {
+      instance.date = BinaryUtils.readWithTypeConverter(getjava_util_Date_type_converter(), in);
+    } else {
+      instance.date = null;
+    }
+    instance.enabled = in.readBoolean();
+    if ((presence0 & 1 << 6) != 0) {
+      instance.extra = BinaryUtils.readWithMapper(com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER, in);
+    } else {
+      instance.extra = null;
+    }
+    if ((presence0 & 1 << 7) != 0) {
+      instance.name = BinaryUtils.readString(in);
+    } else {
+      instance.name = null;
+    }
+    instance.ratio = in.readDouble();
+    if ((presence0 & 1 << 8) != 0) {
+      instance.score = in.readFloat();
+    } else {
+      instance.score = null;
+    }
+    if ((presence0 & 1 << 9) != 0) {
+      int size1 = BinaryUtils.readUnsignedVarInt(in);
+      ArrayList<String> collection1 = new ArrayList<String>();
+      for (int i1 = 0; i1 < size1; i1++) {
+        if (in.readBoolean()) {
+          collection1.add(BinaryUtils.readString(in));
+        } else {
+          collection1.add(null);
+        }
+      }
+      instance.tags = collection1;
+    } else {
+      instance.tags = null;
+    }
+    instance.timestamp = BinaryUtils.readVarLong(in);
+  }
+
+  @Override
+  public void writeBinaryBody(BinaryCodecModel object, DataOutput out) throws IOException {
+    writeBinaryFields(object, out);
+  }
+
+  @Override
+  public BinaryCodecModel readBinaryBody(DataInput in) throws IOException {
+    BinaryCodecModel instance = new BinaryCodecModel();
+    readBinaryFields(instance, in);
+    return instance;
+  }
+
+  private static final TypeConverter<Date> getjava_util_Date_type_converter() {
+    if (java_util_Date_type_converter == null) {
+      java_util_Date_type_converter = LoganSquare.typeConverterFor(Date.class);
+    }
+    return java_util_Date_type_converter;
+  }
+
+  private static final class com_bluelinelabs_logansquare_processor_BinaryCodecModelMapperHolder {
+    static final JsonMapper<BinaryCodecModel> MAPPER = LoganSquare.mapperFor(BinaryCodecModel.class);
+  }
+
+  private static final class com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder {
+    static final JsonMapper<Object> MAPPER = LoganSquare.mapperFor(Object.class);
+  }
+}
@@ -0,0 +1,261 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.util.SourceInstanceCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Long;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class CachedUpdatableModel$$JsonObjectMapper extends JsonMapper<CachedUpdatableModel> {
+  private final SourceInstanceCache<Long, CachedUpdatableModel> sourceInstanceCache = new SourceInstanceCache<Long, CachedUpdatableModel>(100);
+
+  @Override
+  public CachedUpdatableModel parse(JsonParser jsonParser) throws IOException {
+    CachedUpdatableModel instance = new CachedUpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    CachedUpdatableModel sourceInstance = sourceInstanceCache.get(instance.id);
+    if (sourceInstance == null) {
+      Map<Long, CachedUpdatableModel> sourceInstances = CachedUpdatableModel.getByKeys(Collections.singletonList(instance.id));
+      sourceInstance = sourceInstances != null ? sourceInstances.get(instance.id) : null;
+      if (sourceInstance != null) {
+        sourceInstanceCache.put(instance.id, sourceInstance);
+      }
+    }
+    if(sourceInstance != null) {
+      if((fieldsSet0 & 1L << 0) == 0) {
+        instance.id = sourceInstance.id;
+      }
+      if((fieldsSet0 & 1L << 1) == 0) {
+        instance.name = sourceInstance.name;
+      }
+    }
+    return instance;
+  }
+
+  @Override
+  public CachedUpdatableModel parse(JsonParser jsonParser, Object dataHolderObject) throws IOException {
+    DataHolder dataHolder = (DataHolder) dataHolderObject;
+    if(dataHolder == null) {
+      dataHolder = new DataHolder();
+    }
+    CachedUpdatableModel instance = new CachedUpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    CachedUpdatableModel sourceInstance = sourceInstanceCache.get(instance.id);
+    if (sourceInstance == null) {
+      Map<Long, CachedUpdatableModel> sourceInstances = CachedUpdatableModel.getByKeys(Collections.singletonList(instance.id));
+      sourceInstance = sourceInstances != null ? sourceInstances.get(instance.id) : null;
+      if (sourceInstance != null) {
+        sourceInstanceCache.put(instance.id, sourceInstance);
+      }
+    }
+    if(sourceInstance != null) {
+      if((fieldsSet0 & 1L << 0) == 0) {
+        instance.id = sourceInstance.id;
+      }
+      if((fieldsSet0 & 1L << 1) == 0) {
+        instance.name = sourceInstance.name;
+      }
+    }
+    return instance;
+  }
+
+  private CachedUpdatableModel parseDeferred(JsonParser jsonParser, DataHolder dataHolder) throws IOException {
+    CachedUpdatableModel instance = new CachedUpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    dataHolder.fieldsSet0 = fieldsSet0;
+    return instance;
+  }
+
+  private void mergeDeferred(List<CachedUpdatableModel> instances, List<DataHolder> dataHolders) throws IOException {
+    List<Long> keys = new ArrayList<Long>(instances.size());
+    Map<Long, CachedUpdatableModel> sourceInstances = new HashMap<Long, CachedUpdatableModel>();
+    for (CachedUpdatableModel instance : instances) {
+      if (instance != null) {
+        CachedUpdatableModel cachedInstance = sourceInstanceCache.get(instance.id);
+        if (cachedInstance != null) {
+          sourceInstances.put(instance.id, cachedInstance);
+        } else {
+          keys.add(instance.id);
+        }
+      }
+    }
+    if (keys.size() > 0) {
+      Map<Long, CachedUpdatableModel> loadedInstances = CachedUpdatableModel.getByKeys(keys);
+      if (loadedInstances != null) {
+        for (Map.Entry<Long, CachedUpdatableModel> entry : loadedInstances.entrySet()) {
+          if (entry.getValue() != null) {
+            sourceInstanceCache.put(entry.getKey(), entry.getValue());
+            sourceInstances.put(entry.getKey(), entry.getValue());
+          }
+        }
+      }
+    }
+    for (int i = 0; i < instances.size(); i++) {
+      CachedUpdatableModel instance = instances.get(i);
+      if (instance == null) {
+        continue;
+      }
+      DataHolder dataHolder = dataHolders.get(i);
+      long fieldsSet0 = dataHolder.fieldsSet0;
+      CachedUpdatableModel sourceInstance = sourceInstances != null ? sourceInstances.get(instance.id) : null;
+      if(sourceInstance != null) {
+        if((fieldsSet0 & 1L << 0) == 0) {
+          instance.id = sourceInstance.id;
+        }
+        if((fieldsSet0 & 1L << 1) == 0) {
+          instance.name = sourceInstance.name;
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<CachedUpdatableModel> parseList(JsonParser jsonParser) throws IOException {
+    List<CachedUpdatableModel> list = new ArrayList<CachedUpdatableModel>();
+    List<DataHolder> dataHolders = new ArrayList<DataHolder>();
+    if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+      while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+        DataHolder dataHolder = new DataHolder();
+        list.add(parseDeferred(jsonParser, dataHolder));
+        dataHolders.add(dataHolder);
+      }
+    }
+    mergeDeferred(list, dataHolders);
+    return list;
+  }
+
+  @Override
+  public Map<String, CachedUpdatableModel> parseMap(JsonParser jsonParser) throws IOException {
+    Map<String, CachedUpdatableModel> map = new HashMap<String, CachedUpdatableModel>();
+    List<CachedUpdatableModel> instances = new ArrayList<CachedUpdatableModel>();
+    List<DataHolder> dataHolders = new ArrayList<DataHolder>();
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String key = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+        map.put(key, null);
+      } else {
+        DataHolder dataHolder = new DataHolder();
+        CachedUpdatableModel instance = parseDeferred(jsonParser, dataHolder);
+        map.put(key, instance);
+        instances.add(instance);
+        dataHolders.add(dataHolder);
+      }
+    }
+    mergeDeferred(instances, dataHolders);
+    return map;
+  }
+
+  @Override
+  public void parseField(CachedUpdatableModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("model_id".equals(fieldName)) {
+      instance.id = jsonParser.getValueAsLong();
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    }
+  }
+
+  public int parseTrackedField(CachedUpdatableModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("model_id".equals(fieldName)) {
+      instance.id = jsonParser.getValueAsLong();
+      return 0;
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+      return 1;
+    }
+    return -1;
+  }
+
+  @Override
+  public Object holder() {
+    return new DataHolder();
+  }
+
+  @Override
+  public void invalidateSourceInstance(Object key) {
+    sourceInstanceCache.remove((Long)key);
+  }
+
+  @Override
+  public void invalidateSourceInstances() {
+    sourceInstanceCache.clear();
+  }
+
+  @Override
+  public void serialize(CachedUpdatableModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    jsonGenerator.writeNumberField("model_id", object.id);
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  public static class DataHolder {
+    private long fieldsSet0;
+  }
+}
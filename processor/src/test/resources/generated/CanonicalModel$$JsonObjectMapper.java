@@ -0,0 +1,150 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.util.CanonicalInstanceMap;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class CanonicalModel$$JsonObjectMapper extends JsonMapper<CanonicalModel> {
+  private final CanonicalInstanceMap<String, CanonicalModel> canonicalInstances = new CanonicalInstanceMap<String, CanonicalModel>();
+
+  @Override
+  public CanonicalModel parse(JsonParser jsonParser) throws IOException {
+    CanonicalModel instance = new CanonicalModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return canonicalize(instance);
+  }
+
+  @Override
+  public void parseField(CanonicalModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("badges".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        List<Integer> collection1 = new ArrayList<Integer>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          collection1.add(jsonParser.getValueAsInt());
+        }
+        int[] array = new int[collection1.size()];
+        int i = 0;
+        for (int value : collection1) {
+          array[i++] = value;
+        }
+        instance.badges = array;
+      } else {
+        instance.badges = null;
+      }
+    } else if ("follower_count".equals(fieldName)) {
+      instance.followerCount = jsonParser.getValueAsInt();
+    } else if ("id".equals(fieldName)) {
+      instance.id = jsonParser.getValueAsString(null);
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    } else if ("tags".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<String> collection1 = new ArrayList<String>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          String value1;
+          value1 = jsonParser.getValueAsString(null);
+          collection1.add(value1);
+        }
+        instance.tags = collection1;
+      } else {
+        instance.tags = null;
+      }
+    }
+  }
+
+  @Override
+  public void serialize(CanonicalModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    final int[] lslocalbadges = object.badges;
+    if (lslocalbadges != null) {
+      jsonGenerator.writeFieldName("badges");
+      jsonGenerator.writeStartArray();
+      for (int element1 : lslocalbadges) {
+        jsonGenerator.writeNumber(element1);
+      }
+      jsonGenerator.writeEndArray();
+    }
+    jsonGenerator.writeNumberField("follower_count", object.followerCount);
+    if (object.id != null) {
+      jsonGenerator.writeStringField("id", object.id);
+    }
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    final List<String> lslocaltags = object.tags;
+    if (lslocaltags != null) {
+      jsonGenerator.writeFieldName("tags");
+      jsonGenerator.writeStartArray();
+      for (String element1 : lslocaltags) {
+        if (element1 != null) {
+          jsonGenerator.writeString(element1);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  private CanonicalModel canonicalize(CanonicalModel instance) throws IOException {
+    if (instance.id == null) {
+      return instance;
+    }
+    CanonicalModel canonicalInstance = canonicalInstances.get(instance.id);
+    if (canonicalInstance != null && hasSameContent(canonicalInstance, instance)) {
+      return canonicalInstance;
+    }
+    canonicalInstances.put(instance.id, instance);
+    return instance;
+  }
+
+  private boolean hasSameContent(CanonicalModel a, CanonicalModel b) throws IOException {
+    if (!Arrays.equals(a.badges, b.badges)) {
+      return false;
+    }
+    if (a.followerCount != b.followerCount) {
+      return false;
+    }
+    if (a.id != b.id && (a.id == null || !a.id.equals(b.id))) {
+      return false;
+    }
+    if (a.name != b.name && (a.name == null || !a.name.equals(b.name))) {
+      return false;
+    }
+    if (a.tags != b.tags && (a.tags == null || !a.tags.equals(b.tags))) {
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void clearCanonicalInstances() {
+    canonicalInstances.clear();
+  }
+}
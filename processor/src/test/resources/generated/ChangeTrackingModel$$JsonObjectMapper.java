@@ -0,0 +1,131 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.util.ChangeTracker;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class ChangeTrackingModel$$JsonObjectMapper extends JsonMapper<ChangeTrackingModel> {
+  private final ChangeTracker<ChangeTrackingModel> changeTracker = new ChangeTracker<ChangeTrackingModel>();
+
+  @Override
+  public ChangeTrackingModel parse(JsonParser jsonParser) throws IOException {
+    ChangeTrackingModel instance = new ChangeTrackingModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(ChangeTrackingModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("id".equals(fieldName)) {
+      instance.id = jsonParser.getValueAsLong();
+    } else if ("like_count".equals(fieldName)) {
+      instance.likeCount = jsonParser.getValueAsInt();
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    } else if ("tags".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<String> collection1 = new ArrayList<String>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          String value1;
+          value1 = jsonParser.getValueAsString(null);
+          collection1.add(value1);
+        }
+        instance.tags = collection1;
+      } else {
+        instance.tags = null;
+      }
+    }
+  }
+
+  @Override
+  public void serialize(ChangeTrackingModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    jsonGenerator.writeNumberField("id", object.id);
+    jsonGenerator.writeNumberField("like_count", object.likeCount);
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    final List<String> lslocaltags = object.tags;
+    if (lslocaltags != null) {
+      jsonGenerator.writeFieldName("tags");
+      jsonGenerator.writeStartArray();
+      for (String element1 : lslocaltags) {
+        if (element1 != null) {
+          jsonGenerator.writeString(element1);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  @Override
+  public void serializeChanges(ChangeTrackingModel object, JsonGenerator jsonGenerator) throws IOException {
+    Object[] snapshot = changeTracker.get(object);
+    if (snapshot == null) {
+      serialize(object, jsonGenerator, true);
+      return;
+    }
+    jsonGenerator.writeStartObject();
+    jsonGenerator.writeNumberField("id", object.id);
+    if (ChangeTracker.isChanged(snapshot[0], object.likeCount)) {
+      jsonGenerator.writeNumberField("like_count", object.likeCount);
+    }
+    if (ChangeTracker.isChanged(snapshot[1], object.name)) {
+      if (object.name != null) {
+        jsonGenerator.writeStringField("name", object.name);
+      } else {
+        jsonGenerator.writeFieldName("name");
+        jsonGenerator.writeNull();
+      }
+    }
+    if (ChangeTracker.isChanged(snapshot[2], object.tags)) {
+      if (object.tags == null) {
+        jsonGenerator.writeNullField("tags");
+      } else {
+        final List<String> lslocaltags = object.tags;
+        if (lslocaltags != null) {
+          jsonGenerator.writeFieldName("tags");
+          jsonGenerator.writeStartArray();
+          for (String element3 : lslocaltags) {
+            if (element3 != null) {
+              jsonGenerator.writeString(element3);
+            }
+          }
+          jsonGenerator.writeEndArray();
+        }
+      }
+    }
+    jsonGenerator.writeEndObject();
+  }
+
+  @Override
+  public void markClean(ChangeTrackingModel object) {
+    changeTracker.put(object, new Object[] {ChangeTracker.snapshotOf(object.likeCount), ChangeTracker.snapshotOf(object.name), ChangeTracker.snapshotOf(object.tags)});
+  }
+}
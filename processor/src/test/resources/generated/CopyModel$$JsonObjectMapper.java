@@ -0,0 +1,259 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+import com.bluelinelabs.logansquare.util.CopyUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class CopyModel$$JsonObjectMapper extends JsonMapper<CopyModel> {
+  private static TypeConverter<Date> java_util_Date_type_converter;
+
+  @Override
+  public CopyModel parse(JsonParser jsonParser) throws IOException {
+    CopyModel instance = new CopyModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(CopyModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("created".equals(fieldName)) {
+      instance.created = getjava_util_Date_type_converter().parse(jsonParser);
+    } else if ("items".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<CopyModel.Item> collection1 = new ArrayList<CopyModel.Item>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          CopyModel.Item value1;
+          value1 = com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.parse(jsonParser);
+          collection1.add(value1);
+        }
+        instance.items = collection1;
+      } else {
+        instance.items = null;
+      }
+    } else if ("itemsById".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, CopyModel.Item> map1 = new HashMap<String, CopyModel.Item>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            map1.put(key1, com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.parse(jsonParser));
+          }
+        }
+        instance.itemsById = map1;
+      } else {
+        instance.itemsById = null;
+      }
+    } else if ("note".equals(fieldName)) {
+      instance.setNote(jsonParser.getValueAsString(null));
+    } else if ("pinned".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        List<CopyModel.Item> collection1 = new ArrayList<CopyModel.Item>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          CopyModel.Item value1;
+          value1 = com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.parse(jsonParser);
+          collection1.add(value1);
+        }
+        CopyModel.Item[] array = collection1.toArray(new CopyModel.Item[collection1.size()]);
+        instance.pinned = array;
+      } else {
+        instance.pinned = null;
+      }
+    } else if ("scores".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        List<Integer> collection1 = new ArrayList<Integer>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          collection1.add(jsonParser.getValueAsInt());
+        }
+        int[] array = new int[collection1.size()];
+        int i = 0;
+        for (int value : collection1) {
+          array[i++] = value;
+        }
+        instance.scores = array;
+      } else {
+        instance.scores = null;
+      }
+    } else if ("title".equals(fieldName)) {
+      instance.title = jsonParser.getValueAsString(null);
+    } else if ("view_count".equals(fieldName)) {
+      instance.viewCount = jsonParser.getValueAsInt();
+    }
+  }
+
+  @Override
+  public void serialize(CopyModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.created != null) {
+      getjava_util_Date_type_converter().serialize(object.created, "created", true, jsonGenerator);
+    }
+    final List<CopyModel.Item> lslocalitems = object.items;
+    if (lslocalitems != null) {
+      jsonGenerator.writeFieldName("items");
+      jsonGenerator.writeStartArray();
+      for (CopyModel.Item element1 : lslocalitems) {
+        if (element1 != null) {
+          com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    final Map<String, CopyModel.Item> lslocalitemsById = object.itemsById;
+    if (lslocalitemsById != null) {
+      jsonGenerator.writeFieldName("itemsById");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, CopyModel.Item> entry1 : lslocalitemsById.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.serialize(entry1.getValue(), jsonGenerator, true);
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    if (object.getNote() != null) {
+      jsonGenerator.writeStringField("note", object.getNote());
+    }
+    final CopyModel.Item[] lslocalpinned = object.pinned;
+    if (lslocalpinned != null) {
+      jsonGenerator.writeFieldName("pinned");
+      jsonGenerator.writeStartArray();
+      for (CopyModel.Item element1 : lslocalpinned) {
+        if (element1 != null) {
+          com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    final int[] lslocalscores = object.scores;
+    if (lslocalscores != null) {
+      jsonGenerator.writeFieldName("scores");
+      jsonGenerator.writeStartArray();
+      for (int element1 : lslocalscores) {
+        jsonGenerator.writeNumber(element1);
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (object.title != null) {
+      jsonGenerator.writeStringField("title", object.title);
+    }
+    jsonGenerator.writeNumberField("view_count", object.viewCount);
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  @Override
+  public void copyFields(CopyModel object, CopyModel instance) throws IOException {
+    if (object.created != null) {
+      instance.created = CopyUtils.copyWithTypeConverter(getjava_util_Date_type_converter(), object.created);
+    } else {
+      instance.created = null;
+    }
+    if (object.items != null) {
+      ArrayList<CopyModel.Item> collection1 = new ArrayList<CopyModel.Item>();
+      for (CopyModel.Item element1 : object.items) {
+        if (element1 != null) {
+          collection1.add(com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.copy(element1));
+        } else {
+          collection1.add(null);
+        }
+      }
+      instance.items = collection1;
+    } else {
+      instance.items = null;
+    }
+    if (object.itemsById != null) {
+      HashMap<String, CopyModel.Item> map1 = new HashMap<String, CopyModel.Item>();
+      for (Map.Entry<String, CopyModel.Item> entry1 : object.itemsById.entrySet()) {
+        if (entry1.getValue() != null) {
+          map1.put(entry1.getKey(), com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.copy(entry1.getValue()));
+        } else {
+          map1.put(entry1.getKey(), null);
+        }
+      }
+      instance.itemsById = map1;
+    } else {
+      instance.itemsById = null;
+    }
+    if (object.getNote() != null) {
+      instance.setNote(object.getNote());
+    } else {
+      instance.setNote(null);
+    }
+    if (object.pinned != null) {
+      final CopyModel.Item[] source1 = object.pinned;
+      CopyModel.Item[] array1 = new CopyModel.Item[source1.length];
+      for (int i1 = 0; i1 < source1.length; i1++) {
+        if (source1[i1] != null) {
+          array1[i1] = com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder.MAPPER.copy(source1[i1]);
+        }
+      }
+      instance.pinned = array1;
+    } else {
+      instance.pinned = null;
+    }
+    if (object.scores != null) {
+      instance.scores = object.scores.clone();
+    } else {
+      instance.scores = null;
+    }
+    if (object.title != null) {
+      instance.title = object.title;
+    } else {
+      instance.title = null;
+    }
+    instance.viewCount = object.viewCount;
+  }
+
+  @Override
+  public CopyModel copy(CopyModel object) throws IOException {
+    if (object == null) {
+      return null;
+    }
+    CopyModel instance = new CopyModel();
+    copyFields(object, instance);
+    return instance;
+  }
+
+  private static final TypeConverter<Date> getjava_util_Date_type_converter() {
+    if (java_util_Date_type_converter == null) {
+      java_util_Date_type_converter = LoganSquare.typeConverterFor(Date.class);
+    }
+    return java_util_Date_type_converter;
+  }
+
+  private static final class com_bluelinelabs_logansquare_processor_CopyModel_ItemMapperHolder {
+    static final JsonMapper<CopyModel.Item> MAPPER = LoganSquare.mapperFor(CopyModel.Item.class);
+  }
+}
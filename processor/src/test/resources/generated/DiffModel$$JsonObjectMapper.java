@@ -0,0 +1,342 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.util.DiffUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class DiffModel$$JsonObjectMapper extends JsonMapper<DiffModel> {
+  @Override
+  public DiffModel parse(JsonParser jsonParser) throws IOException {
+    DiffModel instance = new DiffModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(DiffModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("author".equals(fieldName)) {
+      instance.author = com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.parse(jsonParser);
+    } else if ("counts".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, Integer> map1 = new HashMap<String, Integer>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            map1.put(key1, jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Integer.valueOf(jsonParser.getValueAsInt()));
+          }
+        }
+        instance.counts = map1;
+      } else {
+        instance.counts = null;
+      }
+    } else if ("tags".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<String> collection1 = new ArrayList<String>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          String value1;
+          value1 = jsonParser.getValueAsString(null);
+          collection1.add(value1);
+        }
+        instance.tags = collection1;
+      } else {
+        instance.tags = null;
+      }
+    } else if ("title".equals(fieldName)) {
+      instance.title = jsonParser.getValueAsString(null);
+    } else if ("view_count".equals(fieldName)) {
+      instance.viewCount = jsonParser.getValueAsInt();
+    }
+  }
+
+  @Override
+  public void serialize(DiffModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.author != null) {
+      jsonGenerator.writeFieldName("author");
+      com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.serialize(object.author, jsonGenerator, true);
+    }
+    final Map<String, Integer> lslocalcounts = object.counts;
+    if (lslocalcounts != null) {
+      jsonGenerator.writeFieldName("counts");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, Integer> entry1 : lslocalcounts.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          jsonGenerator.writeNumber(entry1.getValue());
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final List<String> lslocaltags = object.tags;
+    if (lslocaltags != null) {
+      jsonGenerator.writeFieldName("tags");
+      jsonGenerator.writeStartArray();
+      for (String element1 : lslocaltags) {
+        if (element1 != null) {
+          jsonGenerator.writeString(element1);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (object.title != null) {
+      jsonGenerator.writeStringField("title", object.title);
+    }
+    jsonGenerator.writeNumberField("view_count", object.viewCount);
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  @Override
+  public void diffFields(DiffModel before, DiffModel after, JsonGenerator jsonGenerator) throws IOException {
+    if (!com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.contentEquals(before.author, after.author)) {
+      jsonGenerator.writeFieldName("author");
+      com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.diff(before.author, after.author, jsonGenerator);
+    }
+    if (!DiffUtils.isEqual(before.counts, after.counts)) {
+      if (before.counts != null && after.counts != null) {
+        jsonGenerator.writeFieldName("counts");
+        jsonGenerator.writeStartObject();
+        for (String key3 : before.counts.keySet()) {
+          if (!after.counts.containsKey(key3)) {
+            jsonGenerator.writeNullField(key3);
+          }
+        }
+        for (Map.Entry<String, Integer> entry3 : after.counts.entrySet()) {
+          final Integer beforeValue3 = before.counts.get(entry3.getKey());
+          if (!before.counts.containsKey(entry3.getKey()) || !DiffUtils.isEqual(beforeValue3, entry3.getValue())) {
+            jsonGenerator.writeFieldName(entry3.getKey());
+            if (entry3.getValue() == null) {
+              jsonGenerator.writeNull();
+            } else {
+              jsonGenerator.writeNumber(entry3.getValue());
+            }
+          }
+        }
+        jsonGenerator.writeEndObject();
+      } else {
+        if (after.counts == null) {
+          jsonGenerator.writeNullField("counts");
+        } else {
+          final Map<String, Integer> lslocalcounts = after.counts;
+          if (lslocalcounts != null) {
+            jsonGenerator.writeFieldName("counts");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, Integer> entry3 : lslocalcounts.entrySet()) {
+              jsonGenerator.writeFieldName(entry3.getKey().toString());
+              if (entry3.getValue() != null) {
+                jsonGenerator.writeNumber(entry3.getValue());
+              }
+            }
+            jsonGenerator.writeEndObject();
+          }
+        }
+      }
+    }
+    if (!DiffUtils.isEqual(before.tags, after.tags)) {
+      if (after.tags == null) {
+        jsonGenerator.writeNullField("tags");
+      } else {
+        final List<String> lslocaltags = after.tags;
+        if (lslocaltags != null) {
+          jsonGenerator.writeFieldName("tags");
+          jsonGenerator.writeStartArray();
+          for (String element3 : lslocaltags) {
+            if (element3 != null) {
+              jsonGenerator.writeString(element3);
+            }
+          }
+          jsonGenerator.writeEndArray();
+        }
+      }
+    }
+    if (!DiffUtils.isEqual(before.title, after.title)) {
+      if (after.title != null) {
+        jsonGenerator.writeStringField("title", after.title);
+      } else {
+        jsonGenerator.writeFieldName("title");
+        jsonGenerator.writeNull();
+      }
+    }
+    if (before.viewCount != after.viewCount) {
+      jsonGenerator.writeNumberField("view_count", after.viewCount);
+    }
+  }
+
+  @Override
+  public boolean contentEquals(DiffModel a, DiffModel b) throws IOException {
+    if (a == b) {
+      return true;
+    } else if (a == null || b == null) {
+      return false;
+    }
+    if (!com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.contentEquals(a.author, b.author)) {
+      return false;
+    }
+    if (!DiffUtils.isEqual(a.counts, b.counts)) {
+      return false;
+    }
+    if (!DiffUtils.isEqual(a.tags, b.tags)) {
+      return false;
+    }
+    if (!DiffUtils.isEqual(a.title, b.title)) {
+      return false;
+    }
+    if (a.viewCount != b.viewCount) {
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void applyPatchField(DiffModel target, String fieldName, JsonParser jsonParser) throws IOException {
+    if (("author".equals(fieldName)) && target.author != null && jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+      com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.applyPatch(target.author, jsonParser);
+    } else if (("counts".equals(fieldName)) && target.counts != null && jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+      while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+        String key1 = jsonParser.getCurrentName();
+        jsonParser.nextToken();
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+          target.counts.remove(key1);
+        } else {
+          target.counts.put(key1, jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Integer.valueOf(jsonParser.getValueAsInt()));
+        }
+      }
+    } else {
+      parseField(target, fieldName, jsonParser);
+    }
+  }
+
+  @Override
+  public boolean parseDiffers(DiffModel existing, JsonParser jsonParser) throws IOException {
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return existing != null;
+    }
+    if (existing == null) {
+      return true;
+    }
+    int seen0 = 0;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      if ("author".equals(fieldName)) {
+        seen0 |= 1 << 0;
+        if (com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.parseDiffers(existing.author, jsonParser)) {
+          return true;
+        }
+      } else if ("counts".equals(fieldName)) {
+        seen0 |= 1 << 1;
+        Map<String, Integer> parsed1;
+        if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+          HashMap<String, Integer> map1 = new HashMap<String, Integer>();
+          while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+            String key1 = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+              map1.put(key1, null);
+            } else {
+              map1.put(key1, jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Integer.valueOf(jsonParser.getValueAsInt()));
+            }
+          }
+          parsed1 = map1;
+        } else {
+          parsed1 = null;
+        }
+        if (!DiffUtils.isEqual(parsed1, existing.counts)) {
+          return true;
+        }
+      } else if ("tags".equals(fieldName)) {
+        seen0 |= 1 << 2;
+        if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+          final List<String> list1 = existing.tags;
+          if (list1 == null) {
+            return true;
+          }
+          int i1 = 0;
+          while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            if (i1 >= list1.size()) {
+              return true;
+            }
+            if (DiffUtils.differs(jsonParser, list1.get(i1))) {
+              return true;
+            }
+            i1++;
+          }
+          if (i1 != list1.size()) {
+            return true;
+          }
+        } else if (existing.tags != null) {
+          return true;
+        }
+      } else if ("title".equals(fieldName)) {
+        seen0 |= 1 << 3;
+        if (DiffUtils.differs(jsonParser, existing.title)) {
+          return true;
+        }
+      } else if ("view_count".equals(fieldName)) {
+        seen0 |= 1 << 4;
+        if (DiffUtils.differs(jsonParser, existing.viewCount)) {
+          return true;
+        }
+      }
+      jsonParser.skipChildren();
+    }
+    if (seen0 != 31) {
+      DiffModel defaults = new DiffModel();
+      if ((seen0 & 1 << 0) == 0 && !com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder.MAPPER.contentEquals(existing.author, defaults.author)) {
+        return true;
+      }
+      if ((seen0 & 1 << 1) == 0 && !DiffUtils.isEqual(existing.counts, defaults.counts)) {
+        return true;
+      }
+      if ((seen0 & 1 << 2) == 0 && !DiffUtils.isEqual(existing.tags, defaults.tags)) {
+        return true;
+      }
+      if ((seen0 & 1 << 3) == 0 && !DiffUtils.isEqual(existing.title, defaults.title)) {
+        return true;
+      }
+      if ((seen0 & 1 << 4) == 0 && existing.viewCount != defaults.viewCount) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class com_bluelinelabs_logansquare_processor_DiffModel_AuthorMapperHolder {
+    static final JsonMapper<DiffModel.Author> MAPPER = LoganSquare.mapperFor(DiffModel.Author.class);
+  }
+}
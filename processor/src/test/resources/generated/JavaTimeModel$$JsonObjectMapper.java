@@ -0,0 +1,155 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.typeconverters.DefaultInstantConverter;
+import com.bluelinelabs.logansquare.typeconverters.TypeConverter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class JavaTimeModel$$JsonObjectMapper extends JsonMapper<JavaTimeModel> {
+  protected static final DefaultInstantConverter.EpochMillis COM_BLUELINELABS_LOGANSQUARE_TYPECONVERTERS_DEFAULTINSTANTCONVERTER_EPOCHMILLIS = new DefaultInstantConverter.EpochMillis();
+
+  private static TypeConverter<OffsetDateTime> java_time_OffsetDateTime_type_converter;
+
+  private static TypeConverter<Duration> java_time_Duration_type_converter;
+
+  private static TypeConverter<LocalDate> java_time_LocalDate_type_converter;
+
+  private static TypeConverter<LocalDateTime> java_time_LocalDateTime_type_converter;
+
+  private static TypeConverter<Instant> java_time_Instant_type_converter;
+
+  @Override
+  public JavaTimeModel parse(JsonParser jsonParser) throws IOException {
+    JavaTimeModel instance = new JavaTimeModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(JavaTimeModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("duration".equals(fieldName)) {
+      instance.duration = getjava_time_Duration_type_converter().parse(jsonParser);
+    } else if ("epochMillis".equals(fieldName)) {
+      instance.epochMillis = COM_BLUELINELABS_LOGANSQUARE_TYPECONVERTERS_DEFAULTINSTANTCONVERTER_EPOCHMILLIS.parse(jsonParser);
+    } else if ("instant".equals(fieldName)) {
+      instance.instant = getjava_time_Instant_type_converter().parse(jsonParser);
+    } else if ("localDate".equals(fieldName)) {
+      instance.localDate = getjava_time_LocalDate_type_converter().parse(jsonParser);
+    } else if ("localDateList".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<LocalDate> collection1 = new ArrayList<LocalDate>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          LocalDate value1;
+          value1 = getjava_time_LocalDate_type_converter().parse(jsonParser);
+          collection1.add(value1);
+        }
+        instance.localDateList = collection1;
+      } else {
+        instance.localDateList = null;
+      }
+    } else if ("localDateTime".equals(fieldName)) {
+      instance.localDateTime = getjava_time_LocalDateTime_type_converter().parse(jsonParser);
+    } else if ("offsetDateTime".equals(fieldName)) {
+      instance.offsetDateTime = getjava_time_OffsetDateTime_type_converter().parse(jsonParser);
+    }
+  }
+
+  @Override
+  public void serialize(JavaTimeModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.duration != null) {
+      getjava_time_Duration_type_converter().serialize(object.duration, "duration", true, jsonGenerator);
+    }
+    COM_BLUELINELABS_LOGANSQUARE_TYPECONVERTERS_DEFAULTINSTANTCONVERTER_EPOCHMILLIS.serialize(object.epochMillis, "epochMillis", true, jsonGenerator);
+    if (object.instant != null) {
+      getjava_time_Instant_type_converter().serialize(object.instant, "instant", true, jsonGenerator);
+    }
+    if (object.localDate != null) {
+      getjava_time_LocalDate_type_converter().serialize(object.localDate, "localDate", true, jsonGenerator);
+    }
+    final List<LocalDate> lslocallocalDateList = object.localDateList;
+    if (lslocallocalDateList != null) {
+      jsonGenerator.writeFieldName("localDateList");
+      jsonGenerator.writeStartArray();
+      for (LocalDate element1 : lslocallocalDateList) {
+        if (element1 != null) {
+          getjava_time_LocalDate_type_converter().serialize(element1, null, false, jsonGenerator);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (object.localDateTime != null) {
+      getjava_time_LocalDateTime_type_converter().serialize(object.localDateTime, "localDateTime", true, jsonGenerator);
+    }
+    if (object.offsetDateTime != null) {
+      getjava_time_OffsetDateTime_type_converter().serialize(object.offsetDateTime, "offsetDateTime", true, jsonGenerator);
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  private static final TypeConverter<OffsetDateTime> getjava_time_OffsetDateTime_type_converter() {
+    if (java_time_OffsetDateTime_type_converter == null) {
+      java_time_OffsetDateTime_type_converter = LoganSquare.typeConverterFor(OffsetDateTime.class);
+    }
+    return java_time_OffsetDateTime_type_converter;
+  }
+
+  private static final TypeConverter<Duration> getjava_time_Duration_type_converter() {
+    if (java_time_Duration_type_converter == null) {
+      java_time_Duration_type_converter = LoganSquare.typeConverterFor(Duration.class);
+    }
+    return java_time_Duration_type_converter;
+  }
+
+  private static final TypeConverter<LocalDate> getjava_time_LocalDate_type_converter() {
+    if (java_time_LocalDate_type_converter == null) {
+      java_time_LocalDate_type_converter = LoganSquare.typeConverterFor(LocalDate.class);
+    }
+    return java_time_LocalDate_type_converter;
+  }
+
+  private static final TypeConverter<LocalDateTime> getjava_time_LocalDateTime_type_converter() {
+    if (java_time_LocalDateTime_type_converter == null) {
+      java_time_LocalDateTime_type_converter = LoganSquare.typeConverterFor(LocalDateTime.class);
+    }
+    return java_time_LocalDateTime_type_converter;
+  }
+
+  private static final TypeConverter<Instant> getjava_time_Instant_type_converter() {
+    if (java_time_Instant_type_converter == null) {
+      java_time_Instant_type_converter = LoganSquare.typeConverterFor(Instant.class);
+    }
+    return java_time_Instant_type_converter;
+  }
+}
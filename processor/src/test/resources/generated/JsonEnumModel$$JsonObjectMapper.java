@@ -0,0 +1,86 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class JsonEnumModel$$JsonObjectMapper extends JsonMapper<JsonEnumModel> {
+  protected static final JsonEnumModel$Priority$$JsonTypeConverter COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_PRIORITY__JSONTYPECONVERTER = new JsonEnumModel$Priority$$JsonTypeConverter();
+
+  protected static final JsonEnumModel$Status$$JsonTypeConverter COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_STATUS__JSONTYPECONVERTER = new JsonEnumModel$Status$$JsonTypeConverter();
+
+  @Override
+  public JsonEnumModel parse(JsonParser jsonParser) throws IOException {
+    JsonEnumModel instance = new JsonEnumModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(JsonEnumModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("priority".equals(fieldName)) {
+      instance.priority = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_PRIORITY__JSONTYPECONVERTER.parse(jsonParser);
+    } else if ("status".equals(fieldName)) {
+      instance.status = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_STATUS__JSONTYPECONVERTER.parse(jsonParser);
+    } else if ("statusList".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<JsonEnumModel.Status> collection1 = new ArrayList<JsonEnumModel.Status>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          JsonEnumModel.Status value1;
+          value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_STATUS__JSONTYPECONVERTER.parse(jsonParser);
+          collection1.add(value1);
+        }
+        instance.statusList = collection1;
+      } else {
+        instance.statusList = null;
+      }
+    }
+  }
+
+  @Override
+  public void serialize(JsonEnumModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.priority != null) {
+      COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_PRIORITY__JSONTYPECONVERTER.serialize(object.priority, "priority", true, jsonGenerator);
+    }
+    if (object.status != null) {
+      COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_STATUS__JSONTYPECONVERTER.serialize(object.status, "status", true, jsonGenerator);
+    }
+    final List<JsonEnumModel.Status> lslocalstatusList = object.statusList;
+    if (lslocalstatusList != null) {
+      jsonGenerator.writeFieldName("statusList");
+      jsonGenerator.writeStartArray();
+      for (JsonEnumModel.Status element1 : lslocalstatusList) {
+        if (element1 != null) {
+          COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_JSONENUMMODEL_STATUS__JSONTYPECONVERTER.serialize(element1, null, false, jsonGenerator);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+}
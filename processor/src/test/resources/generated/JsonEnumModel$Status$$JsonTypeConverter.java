@@ -0,0 +1,35 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.typeconverters.JsonEnumTypeConverter;
+import java.lang.Override;
+
+public final class JsonEnumModel$Status$$JsonTypeConverter extends JsonEnumTypeConverter<JsonEnumModel.Status> {
+  public JsonEnumModel$Status$$JsonTypeConverter() {
+    super(JsonEnumModel.Status.values(), false);
+  }
+
+  @Override
+  protected JsonEnumModel.Status valueFor(char[] buffer, int offset, int length) {
+    switch (length) {
+      case 6:
+        if (matches(buffer, offset, "ACTIVE")) {
+          return JsonEnumModel.Status.ACTIVE;
+        }
+        if (matches(buffer, offset, "BANNED")) {
+          return JsonEnumModel.Status.BANNED;
+        }
+        break;
+      case 7:
+        if (matches(buffer, offset, "DELETED")) {
+          return JsonEnumModel.Status.DELETED;
+        }
+        break;
+      case 8:
+        if (matches(buffer, offset, "INACTIVE")) {
+          return JsonEnumModel.Status.INACTIVE;
+        }
+        break;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,1178 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class LargeModel$$JsonObjectMapper extends JsonMapper<LargeModel> {
+  @Override
+  public LargeModel parse(JsonParser jsonParser) throws IOException {
+    LargeModel instance = new LargeModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(LargeModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if (parseField0(instance, fieldName, jsonParser)) {
+      return;
+    }
+    if (parseField1(instance, fieldName, jsonParser)) {
+      return;
+    }
+  }
+
+  private boolean parseField0(LargeModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("map01".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map01 = map1;
+      } else {
+        instance.map01 = null;
+      }
+      return true;
+    } else if ("map02".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map02 = map1;
+      } else {
+        instance.map02 = null;
+      }
+      return true;
+    } else if ("map03".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map03 = map1;
+      } else {
+        instance.map03 = null;
+      }
+      return true;
+    } else if ("map04".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map04 = map1;
+      } else {
+        instance.map04 = null;
+      }
+      return true;
+    } else if ("map05".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map05 = map1;
+      } else {
+        instance.map05 = null;
+      }
+      return true;
+    } else if ("map06".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map06 = map1;
+      } else {
+        instance.map06 = null;
+      }
+      return true;
+    } else if ("map07".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map07 = map1;
+      } else {
+        instance.map07 = null;
+      }
+      return true;
+    } else if ("map08".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map08 = map1;
+      } else {
+        instance.map08 = null;
+      }
+      return true;
+    } else if ("map09".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map09 = map1;
+      } else {
+        instance.map09 = null;
+      }
+      return true;
+    } else if ("map10".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map10 = map1;
+      } else {
+        instance.map10 = null;
+      }
+      return true;
+    } else if ("map11".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map11 = map1;
+      } else {
+        instance.map11 = null;
+      }
+      return true;
+    } else if ("map12".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map12 = map1;
+      } else {
+        instance.map12 = null;
+      }
+      return true;
+    } else if ("map13".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map13 = map1;
+      } else {
+        instance.map13 = null;
+      }
+      return true;
+    } else if ("map14".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map14 = map1;
+      } else {
+        instance.map14 = null;
+      }
+      return true;
+    } else if ("map15".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map15 = map1;
+      } else {
+        instance.map15 = null;
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private boolean parseField1(LargeModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("map16".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map16 = map1;
+      } else {
+        instance.map16 = null;
+      }
+      return true;
+    } else if ("map17".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map17 = map1;
+      } else {
+        instance.map17 = null;
+      }
+      return true;
+    } else if ("map18".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map18 = map1;
+      } else {
+        instance.map18 = null;
+      }
+      return true;
+    } else if ("map19".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map19 = map1;
+      } else {
+        instance.map19 = null;
+      }
+      return true;
+    } else if ("map20".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map20 = map1;
+      } else {
+        instance.map20 = null;
+      }
+      return true;
+    } else if ("map21".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map21 = map1;
+      } else {
+        instance.map21 = null;
+      }
+      return true;
+    } else if ("map22".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map22 = map1;
+      } else {
+        instance.map22 = null;
+      }
+      return true;
+    } else if ("map23".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, List<String>> map1 = new HashMap<String, List<String>>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+              ArrayList<String> collection2 = new ArrayList<String>();
+              while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                String value2;
+                value2 = jsonParser.getValueAsString(null);
+                collection2.add(value2);
+              }
+              map1.put(key1, collection2);
+            } else {
+              map1.put(key1, null);
+            }
+          }
+        }
+        instance.map23 = map1;
+      } else {
+        instance.map23 = null;
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void serialize(LargeModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    serializeFields0(object, jsonGenerator);
+    serializeFields1(object, jsonGenerator);
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  private void serializeFields0(LargeModel object, JsonGenerator jsonGenerator) throws IOException {
+    final Map<String, List<String>> lslocalmap01 = object.map01;
+    if (lslocalmap01 != null) {
+      jsonGenerator.writeFieldName("map01");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap01.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap01Element = entry1.getValue();
+          if (lslocallslocalmap01Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap01Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap02 = object.map02;
+    if (lslocalmap02 != null) {
+      jsonGenerator.writeFieldName("map02");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap02.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap02Element = entry1.getValue();
+          if (lslocallslocalmap02Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap02Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap03 = object.map03;
+    if (lslocalmap03 != null) {
+      jsonGenerator.writeFieldName("map03");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap03.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap03Element = entry1.getValue();
+          if (lslocallslocalmap03Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap03Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap04 = object.map04;
+    if (lslocalmap04 != null) {
+      jsonGenerator.writeFieldName("map04");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap04.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap04Element = entry1.getValue();
+          if (lslocallslocalmap04Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap04Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap05 = object.map05;
+    if (lslocalmap05 != null) {
+      jsonGenerator.writeFieldName("map05");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap05.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap05Element = entry1.getValue();
+          if (lslocallslocalmap05Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap05Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap06 = object.map06;
+    if (lslocalmap06 != null) {
+      jsonGenerator.writeFieldName("map06");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap06.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap06Element = entry1.getValue();
+          if (lslocallslocalmap06Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap06Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap07 = object.map07;
+    if (lslocalmap07 != null) {
+      jsonGenerator.writeFieldName("map07");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap07.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap07Element = entry1.getValue();
+          if (lslocallslocalmap07Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap07Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap08 = object.map08;
+    if (lslocalmap08 != null) {
+      jsonGenerator.writeFieldName("map08");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap08.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap08Element = entry1.getValue();
+          if (lslocallslocalmap08Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap08Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap09 = object.map09;
+    if (lslocalmap09 != null) {
+      jsonGenerator.writeFieldName("map09");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap09.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap09Element = entry1.getValue();
+          if (lslocallslocalmap09Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap09Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap10 = object.map10;
+    if (lslocalmap10 != null) {
+      jsonGenerator.writeFieldName("map10");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap10.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap10Element = entry1.getValue();
+          if (lslocallslocalmap10Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap10Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap11 = object.map11;
+    if (lslocalmap11 != null) {
+      jsonGenerator.writeFieldName("map11");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap11.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap11Element = entry1.getValue();
+          if (lslocallslocalmap11Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap11Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap12 = object.map12;
+    if (lslocalmap12 != null) {
+      jsonGenerator.writeFieldName("map12");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap12.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap12Element = entry1.getValue();
+          if (lslocallslocalmap12Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap12Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap13 = object.map13;
+    if (lslocalmap13 != null) {
+      jsonGenerator.writeFieldName("map13");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap13.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap13Element = entry1.getValue();
+          if (lslocallslocalmap13Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap13Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap14 = object.map14;
+    if (lslocalmap14 != null) {
+      jsonGenerator.writeFieldName("map14");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap14.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap14Element = entry1.getValue();
+          if (lslocallslocalmap14Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap14Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap15 = object.map15;
+    if (lslocalmap15 != null) {
+      jsonGenerator.writeFieldName("map15");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap15.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap15Element = entry1.getValue();
+          if (lslocallslocalmap15Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap15Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap16 = object.map16;
+    if (lslocalmap16 != null) {
+      jsonGenerator.writeFieldName("map16");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap16.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap16Element = entry1.getValue();
+          if (lslocallslocalmap16Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap16Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap17 = object.map17;
+    if (lslocalmap17 != null) {
+      jsonGenerator.writeFieldName("map17");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap17.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap17Element = entry1.getValue();
+          if (lslocallslocalmap17Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap17Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap18 = object.map18;
+    if (lslocalmap18 != null) {
+      jsonGenerator.writeFieldName("map18");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap18.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap18Element = entry1.getValue();
+          if (lslocallslocalmap18Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap18Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap19 = object.map19;
+    if (lslocalmap19 != null) {
+      jsonGenerator.writeFieldName("map19");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap19.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap19Element = entry1.getValue();
+          if (lslocallslocalmap19Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap19Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap20 = object.map20;
+    if (lslocalmap20 != null) {
+      jsonGenerator.writeFieldName("map20");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap20.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap20Element = entry1.getValue();
+          if (lslocallslocalmap20Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap20Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap21 = object.map21;
+    if (lslocalmap21 != null) {
+      jsonGenerator.writeFieldName("map21");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap21.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap21Element = entry1.getValue();
+          if (lslocallslocalmap21Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap21Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    final Map<String, List<String>> lslocalmap22 = object.map22;
+    if (lslocalmap22 != null) {
+      jsonGenerator.writeFieldName("map22");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap22.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap22Element = entry1.getValue();
+          if (lslocallslocalmap22Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap22Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  private void serializeFields1(LargeModel object, JsonGenerator jsonGenerator) throws IOException {
+    final Map<String, List<String>> lslocalmap23 = object.map23;
+    if (lslocalmap23 != null) {
+      jsonGenerator.writeFieldName("map23");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, List<String>> entry1 : lslocalmap23.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          final List<String> lslocallslocalmap23Element = entry1.getValue();
+          if (lslocallslocalmap23Element != null) {
+            jsonGenerator.writeStartArray();
+            for (String element2 : lslocallslocalmap23Element) {
+              if (element2 != null) {
+                jsonGenerator.writeString(element2);
+              }
+            }
+            jsonGenerator.writeEndArray();
+          }
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+  }
+}
@@ -20,8 +20,6 @@ import java.util.Set;
 
 @SuppressWarnings("unsafe,unchecked")
 public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<NestedCollectionModel> {
-    private static final JsonMapper<NestedCollectionModel.ModelForCollection> MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER = LoganSquare.mapperFor(NestedCollectionModel.ModelForCollection.class);
-
     @Override
     public NestedCollectionModel parse(JsonParser jsonParser) throws IOException {
         NestedCollectionModel instance = new NestedCollectionModel();
@@ -57,16 +55,16 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         }
                         String[] array = collection2.toArray(new String[collection2.size()]);
                         value1 = array;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.arrayList = collection1;
-            } else{
+            } else {
                 instance.arrayList = null;
             }
-        } else if ("complexArray".equals(fieldName)){
+        } else if ("complexArray".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>[]> collection1 = new ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>[]>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -82,37 +80,38 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                     if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                                         HashMap<String, NestedCollectionModel.ModelForCollection> map4 = new HashMap<String, NestedCollectionModel.ModelForCollection>();
                                         while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                                            String key4 = jsonParser.getText();
+                                            String key4 = jsonParser.getCurrentName();
                                             jsonParser.nextToken();
                                             if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                                                 map4.put(key4, null);
-                                            } else{
-                                                map4.put(key4, MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser));                                            }
+                                            } else {
+                                                map4.put(key4, model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser));
+                                            }
                                         }
                                         value3 = map4;
-                                    } else{
+                                    } else {
                                         value3 = null;
                                     }
                                     collection3.add(value3);
                                 }
                                 value2 = collection3;
-                            } else{
+                            } else {
                                 value2 = null;
                             }
                             collection2.add(value2);
                         }
                         ArrayList[] array = collection2.toArray(new ArrayList[collection2.size()]);
                         value1 = array;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.complexArray = collection1;
-            } else{
+            } else {
                 instance.complexArray = null;
             }
-        } else if ("complexerArray".equals(fieldName)){
+        } else if ("complexerArray".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection[]>>[]> collection1 = new ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection[]>>[]>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -128,49 +127,49 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                     if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                                         HashMap<String, NestedCollectionModel.ModelForCollection[]> map4 = new HashMap<String, NestedCollectionModel.ModelForCollection[]>();
                                         while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                                            String key4 = jsonParser.getText();
+                                            String key4 = jsonParser.getCurrentName();
                                             jsonParser.nextToken();
                                             if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                                                 map4.put(key4, null);
-                                            } else{
+                                            } else {
                                                 if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                                                     List<NestedCollectionModel.ModelForCollection> collection5 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                                                     while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                                                         NestedCollectionModel.ModelForCollection value5;
-                                                        value5 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                                                        value5 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                                                         collection5.add(value5);
                                                     }
                                                     NestedCollectionModel.ModelForCollection[] array = collection5.toArray(new NestedCollectionModel.ModelForCollection[collection5.size()]);
                                                     map4.put(key4, array);
-                                                } else{
+                                                } else {
                                                     map4.put(key4, null);
                                                 }
                                             }
                                         }
                                         value3 = map4;
-                                    } else{
+                                    } else {
                                         value3 = null;
                                     }
                                     collection3.add(value3);
                                 }
                                 value2 = collection3;
-                            } else{
+                            } else {
                                 value2 = null;
                             }
                             collection2.add(value2);
                         }
                         ArrayList[] array = collection2.toArray(new ArrayList[collection2.size()]);
                         value1 = array;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.complexerArray = collection1;
-            } else{
+            } else {
                 instance.complexerArray = null;
             }
-        } else if ("dontKnowWhatImDoingList".equals(fieldName)){
+        } else if ("dontKnowWhatImDoingList".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayList<List<List<ArrayList<NestedCollectionModel.ModelForCollection>>>> collection1 = new ArrayList<List<List<ArrayList<NestedCollectionModel.ModelForCollection>>>>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -187,48 +186,48 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                         ArrayList<NestedCollectionModel.ModelForCollection> collection4 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                                         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                                             NestedCollectionModel.ModelForCollection value4;
-                                            value4 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                                            value4 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                                             collection4.add(value4);
                                         }
                                         value3 = collection4;
-                                    } else{
+                                    } else {
                                         value3 = null;
                                     }
                                     collection3.add(value3);
                                 }
                                 value2 = collection3;
-                            } else{
+                            } else {
                                 value2 = null;
                             }
                             collection2.add(value2);
                         }
                         value1 = collection2;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.dontKnowWhatImDoingList = collection1;
-            } else{
+            } else {
                 instance.dontKnowWhatImDoingList = null;
             }
-        } else if ("dontKnowWhatImDoingMap".equals(fieldName)){
+        } else if ("dontKnowWhatImDoingMap".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, Map<String, ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>>>> map1 = new HashMap<String, Map<String, ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>>>>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
-                    } else{
+                    } else {
                         if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                             HashMap<String, ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>>> map2 = new HashMap<String, ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>>>();
                             while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                                String key2 = jsonParser.getText();
+                                String key2 = jsonParser.getCurrentName();
                                 jsonParser.nextToken();
                                 if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                                     map2.put(key2, null);
-                                } else{
+                                } else {
                                     if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                                         ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>> collection3 = new ArrayList<List<Map<String, NestedCollectionModel.ModelForCollection>>>();
                                         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -240,43 +239,43 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                                     if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                                                         HashMap<String, NestedCollectionModel.ModelForCollection> map5 = new HashMap<String, NestedCollectionModel.ModelForCollection>();
                                                         while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                                                            String key5 = jsonParser.getText();
+                                                            String key5 = jsonParser.getCurrentName();
                                                             jsonParser.nextToken();
                                                             if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                                                                 map5.put(key5, null);
-                                                            } else{
-                                                                map5.put(key5, MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser));
+                                                            } else {
+                                                                map5.put(key5, model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser));
                                                             }
                                                         }
                                                         value4 = map5;
-                                                    } else{
+                                                    } else {
                                                         value4 = null;
                                                     }
                                                     collection4.add(value4);
                                                 }
                                                 value3 = collection4;
-                                            } else{
+                                            } else {
                                                 value3 = null;
                                             }
                                             collection3.add(value3);
                                         }
                                         map2.put(key2, collection3);
-                                    } else{
+                                    } else {
                                         map2.put(key2, null);
                                     }
                                 }
                             }
                             map1.put(key1, map2);
-                        } else{
+                        } else {
                             map1.put(key1, null);
                         }
                     }
                 }
                 instance.dontKnowWhatImDoingMap = map1;
-            } else{
+            } else {
                 instance.dontKnowWhatImDoingMap = null;
             }
-        } else if ("model_deque".equals(fieldName)){
+        } else if ("model_deque".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayDeque<List<NestedCollectionModel.ModelForCollection>> collection1 = new ArrayDeque<List<NestedCollectionModel.ModelForCollection>>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -285,20 +284,20 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         ArrayList<NestedCollectionModel.ModelForCollection> collection2 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                             NestedCollectionModel.ModelForCollection value2;
-                            value2 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                            value2 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                             collection2.add(value2);
                         }
                         value1 = collection2;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.modelForCollectionDeque = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionDeque = null;
             }
-        } else if ("model_list".equals(fieldName)){
+        } else if ("model_list".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayList<List<NestedCollectionModel.ModelForCollection>> collection1 = new ArrayList<List<NestedCollectionModel.ModelForCollection>>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -307,46 +306,46 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         ArrayList<NestedCollectionModel.ModelForCollection> collection2 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                             NestedCollectionModel.ModelForCollection value2;
-                            value2 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                            value2 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                             collection2.add(value2);
                         }
                         value1 = collection2;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.modelForCollectionList = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionList = null;
             }
-        } else if ("model_map".equals(fieldName)){
+        } else if ("model_map".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, List<NestedCollectionModel.ModelForCollection>> map1 = new HashMap<String, List<NestedCollectionModel.ModelForCollection>>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
-                    } else{
+                    } else {
                         if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                             ArrayList<NestedCollectionModel.ModelForCollection> collection2 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                             while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                                 NestedCollectionModel.ModelForCollection value2;
-                                value2 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                                value2 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                                 collection2.add(value2);
                             }
                             map1.put(key1, collection2);
-                        } else{
+                        } else {
                             map1.put(key1, null);
                         }
                     }
                 }
                 instance.modelForCollectionMap = map1;
-            } else{
+            } else {
                 instance.modelForCollectionMap = null;
             }
-        } else if ("model_queue".equals(fieldName)){
+        } else if ("model_queue".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayDeque<List<NestedCollectionModel.ModelForCollection>> collection1 = new ArrayDeque<List<NestedCollectionModel.ModelForCollection>>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -355,20 +354,20 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         ArrayList<NestedCollectionModel.ModelForCollection> collection2 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                             NestedCollectionModel.ModelForCollection value2;
-                            value2 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                            value2 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                             collection2.add(value2);
                         }
                         value1 = collection2;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.modelForCollectionQueue = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionQueue = null;
             }
-        } else if ("model_set".equals(fieldName)){
+        } else if ("model_set".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 HashSet<List<NestedCollectionModel.ModelForCollection>> collection1 = new HashSet<List<NestedCollectionModel.ModelForCollection>>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -377,17 +376,17 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         ArrayList<NestedCollectionModel.ModelForCollection> collection2 = new ArrayList<NestedCollectionModel.ModelForCollection>();
                         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                             NestedCollectionModel.ModelForCollection value2;
-                            value2 = MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                            value2 = model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                             collection2.add(value2);
                         }
                         value1 = collection2;
-                    } else{
+                    } else {
                         value1 = null;
                     }
                     collection1.add(value1);
                 }
                 instance.modelForCollectionSet = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionSet = null;
             }
         }
@@ -440,7 +439,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                                 for (Map.Entry<String, NestedCollectionModel.ModelForCollection> entry4 : lslocallslocallslocallslocalcomplexArrayElementElementElement.entrySet()) {
                                                     jsonGenerator.writeFieldName(entry4.getKey().toString());
                                                     if (entry4.getValue() != null) {
-                                                        MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(entry4.getValue(), jsonGenerator, true);
+                                                        model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(entry4.getValue(), jsonGenerator, true);
                                                     }
                                                 }
                                                 jsonGenerator.writeEndObject();
@@ -484,7 +483,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                                             jsonGenerator.writeStartArray();
                                                             for (NestedCollectionModel.ModelForCollection element5 : lslocallslocallslocallslocallslocalcomplexerArrayElementElementElementElement) {
                                                                 if (element5 != null) {
-                                                                    MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element5, jsonGenerator, true);
+                                                                    model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element5, jsonGenerator, true);
                                                                 }
                                                             }
                                                             jsonGenerator.writeEndArray();
@@ -526,7 +525,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                                 jsonGenerator.writeStartArray();
                                                 for (NestedCollectionModel.ModelForCollection element4 : lslocallslocallslocallslocaldontKnowWhatImDoingListElementElementElement) {
                                                     if (element4 != null) {
-                                                        MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element4, jsonGenerator, true);
+                                                        model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element4, jsonGenerator, true);
                                                     }
                                                 }
                                                 jsonGenerator.writeEndArray();
@@ -572,7 +571,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                                                             for (Map.Entry<String, NestedCollectionModel.ModelForCollection> entry5 : lslocallslocallslocallslocallslocaldontKnowWhatImDoingMapElementElementElementElement.entrySet()) {
                                                                 jsonGenerator.writeFieldName(entry5.getKey().toString());
                                                                 if (entry5.getValue() != null) {
-                                                                    MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(entry5.getValue(), jsonGenerator, true);
+                                                                    model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(entry5.getValue(), jsonGenerator, true);
                                                                 }
                                                             }
                                                             jsonGenerator.writeEndObject();
@@ -604,7 +603,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         jsonGenerator.writeStartArray();
                         for (NestedCollectionModel.ModelForCollection element2 : lslocallslocalmodel_dequeElement) {
                             if (element2 != null) {
-                                MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element2, jsonGenerator, true);
+                                model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element2, jsonGenerator, true);
                             }
                         }
                         jsonGenerator.writeEndArray();
@@ -624,7 +623,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         jsonGenerator.writeStartArray();
                         for (NestedCollectionModel.ModelForCollection element2 : lslocallslocalmodel_listElement) {
                             if (element2 != null) {
-                                MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element2, jsonGenerator, true);
+                                model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element2, jsonGenerator, true);
                             }
                         }
                         jsonGenerator.writeEndArray();
@@ -645,7 +644,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         jsonGenerator.writeStartArray();
                         for (NestedCollectionModel.ModelForCollection element2 : lslocallslocalmodel_mapElement) {
                             if (element2 != null) {
-                                MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element2, jsonGenerator, true);
+                                model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element2, jsonGenerator, true);
                             }
                         }
                         jsonGenerator.writeEndArray();
@@ -665,7 +664,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         jsonGenerator.writeStartArray();
                         for (NestedCollectionModel.ModelForCollection element2 : lslocallslocalmodel_queueElement) {
                             if (element2 != null) {
-                                MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element2, jsonGenerator, true);
+                                model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element2, jsonGenerator, true);
                             }
                         }
                         jsonGenerator.writeEndArray();
@@ -685,7 +684,7 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
                         jsonGenerator.writeStartArray();
                         for (NestedCollectionModel.ModelForCollection element2 : lslocallslocalmodel_setElement) {
                             if (element2 != null) {
-                                MODEL_GOOD_NESTEDCOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element2, jsonGenerator, true);
+                                model_good_NestedCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element2, jsonGenerator, true);
                             }
                         }
                         jsonGenerator.writeEndArray();
@@ -698,4 +697,8 @@ public final class NestedCollectionModel$$JsonObjectMapper extends JsonMapper<Ne
             jsonGenerator.writeEndObject();
         }
     }
+
+    private static final class model_good_NestedCollectionModel_ModelForCollectionMapperHolder {
+        static final JsonMapper<NestedCollectionModel.ModelForCollection> MAPPER = LoganSquare.mapperFor(NestedCollectionModel.ModelForCollection.class);
+    }
 }
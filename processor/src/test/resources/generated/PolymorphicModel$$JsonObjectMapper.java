@@ -0,0 +1,87 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.bluelinelabs.logansquare.util.SubtypeParser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class PolymorphicModel$$JsonObjectMapper extends JsonMapper<PolymorphicModel> {
+  @Override
+  public PolymorphicModel parse(JsonParser jsonParser) throws IOException {
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    SubtypeParser subtypeParser = null;
+    String subtype;
+    if (jsonParser.nextToken() == JsonToken.FIELD_NAME && "kind".equals(jsonParser.getCurrentName())) {
+      jsonParser.nextToken();
+      subtype = jsonParser.getValueAsString(null);
+      jsonParser.skipChildren();
+    } else {
+      subtypeParser = new SubtypeParser(jsonParser);
+      subtype = subtypeParser.readSubtype("kind");
+    }
+    if (subtype != null) {
+      switch (subtype) {
+        case "dog":
+          return com_bluelinelabs_logansquare_processor_PolymorphicModel_DogMapperHolder.MAPPER.parse(subtypeParser != null ? subtypeParser.replay() : SubtypeParser.resume(jsonParser));
+        case "cat":
+          return com_bluelinelabs_logansquare_processor_PolymorphicModel_CatMapperHolder.MAPPER.parse(subtypeParser != null ? subtypeParser.replay() : SubtypeParser.resume(jsonParser));
+      }
+    }
+    if (subtypeParser != null) {
+      subtypeParser.skip();
+    } else {
+      SubtypeParser.skipRemainingFields(jsonParser);
+    }
+    return null;
+  }
+
+  @Override
+  public void parseField(PolymorphicModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    }
+  }
+
+  @Override
+  public void serialize(PolymorphicModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      if (object instanceof PolymorphicModel.Dog) {
+        com_bluelinelabs_logansquare_processor_PolymorphicModel_DogMapperHolder.MAPPER.serialize((PolymorphicModel.Dog) object, jsonGenerator, true);
+        return;
+      } else if (object instanceof PolymorphicModel.Cat) {
+        com_bluelinelabs_logansquare_processor_PolymorphicModel_CatMapperHolder.MAPPER.serialize((PolymorphicModel.Cat) object, jsonGenerator, true);
+        return;
+      }
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  private static final class com_bluelinelabs_logansquare_processor_PolymorphicModel_DogMapperHolder {
+    static final JsonMapper<PolymorphicModel.Dog> MAPPER = LoganSquare.mapperFor(PolymorphicModel.Dog.class);
+  }
+
+  private static final class com_bluelinelabs_logansquare_processor_PolymorphicModel_CatMapperHolder {
+    static final JsonMapper<PolymorphicModel.Cat> MAPPER = LoganSquare.mapperFor(PolymorphicModel.Cat.class);
+  }
+}
@@ -56,7 +56,7 @@ public final class PrivateFieldModel$$JsonObjectMapper extends JsonMapper<Privat
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, String> map1 = new HashMap<String, String>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
@@ -24,8 +24,6 @@ import java.util.TreeMap;
 
 @SuppressWarnings("unsafe,unchecked")
 public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<SimpleCollectionModel> {
-    private static final JsonMapper<SimpleCollectionModel.ModelForCollection> COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER = LoganSquare.mapperFor(SimpleCollectionModel.ModelForCollection.class);
-
     @Override
     public SimpleCollectionModel parse(JsonParser jsonParser) throws IOException {
         SimpleCollectionModel instance = new SimpleCollectionModel();
@@ -52,151 +50,151 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
                 List<SimpleCollectionModel.ModelForCollection> collection1 = new ArrayList<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 SimpleCollectionModel.ModelForCollection[] array = collection1.toArray(new SimpleCollectionModel.ModelForCollection[collection1.size()]);
                 instance.modelForCollectionArray = array;
-            } else{
+            } else {
                 instance.modelForCollectionArray = null;
             }
-        } else if ("model_array_list".equals(fieldName)){
+        } else if ("model_array_list".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayList<SimpleCollectionModel.ModelForCollection> collection1 = new ArrayList<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.modelForCollectionArrayList = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionArrayList = null;
             }
-        } else if ("model_deque".equals(fieldName)){
+        } else if ("model_deque".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayDeque<SimpleCollectionModel.ModelForCollection> collection1 = new ArrayDeque<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.modelForCollectionDeque = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionDeque = null;
             }
-        } else if ("model_hash_map".equals(fieldName)){
+        } else if ("model_hash_map".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, SimpleCollectionModel.ModelForCollection> map1 = new HashMap<String, SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
-                    } else{
-                        map1.put(key1, COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser));
+                    } else {
+                        map1.put(key1, com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser));
                     }
                 }
                 instance.modelForCollectionHashMap = map1;
-            } else{
+            } else {
                 instance.modelForCollectionHashMap = null;
             }
-        } else if ("model_linked_hash_map".equals(fieldName)){
+        } else if ("model_linked_hash_map".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 LinkedHashMap<String, SimpleCollectionModel.ModelForCollection> map1 = new LinkedHashMap<String, SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
-                    } else{
-                        map1.put(key1, COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser));
+                    } else {
+                        map1.put(key1, com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser));
                     }
                 }
                 instance.modelForCollectionLinkedHashMap = map1;
-            } else{
+            } else {
                 instance.modelForCollectionLinkedHashMap = null;
             }
-        } else if ("model_linked_list".equals(fieldName)){
+        } else if ("model_linked_list".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 LinkedList<SimpleCollectionModel.ModelForCollection> collection1 = new LinkedList<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.modelForCollectionLinkedList = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionLinkedList = null;
             }
-        } else if ("model_list".equals(fieldName)){
+        } else if ("model_list".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayList<SimpleCollectionModel.ModelForCollection> collection1 = new ArrayList<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.modelForCollectionList = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionList = null;
             }
-        } else if ("model_map".equals(fieldName)){
+        } else if ("model_map".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, SimpleCollectionModel.ModelForCollection> map1 = new HashMap<String, SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
-                    } else{
-                        map1.put(key1, COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser));
+                    } else {
+                        map1.put(key1, com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser));
                     }
                 }
                 instance.modelForCollectionMap = map1;
-            } else{
+            } else {
                 instance.modelForCollectionMap = null;
             }
-        } else if ("model_queue".equals(fieldName)){
+        } else if ("model_queue".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 ArrayDeque<SimpleCollectionModel.ModelForCollection> collection1 = new ArrayDeque<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.modelForCollectionQueue = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionQueue = null;
             }
-        } else if ("model_set".equals(fieldName)){
+        } else if ("model_set".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 HashSet<SimpleCollectionModel.ModelForCollection> collection1 = new HashSet<SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     SimpleCollectionModel.ModelForCollection value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.modelForCollectionSet = collection1;
-            } else{
+            } else {
                 instance.modelForCollectionSet = null;
             }
-        } else if ("model_tree_map".equals(fieldName)){
+        } else if ("model_tree_map".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 TreeMap<String, SimpleCollectionModel.ModelForCollection> map1 = new TreeMap<String, SimpleCollectionModel.ModelForCollection>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
-                    } else{
-                        map1.put(key1, COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.parse(jsonParser));
+                    } else {
+                        map1.put(key1, com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.parse(jsonParser));
                     }
                 }
                 instance.modelForCollectionTreeMap = map1;
-            } else{
+            } else {
                 instance.modelForCollectionTreeMap = null;
             }
-        } else if ("primitive_array".equals(fieldName)){
+        } else if ("primitive_array".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 List<Integer> collection1 = new ArrayList<Integer>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
@@ -208,7 +206,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
                     array[i++] = value;
                 }
                 instance.primitiveArray = array;
-            } else{
+            } else {
                 instance.primitiveArray = null;
             }
         }
@@ -225,7 +223,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_array) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -236,7 +234,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_array_list) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -247,7 +245,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_deque) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -259,7 +257,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             for (Map.Entry<String, SimpleCollectionModel.ModelForCollection> entry1 : lslocalmodel_hash_map.entrySet()) {
                 jsonGenerator.writeFieldName(entry1.getKey().toString());
                 if (entry1.getValue() != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(entry1.getValue(), jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(entry1.getValue(), jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndObject();
@@ -271,7 +269,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             for (Map.Entry<String, SimpleCollectionModel.ModelForCollection> entry1 : lslocalmodel_linked_hash_map.entrySet()) {
                 jsonGenerator.writeFieldName(entry1.getKey().toString());
                 if (entry1.getValue() != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(entry1.getValue(), jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(entry1.getValue(), jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndObject();
@@ -282,7 +280,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_linked_list) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -293,7 +291,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_list) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -305,7 +303,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             for (Map.Entry<String, SimpleCollectionModel.ModelForCollection> entry1 : lslocalmodel_map.entrySet()) {
                 jsonGenerator.writeFieldName(entry1.getKey().toString());
                 if (entry1.getValue() != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(entry1.getValue(), jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(entry1.getValue(), jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndObject();
@@ -316,7 +314,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_queue) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -327,7 +325,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeStartArray();
             for (SimpleCollectionModel.ModelForCollection element1 : lslocalmodel_set) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(element1, jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(element1, jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -339,7 +337,7 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             for (Map.Entry<String, SimpleCollectionModel.ModelForCollection> entry1 : lslocalmodel_tree_map.entrySet()) {
                 jsonGenerator.writeFieldName(entry1.getKey().toString());
                 if (entry1.getValue() != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLECOLLECTIONMODEL_MODELFORCOLLECTION__JSONOBJECTMAPPER.serialize(entry1.getValue(), jsonGenerator, true);
+                    com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder.MAPPER.serialize(entry1.getValue(), jsonGenerator, true);
                 }
             }
             jsonGenerator.writeEndObject();
@@ -357,4 +355,8 @@ public final class SimpleCollectionModel$$JsonObjectMapper extends JsonMapper<Si
             jsonGenerator.writeEndObject();
         }
     }
+
+    private static final class com_bluelinelabs_logansquare_processor_SimpleCollectionModel_ModelForCollectionMapperHolder {
+        static final JsonMapper<SimpleCollectionModel.ModelForCollection> MAPPER = LoganSquare.mapperFor(SimpleCollectionModel.ModelForCollection.class);
+    }
 }
@@ -0,0 +1,52 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class SimpleGenericStringModel$$JsonObjectMapper extends JsonMapper<SimpleGenericStringModel> {
+  @Override
+  public SimpleGenericStringModel parse(JsonParser jsonParser) throws IOException {
+    SimpleGenericStringModel instance = new SimpleGenericStringModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(SimpleGenericStringModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    ParentObjectMapperHolder.MAPPER.parseField(instance, fieldName, jsonParser);
+  }
+
+  @Override
+  public void serialize(SimpleGenericStringModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    ParentObjectMapperHolder.MAPPER.serialize(object, jsonGenerator, false);
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  private static final class ParentObjectMapperHolder {
+    static final SimpleGenericModel$$JsonObjectMapper$$java_lang_String MAPPER = new SimpleGenericModel$$JsonObjectMapper$$java_lang_String();
+  }
+}
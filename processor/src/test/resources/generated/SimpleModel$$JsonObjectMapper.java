@@ -19,8 +19,6 @@ import java.util.Map;
 
 @SuppressWarnings("unsafe,unchecked")
 public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel> {
-    private static final JsonMapper<Object> COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER = LoganSquare.mapperFor(Object.class);
-
     private static TypeConverter<Date> java_util_Date_type_converter;
 
     @Override
@@ -46,14 +44,14 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
     public void parseField(SimpleModel instance, String fieldName, JsonParser jsonParser) throws IOException {
         if ("date".equals(fieldName)) {
             instance.date = getjava_util_Date_type_converter().parse(jsonParser);
-        } else if ("intToIgnoreForSerialization".equals(fieldName)){
+        } else if ("intToIgnoreForSerialization".equals(fieldName)) {
             instance.intToIgnoreForSerialization = jsonParser.getValueAsInt();
         } else if ("object-array-with-dashes".equals(fieldName)) {
             if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
                 List<Object> collection1 = new ArrayList<Object>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     Object value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 Object[] array = collection1.toArray(new Object[collection1.size()]);
@@ -66,7 +64,7 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
                 ArrayList<Object> collection1 = new ArrayList<Object>();
                 while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
                     Object value1;
-                    value1 = COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.parse(jsonParser);
+                    value1 = com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.parse(jsonParser);
                     collection1.add(value1);
                 }
                 instance.objectListWithDashes = collection1;
@@ -77,12 +75,12 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, Object> map1 = new HashMap<String, Object>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
                     } else {
-                        map1.put(key1, COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.parse(jsonParser));
+                        map1.put(key1, com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.parse(jsonParser));
                     }
                 }
                 instance.objectMap = map1;
@@ -93,37 +91,37 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
             if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
                 HashMap<String, Object> map1 = new HashMap<String, Object>();
                 while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                    String key1 = jsonParser.getText();
+                    String key1 = jsonParser.getCurrentName();
                     jsonParser.nextToken();
                     if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
                         map1.put(key1, null);
                     } else {
-                        map1.put(key1, COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.parse(jsonParser));
+                        map1.put(key1, com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.parse(jsonParser));
                     }
                 }
                 instance.objectMapWithDashes = map1;
             } else {
                 instance.objectMapWithDashes = null;
             }
-        } else if ("string".equals(fieldName)){
+        } else if ("string".equals(fieldName)) {
             instance.string = jsonParser.getValueAsString(null);
-        } else if ("test_double".equals(fieldName)){
+        } else if ("test_double".equals(fieldName)) {
             instance.testDouble = jsonParser.getValueAsDouble();
-        } else if ("test_double_obj".equals(fieldName)){
+        } else if ("test_double_obj".equals(fieldName)) {
             instance.testDoubleObj = jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Double.valueOf(jsonParser.getValueAsDouble());
-        } else if ("test_float".equals(fieldName)){
+        } else if ("test_float".equals(fieldName)) {
             instance.testFloat = (float)jsonParser.getValueAsDouble();
-        } else if ("test_float_obj".equals(fieldName)){
+        } else if ("test_float_obj".equals(fieldName)) {
             instance.testFloatObj = jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : new Float(jsonParser.getValueAsDouble());
-        } else if ("test_int".equals(fieldName)){
+        } else if ("test_int".equals(fieldName)) {
             instance.testInt = jsonParser.getValueAsInt();
-        } else if ("test_int_obj".equals(fieldName)){
+        } else if ("test_int_obj".equals(fieldName)) {
             instance.testIntObj = jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Integer.valueOf(jsonParser.getValueAsInt());
-        } else if ("test_long".equals(fieldName)){
+        } else if ("test_long".equals(fieldName)) {
             instance.testLong = jsonParser.getValueAsLong();
-        } else if ("test_long_obj".equals(fieldName)){
+        } else if ("test_long_obj".equals(fieldName)) {
             instance.testLongObj = jsonParser.getCurrentToken() == JsonToken.VALUE_NULL ? null : Long.valueOf(jsonParser.getValueAsLong());
-        } else if ("test_string".equals(fieldName)){
+        } else if ("test_string".equals(fieldName)) {
             instance.testString = jsonParser.getValueAsString(null);
         }
     }
@@ -143,7 +141,7 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
             jsonGenerator.writeStartArray();
             for (Object element1 : lslocalobject_array_with_dashes) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.serialize(element1, jsonGenerator, false);
+                    com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.serialize(element1, jsonGenerator, false);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -154,7 +152,7 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
             jsonGenerator.writeStartArray();
             for (Object element1 : lslocalobject_list_with_dashes) {
                 if (element1 != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.serialize(element1, jsonGenerator, false);
+                    com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.serialize(element1, jsonGenerator, false);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -166,7 +164,7 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
             for (Map.Entry<String, Object> entry1 : lslocalobject_map.entrySet()) {
                 jsonGenerator.writeFieldName(entry1.getKey().toString());
                 if (entry1.getValue() != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.serialize(entry1.getValue(), jsonGenerator, false);
+                    com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.serialize(entry1.getValue(), jsonGenerator, false);
                 }
             }
             jsonGenerator.writeEndObject();
@@ -178,7 +176,7 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
             for (Map.Entry<String, Object> entry1 : lslocalobject_map_with_dashes.entrySet()) {
                 jsonGenerator.writeFieldName(entry1.getKey().toString());
                 if (entry1.getValue() != null) {
-                    COM_BLUELINELABS_LOGANSQUARE_INTERNAL_OBJECTMAPPERS_OBJECTMAPPER.serialize(entry1.getValue(), jsonGenerator, false);
+                    com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder.MAPPER.serialize(entry1.getValue(), jsonGenerator, false);
                 }
             }
             jsonGenerator.writeEndObject();
@@ -216,4 +214,8 @@ public final class SimpleModel$$JsonObjectMapper extends JsonMapper<SimpleModel>
         }
         return java_util_Date_type_converter;
     }
+
+    private static final class com_bluelinelabs_logansquare_internal_objectmappers_ObjectMapper_0Holder {
+        static final JsonMapper<Object> MAPPER = LoganSquare.mapperFor(Object.class);
+    }
 }
@@ -12,8 +12,6 @@ import java.lang.SuppressWarnings;
 
 @SuppressWarnings("unsafe,unchecked")
 public final class SimpleWrapperModel$$JsonObjectMapper extends JsonMapper<SimpleWrapperModel> {
-    private static final JsonMapper<SimpleWrapperModel.WrappedClass> COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLEWRAPPERMODEL_WRAPPEDCLASS__JSONOBJECTMAPPER = LoganSquare.mapperFor(SimpleWrapperModel.WrappedClass.class);
-
     @Override
     public SimpleWrapperModel parse(JsonParser jsonParser) throws IOException {
         SimpleWrapperModel instance = new SimpleWrapperModel();
@@ -36,7 +34,7 @@ public final class SimpleWrapperModel$$JsonObjectMapper extends JsonMapper<Simpl
     @Override
     public void parseField(SimpleWrapperModel instance, String fieldName, JsonParser jsonParser) throws IOException {
         if ("wrappedObject".equals(fieldName)) {
-            instance.wrappedObject = COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLEWRAPPERMODEL_WRAPPEDCLASS__JSONOBJECTMAPPER.parse(jsonParser);
+            instance.wrappedObject = com_bluelinelabs_logansquare_processor_SimpleWrapperModel_WrappedClassMapperHolder.MAPPER.parse(jsonParser);
         }
     }
 
@@ -47,10 +45,14 @@ public final class SimpleWrapperModel$$JsonObjectMapper extends JsonMapper<Simpl
         }
         if (object.wrappedObject != null) {
             jsonGenerator.writeFieldName("wrappedObject");
-            COM_BLUELINELABS_LOGANSQUARE_PROCESSOR_SIMPLEWRAPPERMODEL_WRAPPEDCLASS__JSONOBJECTMAPPER.serialize(object.wrappedObject, jsonGenerator, true);
+            com_bluelinelabs_logansquare_processor_SimpleWrapperModel_WrappedClassMapperHolder.MAPPER.serialize(object.wrappedObject, jsonGenerator, true);
         }
         if (writeStartAndEnd) {
             jsonGenerator.writeEndObject();
         }
     }
+
+    private static final class com_bluelinelabs_logansquare_processor_SimpleWrapperModel_WrappedClassMapperHolder {
+        static final JsonMapper<SimpleWrapperModel.WrappedClass> MAPPER = LoganSquare.mapperFor(SimpleWrapperModel.WrappedClass.class);
+    }
 }
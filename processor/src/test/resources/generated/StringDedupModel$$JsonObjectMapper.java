@@ -0,0 +1,113 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.util.StringCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class StringDedupModel$$JsonObjectMapper extends JsonMapper<StringDedupModel> {
+  @Override
+  public StringDedupModel parse(JsonParser jsonParser) throws IOException {
+    StringDedupModel instance = new StringDedupModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      parseField(instance, fieldName, jsonParser);
+      jsonParser.skipChildren();
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(StringDedupModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("countryCode".equals(fieldName)) {
+      instance.countryCode = StringCache.valueOf(jsonParser);
+    } else if ("labels".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+        HashMap<String, String> map1 = new HashMap<String, String>();
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+          String key1 = jsonParser.getCurrentName();
+          jsonParser.nextToken();
+          if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            map1.put(key1, null);
+          } else {
+            map1.put(key1, StringCache.valueOf(jsonParser));
+          }
+        }
+        instance.labels = map1;
+      } else {
+        instance.labels = null;
+      }
+    } else if ("name".equals(fieldName)) {
+      instance.name = jsonParser.getValueAsString(null);
+    } else if ("tags".equals(fieldName)) {
+      if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
+        ArrayList<String> collection1 = new ArrayList<String>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+          String value1;
+          value1 = StringCache.valueOf(jsonParser);
+          collection1.add(value1);
+        }
+        instance.tags = collection1;
+      } else {
+        instance.tags = null;
+      }
+    }
+  }
+
+  @Override
+  public void serialize(StringDedupModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.countryCode != null) {
+      jsonGenerator.writeStringField("countryCode", object.countryCode);
+    }
+    final Map<String, String> lslocallabels = object.labels;
+    if (lslocallabels != null) {
+      jsonGenerator.writeFieldName("labels");
+      jsonGenerator.writeStartObject();
+      for (Map.Entry<String, String> entry1 : lslocallabels.entrySet()) {
+        jsonGenerator.writeFieldName(entry1.getKey().toString());
+        if (entry1.getValue() != null) {
+          jsonGenerator.writeString(entry1.getValue());
+        }
+      }
+      jsonGenerator.writeEndObject();
+    }
+    if (object.name != null) {
+      jsonGenerator.writeStringField("name", object.name);
+    }
+    final List<String> lslocaltags = object.tags;
+    if (lslocaltags != null) {
+      jsonGenerator.writeFieldName("tags");
+      jsonGenerator.writeStartArray();
+      for (String element1 : lslocaltags) {
+        if (element1 != null) {
+          jsonGenerator.writeString(element1);
+        }
+      }
+      jsonGenerator.writeEndArray();
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+}
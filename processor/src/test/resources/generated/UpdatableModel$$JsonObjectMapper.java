@@ -0,0 +1,194 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.JsonMapper;
+import com.bluelinelabs.logansquare.LoganSquare;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+
+@SuppressWarnings("unsafe,unchecked")
+public final class UpdatableModel$$JsonObjectMapper extends JsonMapper<UpdatableModel> {
+  @Override
+  public UpdatableModel parse(JsonParser jsonParser) throws IOException {
+    UpdatableModel instance = new UpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    DataHolder dataHolder = null;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      if (dataHolder == null && ("testModel".equals(fieldName))) {
+        dataHolder = new DataHolder();
+      }
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser, dataHolder);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    UpdatableModel sourceInstance = instance.jsonGetByKey(instance.string);
+    if(sourceInstance != null) {
+      if((fieldsSet0 & 1L << 0) == 0) {
+        instance.string = sourceInstance.string;
+      }
+      if((fieldsSet0 & 1L << 1) == 0) {
+        instance.testDouble = sourceInstance.testDouble;
+      }
+      if((fieldsSet0 & 1L << 2) == 0) {
+        instance.testFloat = sourceInstance.testFloat;
+      }
+      if((fieldsSet0 & 1L << 3) == 0) {
+        instance.testInt = sourceInstance.testInt;
+      }
+      if((fieldsSet0 & 1L << 4) == 0) {
+        instance.testLong = sourceInstance.testLong;
+      }
+      if((fieldsSet0 & 1L << 5) == 0) {
+        instance.testModel = sourceInstance.testModel;
+      }
+    }
+    if(instance.testModel != null) {
+      com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder.MAPPER.endParse(instance, instance.testModel, dataHolder != null ? dataHolder.testModelDataHolder : null);
+    }
+    return instance;
+  }
+
+  @Override
+  public UpdatableModel parse(JsonParser jsonParser, Object dataHolderObject) throws IOException {
+    DataHolder dataHolder = (DataHolder) dataHolderObject;
+    if(dataHolder == null) {
+      dataHolder = new DataHolder();
+    }
+    UpdatableModel instance = new UpdatableModel();
+    if (jsonParser.getCurrentToken() == null) {
+      jsonParser.nextToken();
+    }
+    if (jsonParser.getCurrentToken() != JsonToken.START_OBJECT) {
+      jsonParser.skipChildren();
+      return null;
+    }
+    long fieldsSet0 = 0L;
+    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+      String fieldName = jsonParser.getCurrentName();
+      jsonParser.nextToken();
+      int fieldIndex = parseTrackedField(instance, fieldName, jsonParser, dataHolder);
+      if (fieldIndex >= 0) {
+        fieldsSet0 |= 1L << fieldIndex;
+      }
+      jsonParser.skipChildren();
+    }
+    UpdatableModel sourceInstance = instance.jsonGetByKey(instance.string);
+    if(sourceInstance != null) {
+      if((fieldsSet0 & 1L << 0) == 0) {
+        instance.string = sourceInstance.string;
+      }
+      if((fieldsSet0 & 1L << 1) == 0) {
+        instance.testDouble = sourceInstance.testDouble;
+      }
+      if((fieldsSet0 & 1L << 2) == 0) {
+        instance.testFloat = sourceInstance.testFloat;
+      }
+      if((fieldsSet0 & 1L << 3) == 0) {
+        instance.testInt = sourceInstance.testInt;
+      }
+      if((fieldsSet0 & 1L << 4) == 0) {
+        instance.testLong = sourceInstance.testLong;
+      }
+      if((fieldsSet0 & 1L << 5) == 0) {
+        instance.testModel = sourceInstance.testModel;
+      }
+    }
+    if(instance.testModel != null) {
+      com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder.MAPPER.endParse(instance, instance.testModel, dataHolder.testModelDataHolder);
+    }
+    return instance;
+  }
+
+  @Override
+  public void parseField(UpdatableModel instance, String fieldName, JsonParser jsonParser) throws IOException {
+    if ("string".equals(fieldName)) {
+      instance.string = jsonParser.getValueAsString(null);
+    } else if ("test_double".equals(fieldName)) {
+      instance.testDouble = jsonParser.getValueAsDouble();
+    } else if ("test_float".equals(fieldName)) {
+      instance.testFloat = (float)jsonParser.getValueAsDouble();
+    } else if ("test_int".equals(fieldName)) {
+      instance.testInt = jsonParser.getValueAsInt();
+    } else if ("test_long".equals(fieldName)) {
+      instance.testLong = jsonParser.getValueAsLong();
+    } else if ("testModel".equals(fieldName)) {
+      instance.testModel = com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder.MAPPER.parse(jsonParser);
+    }
+  }
+
+  public int parseTrackedField(UpdatableModel instance, String fieldName, JsonParser jsonParser, DataHolder dataHolder) throws IOException {
+    if ("string".equals(fieldName)) {
+      instance.string = jsonParser.getValueAsString(null);
+      return 0;
+    } else if ("test_double".equals(fieldName)) {
+      instance.testDouble = jsonParser.getValueAsDouble();
+      return 1;
+    } else if ("test_float".equals(fieldName)) {
+      instance.testFloat = (float)jsonParser.getValueAsDouble();
+      return 2;
+    } else if ("test_int".equals(fieldName)) {
+      instance.testInt = jsonParser.getValueAsInt();
+      return 3;
+    } else if ("test_long".equals(fieldName)) {
+      instance.testLong = jsonParser.getValueAsLong();
+      return 4;
+    } else if ("testModel".equals(fieldName)) {
+      dataHolder.testModelDataHolder = com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder.MAPPER.holder();
+      instance.testModel = com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder.MAPPER.parse(jsonParser, dataHolder.testModelDataHolder);
+      return 5;
+    }
+    return -1;
+  }
+
+  @Override
+  public Object holder() {
+    return new DataHolder();
+  }
+
+  @Override
+  public void serialize(UpdatableModel object, JsonGenerator jsonGenerator, boolean writeStartAndEnd) throws IOException {
+    if (writeStartAndEnd) {
+      jsonGenerator.writeStartObject();
+    }
+    if (object.string != null) {
+      jsonGenerator.writeStringField("string", object.string);
+    }
+    jsonGenerator.writeNumberField("test_double", object.testDouble);
+    jsonGenerator.writeNumberField("test_float", object.testFloat);
+    jsonGenerator.writeNumberField("test_int", object.testInt);
+    jsonGenerator.writeNumberField("test_long", object.testLong);
+    if (object.testModel != null) {
+      jsonGenerator.writeFieldName("testModel");
+      com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder.MAPPER.serialize(object.testModel, jsonGenerator, true);
+    }
+    if (writeStartAndEnd) {
+      jsonGenerator.writeEndObject();
+    }
+  }
+
+  public static class DataHolder {
+    private long fieldsSet0;
+
+    Object testModelDataHolder;
+  }
+
+  private static final class com_bluelinelabs_logansquare_processor_UpdatableModel_InheritingModelMapperHolder {
+    static final JsonMapper<UpdatableModel.InheritingModel> MAPPER = LoganSquare.mapperFor(UpdatableModel.InheritingModel.class);
+  }
+}
@@ -64,7 +64,7 @@ public final class WhitespaceFieldNameModel$$JsonObjectMapper extends JsonMapper
       if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
         HashMap<String, String> map1 = new HashMap<String, String>();
         while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-          String key1 = jsonParser.getText();
+          String key1 = jsonParser.getCurrentName();
           jsonParser.nextToken();
           if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
             map1.put(key1, null);
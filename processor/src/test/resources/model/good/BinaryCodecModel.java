@@ -0,0 +1,54 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@JsonObject(generateBinaryCodec = true)
+public class BinaryCodecModel {
+
+    @JsonField
+    public int count;
+
+    @JsonField
+    public long timestamp;
+
+    @JsonField
+    public boolean enabled;
+
+    @JsonField
+    public double ratio;
+
+    @JsonField
+    public Float score;
+
+    @JsonField
+    public String name;
+
+    @JsonField
+    public Date date;
+
+    @JsonField
+    public Object extra;
+
+    @JsonField
+    public int[] codes;
+
+    @JsonField
+    public String[] aliases;
+
+    @JsonField
+    public List<String> tags;
+
+    @JsonField
+    public Map<String, Integer> counts;
+
+    @JsonField
+    public BinaryCodecModel child;
+
+    @JsonField
+    public List<BinaryCodecModel> children;
+}
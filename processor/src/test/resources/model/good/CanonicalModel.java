@@ -0,0 +1,25 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+
+@JsonObject(canonicalizeByKey = true)
+public class CanonicalModel {
+
+    @JsonField(isKey = true)
+    public String id;
+
+    @JsonField
+    public String name;
+
+    @JsonField(name = "follower_count")
+    public int followerCount;
+
+    @JsonField
+    public int[] badges;
+
+    @JsonField
+    public List<String> tags;
+}
@@ -0,0 +1,58 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonIgnore;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@JsonObject(generateCopy = true)
+public class CopyModel {
+
+    @JsonField
+    public String title;
+
+    @JsonField(name = "view_count")
+    public int viewCount;
+
+    @JsonField
+    public Date created;
+
+    @JsonField
+    public int[] scores;
+
+    @JsonField
+    public List<Item> items;
+
+    @JsonField
+    public Map<String, Item> itemsById;
+
+    @JsonField
+    public Item[] pinned;
+
+    @JsonField
+    private String note;
+
+    @JsonIgnore
+    public String transientState;
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    @JsonObject(generateCopy = true)
+    public static class Item {
+
+        @JsonField
+        public String name;
+
+        @JsonField
+        public List<String> tags;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+@JsonObject(generateDiff = true)
+public class DiffModel {
+
+    @JsonField
+    public String title;
+
+    @JsonField(name = "view_count")
+    public int viewCount;
+
+    @JsonField
+    public List<String> tags;
+
+    @JsonField
+    public Author author;
+
+    @JsonField
+    public Map<String, Integer> counts;
+
+    @JsonObject(generateDiff = true)
+    public static class Author {
+
+        @JsonField
+        public String name;
+
+        @JsonField
+        public String email;
+    }
+}
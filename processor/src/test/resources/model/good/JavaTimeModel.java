@@ -0,0 +1,36 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+import com.bluelinelabs.logansquare.typeconverters.DefaultInstantConverter;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@JsonObject
+public class JavaTimeModel {
+
+    @JsonField
+    public Instant instant;
+
+    @JsonField(typeConverter = DefaultInstantConverter.EpochMillis.class)
+    public Instant epochMillis;
+
+    @JsonField
+    public OffsetDateTime offsetDateTime;
+
+    @JsonField
+    public LocalDate localDate;
+
+    @JsonField
+    public LocalDateTime localDateTime;
+
+    @JsonField
+    public Duration duration;
+
+    @JsonField
+    public List<LocalDate> localDateList;
+}
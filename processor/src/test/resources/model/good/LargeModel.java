@@ -0,0 +1,81 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+// Large enough that both parseField() and serialize() are split into several methods
+@JsonObject
+public class LargeModel {
+
+    @JsonField
+    public Map<String, List<String>> map01;
+
+    @JsonField
+    public Map<String, List<String>> map02;
+
+    @JsonField
+    public Map<String, List<String>> map03;
+
+    @JsonField
+    public Map<String, List<String>> map04;
+
+    @JsonField
+    public Map<String, List<String>> map05;
+
+    @JsonField
+    public Map<String, List<String>> map06;
+
+    @JsonField
+    public Map<String, List<String>> map07;
+
+    @JsonField
+    public Map<String, List<String>> map08;
+
+    @JsonField
+    public Map<String, List<String>> map09;
+
+    @JsonField
+    public Map<String, List<String>> map10;
+
+    @JsonField
+    public Map<String, List<String>> map11;
+
+    @JsonField
+    public Map<String, List<String>> map12;
+
+    @JsonField
+    public Map<String, List<String>> map13;
+
+    @JsonField
+    public Map<String, List<String>> map14;
+
+    @JsonField
+    public Map<String, List<String>> map15;
+
+    @JsonField
+    public Map<String, List<String>> map16;
+
+    @JsonField
+    public Map<String, List<String>> map17;
+
+    @JsonField
+    public Map<String, List<String>> map18;
+
+    @JsonField
+    public Map<String, List<String>> map19;
+
+    @JsonField
+    public Map<String, List<String>> map20;
+
+    @JsonField
+    public Map<String, List<String>> map21;
+
+    @JsonField
+    public Map<String, List<String>> map22;
+
+    @JsonField
+    public Map<String, List<String>> map23;
+}
@@ -0,0 +1,30 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+import com.bluelinelabs.logansquare.annotation.JsonSubTypes;
+
+@JsonObject
+@JsonSubTypes(property = "kind", value = {
+        @JsonSubTypes.Type(value = PolymorphicModel.Dog.class, name = "dog"),
+        @JsonSubTypes.Type(value = PolymorphicModel.Cat.class, name = "cat")
+})
+public abstract class PolymorphicModel {
+
+    @JsonField
+    public String name;
+
+    @JsonObject
+    public static class Dog extends PolymorphicModel {
+
+        @JsonField
+        public boolean goodBoy;
+    }
+
+    @JsonObject
+    public static class Cat extends PolymorphicModel {
+
+        @JsonField
+        public int lives;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+public class Foo {
+
+    @JsonObject
+    public static class Bar {
+
+        @JsonField
+        public String name;
+    }
+}
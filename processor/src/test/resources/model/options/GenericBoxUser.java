@@ -0,0 +1,11 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+@JsonObject
+public class GenericBoxUser {
+
+    @JsonField
+    public GenericBox<String> box;
+}
@@ -0,0 +1,15 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+// Foo.Bar and FooBar only differ by a separator, so their mapper holders must still get different names
+@JsonObject
+public class HolderNameModel {
+
+    @JsonField
+    public Foo.Bar fooDotBar;
+
+    @JsonField
+    public FooBar fooBar;
+}
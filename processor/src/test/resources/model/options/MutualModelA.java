@@ -0,0 +1,19 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+import java.util.List;
+
+@JsonObject
+public class MutualModelA {
+
+    @JsonField
+    public String name;
+
+    @JsonField
+    public MutualModelB b;
+
+    @JsonField
+    public List<MutualModelB> bList;
+}
@@ -0,0 +1,14 @@
+package com.bluelinelabs.logansquare.processor;
+
+import com.bluelinelabs.logansquare.annotation.JsonField;
+import com.bluelinelabs.logansquare.annotation.JsonObject;
+
+@JsonObject
+public class MutualModelB {
+
+    @JsonField
+    public String name;
+
+    @JsonField
+    public MutualModelA a;
+}